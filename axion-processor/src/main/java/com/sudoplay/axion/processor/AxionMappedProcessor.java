@@ -0,0 +1,120 @@
+package com.sudoplay.axion.processor;
+
+import com.sudoplay.axion.api.AxionMapped;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Generates a {@link com.sudoplay.axion.registry.TypeConverterFactory} for each {@link AxionMapped} class, whose
+ * converter reads and writes the class's fields directly, and a registry that registers them all.
+ * <p>
+ * The generated factory for {@code com.example.Outer.Inner} is {@code com.example.Outer_Inner_AxionConverterFactory};
+ * {@link com.sudoplay.axion.converter.PojoTypeConverterFactory} looks it up by that name, so instances configured with
+ * it use the generated converters without registration. The registry, {@value #REGISTRY_NAME}, registers them with
+ * instances configured without it. It's generated in the package set by the {@value #REGISTRY_PACKAGE_OPTION} option,
+ * or by default in the package of the first {@link AxionMapped} class by qualified name, so that libraries with mapped
+ * classes don't generate registries with the same name.
+ * <p>
+ * A class whose fields or type can't be accessed from the generated factory, such as a class with private or final
+ * fields, or with type parameters, gets no factory and stays mapped reflectively; a note says why.
+ *
+ * @author Jason Taylor
+ */
+@SupportedAnnotationTypes("com.sudoplay.axion.api.AxionMapped")
+@SupportedOptions(AxionMappedProcessor.REGISTRY_PACKAGE_OPTION)
+public class AxionMappedProcessor extends AbstractProcessor {
+
+  public static final String REGISTRY_PACKAGE_OPTION = "axion.registryPackage";
+  public static final String REGISTRY_NAME = "GeneratedConverters";
+
+  private final List<String> factories = new ArrayList<>();
+  private final List<String> packages = new ArrayList<>();
+  private final List<Element> originatingElements = new ArrayList<>();
+  private boolean registryWritten;
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+    Set<? extends Element> elements = roundEnv.getElementsAnnotatedWith(AxionMapped.class);
+    for (Element element : elements) {
+      if (element.getKind() != ElementKind.CLASS) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Only classes can be AxionMapped", element);
+        continue;
+      }
+      MappedClass mapped = MappedClass.parse(processingEnv, (TypeElement) element);
+      if (mapped != null) {
+        write(mapped.getQualifiedFactoryName(), SourceWriter.writeFactory(mapped), element);
+        factories.add(mapped.getQualifiedFactoryName());
+        packages.add(mapped.packageName);
+        originatingElements.add(element);
+      }
+    }
+    if (registryWritten && !elements.isEmpty()) {
+      processingEnv.getMessager().printMessage(
+          Diagnostic.Kind.WARNING,
+          "AxionMapped classes generated by another processor aren't in " + REGISTRY_NAME
+      );
+    } else if (!registryWritten && elements.isEmpty() && !factories.isEmpty()) {
+      // written the round after the factories, so it's compiled without a warning about the last round
+      String registryPackage = processingEnv.getOptions().get(REGISTRY_PACKAGE_OPTION);
+      if (registryPackage == null) {
+        registryPackage = getDefaultRegistryPackage();
+      }
+      String name = registryPackage.isEmpty() ? REGISTRY_NAME : registryPackage + "." + REGISTRY_NAME;
+      write(
+          name,
+          SourceWriter.writeRegistry(registryPackage, REGISTRY_NAME, factories),
+          originatingElements.toArray(new Element[originatingElements.size()])
+      );
+      registryWritten = true;
+    }
+    return false;
+  }
+
+  /**
+   * Returns the package of the mapped class whose factory comes first by qualified name.
+   */
+  private String getDefaultRegistryPackage() {
+    int first = 0;
+    for (int i = 1; i < factories.size(); i++) {
+      if (factories.get(i).compareTo(factories.get(first)) < 0) {
+        first = i;
+      }
+    }
+    return packages.get(first);
+  }
+
+  private void write(final String name, final String source, final Element... originatingElements) {
+    try {
+      JavaFileObject file = processingEnv.getFiler().createSourceFile(name, originatingElements);
+      try (Writer writer = file.openWriter()) {
+        writer.write(source);
+      }
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(
+          Diagnostic.Kind.ERROR,
+          "Unable to write " + name + ": " + e.getMessage(),
+          originatingElements.length == 1 ? originatingElements[0] : null
+      );
+    }
+  }
+
+}
@@ -0,0 +1,323 @@
+package com.sudoplay.axion.processor;
+
+import com.sudoplay.axion.api.AxionDefault;
+import com.sudoplay.axion.api.AxionIgnore;
+import com.sudoplay.axion.api.AxionName;
+import com.sudoplay.axion.converter.PojoTypeConverterFactory;
+
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The fields of an {@link com.sudoplay.axion.api.AxionMapped} class, resolved the same way {@link
+ * PojoTypeConverterFactory} resolves them at runtime: superclass fields first, static, transient and ignored fields
+ * skipped.
+ *
+ * @author Jason Taylor
+ */
+final class MappedClass {
+
+  final TypeElement element;
+  final String packageName;
+  final String typeName;
+  final String factoryName;
+  final List<MappedField> fields;
+
+  private MappedClass(
+      final TypeElement newElement,
+      final String newPackageName,
+      final String newTypeName,
+      final String newFactoryName,
+      final List<MappedField> newFields
+  ) {
+    element = newElement;
+    packageName = newPackageName;
+    typeName = newTypeName;
+    factoryName = newFactoryName;
+    fields = newFields;
+  }
+
+  /**
+   * @return the qualified name of the factory generated for this class
+   */
+  String getQualifiedFactoryName() {
+    return packageName.isEmpty() ? factoryName : packageName + "." + factoryName;
+  }
+
+  static final class MappedField {
+    final String fieldName;
+    final String tagName;
+    final boolean primitive;
+    /**
+     * The capitalized name of the field's primitive type, eg. {@code Int}, if it's converted through a {@link
+     * com.sudoplay.axion.registry.PrimitiveTypeConverter} interface; otherwise null.
+     */
+    final String primitiveName;
+    /**
+     * True if the field can hold a {@link java.util.Collection} or {@link java.util.Map}, which isn't written if empty.
+     */
+    final boolean container;
+    /**
+     * The field's type in source form; boxed for primitives.
+     */
+    final String typeName;
+    /**
+     * An expression creating the {@code AxionTypeToken} of the field's type.
+     */
+    final String tokenExpression;
+    /**
+     * An expression creating the field's {@link AxionDefault} value, or null.
+     */
+    final String defaultExpression;
+
+    private MappedField(
+        final String newFieldName,
+        final String newTagName,
+        final boolean newPrimitive,
+        final String newPrimitiveName,
+        final boolean newContainer,
+        final String newTypeName,
+        final String newTokenExpression,
+        final String newDefaultExpression
+    ) {
+      fieldName = newFieldName;
+      tagName = newTagName;
+      primitive = newPrimitive;
+      primitiveName = newPrimitiveName;
+      container = newContainer;
+      typeName = newTypeName;
+      tokenExpression = newTokenExpression;
+      defaultExpression = newDefaultExpression;
+    }
+  }
+
+  /**
+   * Resolves the fields of the class given.
+   * <p>
+   * Returns null if the class can't be mapped with direct field access, after noting that it's left to {@link
+   * PojoTypeConverterFactory}, or if its mapping is invalid, after reporting an error.
+   */
+  static MappedClass parse(final ProcessingEnvironment env, final TypeElement type) {
+    Elements elements = env.getElementUtils();
+    Types types = env.getTypeUtils();
+    Messager messager = env.getMessager();
+
+    String reason = getInaccessibleReason(type);
+    if (reason != null) {
+      note(messager, type, reason);
+      return null;
+    }
+
+    String packageName = elements.getPackageOf(type).getQualifiedName().toString();
+    DeclaredType declaredType = (DeclaredType) type.asType();
+    List<MappedField> fields = new ArrayList<>();
+    boolean valid = true;
+
+    TypeElement current = type;
+    while (current != null && !current.getQualifiedName().contentEquals("java.lang.Object")) {
+      List<MappedField> declared = new ArrayList<>();
+      boolean samePackage = elements.getPackageOf(current).getQualifiedName().contentEquals(packageName);
+      for (VariableElement field : ElementFilter.fieldsIn(current.getEnclosedElements())) {
+        Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.STATIC)
+            || modifiers.contains(Modifier.TRANSIENT)
+            || field.getAnnotation(AxionIgnore.class) != null) {
+          continue;
+        }
+        if (modifiers.contains(Modifier.PRIVATE)) {
+          note(messager, type, "field " + field.getSimpleName() + " is private");
+          return null;
+        } else if (modifiers.contains(Modifier.FINAL)) {
+          note(messager, type, "field " + field.getSimpleName() + " is final");
+          return null;
+        } else if (!samePackage && !modifiers.contains(Modifier.PUBLIC)) {
+          note(messager, type, "field " + field.getSimpleName() + " isn't visible from package " + packageName);
+          return null;
+        }
+        TypeMirror fieldType = types.asMemberOf(declaredType, field);
+        MappedField mappedField = parseField(env, field, fieldType);
+        if (mappedField == null) {
+          valid = false;
+        } else {
+          declared.add(mappedField);
+        }
+      }
+      fields.addAll(0, declared);
+      TypeMirror superclass = current.getSuperclass();
+      current = (superclass.getKind() == TypeKind.DECLARED) ? (TypeElement) types.asElement(superclass) : null;
+    }
+
+    Set<String> names = new HashSet<>();
+    for (MappedField field : fields) {
+      if (!names.add(field.tagName)) {
+        messager.printMessage(Diagnostic.Kind.ERROR, "Duplicate tag name [" + field.tagName + "]", type);
+        valid = false;
+      }
+    }
+    if (!valid) {
+      return null;
+    }
+
+    String binaryName = elements.getBinaryName(type).toString();
+    String simpleBinaryName = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+    String factoryName = simpleBinaryName.replace('$', '_') + PojoTypeConverterFactory.GENERATED_FACTORY_SUFFIX;
+    return new MappedClass(type, packageName, type.getQualifiedName().toString(), factoryName, fields);
+  }
+
+  /**
+   * Returns why the generated factory can't reference the type given, or null if it can.
+   */
+  private static String getInaccessibleReason(final TypeElement type) {
+    if (!type.getTypeParameters().isEmpty()) {
+      return "it has type parameters";
+    }
+    Element element = type;
+    while (element instanceof TypeElement) {
+      TypeElement typeElement = (TypeElement) element;
+      if (typeElement.getNestingKind() == NestingKind.LOCAL || typeElement.getNestingKind() == NestingKind.ANONYMOUS) {
+        return typeElement.getSimpleName() + " is a local class";
+      } else if (typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+        return typeElement.getSimpleName() + " is private";
+      } else if (typeElement.getNestingKind() == NestingKind.MEMBER
+          && !typeElement.getModifiers().contains(Modifier.STATIC)) {
+        return typeElement.getSimpleName() + " is an inner class";
+      }
+      element = typeElement.getEnclosingElement();
+    }
+    return null;
+  }
+
+  private static MappedField parseField(
+      final ProcessingEnvironment env,
+      final VariableElement field,
+      final TypeMirror fieldType
+  ) {
+    Types types = env.getTypeUtils();
+    AxionName axionName = field.getAnnotation(AxionName.class);
+    String fieldName = field.getSimpleName().toString();
+    String tagName = (axionName == null) ? fieldName : axionName.value();
+
+    boolean primitive = fieldType.getKind().isPrimitive();
+    String primitiveName = null;
+    if (primitive && fieldType.getKind() != TypeKind.CHAR) {
+      String kind = fieldType.toString();
+      primitiveName = Character.toUpperCase(kind.charAt(0)) + kind.substring(1);
+    }
+    boolean container = !primitive
+        && (mayHold(env, fieldType, "java.util.Collection") || mayHold(env, fieldType, "java.util.Map"));
+    String typeName;
+    String tokenExpression;
+    if (primitive) {
+      typeName = types.boxedClass((PrimitiveType) fieldType).getQualifiedName().toString();
+      tokenExpression = "AxionTypeToken.get(" + fieldType + ".class)";
+    } else if (fieldType.getKind() == TypeKind.DECLARED && ((DeclaredType) fieldType).getTypeArguments().isEmpty()) {
+      typeName = fieldType.toString();
+      tokenExpression = "AxionTypeToken.get(" + typeName + ".class)";
+    } else {
+      typeName = fieldType.toString();
+      tokenExpression = "new AxionTypeToken<" + typeName + ">() {}";
+    }
+
+    AxionDefault axionDefault = field.getAnnotation(AxionDefault.class);
+    String defaultExpression = null;
+    if (axionDefault != null) {
+      defaultExpression = parseDefault(env, field, fieldType, typeName, axionDefault.value());
+      if (defaultExpression == null) {
+        return null;
+      }
+    }
+    return new MappedField(fieldName, tagName, primitive, primitiveName, container, typeName, tokenExpression,
+        defaultExpression);
+  }
+
+  /**
+   * Returns true if a field of the type given can hold an instance of the class named, ie. either type is assignable to
+   * the other.
+   */
+  private static boolean mayHold(final ProcessingEnvironment env, final TypeMirror fieldType, final String className) {
+    Types types = env.getTypeUtils();
+    TypeMirror erasure = types.erasure(fieldType);
+    TypeMirror type = types.erasure(env.getElementUtils().getTypeElement(className).asType());
+    return types.isAssignable(erasure, type) || types.isAssignable(type, erasure);
+  }
+
+  /**
+   * Returns an expression creating the default value given, parsed the same way {@link PojoTypeConverterFactory}
+   * parses it, or null after reporting an error.
+   */
+  private static String parseDefault(
+      final ProcessingEnvironment env,
+      final VariableElement field,
+      final TypeMirror fieldType,
+      final String typeName,
+      final String value
+  ) {
+    Messager messager = env.getMessager();
+    String literal = SourceWriter.literal(value);
+    Element typeElement = env.getTypeUtils().asElement(fieldType);
+    if (typeElement != null && typeElement.getKind() == ElementKind.ENUM) {
+      for (Element constant : typeElement.getEnclosedElements()) {
+        if (constant.getKind() == ElementKind.ENUM_CONSTANT && constant.getSimpleName().contentEquals(value)) {
+          return typeName + "." + value;
+        }
+      }
+      messager.printMessage(Diagnostic.Kind.ERROR, "Invalid default [" + value + "]", field);
+      return null;
+    }
+    try {
+      switch (typeName) {
+        case "java.lang.String":
+          return literal;
+        case "java.lang.Boolean":
+          return "java.lang.Boolean.valueOf(" + literal + ")";
+        case "java.lang.Byte":
+          Byte.valueOf(value);
+          break;
+        case "java.lang.Short":
+          Short.valueOf(value);
+          break;
+        case "java.lang.Integer":
+          Integer.valueOf(value);
+          break;
+        case "java.lang.Long":
+          Long.valueOf(value);
+          break;
+        case "java.lang.Float":
+          Float.valueOf(value);
+          break;
+        case "java.lang.Double":
+          Double.valueOf(value);
+          break;
+        default:
+          messager.printMessage(Diagnostic.Kind.ERROR, "Default values aren't supported for this field", field);
+          return null;
+      }
+    } catch (NumberFormatException e) {
+      messager.printMessage(Diagnostic.Kind.ERROR, "Invalid default [" + value + "]", field);
+      return null;
+    }
+    return typeName + ".valueOf(" + literal + ")";
+  }
+
+  private static void note(final Messager messager, final TypeElement type, final String reason) {
+    messager.printMessage(
+        Diagnostic.Kind.NOTE,
+        "No converter generated for " + type.getQualifiedName() + " as " + reason + "; it's mapped reflectively",
+        type
+    );
+  }
+
+}
@@ -0,0 +1,241 @@
+package com.sudoplay.axion.processor;
+
+import com.sudoplay.axion.processor.MappedClass.MappedField;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes the source of the converter factories and registry generated by {@link AxionMappedProcessor}.
+ *
+ * @author Jason Taylor
+ */
+final class SourceWriter {
+
+  private static final String HEADER = "// Generated by " + AxionMappedProcessor.class.getName() + "; don't edit.\n";
+
+  private SourceWriter() {
+    //
+  }
+
+  /**
+   * Returns the source of the factory for the class given. Its converter reads and writes the fields directly, and
+   * writes and reads the same tags as {@link com.sudoplay.axion.converter.PojoTypeConverterFactory}.
+   */
+  static String writeFactory(final MappedClass mapped) {
+    StringBuilder out = new StringBuilder();
+    out.append(HEADER);
+    if (!mapped.packageName.isEmpty()) {
+      out.append("package ").append(mapped.packageName).append(";\n");
+    }
+    out.append("\n")
+        .append("import com.sudoplay.axion.Axion;\n")
+        .append("import com.sudoplay.axion.registry.PrimitiveTypeConverter;\n")
+        .append("import com.sudoplay.axion.registry.TypeConverter;\n")
+        .append("import com.sudoplay.axion.registry.TypeConverterFactory;\n")
+        .append("import com.sudoplay.axion.spec.tag.TagCompound;\n")
+        .append("import com.sudoplay.axion.system.ObjectConstructor;\n")
+        .append("import com.sudoplay.axion.tag.Tag;\n")
+        .append("import com.sudoplay.axion.util.AxionTypeToken;\n")
+        .append("\n")
+        .append("import java.util.Collection;\n")
+        .append("import java.util.Map;\n")
+        .append("\n")
+        .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+        .append("public final class ").append(mapped.factoryName).append(" implements TypeConverterFactory {\n")
+        .append("\n")
+        .append("  @Override\n")
+        .append("  public <T extends Tag, V> TypeConverter<T, V> create(Axion axion, AxionTypeToken<V> typeToken) {\n")
+        .append("    if (typeToken.getType() != ").append(mapped.typeName).append(".class) {\n")
+        .append("      return null;\n")
+        .append("    }\n")
+        .append("    return (TypeConverter<T, V>) new Converter(axion, (ObjectConstructor) axion")
+        .append(".getConstructorConstructor(typeToken));\n")
+        .append("  }\n")
+        .append("\n")
+        .append("  @Override\n")
+        .append("  public TypeConverterFactory newInstance(Axion axion) {\n")
+        .append("    return new ").append(mapped.factoryName).append("();\n")
+        .append("  }\n")
+        .append("\n");
+    writeConverter(out, mapped);
+    out.append("\n}\n");
+    return out.toString();
+  }
+
+  private static void writeConverter(final StringBuilder out, final MappedClass mapped) {
+    List<MappedField> fields = mapped.fields;
+    String type = mapped.typeName;
+    out.append("  private static final class Converter extends TypeConverter<TagCompound, ").append(type)
+        .append("> {\n\n");
+    for (int i = 0; i < fields.size(); i++) {
+      MappedField field = fields.get(i);
+      if (field.defaultExpression != null) {
+        // unboxed once here rather than on every read
+        String defaultType = (field.primitiveName != null) ? field.primitiveName.toLowerCase(Locale.ROOT)
+            : field.typeName;
+        out.append("    private static final ").append(defaultType).append(" DEFAULT_").append(i).append(" = ")
+            .append(field.defaultExpression).append(";\n");
+      }
+    }
+    out.append("\n    private final ObjectConstructor<").append(type).append("> constructor;\n");
+    for (int i = 0; i < fields.size(); i++) {
+      out.append("    private final TypeConverter<Tag, Object> converter").append(i).append(";\n");
+      String primitiveName = fields.get(i).primitiveName;
+      if (primitiveName != null) {
+        out.append("    private final PrimitiveTypeConverter.Of").append(primitiveName).append("<Tag> primitive")
+            .append(i).append(";\n");
+      }
+    }
+
+    out.append("\n    private Converter(Axion axion, ObjectConstructor<").append(type).append("> constructor) {\n")
+        .append("      this.constructor = constructor;\n");
+    for (int i = 0; i < fields.size(); i++) {
+      MappedField field = fields.get(i);
+      out.append("      converter").append(i).append(" = (TypeConverter) axion.getConverter(")
+          .append(field.tokenExpression).append(");\n");
+      if (field.primitiveName != null) {
+        String primitiveType = "PrimitiveTypeConverter.Of" + field.primitiveName;
+        out.append("      primitive").append(i).append(" = (converter").append(i).append(" instanceof ")
+            .append(primitiveType).append(") ? (").append(primitiveType).append(") converter").append(i)
+            .append(" : null;\n");
+      }
+    }
+    out.append("    }\n\n");
+
+    out.append("    @Override\n")
+        .append("    public ").append(type).append(" convert(TagCompound tag) {\n")
+        .append("      ").append(type).append(" value = constructor.construct();\n")
+        .append("      Tag child;\n");
+    for (int i = 0; i < fields.size(); i++) {
+      MappedField field = fields.get(i);
+      out.append("      child = tag.get(").append(literal(field.tagName)).append(");\n")
+          .append("      if (child != null) {\n")
+          .append("        value.").append(field.fieldName).append(" = ");
+      if (field.primitiveName != null) {
+        out.append("(primitive").append(i).append(" != null) ? primitive").append(i).append(".convert")
+            .append(field.primitiveName).append("(child) : ");
+      }
+      out.append("(").append(field.typeName).append(") converter").append(i).append(".convert(child);\n");
+      if (field.defaultExpression != null) {
+        out.append("      } else {\n")
+            .append("        value.").append(field.fieldName).append(" = DEFAULT_").append(i).append(";\n");
+      }
+      out.append("      }\n");
+    }
+    out.append("      return value;\n")
+        .append("    }\n\n");
+
+    out.append("    @Override\n")
+        .append("    public TagCompound convert(String name, ").append(type).append(" value) {\n")
+        .append("      TagCompound tag = new TagCompound(name);\n");
+    boolean containers = false;
+    for (int i = 0; i < fields.size(); i++) {
+      MappedField field = fields.get(i);
+      String tagName = literal(field.tagName);
+      String value = "value." + field.fieldName;
+      if (field.primitiveName != null) {
+        out.append("      tag.put(").append(tagName).append(", (primitive").append(i).append(" != null) ? primitive")
+            .append(i).append(".convert(").append(tagName).append(", ").append(value).append(") : converter")
+            .append(i).append(".convert(").append(tagName).append(", ").append(value).append("));\n");
+        continue;
+      }
+      String put = "tag.put(" + tagName + ", converter" + i + ".convert(" + tagName + ", " + value + "));\n";
+      if (field.primitive) {
+        out.append("      ").append(put);
+      } else {
+        out.append("      if (").append(value).append(" != null");
+        if (field.container) {
+          out.append(" && !isEmptyContainer(").append(value).append(")");
+          containers = true;
+        }
+        out.append(") {\n")
+            .append("        ").append(put)
+            .append("      }\n");
+      }
+    }
+    out.append("      return tag;\n")
+        .append("    }\n");
+
+    if (containers) {
+      out.append("\n")
+          .append("    private static boolean isEmptyContainer(Object value) {\n")
+          .append("      return (value instanceof Collection && ((Collection) value).isEmpty())\n")
+          .append("          || (value instanceof Map && ((Map) value).isEmpty());\n")
+          .append("    }\n");
+    }
+    out.append("  }\n");
+  }
+
+  /**
+   * Returns the source of the registry that registers the factories given.
+   */
+  static String writeRegistry(final String packageName, final String name, final List<String> factories) {
+    StringBuilder out = new StringBuilder();
+    out.append(HEADER);
+    if (!packageName.isEmpty()) {
+      out.append("package ").append(packageName).append(";\n");
+    }
+    out.append("\n")
+        .append("import com.sudoplay.axion.Axion;\n")
+        .append("\n")
+        .append("/**\n")
+        .append(" * Registers the converter factories generated for the {@code AxionMapped} classes of this\n")
+        .append(" * compilation.\n")
+        .append(" * <p>\n")
+        .append(" * Instances whose configuration includes the {@code PojoTypeConverterFactory} find these factories\n")
+        .append(" * without registration; this is for instances configured without it.\n")
+        .append(" */\n")
+        .append("public final class ").append(name).append(" {\n")
+        .append("\n")
+        .append("  private ").append(name).append("() {\n")
+        .append("    //\n")
+        .append("  }\n")
+        .append("\n")
+        .append("  public static Axion registerAll(Axion axion) {\n");
+    for (String factory : factories) {
+      out.append("    axion.registerConverterFactory(new ").append(factory).append("());\n");
+    }
+    out.append("    return axion;\n")
+        .append("  }\n")
+        .append("\n")
+        .append("}\n");
+    return out.toString();
+  }
+
+  /**
+   * Returns the Java string literal for the value given.
+   */
+  static String literal(final String value) {
+    StringBuilder out = new StringBuilder(value.length() + 2);
+    out.append('"');
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      switch (c) {
+        case '"':
+          out.append("\\\"");
+          break;
+        case '\\':
+          out.append("\\\\");
+          break;
+        case '\n':
+          out.append("\\n");
+          break;
+        case '\r':
+          out.append("\\r");
+          break;
+        case '\t':
+          out.append("\\t");
+          break;
+        default:
+          if (c < 0x20 || c > 0x7e) {
+            out.append(String.format("\\u%04x", (int) c));
+          } else {
+            out.append(c);
+          }
+      }
+    }
+    return out.append('"').toString();
+  }
+
+}
@@ -0,0 +1,154 @@
+package com.sudoplay.axion.processor;
+
+import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.converter.PojoTypeConverterFactory;
+import com.sudoplay.axion.registry.TagAdapter;
+import com.sudoplay.axion.registry.TypeConverter;
+import com.sudoplay.axion.spec.tag.TagCompound;
+import com.sudoplay.axion.spec.tag.TagInt;
+import com.sudoplay.axion.util.AxionTypeToken;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+public class AxionMappedProcessorTest {
+
+  private static Axion axion;
+
+  @BeforeClass
+  public static void before() {
+    axion = Axion.createInstanceFrom(Axion.getExtInstance(), "AxionMappedProcessorTest");
+  }
+
+  static MappedPlayer createPlayer() {
+    MappedPlayer player = new MappedPlayer();
+    player.created = 1234L;
+    player.id = 7;
+    player.name = "Steve";
+    player.state = MappedPlayer.State.ACTIVE;
+    player.speed = 0.5;
+    player.online = true;
+    player.scores = Arrays.asList(3, 1, 4);
+    player.stats = Collections.singletonMap(1, 12L);
+    player.inventory = new int[]{1, 2, 3};
+    player.cache = "not written";
+    player.friend = new MappedPlayer();
+    player.friend.id = 8;
+    player.friend.name = "Alex";
+    return player;
+  }
+
+  @SuppressWarnings("unchecked")
+  static TypeConverter<TagCompound, MappedPlayer> reflective(final Axion axion) {
+    return new PojoTypeConverterFactory(false).create(axion, AxionTypeToken.get(MappedPlayer.class));
+  }
+
+  private static byte[] write(final TagCompound tag) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    axion.write(tag, out);
+    return out.toByteArray();
+  }
+
+  @Test
+  public void test_generatedFactoryUsed() {
+    TypeConverter<TagCompound, MappedPlayer> converter = axion.getConverter(AxionTypeToken.get(MappedPlayer.class));
+    assertSame(MappedPlayer_AxionConverterFactory.class, converter.getClass().getEnclosingClass());
+    assertNotSame(MappedPlayer_AxionConverterFactory.class, reflective(axion).getClass().getEnclosingClass());
+  }
+
+  @Test
+  public void test_sameTagsAsReflective() throws IOException {
+    MappedPlayer player = createPlayer();
+    TagCompound generated = axion.toTag("player", player);
+    TagCompound reflective = reflective(axion).convert("player", player);
+    assertEquals(reflective, generated);
+    assertArrayEquals(write(reflective), write(generated));
+    assertNull(generated.get("cache"));
+    assertNull(generated.get("hash"));
+    assertNull(generated.get("MAX_HEALTH"));
+    assertEquals(player.uuid, generated.<com.sudoplay.axion.spec.tag.TagString>get("uuid").get());
+  }
+
+  @Test
+  public void test_sameValuesAsReflective() {
+    TagCompound tag = axion.toTag("player", createPlayer());
+    for (MappedPlayer result : new MappedPlayer[]{axion.fromTag(tag, MappedPlayer.class), reflective(axion).convert
+        (tag)}) {
+      assertEquals(1234L, result.created);
+      assertEquals(7, result.id);
+      assertEquals("Steve", result.name);
+      assertEquals(MappedPlayer.State.ACTIVE, result.state);
+      assertEquals(0.5, result.speed, 0);
+      assertTrue(result.online);
+      assertEquals(Arrays.asList(3, 1, 4), result.scores);
+      assertEquals(Long.valueOf(12), result.stats.get(1));
+      assertArrayEquals(new int[]{1, 2, 3}, result.inventory);
+      assertNull(result.cache);
+      assertEquals("Alex", result.friend.name);
+    }
+  }
+
+  @Test
+  public void test_defaults() {
+    TagCompound tag = new TagCompound();
+    tag.put(new TagInt("id", 1));
+    MappedPlayer result = axion.fromTag(tag, MappedPlayer.class);
+    assertEquals(MappedPlayer.State.IDLE, result.state);
+    assertEquals(100, result.health);
+    assertEquals("unnamed", result.name);
+  }
+
+  @Test
+  public void test_reflectiveFallback() {
+    try {
+      Class.forName(ReflectiveOnly.class.getName() + PojoTypeConverterFactory.GENERATED_FACTORY_SUFFIX);
+      fail("Expected no factory for a class with a private field");
+    } catch (ClassNotFoundException e) {
+      // expected
+    }
+    ReflectiveOnly value = new ReflectiveOnly();
+    value.setId(3);
+    ReflectiveOnly result = axion.fromTag(axion.toTag(null, value), ReflectiveOnly.class);
+    assertEquals(3, result.getId());
+  }
+
+  @Test
+  public void test_registry() {
+    Axion instance = Axion.createInstanceFrom(Axion.getExtInstance(), "AxionMappedProcessorTest-registry");
+    assertSame(instance, GeneratedConverters.registerAll(instance));
+    assertNotNull(instance.getConverter(AxionTypeToken.get(MappedPlayer.class)));
+  }
+
+  @Test
+  public void test_boxingConverter() {
+    // a converter that isn't a PrimitiveTypeConverter is given the boxed value
+    Axion boxing = Axion.createInstance("AxionMappedProcessorTest-boxing");
+    boxing.registerTag(3, TagInt.class, Integer.class, TagAdapter.Spec.INT, new BoxingIntConverter());
+    GeneratedConverters.registerAll(boxing);
+    MappedCounter counter = new MappedCounter();
+    counter.count = 7;
+    TagCompound tag = boxing.toTag(null, counter);
+    assertEquals(new TagInt("count", 8), tag.get("count"));
+    assertEquals(7, boxing.fromTag(tag, MappedCounter.class).count);
+  }
+
+  public static class BoxingIntConverter extends TypeConverter<TagInt, Integer> {
+
+    @Override
+    public Integer convert(final TagInt tag) {
+      return tag.get() - 1;
+    }
+
+    @Override
+    public TagInt convert(final String name, final Integer value) {
+      return new TagInt(name, value + 1);
+    }
+  }
+
+}
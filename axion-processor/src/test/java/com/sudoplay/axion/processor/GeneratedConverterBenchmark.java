@@ -0,0 +1,43 @@
+package com.sudoplay.axion.processor;
+
+import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.registry.TypeConverter;
+import com.sudoplay.axion.spec.tag.TagCompound;
+import com.sudoplay.axion.util.AxionTypeToken;
+
+/**
+ * Compares the converter generated for {@link MappedPlayer} with the reflective one; run with its main method.
+ */
+public class GeneratedConverterBenchmark {
+
+  private static final int WARM_UP = 200000;
+  private static final int ITERATIONS = 1000000;
+
+  public static void main(final String[] args) {
+    Axion axion = Axion.createInstanceFrom(Axion.getExtInstance(), "GeneratedConverterBenchmark");
+    TypeConverter<TagCompound, MappedPlayer> generated = axion.getConverter(AxionTypeToken.get(MappedPlayer.class));
+    TypeConverter<TagCompound, MappedPlayer> reflective = AxionMappedProcessorTest.reflective(axion);
+    MappedPlayer player = AxionMappedProcessorTest.createPlayer();
+    player.friend = null;
+
+    for (int round = 0; round < 3; round++) {
+      run("generated", generated, player);
+      run("reflective", reflective, player);
+    }
+  }
+
+  private static void run(final String name, final TypeConverter<TagCompound, MappedPlayer> converter,
+                          final MappedPlayer player) {
+    int sink = 0;
+    for (int i = 0; i < WARM_UP; i++) {
+      sink += converter.convert(converter.convert(null, player)).id;
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      sink += converter.convert(converter.convert(null, player)).id;
+    }
+    long nanos = System.nanoTime() - start;
+    System.out.printf("%-10s %6d ns per write and read (%d)%n", name, nanos / ITERATIONS, sink);
+  }
+
+}
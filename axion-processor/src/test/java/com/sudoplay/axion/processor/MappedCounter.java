@@ -0,0 +1,8 @@
+package com.sudoplay.axion.processor;
+
+import com.sudoplay.axion.api.AxionMapped;
+
+@AxionMapped
+class MappedCounter {
+  int count;
+}
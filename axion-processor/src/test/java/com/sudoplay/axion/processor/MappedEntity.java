@@ -0,0 +1,8 @@
+package com.sudoplay.axion.processor;
+
+import java.util.UUID;
+
+class MappedEntity {
+  String uuid = UUID.randomUUID().toString();
+  long created;
+}
@@ -0,0 +1,38 @@
+package com.sudoplay.axion.processor;
+
+import com.sudoplay.axion.api.AxionDefault;
+import com.sudoplay.axion.api.AxionIgnore;
+import com.sudoplay.axion.api.AxionMapped;
+import com.sudoplay.axion.api.AxionName;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@AxionMapped
+class MappedPlayer extends MappedEntity {
+
+  enum State {
+    IDLE, ACTIVE
+  }
+
+  static final int MAX_HEALTH = 100;
+
+  int id;
+  @AxionName("playerName")
+  String name = "unnamed";
+  @AxionDefault("IDLE")
+  State state;
+  @AxionDefault("100")
+  int health;
+  double speed;
+  boolean online;
+  List<Integer> scores = new ArrayList<>();
+  Map<Integer, Long> stats;
+  int[] inventory;
+  @AxionIgnore
+  String cache;
+  transient int hash;
+  MappedPlayer friend;
+
+}
@@ -0,0 +1,19 @@
+package com.sudoplay.axion.processor;
+
+import com.sudoplay.axion.api.AxionMapped;
+
+/**
+ * Gets no generated factory: the factory can't access its private field.
+ */
+@AxionMapped
+class ReflectiveOnly {
+  private int id;
+
+  int getId() {
+    return id;
+  }
+
+  void setId(final int newId) {
+    id = newId;
+  }
+}
@@ -1,6 +1,8 @@
 package com.sudoplay.axion;
 
 import com.sudoplay.axion.AxionConfiguration.CharacterEncodingType;
+import com.sudoplay.axion.AxionConfiguration.CodecType;
+import com.sudoplay.axion.AxionConfiguration.PrimitiveCollectionPolicy;
 import com.sudoplay.axion.AxionConfiguration.CompressionType;
 import com.sudoplay.axion.AxionConfigurationProtection.ProtectionMode;
 import com.sudoplay.axion.api.AxionReader;
@@ -8,26 +10,33 @@ import com.sudoplay.axion.api.AxionWritable;
 import com.sudoplay.axion.api.AxionWriter;
 import com.sudoplay.axion.api.impl.DefaultAxionReader;
 import com.sudoplay.axion.api.impl.DefaultAxionWriter;
+import com.sudoplay.axion.diff.TagDiff;
 import com.sudoplay.axion.registry.AxionTagRegistrationException;
+import com.sudoplay.axion.registry.IterativeTagCodec;
 import com.sudoplay.axion.registry.TagAdapter;
+import com.sudoplay.axion.registry.TagPrinter;
 import com.sudoplay.axion.registry.TypeConverter;
 import com.sudoplay.axion.registry.TypeConverterFactory;
+import com.sudoplay.axion.registry.TypeConverterWarmUpReport;
+import com.sudoplay.axion.spec.tag.TagArena;
 import com.sudoplay.axion.spec.tag.TagCompound;
 import com.sudoplay.axion.stream.AxionInputStream;
 import com.sudoplay.axion.stream.AxionOutputStream;
+import com.sudoplay.axion.stream.DecodeLimits;
 import com.sudoplay.axion.system.InstanceCreator;
 import com.sudoplay.axion.system.ObjectConstructor;
+import com.sudoplay.axion.tag.EncodedTagCache;
 import com.sudoplay.axion.tag.Tag;
 import com.sudoplay.axion.util.AxionTypeToken;
 import com.sudoplay.axion.util.DurationUtil;
+import com.sudoplay.axion.validation.TagStreamReport;
+import com.sudoplay.axion.validation.TagStreamValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
 import java.lang.reflect.Type;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 
 /**
  * This is the main class for {@link Axion}, a tool for working with NBT.
@@ -232,7 +241,7 @@ public class Axion {
    */
   @SuppressWarnings("unused")
   public Axion lock() {
-    configuration.lock();
+    configuration.lock(this);
     return this;
   }
 
@@ -260,10 +269,74 @@ public class Axion {
    */
   @SuppressWarnings("unused")
   public Axion setImmutable() {
-    configuration.setImmutable();
+    configuration.setImmutable(this);
     return this;
   }
 
+  /**
+   * Declares value types whose converters are resolved when this instance is locked or made immutable, so the first
+   * read or write of each type doesn't resolve its converter graph.
+   * <p>
+   * Can't use when <b>Locked</b> or <b>Immutable</b>.
+   *
+   * @param types the value types to declare; classes or parameterized types
+   * @return this {@link Axion} instance
+   * @see #warmUp()
+   */
+  @SuppressWarnings("unused")
+  public Axion declareValueTypes(final Type... types) {
+    List<AxionTypeToken<?>> typeTokens = new ArrayList<>(types.length);
+    for (Type type : types) {
+      typeTokens.add(AxionTypeToken.get(type));
+    }
+    configuration.declareValueTypes(typeTokens);
+    return this;
+  }
+
+  /**
+   * Declares value types whose converters are resolved when this instance is locked or made immutable.
+   * <p>
+   * Can't use when <b>Locked</b> or <b>Immutable</b>.
+   *
+   * @param typeTokens the value types to declare
+   * @return this {@link Axion} instance
+   * @see #declareValueTypes(Type...)
+   */
+  @SuppressWarnings("unused")
+  public Axion declareValueTypes(final AxionTypeToken<?>... typeTokens) {
+    configuration.declareValueTypes(Arrays.asList(typeTokens));
+    return this;
+  }
+
+  /**
+   * @return an unmodifiable view of the declared value types, in declaration order
+   */
+  @SuppressWarnings("unused")
+  public Set<AxionTypeToken<?>> getDeclaredValueTypes() {
+    return configuration.getDeclaredValueTypes();
+  }
+
+  /**
+   * Resolves the converters of the declared value types now; {@link #lock()} and {@link #setImmutable()} do this too.
+   * <p>
+   * If no converter is found for a declared value type, an exception is thrown.
+   *
+   * @return the time taken to resolve each type
+   * @throws AxionTagRegistrationException
+   */
+  @SuppressWarnings("unused")
+  public TypeConverterWarmUpReport warmUp() throws AxionTagRegistrationException {
+    return configuration.warmUp(this);
+  }
+
+  /**
+   * @return the report of the last warm-up, or null if there hasn't been one
+   */
+  @SuppressWarnings("unused")
+  public TypeConverterWarmUpReport getWarmUpReport() {
+    return configuration.getWarmUpReport();
+  }
+
   public AxionWriter newWriter() {
     return new DefaultAxionWriter(this);
   }
@@ -415,6 +488,77 @@ public class Axion {
     return this;
   }
 
+  /**
+   * Sets the {@link CodecType} this {@link Axion} instance uses to read and write tag trees.
+   * <p>
+   * Can't use when <b>Locked</b> or <b>Immutable</b>.
+   *
+   * @param newCodecType the codec type
+   * @return this {@link Axion} instance
+   */
+  public Axion setCodecType(final CodecType newCodecType) {
+    configuration.setCodecType(newCodecType);
+    return this;
+  }
+
+  /**
+   * Returns the {@link CodecType} this {@link Axion} instance uses to read and write tag trees.
+   *
+   * @return the {@link CodecType}
+   */
+  public CodecType getCodecType() {
+    return configuration.getCodecType();
+  }
+
+  /**
+   * Sets the {@link PrimitiveCollectionPolicy} this {@link Axion} instance uses to write collections of primitive
+   * wrappers.
+   * <p>
+   * Can't use when <b>Locked</b> or <b>Immutable</b>.
+   *
+   * @param newPrimitiveCollectionPolicy the primitive collection policy
+   * @return this {@link Axion} instance
+   */
+  public Axion setPrimitiveCollectionPolicy(final PrimitiveCollectionPolicy newPrimitiveCollectionPolicy) {
+    configuration.setPrimitiveCollectionPolicy(newPrimitiveCollectionPolicy);
+    return this;
+  }
+
+  /**
+   * Returns the {@link PrimitiveCollectionPolicy} this {@link Axion} instance uses to write collections of primitive
+   * wrappers.
+   *
+   * @return the {@link PrimitiveCollectionPolicy}
+   */
+  public PrimitiveCollectionPolicy getPrimitiveCollectionPolicy() {
+    return configuration.getPrimitiveCollectionPolicy();
+  }
+
+  /**
+   * Sets the {@link DecodeLimits} enforced while this {@link Axion} instance reads, so that data from an untrusted
+   * source fails with an {@link AxionDecodeLimitException} instead of exhausting the heap or the thread stack. The
+   * limits are copied; null removes all limits, which is the default.
+   * <p>
+   * Can't use when <b>Locked</b> or <b>Immutable</b>.
+   *
+   * @param newDecodeLimits the decode limits
+   * @return this {@link Axion} instance
+   * @see DecodeLimits#untrusted()
+   */
+  public Axion setDecodeLimits(final DecodeLimits newDecodeLimits) {
+    configuration.setDecodeLimits(newDecodeLimits);
+    return this;
+  }
+
+  /**
+   * Returns a copy of the {@link DecodeLimits} enforced while this {@link Axion} instance reads.
+   *
+   * @return the {@link DecodeLimits}
+   */
+  public DecodeLimits getDecodeLimits() {
+    return configuration.getDecodeLimits();
+  }
+
   /**
    * Sets this {@link AxionConfiguration} to use the {@link CompressionType} given.
    * <p>
@@ -520,6 +664,19 @@ public class Axion {
     return configuration.getConverter(this, typeToken);
   }
 
+  /**
+   * Returns the registered {@link TypeConverter} for the value given, if any.
+   * <p>
+   * Unlike {@link #getConverter(AxionTypeToken)}, a missing converter doesn't throw, and the miss is cached; use this
+   * to probe types.
+   *
+   * @param typeToken typeToken
+   * @return the registered {@link TypeConverter} for the type given, or an empty {@link Optional}
+   */
+  public <T extends Tag, V> Optional<TypeConverter<T, V>> findConverter(final AxionTypeToken<V> typeToken) {
+    return Optional.ofNullable(configuration.findConverter(this, typeToken));
+  }
+
   /**
    * Returns true if the given value's class has a converter registered.
    *
@@ -542,6 +699,16 @@ public class Axion {
     return configuration.hasConverter(tag);
   }
 
+  /**
+   * Returns true if the given tag class has a converter registered.
+   *
+   * @param tagClass tag class
+   * @return true if the given tag class has a converter registered
+   */
+  public boolean hasConverterForTag(final Class<? extends Tag> tagClass) {
+    return configuration.hasConverterForTag(tagClass);
+  }
+
   /**
    * Appends a string version of the {@link Tag} given to the {@link StringBuilder} given.
    *
@@ -566,6 +733,57 @@ public class Axion {
     return configuration.getBaseTagAdapter().toString(tag, out).toString();
   }
 
+  /**
+   * Prints the {@link Tag} given to the {@link Appendable} given, one line at a time. The output is the same as {@link
+   * #toString(Tag)}; use {@link #newPrinter()} to limit the output for large trees.
+   *
+   * @param tag the {@link Tag} to print
+   * @param out the {@link Appendable} to print to
+   * @param <A> appendable type
+   * @return the {@link Appendable} given
+   * @throws IOException if the {@link Appendable} throws
+   * @throws AxionTagRegistrationException
+   */
+  public <A extends Appendable> A print(final Tag tag, final A out) throws IOException, AxionTagRegistrationException {
+    return newPrinter().print(tag, out);
+  }
+
+  /**
+   * Returns a new {@link TagPrinter} that prints tags with this instance's adapters.
+   *
+   * @return a new {@link TagPrinter}
+   */
+  public TagPrinter newPrinter() {
+    return new TagPrinter(this);
+  }
+
+  /**
+   * Returns a delta that describes the changes from one {@link TagCompound} to another. The delta is itself a {@link
+   * TagCompound} and can be written and read like any other.
+   *
+   * @param before   the old state
+   * @param after    the new state
+   * @param listKeys names of the key fields used to match elements of lists of compounds
+   * @return the delta
+   * @see TagDiff
+   */
+  public TagCompound diff(final TagCompound before, final TagCompound after, final String... listKeys) {
+    return new TagDiff(listKeys).diff(before, after);
+  }
+
+  /**
+   * Applies a delta created by {@link #diff(TagCompound, TagCompound, String...)} to the {@link TagCompound} given, in
+   * place.
+   *
+   * @param delta  the delta to apply
+   * @param target the {@link TagCompound} to modify
+   * @return the {@link TagCompound} given
+   * @see TagDiff
+   */
+  public TagCompound apply(final TagCompound delta, final TagCompound target) {
+    return new TagDiff().apply(delta, target);
+  }
+
   /**
    * Reads a file into the {@link AxionWritable} given.
    * <p>
@@ -710,6 +928,58 @@ public class Axion {
     return (TagCompound) result;
   }
 
+  /**
+   * Reads and returns a {@link TagCompound} from the {@link InputStream} given, recycling the tags of the {@link
+   * TagCompound} given instead of allocating new ones wherever the decoded data allows.
+   * <p>
+   * The tree given is taken apart by the read: scalar tags are overwritten in place, array tags keep their storage when
+   * the decoded length matches and containers are emptied and refilled. When the decoded data has the same shape as
+   * the tree given, the tree given is returned. Tags that aren't needed by the decoded data are discarded.
+   * <p>
+   * If no base tag adapter has been registered, an exception is thrown.
+   *
+   * @param inputStream the stream to read from
+   * @param reuse       the {@link TagCompound} to recycle; may be null
+   * @return the {@link TagCompound} read
+   * @throws IOException
+   * @throws AxionTagRegistrationException
+   */
+  public TagCompound readRecycling(final InputStream inputStream, final TagCompound reuse) throws IOException,
+      AxionTagRegistrationException {
+    LOG.debug("Entering readRecycling(inputStream=[{}], reuse=[{}])", inputStream, reuse);
+    long start = System.currentTimeMillis();
+    TagArena arena = new TagArena().release(reuse);
+    Tag result = adapt(null, configuration.wrap(inputStream).setArena(arena));
+    if (!(result instanceof TagCompound)) {
+      LOG.error("Root tag not of type [{}]", TagCompound.class.getSimpleName());
+      throw new AxionReadException("Root tag not of type " + TagCompound.class.getSimpleName());
+    }
+    LOG.info("Read of [{}] completed in [{}], [{}] unused tags discarded", result, DurationUtil.formatDurationWords(
+        System.currentTimeMillis() - start), arena.size());
+    LOG.debug("Leaving readRecycling(): [{}]", result);
+    return (TagCompound) result;
+  }
+
+  /**
+   * Checks that the {@link InputStream} given holds a {@link TagCompound} that {@link #read(InputStream)} would read,
+   * without creating any tags, and reports the number of tags of each type, the nesting depth and the number of bytes
+   * read. Malformed data is reported, not thrown.
+   *
+   * @param inputStream the stream to validate
+   * @return the {@link TagStreamReport}
+   * @throws IOException if the stream given throws
+   * @see TagStreamValidator
+   */
+  public TagStreamReport validate(final InputStream inputStream) throws IOException {
+    LOG.debug("Entering validate(inputStream=[{}])", inputStream);
+    long start = System.currentTimeMillis();
+    TagStreamReport report = new TagStreamValidator(this, configuration::wrap).validate(inputStream);
+    LOG.info("Validation completed in [{}]: [{}]", DurationUtil.formatDurationWords(System.currentTimeMillis() -
+        start), report.isValid() ? "valid" : report.getError());
+    LOG.debug("Leaving validate(): [{}]", report);
+    return report;
+  }
+
   /**
    * Writes the {@link TagCompound} given to the {@link OutputStream} given.
    * <p>
@@ -731,6 +1001,32 @@ public class Axion {
     LOG.debug("Leaving write()");
   }
 
+  /**
+   * Writes the {@link TagCompound} given to the {@link OutputStream} given, copying the payloads of containers that
+   * are unchanged since they were last written with the {@link EncodedTagCache} given instead of encoding them again.
+   * <p>
+   * If no base tag adapter has been registered, an exception is thrown.
+   *
+   * @param tagCompound  the tag to write
+   * @param outputStream the stream to write to
+   * @param cache        the {@link EncodedTagCache} to copy and store encoded payloads
+   * @throws IOException
+   * @throws AxionTagRegistrationException
+   */
+  public void write(
+      final TagCompound tagCompound,
+      final OutputStream outputStream,
+      final EncodedTagCache cache
+  ) throws IOException, AxionTagRegistrationException {
+    LOG.debug("Entering write(tagCompound=[{}], outputStream=[{}], cache=[{}])", tagCompound, outputStream, cache);
+    long start = System.currentTimeMillis();
+    AxionOutputStream axionOutputStream = configuration.wrap(outputStream).setEncodedTagCache(cache);
+    adapt(tagCompound, axionOutputStream);
+    axionOutputStream.close();
+    LOG.info("Write completed in [{}]", DurationUtil.formatDurationWords(System.currentTimeMillis() - start));
+    LOG.debug("Leaving write()");
+  }
+
   /**
    * Returns an {@link ObjectConstructor} for the given type.
    *
@@ -768,6 +1064,9 @@ public class Axion {
       final Tag parent,
       final AxionInputStream in
   ) throws IOException, AxionTagRegistrationException {
+    if (configuration.getCodecType() == CodecType.Iterative) {
+      return IterativeTagCodec.read(this, parent, in);
+    }
     return configuration.getBaseTagAdapter().read(parent, in);
   }
 
@@ -785,6 +1084,10 @@ public class Axion {
       final Tag tag,
       final AxionOutputStream out
   ) throws IOException, AxionTagRegistrationException {
+    if (configuration.getCodecType() == CodecType.Iterative) {
+      IterativeTagCodec.write(this, tag, out);
+      return;
+    }
     configuration.getBaseTagAdapter().write(tag, out);
   }
 
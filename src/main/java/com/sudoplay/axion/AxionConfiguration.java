@@ -8,18 +8,20 @@ import com.sudoplay.axion.spec.tag.*;
 import com.sudoplay.axion.stream.AxionInputStream;
 import com.sudoplay.axion.stream.AxionOutputStream;
 import com.sudoplay.axion.stream.CharacterEncoderFactory;
+import com.sudoplay.axion.stream.DecodeLimits;
 import com.sudoplay.axion.stream.StreamCompressionWrapper;
 import com.sudoplay.axion.system.ConstructorConstructor;
 import com.sudoplay.axion.tag.Tag;
 import com.sudoplay.axion.util.AxionTypeToken;
+import com.sudoplay.axion.util.DurationUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.function.UnaryOperator;
 
 /**
  * The {@link AxionConfiguration} class manages all the user-definable configuration state for an {@link Axion}
@@ -35,8 +37,10 @@ public class AxionConfiguration implements Cloneable {
     return new AxionConfiguration() {{
       registerFactory(axion, new AxionWritableTypeConverterFactory());
       registerFactory(axion, new CollectionTypeConverterFactory());
+      registerFactory(axion, new PrimitiveArrayTypeConverterFactory());
       registerFactory(axion, new MapTypeConverterFactory());
       registerFactory(axion, new EnumTypeConverterFactory());
+      registerFactory(axion, new PojoTypeConverterFactory());
 
       registerBaseTagAdapter(axion, TagAdapter.Spec.BASE);
       registerTag(axion, 1, TagByte.class, Byte.class, TagAdapter.Spec.BYTE, TypeConverter.Spec.BYTE);
@@ -63,8 +67,10 @@ public class AxionConfiguration implements Cloneable {
     return new AxionConfiguration() {{
       registerFactory(axion, new AxionWritableTypeConverterFactory());
       registerFactory(axion, new CollectionTypeConverterFactory());
+      registerFactory(axion, new PrimitiveArrayTypeConverterFactory());
       registerFactory(axion, new MapTypeConverterFactory());
       registerFactory(axion, new EnumTypeConverterFactory());
+      registerFactory(axion, new PojoTypeConverterFactory());
 
       registerBaseTagAdapter(axion, TagAdapter.Spec.BASE);
       registerTag(axion, 1, TagByte.class, Byte.class, TagAdapter.Spec.BYTE, TypeConverter.Spec.BYTE);
@@ -108,6 +114,38 @@ public class AxionConfiguration implements Cloneable {
     GZip, Deflater, None
   }
 
+  /**
+   * The codec that an {@link AxionConfiguration} will use to read and write tag trees.
+   * <ul>
+   * <li><code>Recursive</code> - each container's adapter reads and writes its children, recursing once per nesting
+   * level</li>
+   * <li><code>Iterative</code> - an {@link IterativeTagCodec} reads and writes containers with an explicit stack, so
+   * deeply nested data can't overflow the thread stack; the bytes and tags produced are the same</li>
+   * </ul>
+   *
+   * @see AxionConfiguration#setCodecType(CodecType)
+   */
+  public enum CodecType {
+    Recursive, Iterative
+  }
+
+  /**
+   * How the converters of an {@link AxionConfiguration} write collections of primitive wrappers, such as {@code
+   * List<Integer>}.
+   * <ul>
+   * <li><code>List</code> - a {@link TagList} with a tag for each element</li>
+   * <li><code>Packed</code> - the array tag of the element type, such as a {@link TagIntArray}, if it's registered; a
+   * {@link TagList} otherwise</li>
+   * </ul>
+   * Either form is read back into collections and primitive arrays, whatever the policy. Primitive arrays are always
+   * written to their array tag if it's registered.
+   *
+   * @see AxionConfiguration#setPrimitiveCollectionPolicy(PrimitiveCollectionPolicy)
+   */
+  public enum PrimitiveCollectionPolicy {
+    List, Packed
+  }
+
   /**
    * The character encoding type that an {@link AxionConfiguration} will use to read and write strings with the {@link
    * AxionInputStream#readString()} and {@link AxionOutputStream#writeString(String)} methods.
@@ -123,6 +161,11 @@ public class AxionConfiguration implements Cloneable {
   private final TypeConverterRegistry typeConverterRegistry;
   private StreamCompressionWrapper streamCompressionWrapper;
   private CharacterEncodingType characterEncodingType;
+  private CodecType codecType;
+  private PrimitiveCollectionPolicy primitiveCollectionPolicy;
+  private DecodeLimits decodeLimits;
+  private final Set<AxionTypeToken<?>> valueTypes = new LinkedHashSet<>();
+  private TypeConverterWarmUpReport warmUpReport;
   private AxionConfigurationProtection configurationProtection;
 
   /**
@@ -151,6 +194,10 @@ public class AxionConfiguration implements Cloneable {
     configurationProtection = new AxionConfigurationProtection(ProtectionMode.Unlocked);
     streamCompressionWrapper = toCopy.streamCompressionWrapper;
     characterEncodingType = toCopy.characterEncodingType;
+    codecType = toCopy.codecType;
+    primitiveCollectionPolicy = toCopy.primitiveCollectionPolicy;
+    decodeLimits = toCopy.decodeLimits;
+    valueTypes.addAll(toCopy.valueTypes);
     LOG.debug("Leaving AxionConfiguration(): [{}]", this);
   }
 
@@ -169,6 +216,9 @@ public class AxionConfiguration implements Cloneable {
     configurationProtection = new AxionConfigurationProtection(newProtectionMode);
     streamCompressionWrapper = StreamCompressionWrapper.GZIP_STREAM_COMPRESSION_WRAPPER;
     characterEncodingType = CharacterEncodingType.MODIFIED_UTF_8;
+    codecType = CodecType.Recursive;
+    primitiveCollectionPolicy = PrimitiveCollectionPolicy.List;
+    decodeLimits = new DecodeLimits();
     LOG.debug("Leaving AxionConfiguration(): [{}]", this);
   }
 
@@ -190,6 +240,23 @@ public class AxionConfiguration implements Cloneable {
     return this;
   }
 
+  /**
+   * Resolves the converters of the declared value types, then changes this configuration's protection mode to
+   * <b>Locked</b>.
+   * <p>
+   * Can't use when <b>Immutable</b>.
+   *
+   * @return this {@link AxionConfiguration}
+   * @throws AxionTagRegistrationException if no converter is found for a declared value type
+   * @see #declareValueTypes(Collection)
+   * @see #lock()
+   */
+  protected AxionConfiguration lock(final Axion axion) throws AxionTagRegistrationException {
+    configurationProtection.assertMutable();
+    warmUp(axion);
+    return lock();
+  }
+
   /**
    * Changes this configuration's protection mode to <b>Unlocked</b>.
    * <p>
@@ -221,6 +288,71 @@ public class AxionConfiguration implements Cloneable {
     return this;
   }
 
+  /**
+   * Resolves the converters of the declared value types, then changes this configuration's protection mode to
+   * <b>Immutable</b>. Once this mode is set, it can't be undone.
+   *
+   * @return this {@link AxionConfiguration}
+   * @throws AxionTagRegistrationException if no converter is found for a declared value type
+   * @see #declareValueTypes(Collection)
+   * @see #setImmutable()
+   */
+  protected AxionConfiguration setImmutable(final Axion axion) throws AxionTagRegistrationException {
+    configurationProtection.assertUnlocked();
+    configurationProtection.assertMutable();
+    warmUp(axion);
+    return setImmutable();
+  }
+
+  /**
+   * Declares value types whose converters are resolved when this configuration is locked or made immutable, so the
+   * first read or write of each type doesn't resolve its converter graph.
+   * <p>
+   * Can't use when <b>Locked</b> or <b>Immutable</b>.
+   *
+   * @param typeTokens the value types to declare
+   * @return this {@link AxionConfiguration}
+   */
+  protected AxionConfiguration declareValueTypes(
+      final Collection<AxionTypeToken<?>> typeTokens
+  ) {
+    LOG.debug("[{}] declareValueTypes(typeTokens=[{}])", this, typeTokens);
+    configurationProtection.assertUnlocked();
+    configurationProtection.assertMutable();
+    valueTypes.addAll(typeTokens);
+    return this;
+  }
+
+  /**
+   * @return an unmodifiable view of the declared value types, in declaration order
+   */
+  protected Set<AxionTypeToken<?>> getDeclaredValueTypes() {
+    return Collections.unmodifiableSet(valueTypes);
+  }
+
+  /**
+   * Resolves the converters of the declared value types now.
+   *
+   * @return the time taken to resolve each type
+   * @throws AxionTagRegistrationException if no converter is found for a declared value type
+   */
+  protected TypeConverterWarmUpReport warmUp(final Axion axion) throws AxionTagRegistrationException {
+    TypeConverterWarmUpReport report = typeConverterRegistry.warmUp(axion, valueTypes);
+    if (report.getTypeCount() > 0) {
+      LOG.info("Warm-up of [{}] value types completed in [{}]", report.getTypeCount(), DurationUtil
+          .formatDurationWords(report.getTotalNanos() / 1000000L));
+    }
+    warmUpReport = report;
+    return report;
+  }
+
+  /**
+   * @return the report of the last warm-up, or null if there hasn't been one
+   */
+  protected TypeConverterWarmUpReport getWarmUpReport() {
+    return warmUpReport;
+  }
+
   /**
    * @return true if protection mode is <b>Locked</b>
    */
@@ -260,6 +392,87 @@ public class AxionConfiguration implements Cloneable {
     return this;
   }
 
+  /**
+   * Sets the {@link CodecType}.
+   * <p>
+   * Can't use when <b>Locked</b> or <b>Immutable</b>.
+   *
+   * @param newCodecType the new codec type
+   * @return this {@link AxionConfiguration}
+   */
+  protected AxionConfiguration setCodecType(
+      final CodecType newCodecType
+  ) {
+    LOG.debug("[{}] setCodecType(newCodecType=[{}])", this, newCodecType);
+    configurationProtection.assertUnlocked();
+    configurationProtection.assertMutable();
+    codecType = (newCodecType == null) ? CodecType.Recursive : newCodecType;
+    return this;
+  }
+
+  /**
+   * @return the {@link CodecType}
+   */
+  protected CodecType getCodecType() {
+    return codecType;
+  }
+
+  /**
+   * Sets the {@link PrimitiveCollectionPolicy}.
+   * <p>
+   * Can't use when <b>Locked</b> or <b>Immutable</b>.
+   *
+   * @param newPrimitiveCollectionPolicy the new primitive collection policy
+   * @return this {@link AxionConfiguration}
+   */
+  protected AxionConfiguration setPrimitiveCollectionPolicy(
+      final PrimitiveCollectionPolicy newPrimitiveCollectionPolicy
+  ) {
+    LOG.debug(
+        "[{}] setPrimitiveCollectionPolicy(newPrimitiveCollectionPolicy=[{}])",
+        this,
+        newPrimitiveCollectionPolicy
+    );
+    configurationProtection.assertUnlocked();
+    configurationProtection.assertMutable();
+    primitiveCollectionPolicy = (newPrimitiveCollectionPolicy == null) ? PrimitiveCollectionPolicy.List :
+        newPrimitiveCollectionPolicy;
+    return this;
+  }
+
+  /**
+   * @return the {@link PrimitiveCollectionPolicy}
+   */
+  protected PrimitiveCollectionPolicy getPrimitiveCollectionPolicy() {
+    return primitiveCollectionPolicy;
+  }
+
+  /**
+   * Sets the {@link DecodeLimits} enforced by every stream this configuration reads from. The limits are copied; null
+   * removes all limits.
+   * <p>
+   * Can't use when <b>Locked</b> or <b>Immutable</b>.
+   *
+   * @param newDecodeLimits the new decode limits
+   * @return this {@link AxionConfiguration}
+   */
+  protected AxionConfiguration setDecodeLimits(
+      final DecodeLimits newDecodeLimits
+  ) {
+    LOG.debug("[{}] setDecodeLimits(newDecodeLimits=[{}])", this, newDecodeLimits);
+    configurationProtection.assertUnlocked();
+    configurationProtection.assertMutable();
+    decodeLimits = (newDecodeLimits == null) ? new DecodeLimits() : new DecodeLimits(newDecodeLimits);
+    return this;
+  }
+
+  /**
+   * @return a copy of the {@link DecodeLimits}
+   */
+  protected DecodeLimits getDecodeLimits() {
+    return new DecodeLimits(decodeLimits);
+  }
+
   /**
    * Register a {@link TagAdapter} as the base tag adapter.
    * <p>
@@ -465,6 +678,19 @@ public class AxionConfiguration implements Cloneable {
     return (TypeConverter<T, V>) typeConverterRegistry.getConverter(axion, typeToken);
   }
 
+  /**
+   * Returns the {@link TypeConverter} for the {@link AxionTypeToken} given, or null if there is none.
+   *
+   * @param typeToken {@link AxionTypeToken} to find the {@link TypeConverter} for
+   * @return the {@link TypeConverter} for the value given, or null
+   */
+  protected <T extends Tag, V> TypeConverter<T, V> findConverter(
+      final Axion axion,
+      final AxionTypeToken<V> typeToken
+  ) {
+    return typeConverterRegistry.findConverter(axion, typeToken);
+  }
+
   /**
    * Returns true if the given {@link AxionTypeToken} has a converter registered.
    *
@@ -489,9 +715,20 @@ public class AxionConfiguration implements Cloneable {
     return typeConverterRegistry.hasConverterForTag(tag.getClass());
   }
 
+  /**
+   * Returns true if the given tag class has a converter registered.
+   *
+   * @param tagClass tag class
+   * @return true if the given tag class has a converter registered
+   */
+  protected boolean hasConverterForTag(final Class<? extends Tag> tagClass) {
+    return typeConverterRegistry.hasConverterForTag(tagClass);
+  }
+
   /**
    * Wraps an {@link InputStream} using the {@link StreamCompressionWrapper} set with {@link
-   * #setCompressionType(CompressionType)}.
+   * #setCompressionType(CompressionType)}. The stream enforces the {@link DecodeLimits} set with {@link
+   * #setDecodeLimits(DecodeLimits)}.
    *
    * @param inputStream the {@link InputStream} to wrap
    * @return a new {@link AxionInputStream}
@@ -499,10 +736,26 @@ public class AxionConfiguration implements Cloneable {
    * @see #setCompressionType(CompressionType)
    */
   protected AxionInputStream wrap(final InputStream inputStream) throws IOException {
+    return wrap(inputStream, UnaryOperator.identity());
+  }
+
+  /**
+   * Wraps an {@link InputStream} like {@link #wrap(InputStream)}, applying the filter given to the decompressed stream
+   * before it's wrapped in the {@link AxionInputStream}.
+   *
+   * @param inputStream the {@link InputStream} to wrap
+   * @param filter      the filter to apply to the decompressed stream
+   * @return a new {@link AxionInputStream}
+   * @throws IOException
+   */
+  protected AxionInputStream wrap(
+      final InputStream inputStream,
+      final UnaryOperator<InputStream> filter
+  ) throws IOException {
     return new AxionInputStream(
-        streamCompressionWrapper.wrap(inputStream),
+        filter.apply(streamCompressionWrapper.wrap(inputStream)),
         CharacterEncoderFactory.create(characterEncodingType)
-    );
+    ).setDecodeLimits(decodeLimits);
   }
 
   /**
@@ -0,0 +1,27 @@
+package com.sudoplay.axion;
+
+/**
+ * Thrown when the data being read exceeds one of the {@link com.sudoplay.axion.stream.DecodeLimits} of the stream.
+ */
+@SuppressWarnings("unused")
+public class AxionDecodeLimitException extends AxionReadException {
+
+  private static final long serialVersionUID = 3409812247616235290L;
+
+  public AxionDecodeLimitException() {
+    super();
+  }
+
+  public AxionDecodeLimitException(String message) {
+    super(message);
+  }
+
+  public AxionDecodeLimitException(Throwable cause) {
+    super(cause);
+  }
+
+  public AxionDecodeLimitException(String message, Throwable cause) {
+    super(message, cause);
+  }
+
+}
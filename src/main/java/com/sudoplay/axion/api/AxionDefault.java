@@ -0,0 +1,24 @@
+package com.sudoplay.axion.api;
+
+import java.lang.annotation.*;
+
+/**
+ * Sets the value a field of an {@link AxionMapped} class is given when its tag is missing from the compound being read.
+ * Without a default, the field keeps the value it was given when the object was constructed.
+ * <p>
+ * The value is parsed once, when the class's converter is created, and is supported for strings, enums, booleans and
+ * numbers, boxed or primitive.
+ *
+ * @author Jason Taylor
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface AxionDefault {
+
+  /**
+   * @return the default value, as a string
+   */
+  String value();
+
+}
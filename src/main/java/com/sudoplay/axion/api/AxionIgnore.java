@@ -0,0 +1,14 @@
+package com.sudoplay.axion.api;
+
+import java.lang.annotation.*;
+
+/**
+ * Excludes a field of an {@link AxionMapped} class from conversion; the field is neither written nor read.
+ *
+ * @author Jason Taylor
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface AxionIgnore {
+}
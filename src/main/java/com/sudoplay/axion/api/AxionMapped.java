@@ -0,0 +1,22 @@
+package com.sudoplay.axion.api;
+
+import com.sudoplay.axion.converter.PojoTypeConverterFactory;
+
+import java.lang.annotation.*;
+
+/**
+ * Marks a class to be converted to and from a {@link com.sudoplay.axion.spec.tag.TagCompound} field by field, without
+ * implementing {@link AxionWritable}.
+ * <p>
+ * Every non-static, non-transient field of the class and its superclasses is mapped to a tag named after the field,
+ * unless the field is annotated with {@link AxionIgnore}. Use {@link AxionName} to rename a field's tag and {@link
+ * AxionDefault} to give a field a value when its tag is missing.
+ *
+ * @author Jason Taylor
+ * @see PojoTypeConverterFactory
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface AxionMapped {
+}
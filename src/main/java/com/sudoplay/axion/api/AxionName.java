@@ -0,0 +1,21 @@
+package com.sudoplay.axion.api;
+
+import java.lang.annotation.*;
+
+/**
+ * Sets the name of the tag a field of an {@link AxionMapped} class is written to and read from; by default the tag is
+ * named after the field.
+ *
+ * @author Jason Taylor
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface AxionName {
+
+  /**
+   * @return the name of the tag
+   */
+  String value();
+
+}
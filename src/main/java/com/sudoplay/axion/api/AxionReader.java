@@ -1,6 +1,7 @@
 package com.sudoplay.axion.api;
 
 import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.path.TagPath;
 import com.sudoplay.axion.spec.tag.TagCompound;
 import com.sudoplay.axion.spec.tag.TagList;
 import com.sudoplay.axion.tag.Tag;
@@ -39,6 +40,23 @@ public interface AxionReader {
 
   <T extends Tag> T getTag(String name, Function<T, T> function);
 
+  /**
+   * Returns the first tag selected by the path given, evaluated against this reader's backing TagCompound, or null if
+   * the path selects nothing.
+   *
+   * @param path compiled path
+   * @return the first tag selected or null
+   */
+  <T extends Tag> T getTagAt(TagPath path);
+
+  /**
+   * Returns a lazy stream of the tags selected by the path given, evaluated against this reader's backing TagCompound.
+   *
+   * @param path compiled path
+   * @return a stream of the tags selected
+   */
+  <T extends Tag> Stream<T> getTagsAt(TagPath path);
+
   // --------------------------------------------------------------------------
 
   <V> V read(String name);
@@ -61,6 +79,80 @@ public interface AxionReader {
 
   // --------------------------------------------------------------------------
 
+  /**
+   * Returns the value of the tag with the name given, a {@link com.sudoplay.axion.spec.tag.TagByte} by default,
+   * converted without boxing by the {@link com.sudoplay.axion.registry.PrimitiveTypeConverter.OfByte} registered for
+   * the tag, or the default value if the reader has no tag with that name.
+   *
+   * @param name         tag name
+   * @param defaultValue value returned if the tag is missing
+   * @return the tag's value or the default value
+   * @throws com.sudoplay.axion.AxionReadException if the tag's converter doesn't convert it to a byte
+   */
+  byte readByte(String name, byte defaultValue);
+
+  /**
+   * Returns the value of the tag with the name given, a {@link com.sudoplay.axion.spec.tag.TagShort} by default,
+   * converted without boxing by the {@link com.sudoplay.axion.registry.PrimitiveTypeConverter.OfShort} registered for
+   * the tag, or the default value if the reader has no tag with that name.
+   *
+   * @param name         tag name
+   * @param defaultValue value returned if the tag is missing
+   * @return the tag's value or the default value
+   * @throws com.sudoplay.axion.AxionReadException if the tag's converter doesn't convert it to a short
+   */
+  short readShort(String name, short defaultValue);
+
+  /**
+   * Returns the value of the tag with the name given, a {@link com.sudoplay.axion.spec.tag.TagInt} by default,
+   * converted without boxing by the {@link com.sudoplay.axion.registry.PrimitiveTypeConverter.OfInt} registered for the
+   * tag, or the default value if the reader has no tag with that name.
+   *
+   * @param name         tag name
+   * @param defaultValue value returned if the tag is missing
+   * @return the tag's value or the default value
+   * @throws com.sudoplay.axion.AxionReadException if the tag's converter doesn't convert it to a int
+   */
+  int readInt(String name, int defaultValue);
+
+  /**
+   * Returns the value of the tag with the name given, a {@link com.sudoplay.axion.spec.tag.TagLong} by default,
+   * converted without boxing by the {@link com.sudoplay.axion.registry.PrimitiveTypeConverter.OfLong} registered for
+   * the tag, or the default value if the reader has no tag with that name.
+   *
+   * @param name         tag name
+   * @param defaultValue value returned if the tag is missing
+   * @return the tag's value or the default value
+   * @throws com.sudoplay.axion.AxionReadException if the tag's converter doesn't convert it to a long
+   */
+  long readLong(String name, long defaultValue);
+
+  /**
+   * Returns the value of the tag with the name given, a {@link com.sudoplay.axion.spec.tag.TagFloat} by default,
+   * converted without boxing by the {@link com.sudoplay.axion.registry.PrimitiveTypeConverter.OfFloat} registered for
+   * the tag, or the default value if the reader has no tag with that name.
+   *
+   * @param name         tag name
+   * @param defaultValue value returned if the tag is missing
+   * @return the tag's value or the default value
+   * @throws com.sudoplay.axion.AxionReadException if the tag's converter doesn't convert it to a float
+   */
+  float readFloat(String name, float defaultValue);
+
+  /**
+   * Returns the value of the tag with the name given, a {@link com.sudoplay.axion.spec.tag.TagDouble} by default,
+   * converted without boxing by the {@link com.sudoplay.axion.registry.PrimitiveTypeConverter.OfDouble} registered for
+   * the tag, or the default value if the reader has no tag with that name.
+   *
+   * @param name         tag name
+   * @param defaultValue value returned if the tag is missing
+   * @return the tag's value or the default value
+   * @throws com.sudoplay.axion.AxionReadException if the tag's converter doesn't convert it to a double
+   */
+  double readDouble(String name, double defaultValue);
+
+  // --------------------------------------------------------------------------
+
   <V> V map(String name, Function<V, V> function);
 
   <V> V map(Tag tag, Function<V, V> function);
@@ -79,10 +171,14 @@ public interface AxionReader {
 
   <K, V> void forEachInMap(TagList tag, Class<K> kClass, Class<V> vClass, BiConsumer<K, V> consumer);
 
+  <K, V> void forEachInMap(TagCompound tag, Class<K> kClass, Class<V> vClass, BiConsumer<K, V> consumer);
+
   <K, V> Stream<Map.Entry<K, V>> streamMap(String name, Class<K> kClass, Class<V> vClass);
 
   <K, V> Stream<Map.Entry<K, V>> streamMap(TagList tag, Class<K> kClass, Class<V> vClass);
 
+  <K, V> Stream<Map.Entry<K, V>> streamMap(TagCompound tag, Class<K> kClass, Class<V> vClass);
+
   // --------------------------------------------------------------------------
 
   //<V> Collection<V> readCollection(String name, Class<V> vClass, Collection<V> collection);
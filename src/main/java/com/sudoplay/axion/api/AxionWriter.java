@@ -42,6 +42,80 @@ public interface AxionWriter {
    */
   AxionWriter write(String name, Object object);
 
+
+  /**
+   * Writes the value, as a {@link com.sudoplay.axion.spec.tag.TagByte} by default, with the converter for {@code byte},
+   * without boxing it if the converter is a {@link com.sudoplay.axion.registry.PrimitiveTypeConverter.OfByte}.
+   * <p>
+   * The name parameter can't be null.
+   *
+   * @param name  name
+   * @param value value
+   * @return this {@link AxionWriter} for chaining
+   */
+  AxionWriter write(String name, byte value);
+
+  /**
+   * Writes the value, as a {@link com.sudoplay.axion.spec.tag.TagShort} by default, with the converter for {@code
+   * short}, without boxing it if the converter is a {@link com.sudoplay.axion.registry.PrimitiveTypeConverter.OfShort}.
+   * <p>
+   * The name parameter can't be null.
+   *
+   * @param name  name
+   * @param value value
+   * @return this {@link AxionWriter} for chaining
+   */
+  AxionWriter write(String name, short value);
+
+  /**
+   * Writes the value, as a {@link com.sudoplay.axion.spec.tag.TagInt} by default, with the converter for {@code int},
+   * without boxing it if the converter is a {@link com.sudoplay.axion.registry.PrimitiveTypeConverter.OfInt}.
+   * <p>
+   * The name parameter can't be null.
+   *
+   * @param name  name
+   * @param value value
+   * @return this {@link AxionWriter} for chaining
+   */
+  AxionWriter write(String name, int value);
+
+  /**
+   * Writes the value, as a {@link com.sudoplay.axion.spec.tag.TagLong} by default, with the converter for {@code long},
+   * without boxing it if the converter is a {@link com.sudoplay.axion.registry.PrimitiveTypeConverter.OfLong}.
+   * <p>
+   * The name parameter can't be null.
+   *
+   * @param name  name
+   * @param value value
+   * @return this {@link AxionWriter} for chaining
+   */
+  AxionWriter write(String name, long value);
+
+  /**
+   * Writes the value, as a {@link com.sudoplay.axion.spec.tag.TagFloat} by default, with the converter for {@code
+   * float}, without boxing it if the converter is a {@link com.sudoplay.axion.registry.PrimitiveTypeConverter.OfFloat}.
+   * <p>
+   * The name parameter can't be null.
+   *
+   * @param name  name
+   * @param value value
+   * @return this {@link AxionWriter} for chaining
+   */
+  AxionWriter write(String name, float value);
+
+  /**
+   * Writes the value, as a {@link com.sudoplay.axion.spec.tag.TagDouble} by default, with the converter for {@code
+   * double}, without boxing it if the converter is a {@link
+   * com.sudoplay.axion.registry.PrimitiveTypeConverter.OfDouble}.
+   * <p>
+   * The name parameter can't be null.
+   *
+   * @param name  name
+   * @param value value
+   * @return this {@link AxionWriter} for chaining
+   */
+  AxionWriter write(String name, double value);
+
   // --------------------------------------------------------------------------
   // Predicate
   // --------------------------------------------------------------------------
@@ -1,23 +1,24 @@
 package com.sudoplay.axion.api.impl;
 
 import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.AxionReadException;
 import com.sudoplay.axion.api.AxionReader;
+import com.sudoplay.axion.path.TagPath;
 import com.sudoplay.axion.registry.AxionTagRegistrationException;
+import com.sudoplay.axion.registry.PrimitiveTypeConverter;
 import com.sudoplay.axion.registry.TypeConverter;
-import com.sudoplay.axion.spec.tag.TagCompound;
-import com.sudoplay.axion.spec.tag.TagList;
+import com.sudoplay.axion.spec.tag.*;
 import com.sudoplay.axion.tag.Tag;
 import com.sudoplay.axion.util.AxionContract;
 import com.sudoplay.axion.util.AxionTypeToken;
 
 import java.lang.reflect.Type;
+import java.util.AbstractMap;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -69,6 +70,18 @@ public class DefaultAxionReader implements AxionReader {
     }
   }
 
+  @Override
+  public <T extends Tag> T getTagAt(TagPath path) {
+    assertNotNull(path, "path");
+    return path.first(tagCompound);
+  }
+
+  @Override
+  public <T extends Tag> Stream<T> getTagsAt(TagPath path) {
+    assertNotNull(path, "path");
+    return path.stream(tagCompound);
+  }
+
   // --------------------------------------------------------------------------
 
   @Override
@@ -142,6 +155,87 @@ public class DefaultAxionReader implements AxionReader {
 
   // --------------------------------------------------------------------------
 
+  @Override
+  public byte readByte(String name, byte defaultValue) {
+    Tag tag = getTag(name);
+    if (tag == null) {
+      return defaultValue;
+    }
+    PrimitiveTypeConverter.OfByte<Tag> converter =
+        getPrimitiveConverter(name, tag, PrimitiveTypeConverter.OfByte.class);
+    return converter.convertByte(tag);
+  }
+
+  @Override
+  public short readShort(String name, short defaultValue) {
+    Tag tag = getTag(name);
+    if (tag == null) {
+      return defaultValue;
+    }
+    PrimitiveTypeConverter.OfShort<Tag> converter =
+        getPrimitiveConverter(name, tag, PrimitiveTypeConverter.OfShort.class);
+    return converter.convertShort(tag);
+  }
+
+  @Override
+  public int readInt(String name, int defaultValue) {
+    Tag tag = getTag(name);
+    if (tag == null) {
+      return defaultValue;
+    }
+    PrimitiveTypeConverter.OfInt<Tag> converter = getPrimitiveConverter(name, tag, PrimitiveTypeConverter.OfInt.class);
+    return converter.convertInt(tag);
+  }
+
+  @Override
+  public long readLong(String name, long defaultValue) {
+    Tag tag = getTag(name);
+    if (tag == null) {
+      return defaultValue;
+    }
+    PrimitiveTypeConverter.OfLong<Tag> converter =
+        getPrimitiveConverter(name, tag, PrimitiveTypeConverter.OfLong.class);
+    return converter.convertLong(tag);
+  }
+
+  @Override
+  public float readFloat(String name, float defaultValue) {
+    Tag tag = getTag(name);
+    if (tag == null) {
+      return defaultValue;
+    }
+    PrimitiveTypeConverter.OfFloat<Tag> converter =
+        getPrimitiveConverter(name, tag, PrimitiveTypeConverter.OfFloat.class);
+    return converter.convertFloat(tag);
+  }
+
+  @Override
+  public double readDouble(String name, double defaultValue) {
+    Tag tag = getTag(name);
+    if (tag == null) {
+      return defaultValue;
+    }
+    PrimitiveTypeConverter.OfDouble<Tag> converter =
+        getPrimitiveConverter(name, tag, PrimitiveTypeConverter.OfDouble.class);
+    return converter.convertDouble(tag);
+  }
+
+  /**
+   * Returns the converter registered for the tag given if it's an instance of the {@link PrimitiveTypeConverter} class
+   * given.
+   */
+  @SuppressWarnings("unchecked")
+  private <C extends PrimitiveTypeConverter> C getPrimitiveConverter(String name, Tag tag, Class<?> converterClass) {
+    Object converter = axion.hasConverterForTag(tag) ? axion.getConverter(tag.getClass()) : null;
+    if (converterClass.isInstance(converter)) {
+      return (C) converter;
+    }
+    throw new AxionReadException("Expected a tag converted by " + converterClass.getSimpleName() + " [" + name
+        + "], found " + tag);
+  }
+
+  // --------------------------------------------------------------------------
+
   @Override
   public <V> V map(String name, Function<V, V> function) {
     this.assertNotNull(name, "name");
@@ -198,13 +292,11 @@ public class DefaultAxionReader implements AxionReader {
     Tag tag = tagCompound.get(name);
     if (tag != null) {
       if (tag instanceof TagList) {
-        assertNotNull(kClass, "kClass");
-        assertNotNull(vClass, "vClass");
-        AxionTypeToken<K> kAxionTypeToken = AxionTypeToken.get(kClass);
-        AxionTypeToken<V> vAxionTypeToken = AxionTypeToken.get(vClass);
-        this._consumeMap((TagList) tag, kAxionTypeToken, vAxionTypeToken, consumer);
+        this.forEachInMap((TagList) tag, kClass, vClass, consumer);
+      } else if (tag instanceof TagCompound) {
+        this.forEachInMap((TagCompound) tag, kClass, vClass, consumer);
       } else {
-        throw new IllegalArgumentException("Expected TagList, got: " + tag.getClass());
+        throw new IllegalArgumentException("Expected TagList or TagCompound, got: " + tag.getClass());
       }
     } else { // if (tag == null)
       throw new IllegalArgumentException("Can't find tag for given name: " + name);
@@ -248,6 +340,23 @@ public class DefaultAxionReader implements AxionReader {
     this._consumeMap(tag, kAxionTypeToken, vAxionTypeToken, consumer);
   }
 
+  @Override
+  public <K, V> void forEachInMap(
+      TagCompound tag,
+      Class<K> kClass,
+      Class<V> vClass,
+      BiConsumer<K, V> consumer
+  ) {
+    assertNotNull(tag, "tag");
+    assertNotNull(kClass, "kClass");
+    assertNotNull(vClass, "vClass");
+    assertNotNull(consumer, "consumer");
+    TypeConverter<Tag, V> valueConverter = axion.getConverter(AxionTypeToken.get(vClass));
+    for (Tag child : tag) {
+      consumer.accept(this._readMapKey(child.getName(), kClass), valueConverter.convert(child));
+    }
+  }
+
   /*@Override
   public <K, V> Map<K, V> readMap(Tag tag, Class<K> kClass, Class<V> vClass, Map<K, V> map) {
     assertNotNull(map, "map");
@@ -264,8 +373,8 @@ public class DefaultAxionReader implements AxionReader {
     assertNotNull(kAxionTypeToken, "kAxionTypeToken");
     assertNotNull(vAxionTypeToken, "vAxionTypeToken");
     assertNotNull(consumer, "consumer");
-    TypeConverter<TagList, K> keyConverter = axion.getConverter(kAxionTypeToken);
-    TypeConverter<TagList, V> valueConverter = axion.getConverter(vAxionTypeToken);
+    TypeConverter<Tag, K> keyConverter = axion.getConverter(kAxionTypeToken);
+    TypeConverter<Tag, V> valueConverter = axion.getConverter(vAxionTypeToken);
     TagList keyList = tagList.get(0);
     TagList valueList = tagList.get(1);
     for (int i = 0; i < keyList.size(); ++i) {
@@ -281,8 +390,10 @@ public class DefaultAxionReader implements AxionReader {
     if (tag != null) {
       if (tag instanceof TagList) {
         return this._streamMap((TagList) tag, kClass, vClass);
+      } else if (tag instanceof TagCompound) {
+        return this._streamMap((TagCompound) tag, kClass, vClass);
       } else {
-        throw new IllegalArgumentException("Expected TagList, got: " + tag.getClass());
+        throw new IllegalArgumentException("Expected TagList or TagCompound, got: " + tag.getClass());
       }
     } else { // if (tag == null)
       throw new IllegalArgumentException("Can't find tag for given name: " + name);
@@ -302,15 +413,49 @@ public class DefaultAxionReader implements AxionReader {
   private <K, V> Stream<Map.Entry<K, V>> _streamMap(TagList tag, Class<K> kClass, Class<V> vClass) {
     assertNotNull(kClass, "class");
     assertNotNull(vClass, "class");
-    LinkedHashMap<K, V> map = new LinkedHashMap<>(tag.size());
     TagList keyList = tag.get(0);
     TagList valueList = tag.get(1);
+    // keys are read up front so that a duplicate key yields one entry, in its first position, with its last value;
+    // values are read as the stream is consumed
+    LinkedHashMap<K, Integer> indexes = new LinkedHashMap<>(keyList.size());
     for (int i = 0; i < keyList.size(); ++i) {
-      K key = axion.fromTag(keyList.get(i), kClass);
-      V value = axion.fromTag(valueList.get(i), vClass);
-      map.put(key, value);
+      indexes.put(axion.fromTag(keyList.get(i), kClass), i);
+    }
+    return indexes.entrySet().stream()
+        .map(entry -> new AbstractMap.SimpleEntry<>(
+            entry.getKey(),
+            axion.fromTag(valueList.get(entry.getValue()), vClass)
+        ));
+  }
+
+  @Override
+  public <K, V> Stream<Map.Entry<K, V>> streamMap(
+      TagCompound tag,
+      Class<K> kClass,
+      Class<V> vClass
+  ) {
+    assertNotNull(tag, "tag");
+    return this._streamMap(tag, kClass, vClass);
+  }
+
+  private <K, V> Stream<Map.Entry<K, V>> _streamMap(TagCompound tag, Class<K> kClass, Class<V> vClass) {
+    assertNotNull(kClass, "class");
+    assertNotNull(vClass, "class");
+    return tag.getAsMap().values().stream()
+        .map(child -> new AbstractMap.SimpleEntry<>(
+            this._readMapKey(child.getName(), kClass),
+            axion.fromTag(child, vClass)
+        ));
+  }
+
+  /**
+   * Returns the key of a map written as a {@link TagCompound}, read from the name of its child.
+   */
+  private <K> K _readMapKey(String name, Class<K> kClass) {
+    if (kClass == String.class) {
+      return kClass.cast(name);
     }
-    return map.entrySet().stream();
+    return axion.fromTag(new TagString(null, name), kClass);
   }
 
   @Override
@@ -399,10 +544,8 @@ public class DefaultAxionReader implements AxionReader {
       Class<T> tClass,
       Type type
   ) {
-    return (Stream<V>) tag.stream(tClass)
-        .map(t -> axion.fromTag(t, type))
-        .collect(Collectors.toCollection(LinkedList::new))
-        .stream();
+    return tag.stream(tClass)
+        .map(t -> (V) axion.fromTag(t, type));
   }
 
   @Override
@@ -2,8 +2,10 @@ package com.sudoplay.axion.api.impl;
 
 import com.sudoplay.axion.Axion;
 import com.sudoplay.axion.api.AxionWriter;
-import com.sudoplay.axion.spec.tag.TagCompound;
+import com.sudoplay.axion.registry.PrimitiveTypeConverter;
+import com.sudoplay.axion.spec.tag.*;
 import com.sudoplay.axion.tag.Tag;
+import com.sudoplay.axion.util.AxionTypeToken;
 
 import java.util.function.Predicate;
 
@@ -56,6 +58,93 @@ public class DefaultAxionWriter implements AxionWriter {
     return this;
   }
 
+  @Override
+  public AxionWriter write(
+      String name,
+      byte value
+  ) {
+    assertNotNull(name, "name");
+    PrimitiveTypeConverter.OfByte<?> converter = getPrimitiveConverter(byte.class, PrimitiveTypeConverter.OfByte.class);
+    if (converter == null) {
+      return write(name, (Object) value);
+    }
+    tagCompound.put(converter.convert(name, value));
+    return this;
+  }
+
+  @Override
+  public AxionWriter write(
+      String name,
+      short value
+  ) {
+    assertNotNull(name, "name");
+    PrimitiveTypeConverter.OfShort<?> converter =
+        getPrimitiveConverter(short.class, PrimitiveTypeConverter.OfShort.class);
+    if (converter == null) {
+      return write(name, (Object) value);
+    }
+    tagCompound.put(converter.convert(name, value));
+    return this;
+  }
+
+  @Override
+  public AxionWriter write(
+      String name,
+      int value
+  ) {
+    assertNotNull(name, "name");
+    PrimitiveTypeConverter.OfInt<?> converter = getPrimitiveConverter(int.class, PrimitiveTypeConverter.OfInt.class);
+    if (converter == null) {
+      return write(name, (Object) value);
+    }
+    tagCompound.put(converter.convert(name, value));
+    return this;
+  }
+
+  @Override
+  public AxionWriter write(
+      String name,
+      long value
+  ) {
+    assertNotNull(name, "name");
+    PrimitiveTypeConverter.OfLong<?> converter = getPrimitiveConverter(long.class, PrimitiveTypeConverter.OfLong.class);
+    if (converter == null) {
+      return write(name, (Object) value);
+    }
+    tagCompound.put(converter.convert(name, value));
+    return this;
+  }
+
+  @Override
+  public AxionWriter write(
+      String name,
+      float value
+  ) {
+    assertNotNull(name, "name");
+    PrimitiveTypeConverter.OfFloat<?> converter =
+        getPrimitiveConverter(float.class, PrimitiveTypeConverter.OfFloat.class);
+    if (converter == null) {
+      return write(name, (Object) value);
+    }
+    tagCompound.put(converter.convert(name, value));
+    return this;
+  }
+
+  @Override
+  public AxionWriter write(
+      String name,
+      double value
+  ) {
+    assertNotNull(name, "name");
+    PrimitiveTypeConverter.OfDouble<?> converter =
+        getPrimitiveConverter(double.class, PrimitiveTypeConverter.OfDouble.class);
+    if (converter == null) {
+      return write(name, (Object) value);
+    }
+    tagCompound.put(converter.convert(name, value));
+    return this;
+  }
+
   @Override
   public <S extends Tag> AxionWriter writeIf(
       String name,
@@ -114,6 +203,19 @@ public class DefaultAxionWriter implements AxionWriter {
    * @param name   name
    * @param object object
    */
+  /**
+   * Returns the converter for the primitive class given if it's an instance of the {@link PrimitiveTypeConverter} class
+   * given, otherwise null.
+   */
+  @SuppressWarnings("unchecked")
+  private <C extends PrimitiveTypeConverter> C getPrimitiveConverter(
+      Class<?> primitiveClass,
+      Class<?> converterClass
+  ) {
+    Object converter = axion.getConverter(AxionTypeToken.get(primitiveClass));
+    return converterClass.isInstance(converter) ? (C) converter : null;
+  }
+
   private void _write(
       String name,
       Object object
@@ -0,0 +1,587 @@
+package com.sudoplay.axion.columnar;
+
+import com.sudoplay.axion.ext.tag.TagBoolean;
+import com.sudoplay.axion.spec.tag.*;
+import com.sudoplay.axion.tag.AxionInvalidTagException;
+import com.sudoplay.axion.tag.Tag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * A {@link ColumnarTagList} is a column-oriented copy of a {@link TagList} of {@link TagCompound}s that all share a
+ * schema, ie. they have children with the same names and tag classes.
+ * <p>
+ * Each child name becomes a {@link Column} holding the child's value for every element, in list order:
+ * <ul>
+ * <li>{@link TagByte}, {@link TagShort} and {@link TagInt} children are held in an {@link IntColumn}</li>
+ * <li>{@link TagLong} children are held in a {@link LongColumn}</li>
+ * <li>{@link TagFloat} and {@link TagDouble} children are held in a {@link DoubleColumn}</li>
+ * <li>{@link TagBoolean} children are held in a {@link BooleanColumn}</li>
+ * <li>{@link TagString} children are dictionary encoded in a {@link StringColumn}</li>
+ * <li>any other children are copied into a {@link TagColumn}</li>
+ * </ul>
+ * Scans, filters and aggregations over a single field then run over one contiguous primitive array, eg. <code>
+ * columns.getIntColumn("Health").stream().sum()</code>. A {@link ColumnarTagList} is built in a single pass over the
+ * list, doesn't follow later changes to the list and can be converted back with {@link #toTagList()}.
+ *
+ * @author Jason Taylor
+ */
+public class ColumnarTagList {
+
+  private final String name;
+  private final int size;
+  private final Map<String, Column> columns;
+
+  private ColumnarTagList(final String newName, final int newSize, final Map<String, Column> newColumns) {
+    name = newName;
+    size = newSize;
+    columns = newColumns;
+  }
+
+  /**
+   * Builds a {@link ColumnarTagList} from the {@link TagList} given.
+   *
+   * @param list a {@link TagList} of {@link TagCompound}s that share a schema
+   * @return a new {@link ColumnarTagList}
+   * @throws AxionInvalidTagException if the list isn't a list of {@link TagCompound}s, or its elements don't share a
+   *                                  schema
+   */
+  public static ColumnarTagList of(final TagList list) throws AxionInvalidTagException {
+    if (list == null) {
+      throw new AxionInvalidTagException("Can't build columns from a null list");
+    }
+    if (list.getType() != TagCompound.class) {
+      throw new AxionInvalidTagException("Can't build columns from " + list + "; elements must be of type " +
+          TagCompound.class.getSimpleName());
+    }
+    int size = list.size();
+    Map<String, Column> columns = new LinkedHashMap<>();
+    if (size > 0) {
+      for (Tag child : list.<TagCompound>get(0)) {
+        columns.put(child.getName(), newColumn(child.getName(), child.getClass(), size));
+      }
+    }
+    for (int row = 0; row < size; row++) {
+      TagCompound element = list.get(row);
+      if (element.size() != columns.size()) {
+        throw schemaMismatch(list, row);
+      }
+      for (Tag child : element) {
+        Column column = columns.get(child.getName());
+        if (column == null || column.type != child.getClass()) {
+          throw schemaMismatch(list, row);
+        }
+        column.set(row, child);
+      }
+    }
+    return new ColumnarTagList(list.getName(), size, columns);
+  }
+
+  /**
+   * Returns the number of rows, ie. the number of elements of the list this was built from.
+   *
+   * @return the number of rows
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Returns the names of the columns, in the order of the first element's children.
+   *
+   * @return the names of the columns
+   */
+  public List<String> getColumnNames() {
+    return Collections.unmodifiableList(new ArrayList<>(columns.keySet()));
+  }
+
+  /**
+   * Returns true if this has a column with the name given.
+   *
+   * @param columnName the column name
+   * @return true if this has a column with the name given
+   */
+  public boolean hasColumn(final String columnName) {
+    return columns.containsKey(columnName);
+  }
+
+  /**
+   * Returns the column with the name given.
+   *
+   * @param columnName the column name
+   * @return the column with the name given
+   * @throws AxionInvalidTagException if there is no such column
+   */
+  public Column getColumn(final String columnName) throws AxionInvalidTagException {
+    Column column = columns.get(columnName);
+    if (column == null) {
+      throw new AxionInvalidTagException("No column named [" + columnName + "]");
+    }
+    return column;
+  }
+
+  /**
+   * Returns the {@link IntColumn} with the name given.
+   *
+   * @param columnName the column name
+   * @return the {@link IntColumn} with the name given
+   * @throws AxionInvalidTagException if there is no such column or it isn't a {@link IntColumn}
+   */
+  public IntColumn getIntColumn(final String columnName) throws AxionInvalidTagException {
+    return getColumn(columnName, IntColumn.class);
+  }
+
+  /**
+   * Returns the {@link LongColumn} with the name given.
+   *
+   * @param columnName the column name
+   * @return the {@link LongColumn} with the name given
+   * @throws AxionInvalidTagException if there is no such column or it isn't a {@link LongColumn}
+   */
+  public LongColumn getLongColumn(final String columnName) throws AxionInvalidTagException {
+    return getColumn(columnName, LongColumn.class);
+  }
+
+  /**
+   * Returns the {@link DoubleColumn} with the name given.
+   *
+   * @param columnName the column name
+   * @return the {@link DoubleColumn} with the name given
+   * @throws AxionInvalidTagException if there is no such column or it isn't a {@link DoubleColumn}
+   */
+  public DoubleColumn getDoubleColumn(final String columnName) throws AxionInvalidTagException {
+    return getColumn(columnName, DoubleColumn.class);
+  }
+
+  /**
+   * Returns the {@link BooleanColumn} with the name given.
+   *
+   * @param columnName the column name
+   * @return the {@link BooleanColumn} with the name given
+   * @throws AxionInvalidTagException if there is no such column or it isn't a {@link BooleanColumn}
+   */
+  public BooleanColumn getBooleanColumn(final String columnName) throws AxionInvalidTagException {
+    return getColumn(columnName, BooleanColumn.class);
+  }
+
+  /**
+   * Returns the {@link StringColumn} with the name given.
+   *
+   * @param columnName the column name
+   * @return the {@link StringColumn} with the name given
+   * @throws AxionInvalidTagException if there is no such column or it isn't a {@link StringColumn}
+   */
+  public StringColumn getStringColumn(final String columnName) throws AxionInvalidTagException {
+    return getColumn(columnName, StringColumn.class);
+  }
+
+  /**
+   * Returns the {@link TagColumn} with the name given.
+   *
+   * @param columnName the column name
+   * @return the {@link TagColumn} with the name given
+   * @throws AxionInvalidTagException if there is no such column or it isn't a {@link TagColumn}
+   */
+  public TagColumn getTagColumn(final String columnName) throws AxionInvalidTagException {
+    return getColumn(columnName, TagColumn.class);
+  }
+
+  /**
+   * Returns a new {@link TagCompound} holding the row given.
+   *
+   * @param row the row index
+   * @return a new {@link TagCompound} holding the row given
+   */
+  public TagCompound getRow(final int row) {
+    if (row < 0 || row >= size) {
+      throw new IndexOutOfBoundsException("Row: " + row + ", Size: " + size);
+    }
+    TagCompound element = new TagCompound();
+    for (Column column : columns.values()) {
+      element.put(column.toTag(row));
+    }
+    return element;
+  }
+
+  /**
+   * Returns a new {@link TagList} holding every row, equal to the list this was built from.
+   *
+   * @return a new {@link TagList}
+   */
+  public TagList toTagList() {
+    TagList list = new TagList(TagCompound.class, name, size);
+    for (int row = 0; row < size; row++) {
+      list.add(getRow(row));
+    }
+    return list;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + ": " + size + " rows, columns " + columns.values();
+  }
+
+  private <C extends Column> C getColumn(final String columnName, final Class<C> columnClass) {
+    Column column = getColumn(columnName);
+    if (!columnClass.isInstance(column)) {
+      throw new AxionInvalidTagException("Column [" + columnName + "] holds " + column.type.getSimpleName() + " values;"
+          + " not a " + columnClass.getSimpleName());
+    }
+    return columnClass.cast(column);
+  }
+
+  private static AxionInvalidTagException schemaMismatch(final TagList list, final int row) {
+    return new AxionInvalidTagException("Element " + row + " of " + list + " doesn't share the schema of element 0");
+  }
+
+  private static Column newColumn(final String name, final Class<? extends Tag> type, final int size) {
+    if (type == TagInt.class || type == TagShort.class || type == TagByte.class) {
+      return new IntColumn(name, type, size);
+    } else if (type == TagLong.class) {
+      return new LongColumn(name, size);
+    } else if (type == TagDouble.class || type == TagFloat.class) {
+      return new DoubleColumn(name, type, size);
+    } else if (type == TagBoolean.class) {
+      return new BooleanColumn(name, size);
+    } else if (type == TagString.class) {
+      return new StringColumn(name, size);
+    }
+    return new TagColumn(name, type, size);
+  }
+
+  // --------------------------------------------------------------------------
+
+  /**
+   * The values of one child of every element.
+   */
+  public static abstract class Column {
+
+    private final String name;
+    private final Class<? extends Tag> type;
+
+    private Column(final String newName, final Class<? extends Tag> newType) {
+      name = newName;
+      type = newType;
+    }
+
+    /**
+     * @return the name of the child this column holds
+     */
+    public String getName() {
+      return name;
+    }
+
+    /**
+     * @return the tag class of the child this column holds
+     */
+    public Class<? extends Tag> getType() {
+      return type;
+    }
+
+    /**
+     * @return the number of rows in this column
+     */
+    public abstract int size();
+
+    /**
+     * Returns a new {@link Tag} holding the value of the row given.
+     *
+     * @param row the row index
+     * @return a new {@link Tag}
+     */
+    public abstract Tag toTag(int row);
+
+    abstract void set(int row, Tag tag);
+
+    @Override
+    public String toString() {
+      return name + ":" + type.getSimpleName();
+    }
+  }
+
+  /**
+   * Holds {@link TagByte}, {@link TagShort} or {@link TagInt} values in an <code>int[]</code>.
+   */
+  public static final class IntColumn extends Column {
+    private final int[] data;
+
+    private IntColumn(final String name, final Class<? extends Tag> type, final int size) {
+      super(name, type);
+      data = new int[size];
+    }
+
+    public int get(final int row) {
+      return data[row];
+    }
+
+    public IntStream stream() {
+      return Arrays.stream(data);
+    }
+
+    public int[] toArray() {
+      return data.clone();
+    }
+
+    @Override
+    public int size() {
+      return data.length;
+    }
+
+    @Override
+    public Tag toTag(final int row) {
+      if (getType() == TagByte.class) {
+        return new TagByte(getName(), (byte) data[row]);
+      } else if (getType() == TagShort.class) {
+        return new TagShort(getName(), (short) data[row]);
+      }
+      return new TagInt(getName(), data[row]);
+    }
+
+    @Override
+    void set(final int row, final Tag tag) {
+      if (tag instanceof TagByte) {
+        data[row] = ((TagByte) tag).get();
+      } else if (tag instanceof TagShort) {
+        data[row] = ((TagShort) tag).get();
+      } else {
+        data[row] = ((TagInt) tag).get();
+      }
+    }
+  }
+
+  /**
+   * Holds {@link TagLong} values in a <code>long[]</code>.
+   */
+  public static final class LongColumn extends Column {
+    private final long[] data;
+
+    private LongColumn(final String name, final int size) {
+      super(name, TagLong.class);
+      data = new long[size];
+    }
+
+    public long get(final int row) {
+      return data[row];
+    }
+
+    public LongStream stream() {
+      return Arrays.stream(data);
+    }
+
+    public long[] toArray() {
+      return data.clone();
+    }
+
+    @Override
+    public int size() {
+      return data.length;
+    }
+
+    @Override
+    public Tag toTag(final int row) {
+      return new TagLong(getName(), data[row]);
+    }
+
+    @Override
+    void set(final int row, final Tag tag) {
+      data[row] = ((TagLong) tag).get();
+    }
+  }
+
+  /**
+   * Holds {@link TagFloat} or {@link TagDouble} values in a <code>double[]</code>.
+   */
+  public static final class DoubleColumn extends Column {
+    private final double[] data;
+
+    private DoubleColumn(final String name, final Class<? extends Tag> type, final int size) {
+      super(name, type);
+      data = new double[size];
+    }
+
+    public double get(final int row) {
+      return data[row];
+    }
+
+    public DoubleStream stream() {
+      return Arrays.stream(data);
+    }
+
+    public double[] toArray() {
+      return data.clone();
+    }
+
+    @Override
+    public int size() {
+      return data.length;
+    }
+
+    @Override
+    public Tag toTag(final int row) {
+      if (getType() == TagFloat.class) {
+        return new TagFloat(getName(), (float) data[row]);
+      }
+      return new TagDouble(getName(), data[row]);
+    }
+
+    @Override
+    void set(final int row, final Tag tag) {
+      if (tag instanceof TagFloat) {
+        data[row] = ((TagFloat) tag).get();
+      } else {
+        data[row] = ((TagDouble) tag).get();
+      }
+    }
+  }
+
+  /**
+   * Holds {@link TagBoolean} values in a <code>boolean[]</code>.
+   */
+  public static final class BooleanColumn extends Column {
+    private final boolean[] data;
+
+    private BooleanColumn(final String name, final int size) {
+      super(name, TagBoolean.class);
+      data = new boolean[size];
+    }
+
+    public boolean get(final int row) {
+      return data[row];
+    }
+
+    public boolean[] toArray() {
+      return data.clone();
+    }
+
+    @Override
+    public int size() {
+      return data.length;
+    }
+
+    @Override
+    public Tag toTag(final int row) {
+      return new TagBoolean(getName(), data[row]);
+    }
+
+    @Override
+    void set(final int row, final Tag tag) {
+      data[row] = ((TagBoolean) tag).get();
+    }
+  }
+
+  /**
+   * Holds {@link TagString} values as codes into a dictionary of the distinct values. Filters on a value can compare
+   * codes: look the value up once with {@link #codeOf(String)} and scan {@link #codes()}.
+   */
+  public static final class StringColumn extends Column {
+    private final int[] codes;
+    private final List<String> dictionary = new ArrayList<>();
+    private final Map<String, Integer> lookup = new HashMap<>();
+
+    private StringColumn(final String name, final int size) {
+      super(name, TagString.class);
+      codes = new int[size];
+    }
+
+    public String get(final int row) {
+      return dictionary.get(codes[row]);
+    }
+
+    public int getCode(final int row) {
+      return codes[row];
+    }
+
+    /**
+     * Returns the code of the value given, or -1 if no row holds the value.
+     *
+     * @param value the value
+     * @return the code of the value given or -1
+     */
+    public int codeOf(final String value) {
+      Integer code = lookup.get(value);
+      return (code == null) ? -1 : code;
+    }
+
+    public IntStream codes() {
+      return Arrays.stream(codes);
+    }
+
+    /**
+     * @return the distinct values, indexed by code
+     */
+    public List<String> getDictionary() {
+      return Collections.unmodifiableList(dictionary);
+    }
+
+    @Override
+    public int size() {
+      return codes.length;
+    }
+
+    @Override
+    public Tag toTag(final int row) {
+      return new TagString(getName(), get(row));
+    }
+
+    @Override
+    void set(final int row, final Tag tag) {
+      String value = ((TagString) tag).get();
+      Integer code = lookup.get(value);
+      if (code == null) {
+        code = dictionary.size();
+        dictionary.add(value);
+        lookup.put(value, code);
+      }
+      codes[row] = code;
+    }
+  }
+
+  /**
+   * Holds copies of children that have no primitive column, such as arrays, lists and compounds.
+   */
+  public static final class TagColumn extends Column {
+    private final Tag[] data;
+
+    private TagColumn(final String name, final Class<? extends Tag> type, final int size) {
+      super(name, type);
+      data = new Tag[size];
+    }
+
+    /**
+     * Returns the value of the row given; the tag returned is held by this column and shouldn't be modified.
+     *
+     * @param row the row index
+     * @param <T> tag type
+     * @return the value of the row given
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Tag> T get(final int row) {
+      return (T) data[row];
+    }
+
+    @Override
+    public int size() {
+      return data.length;
+    }
+
+    @Override
+    public Tag toTag(final int row) {
+      return data[row].clone();
+    }
+
+    @Override
+    void set(final int row, final Tag tag) {
+      data[row] = tag.clone();
+    }
+  }
+
+}
@@ -1,6 +1,7 @@
 package com.sudoplay.axion.converter;
 
 import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.AxionConfiguration.PrimitiveCollectionPolicy;
 import com.sudoplay.axion.AxionWriteException;
 import com.sudoplay.axion.registry.TypeConverter;
 import com.sudoplay.axion.registry.TypeConverterFactory;
@@ -16,6 +17,12 @@ import java.util.Collection;
 import java.util.List;
 
 /**
+ * Converts collections to and from a {@link TagList} of their elements.
+ * <p>
+ * If the instance's {@link PrimitiveCollectionPolicy} is {@link PrimitiveCollectionPolicy#Packed}, a collection of
+ * primitive wrappers, such as a {@code List<Integer>}, is written to the array tag of its element type, such as a
+ * {@link com.sudoplay.axion.spec.tag.TagIntArray}, if that tag is registered. Either form is read.
+ * <p>
  * Created by Jason Taylor on 7/17/2015.
  */
 public class CollectionTypeConverterFactory implements TypeConverterFactory {
@@ -36,8 +43,12 @@ public class CollectionTypeConverterFactory implements TypeConverterFactory {
 
     TypeConverter<? extends Tag, ?> elementConverter = axion.getConverter(AxionTypeToken.get(elementType));
     ObjectConstructor<V> constructor = axion.getConstructorConstructor(typeToken);
+    PrimitiveArrayType<?, ?> arrayType = PrimitiveArrayType.forWrapperClass(AxionType.getRawType(elementType));
+    if (arrayType != null && !axion.hasConverterForTag(arrayType.arrayTagClass)) {
+      arrayType = null;
+    }
     @SuppressWarnings("unchecked")
-    TypeConverter<T, V> result = new Converter(elementConverter, constructor);
+    TypeConverter<T, V> result = new Converter(axion, elementConverter, constructor, arrayType);
     return result;
   }
 
@@ -46,23 +57,36 @@ public class CollectionTypeConverterFactory implements TypeConverterFactory {
     return new CollectionTypeConverterFactory();
   }
 
-  private class Converter<V> extends TypeConverter<TagList, Collection<V>> {
+  private class Converter<V> extends TypeConverter<Tag, Collection<V>> {
 
+    private final Axion axion;
     private final TypeConverter<Tag, V> elementConverter;
     private final ObjectConstructor<? extends List<V>> constructor;
+    private final PrimitiveArrayType<Object, V> arrayType;
 
     private Converter(
+        Axion axion,
         TypeConverter<Tag, V> elementConverter,
-        ObjectConstructor<? extends List<V>> constructor
+        ObjectConstructor<? extends List<V>> constructor,
+        PrimitiveArrayType<Object, V> arrayType
     ) {
+      this.axion = axion;
       this.elementConverter = elementConverter;
       this.constructor = constructor;
+      this.arrayType = arrayType;
     }
 
     @Override
-    public Collection<V> convert(TagList tagList) {
+    public Collection<V> convert(Tag in) {
       Collection<V> collection = constructor.construct();
-      tagList.forEach(tag -> {
+      if (arrayType != null && arrayType.arrayTagClass.isInstance(in)) {
+        int size = arrayType.size(in);
+        for (int i = 0; i < size; i++) {
+          collection.add(arrayType.get(in, i));
+        }
+        return collection;
+      }
+      ((TagList) in).forEach(tag -> {
         V value = elementConverter.convert(tag);
         collection.add(value);
       });
@@ -71,7 +95,11 @@ public class CollectionTypeConverterFactory implements TypeConverterFactory {
 
     @SuppressWarnings("unchecked")
     @Override
-    public TagList convert(String name, Collection<V> collection) {
+    public Tag convert(String name, Collection<V> collection) {
+      if (arrayType != null && axion.getPrimitiveCollectionPolicy() == PrimitiveCollectionPolicy.Packed) {
+        return pack(name, collection);
+      }
+
       if (collection.isEmpty()) {
         throw new AxionWriteException("Can't write an empty collection");
       }
@@ -95,5 +123,17 @@ public class CollectionTypeConverterFactory implements TypeConverterFactory {
 
       return list;
     }
+
+    private Tag pack(String name, Collection<V> collection) {
+      Object array = arrayType.newArray(collection.size());
+      int i = 0;
+      for (V v : collection) {
+        if (v == null) {
+          throw new AxionWriteException("Can't write a collection with a null value");
+        }
+        arrayType.set(array, i++, v);
+      }
+      return arrayType.newArrayTag(name, array);
+    }
   }
 }
@@ -4,7 +4,9 @@ import com.sudoplay.axion.Axion;
 import com.sudoplay.axion.AxionWriteException;
 import com.sudoplay.axion.registry.TypeConverter;
 import com.sudoplay.axion.registry.TypeConverterFactory;
+import com.sudoplay.axion.spec.tag.TagCompound;
 import com.sudoplay.axion.spec.tag.TagList;
+import com.sudoplay.axion.spec.tag.TagString;
 import com.sudoplay.axion.system.ObjectConstructor;
 import com.sudoplay.axion.tag.Tag;
 import com.sudoplay.axion.util.AxionType;
@@ -15,7 +17,13 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
- * Converts from {@link Map} to {@link TagList} and from {@link TagList} to {@link LinkedHashMap}.
+ * Converts from {@link Map} to {@link Tag} and from {@link Tag} to {@link LinkedHashMap}.
+ * <p>
+ * A map whose keys are strings or enums is written as a {@link TagCompound} whose children are named by the keys, the
+ * enums by name; the layout depends only on the declared key type. A compound doesn't keep the order of its children,
+ * so the order of a {@link LinkedHashMap} isn't kept; a sorted map or {@link java.util.EnumMap} is sorted again when
+ * read as its declared type. Any other map is written as a {@link TagList} of two {@link TagList}s, the keys and the
+ * values, as is a string-keyed map with an empty key, which can't name a child. Both layouts are read.
  * <p>
  * Created by Jason Taylor on 7/17/2015.
  */
@@ -39,9 +47,12 @@ public class MapTypeConverterFactory implements TypeConverterFactory {
     TypeConverter<? extends Tag, ?> keyConverter = axion.getConverter(AxionTypeToken.get(keyAndValueTypes[0]));
     TypeConverter<? extends Tag, ?> valueConverter = axion.getConverter(AxionTypeToken.get(keyAndValueTypes[1]));
     ObjectConstructor<V> constructor = axion.getConstructorConstructor(typeToken);
+    Class<?> keyRawType = AxionType.getRawType(keyAndValueTypes[0]);
+    KeyType keyType = (keyRawType == String.class) ? KeyType.String
+        : (Enum.class.isAssignableFrom(keyRawType) && keyRawType != Enum.class) ? KeyType.Enum : KeyType.Other;
 
     @SuppressWarnings("unchecked")
-    TypeConverter<T, V> result = new Converter(keyConverter, valueConverter, constructor);
+    TypeConverter<T, V> result = new Converter(keyConverter, valueConverter, constructor, keyType);
     return result;
   }
 
@@ -50,27 +61,37 @@ public class MapTypeConverterFactory implements TypeConverterFactory {
     return new MapTypeConverterFactory();
   }
 
-  private class Converter<K, V> extends TypeConverter<TagList, Map<K, V>> {
+  private enum KeyType {
+    String, Enum, Other
+  }
+
+  private class Converter<K, V> extends TypeConverter<Tag, Map<K, V>> {
 
     private final TypeConverter<Tag, K> keyConverter;
     private final TypeConverter<Tag, V> valueConverter;
     private final ObjectConstructor<? extends Map<K, V>> constructor;
+    private final KeyType keyType;
 
     public Converter(
         TypeConverter<Tag, K> keyConverter,
         TypeConverter<Tag, V> valueConverter,
-        ObjectConstructor<? extends Map<K, V>> constructor
+        ObjectConstructor<? extends Map<K, V>> constructor,
+        KeyType keyType
     ) {
       this.keyConverter = keyConverter;
       this.valueConverter = valueConverter;
       this.constructor = constructor;
+      this.keyType = keyType;
     }
 
     @Override
-    public Map<K, V> convert(TagList tag) {
-      TagList keyList = tag.get(0);
-      TagList valueList = tag.get(1);
-      Map<K, V> map = constructor.construct();
+    public Map<K, V> convert(Tag tag) {
+      if (tag instanceof TagCompound) {
+        return convertCompound((TagCompound) tag);
+      }
+      TagList keyList = ((TagList) tag).get(0);
+      TagList valueList = ((TagList) tag).get(1);
+      Map<K, V> map = constructor.construct(keyList.size());
       for (int i = 0; i < keyList.size(); ++i) {
         K key = keyConverter.convert(keyList.get(i));
         V value = valueConverter.convert(valueList.get(i));
@@ -79,8 +100,23 @@ public class MapTypeConverterFactory implements TypeConverterFactory {
       return map;
     }
 
+    @SuppressWarnings("unchecked")
+    private Map<K, V> convertCompound(TagCompound tag) {
+      Map<K, V> map = constructor.construct(tag.size());
+      for (Tag child : tag) {
+        String name = child.getName();
+        K key = (keyType == KeyType.String) ? (K) name : keyConverter.convert(new TagString(null, name));
+        map.put(key, valueConverter.convert(child));
+      }
+      return map;
+    }
+
     @Override
-    public TagList convert(String name, Map<K, V> map) {
+    public Tag convert(String name, Map<K, V> map) {
+      if (keyType == KeyType.Enum || (keyType == KeyType.String && !map.containsKey(""))) {
+        return convertCompound(name, map);
+      }
+
       if (map.isEmpty()) {
         throw new IllegalArgumentException("Can't write an empty map");
       }
@@ -116,5 +152,19 @@ public class MapTypeConverterFactory implements TypeConverterFactory {
 
       return list;
     }
+
+    private TagCompound convertCompound(String name, Map<K, V> map) {
+      TagCompound compound = new TagCompound(name);
+      map.forEach((k, v) -> {
+        if (k == null) {
+          throw new AxionWriteException("Can't write a map with a null key");
+        } else if (v == null) {
+          throw new AxionWriteException("Can't write a map with a null value for key: " + k);
+        }
+        String keyName = (keyType == KeyType.String) ? (String) k : ((Enum<?>) k).name();
+        compound.put(keyName, valueConverter.convert(keyName, v));
+      });
+      return compound;
+    }
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,640 @@
+package com.sudoplay.axion.converter;
+
+import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.AxionReadException;
+import com.sudoplay.axion.AxionWriteException;
+import com.sudoplay.axion.api.AxionDefault;
+import com.sudoplay.axion.api.AxionIgnore;
+import com.sudoplay.axion.api.AxionMapped;
+import com.sudoplay.axion.api.AxionName;
+import com.sudoplay.axion.registry.AxionTagRegistrationException;
+import com.sudoplay.axion.registry.PrimitiveTypeConverter;
+import com.sudoplay.axion.registry.TypeConverter;
+import com.sudoplay.axion.registry.TypeConverterFactory;
+import com.sudoplay.axion.spec.tag.TagCompound;
+import com.sudoplay.axion.system.ObjectConstructor;
+import com.sudoplay.axion.tag.Tag;
+import com.sudoplay.axion.util.AxionType;
+import com.sudoplay.axion.util.AxionTypeToken;
+import com.sudoplay.axion.util.Primitives;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.*;
+
+/**
+ * Converts classes annotated with {@link AxionMapped} to and from {@link TagCompound}s, field by field.
+ * <p>
+ * A class's fields are resolved once, when its converter is created: each field gets a {@link MethodHandle} getter and
+ * setter and the converter for its declared type, so converting an object doesn't use reflection. Primitive fields
+ * whose converter is a {@link PrimitiveTypeConverter} are converted without boxing. Objects are created
+ * with the instance's {@link com.sudoplay.axion.system.ConstructorConstructor}; null fields and empty collections and
+ * maps aren't written, and fields whose tag is missing keep their constructed value or take their {@link
+ * AxionDefault}.
+ * <p>
+ * If the class was compiled with the axion-processor annotation processor, the factory it generated, named after the
+ * class's binary name with {@code '$'} replaced by {@code '_'} and {@link #GENERATED_FACTORY_SUFFIX} appended, is used
+ * instead; it writes and reads the same tags with direct field access.
+ *
+ * @author Jason Taylor
+ */
+public class PojoTypeConverterFactory implements TypeConverterFactory {
+
+  /**
+   * Appended to the name of an {@link AxionMapped} class to name the factory generated for it.
+   */
+  public static final String GENERATED_FACTORY_SUFFIX = "_AxionConverterFactory";
+
+  private final boolean useGeneratedFactories;
+
+  /**
+   * Creates a new {@link PojoTypeConverterFactory} that uses generated factories when they exist.
+   */
+  public PojoTypeConverterFactory() {
+    this(true);
+  }
+
+  /**
+   * Creates a new {@link PojoTypeConverterFactory}.
+   *
+   * @param newUseGeneratedFactories false to always map fields reflectively
+   */
+  public PojoTypeConverterFactory(final boolean newUseGeneratedFactories) {
+    useGeneratedFactories = newUseGeneratedFactories;
+  }
+
+  @Override
+  public <T extends Tag, V> TypeConverter<T, V> create(Axion axion, AxionTypeToken<V> typeToken) {
+    Class<? super V> rawType = typeToken.getRawType();
+    if (!rawType.isAnnotationPresent(AxionMapped.class)) {
+      return null;
+    }
+    if (useGeneratedFactories && typeToken.getType() == rawType) {
+      TypeConverterFactory generated = getGeneratedFactory(rawType);
+      if (generated != null) {
+        return generated.create(axion, typeToken);
+      }
+    }
+    ObjectConstructor<V> constructor = axion.getConstructorConstructor(typeToken);
+    List<Property> properties = getProperties(axion, typeToken.getType(), rawType);
+
+    @SuppressWarnings("unchecked")
+    TypeConverter<T, V> result = (TypeConverter<T, V>) new Converter<>(constructor, properties);
+    return result;
+  }
+
+  @Override
+  public TypeConverterFactory newInstance(Axion axion) {
+    return new PojoTypeConverterFactory(useGeneratedFactories);
+  }
+
+  /**
+   * Returns a new instance of the factory generated for the class given, or null if none was generated.
+   */
+  private static TypeConverterFactory getGeneratedFactory(final Class<?> rawType) {
+    ClassLoader classLoader = rawType.getClassLoader();
+    if (classLoader == null) {
+      return null;
+    }
+    String name = rawType.getName().replace('$', '_') + GENERATED_FACTORY_SUFFIX;
+    try {
+      return (TypeConverterFactory) Class.forName(name, true, classLoader).getDeclaredConstructor().newInstance();
+    } catch (ClassNotFoundException e) {
+      return null;
+    } catch (InvocationTargetException e) {
+      throw new AxionTagRegistrationException("Unable to instantiate generated converter factory " + name,
+          e.getCause());
+    } catch (ReflectiveOperationException | ClassCastException e) {
+      throw new AxionTagRegistrationException("Unable to instantiate generated converter factory " + name, e);
+    }
+  }
+
+  /**
+   * Returns the mapped fields of the type given, superclass fields first.
+   */
+  private static List<Property> getProperties(final Axion axion, final Type type, final Class<?> rawType) {
+    List<Property> result = new ArrayList<>();
+    Type context = type;
+    Class<?> contextRawType = rawType;
+    while (contextRawType != null && contextRawType != Object.class) {
+      List<Property> declared = new ArrayList<>();
+      for (Field field : contextRawType.getDeclaredFields()) {
+        int modifiers = field.getModifiers();
+        if (Modifier.isStatic(modifiers)
+            || Modifier.isTransient(modifiers)
+            || field.isSynthetic()
+            || field.isAnnotationPresent(AxionIgnore.class)) {
+          continue;
+        }
+        Type fieldType = AxionType.resolve(context, contextRawType, field.getGenericType());
+        declared.add(newProperty(axion, field, fieldType));
+      }
+      result.addAll(0, declared);
+      context = AxionType.resolve(context, contextRawType, contextRawType.getGenericSuperclass());
+      contextRawType = AxionType.getRawType(context);
+    }
+    Set<String> names = new HashSet<>();
+    for (Property property : result) {
+      if (!names.add(property.name)) {
+        throw new AxionTagRegistrationException("Duplicate tag name [" + property.name + "] in " + rawType);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns a {@link Property} for the field given, one that doesn't box the value if the field is primitive and its
+   * converter is a {@link PrimitiveTypeConverter}.
+   */
+  @SuppressWarnings("unchecked")
+  private static Property newProperty(final Axion axion, final Field field, final Type fieldType) {
+    TypeConverter<?, ?> converter = axion.getConverter(AxionTypeToken.get(fieldType));
+    Class<?> type = field.getType();
+    if (type == boolean.class && converter instanceof PrimitiveTypeConverter.OfBoolean) {
+      return new BooleanProperty(field, (PrimitiveTypeConverter.OfBoolean<Tag>) converter);
+    } else if (type == byte.class && converter instanceof PrimitiveTypeConverter.OfByte) {
+      return new ByteProperty(field, (PrimitiveTypeConverter.OfByte<Tag>) converter);
+    } else if (type == short.class && converter instanceof PrimitiveTypeConverter.OfShort) {
+      return new ShortProperty(field, (PrimitiveTypeConverter.OfShort<Tag>) converter);
+    } else if (type == int.class && converter instanceof PrimitiveTypeConverter.OfInt) {
+      return new IntProperty(field, (PrimitiveTypeConverter.OfInt<Tag>) converter);
+    } else if (type == long.class && converter instanceof PrimitiveTypeConverter.OfLong) {
+      return new LongProperty(field, (PrimitiveTypeConverter.OfLong<Tag>) converter);
+    } else if (type == float.class && converter instanceof PrimitiveTypeConverter.OfFloat) {
+      return new FloatProperty(field, (PrimitiveTypeConverter.OfFloat<Tag>) converter);
+    } else if (type == double.class && converter instanceof PrimitiveTypeConverter.OfDouble) {
+      return new DoubleProperty(field, (PrimitiveTypeConverter.OfDouble<Tag>) converter);
+    }
+    return new ObjectProperty(field, (TypeConverter<Tag, Object>) converter);
+  }
+
+  private static class Converter<V> extends TypeConverter<TagCompound, V> {
+
+    private final ObjectConstructor<V> constructor;
+    private final Property[] properties;
+
+    private Converter(
+        final ObjectConstructor<V> constructor,
+        final List<Property> properties
+    ) {
+      this.constructor = constructor;
+      this.properties = properties.toArray(new Property[properties.size()]);
+    }
+
+    @Override
+    public V convert(TagCompound tag) {
+      V value = constructor.construct();
+      for (Property property : properties) {
+        Tag child = tag.get(property.name);
+        if (child != null) {
+          property.read(value, child);
+        } else if (property.hasDefault) {
+          property.readDefault(value);
+        }
+      }
+      return value;
+    }
+
+    @Override
+    public TagCompound convert(String name, V value) {
+      TagCompound tag = new TagCompound(name);
+      for (Property property : properties) {
+        property.write(value, tag);
+      }
+      return tag;
+    }
+  }
+
+  /**
+   * Empty collections and maps aren't written, as the element type of their {@link com.sudoplay.axion.spec.tag.TagList}
+   * can't be determined; the field keeps its constructed value when read.
+   */
+  private static boolean isEmptyContainer(final Object value) {
+    return (value instanceof Collection && ((Collection<?>) value).isEmpty())
+        || (value instanceof Map && ((Map<?, ?>) value).isEmpty());
+  }
+
+  /**
+   * A mapped field, read from and written to the child tag named for it.
+   */
+  private abstract static class Property {
+
+    protected final String name;
+    protected final MethodHandle getter;
+    protected final MethodHandle setter;
+    protected final boolean hasDefault;
+    protected final Object defaultValue;
+
+    /**
+     * @param field     the field
+     * @param valueType the type the getter returns and the setter takes; the field's type or Object
+     */
+    private Property(final Field field, final Class<?> valueType) {
+      AxionName axionName = field.getAnnotation(AxionName.class);
+      name = (axionName == null) ? field.getName() : axionName.value();
+      try {
+        field.setAccessible(true);
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        getter = lookup.unreflectGetter(field).asType(MethodType.methodType(valueType, Object.class));
+        setter = lookup.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, valueType));
+      } catch (IllegalAccessException | RuntimeException e) {
+        throw new AxionTagRegistrationException("Unable to access field " + field, e);
+      }
+      AxionDefault axionDefault = field.getAnnotation(AxionDefault.class);
+      hasDefault = axionDefault != null;
+      defaultValue = hasDefault ? parseDefault(field, axionDefault.value()) : null;
+    }
+
+    /**
+     * Sets the field of the target given to the value of the child tag given.
+     */
+    abstract void read(Object target, Tag child);
+
+    /**
+     * Sets the field of the target given to its {@link AxionDefault}.
+     */
+    abstract void readDefault(Object target);
+
+    /**
+     * Puts the child tag for the field of the source given, if it has a value to write, into the tag given.
+     */
+    abstract void write(Object source, TagCompound tag);
+
+    protected RuntimeException getFailed(final Throwable t) {
+      if (t instanceof RuntimeException) {
+        return (RuntimeException) t;
+      } else if (t instanceof Error) {
+        throw (Error) t;
+      }
+      return new AxionWriteException("Unable to get field " + name, t);
+    }
+
+    protected RuntimeException setFailed(final Throwable t) {
+      if (t instanceof RuntimeException) {
+        return (RuntimeException) t;
+      } else if (t instanceof Error) {
+        throw (Error) t;
+      }
+      return new AxionReadException("Unable to set field " + name, t);
+    }
+
+    private static Object parseDefault(final Field field, final String value) {
+      Class<?> type = Primitives.wrap(field.getType());
+      try {
+        if (type == String.class) {
+          return value;
+        } else if (type.isEnum()) {
+          return enumValueOf(type, value);
+        } else if (type == Boolean.class) {
+          return Boolean.valueOf(value);
+        } else if (type == Byte.class) {
+          return Byte.valueOf(value);
+        } else if (type == Short.class) {
+          return Short.valueOf(value);
+        } else if (type == Integer.class) {
+          return Integer.valueOf(value);
+        } else if (type == Long.class) {
+          return Long.valueOf(value);
+        } else if (type == Float.class) {
+          return Float.valueOf(value);
+        } else if (type == Double.class) {
+          return Double.valueOf(value);
+        }
+      } catch (IllegalArgumentException e) {
+        throw new AxionTagRegistrationException("Invalid default [" + value + "] for field " + field, e);
+      }
+      throw new AxionTagRegistrationException("Default values aren't supported for field " + field);
+    }
+
+    /**
+     * Returns the constant of the enum class given with the name given.
+     */
+    @SuppressWarnings("unchecked")
+    private static <E extends Enum<E>> E enumValueOf(final Class<?> enumClass, final String name) {
+      return Enum.valueOf((Class<E>) enumClass, name);
+    }
+  }
+
+  /**
+   * A field whose value is boxed, or is an object.
+   */
+  private static class ObjectProperty extends Property {
+
+    private final TypeConverter<Tag, Object> converter;
+
+    private ObjectProperty(final Field field, final TypeConverter<Tag, Object> converter) {
+      super(field, Object.class);
+      this.converter = converter;
+    }
+
+    @Override
+    void read(final Object target, final Tag child) {
+      set(target, converter.convert(child));
+    }
+
+    @Override
+    void readDefault(final Object target) {
+      set(target, defaultValue);
+    }
+
+    @Override
+    void write(final Object source, final TagCompound tag) {
+      Object value;
+      try {
+        value = (Object) getter.invokeExact(source);
+      } catch (Throwable t) {
+        throw getFailed(t);
+      }
+      if (value != null && !isEmptyContainer(value)) {
+        tag.put(name, converter.convert(name, value));
+      }
+    }
+
+    private void set(final Object target, final Object value) {
+      try {
+        setter.invokeExact(target, value);
+      } catch (Throwable t) {
+        throw setFailed(t);
+      }
+    }
+  }
+
+  private static class BooleanProperty extends Property {
+
+    private final PrimitiveTypeConverter.OfBoolean<Tag> converter;
+
+    private BooleanProperty(final Field field, final PrimitiveTypeConverter.OfBoolean<Tag> converter) {
+      super(field, boolean.class);
+      this.converter = converter;
+    }
+
+    @Override
+    void read(final Object target, final Tag child) {
+      set(target, converter.convertBoolean(child));
+    }
+
+    @Override
+    void readDefault(final Object target) {
+      set(target, (Boolean) defaultValue);
+    }
+
+    @Override
+    void write(final Object source, final TagCompound tag) {
+      boolean value;
+      try {
+        value = (boolean) getter.invokeExact(source);
+      } catch (Throwable t) {
+        throw getFailed(t);
+      }
+      tag.put(name, converter.convert(name, value));
+    }
+
+    private void set(final Object target, final boolean value) {
+      try {
+        setter.invokeExact(target, value);
+      } catch (Throwable t) {
+        throw setFailed(t);
+      }
+    }
+  }
+
+  private static class ByteProperty extends Property {
+
+    private final PrimitiveTypeConverter.OfByte<Tag> converter;
+
+    private ByteProperty(final Field field, final PrimitiveTypeConverter.OfByte<Tag> converter) {
+      super(field, byte.class);
+      this.converter = converter;
+    }
+
+    @Override
+    void read(final Object target, final Tag child) {
+      set(target, converter.convertByte(child));
+    }
+
+    @Override
+    void readDefault(final Object target) {
+      set(target, (Byte) defaultValue);
+    }
+
+    @Override
+    void write(final Object source, final TagCompound tag) {
+      byte value;
+      try {
+        value = (byte) getter.invokeExact(source);
+      } catch (Throwable t) {
+        throw getFailed(t);
+      }
+      tag.put(name, converter.convert(name, value));
+    }
+
+    private void set(final Object target, final byte value) {
+      try {
+        setter.invokeExact(target, value);
+      } catch (Throwable t) {
+        throw setFailed(t);
+      }
+    }
+  }
+
+  private static class ShortProperty extends Property {
+
+    private final PrimitiveTypeConverter.OfShort<Tag> converter;
+
+    private ShortProperty(final Field field, final PrimitiveTypeConverter.OfShort<Tag> converter) {
+      super(field, short.class);
+      this.converter = converter;
+    }
+
+    @Override
+    void read(final Object target, final Tag child) {
+      set(target, converter.convertShort(child));
+    }
+
+    @Override
+    void readDefault(final Object target) {
+      set(target, (Short) defaultValue);
+    }
+
+    @Override
+    void write(final Object source, final TagCompound tag) {
+      short value;
+      try {
+        value = (short) getter.invokeExact(source);
+      } catch (Throwable t) {
+        throw getFailed(t);
+      }
+      tag.put(name, converter.convert(name, value));
+    }
+
+    private void set(final Object target, final short value) {
+      try {
+        setter.invokeExact(target, value);
+      } catch (Throwable t) {
+        throw setFailed(t);
+      }
+    }
+  }
+
+  private static class IntProperty extends Property {
+
+    private final PrimitiveTypeConverter.OfInt<Tag> converter;
+
+    private IntProperty(final Field field, final PrimitiveTypeConverter.OfInt<Tag> converter) {
+      super(field, int.class);
+      this.converter = converter;
+    }
+
+    @Override
+    void read(final Object target, final Tag child) {
+      set(target, converter.convertInt(child));
+    }
+
+    @Override
+    void readDefault(final Object target) {
+      set(target, (Integer) defaultValue);
+    }
+
+    @Override
+    void write(final Object source, final TagCompound tag) {
+      int value;
+      try {
+        value = (int) getter.invokeExact(source);
+      } catch (Throwable t) {
+        throw getFailed(t);
+      }
+      tag.put(name, converter.convert(name, value));
+    }
+
+    private void set(final Object target, final int value) {
+      try {
+        setter.invokeExact(target, value);
+      } catch (Throwable t) {
+        throw setFailed(t);
+      }
+    }
+  }
+
+  private static class LongProperty extends Property {
+
+    private final PrimitiveTypeConverter.OfLong<Tag> converter;
+
+    private LongProperty(final Field field, final PrimitiveTypeConverter.OfLong<Tag> converter) {
+      super(field, long.class);
+      this.converter = converter;
+    }
+
+    @Override
+    void read(final Object target, final Tag child) {
+      set(target, converter.convertLong(child));
+    }
+
+    @Override
+    void readDefault(final Object target) {
+      set(target, (Long) defaultValue);
+    }
+
+    @Override
+    void write(final Object source, final TagCompound tag) {
+      long value;
+      try {
+        value = (long) getter.invokeExact(source);
+      } catch (Throwable t) {
+        throw getFailed(t);
+      }
+      tag.put(name, converter.convert(name, value));
+    }
+
+    private void set(final Object target, final long value) {
+      try {
+        setter.invokeExact(target, value);
+      } catch (Throwable t) {
+        throw setFailed(t);
+      }
+    }
+  }
+
+  private static class FloatProperty extends Property {
+
+    private final PrimitiveTypeConverter.OfFloat<Tag> converter;
+
+    private FloatProperty(final Field field, final PrimitiveTypeConverter.OfFloat<Tag> converter) {
+      super(field, float.class);
+      this.converter = converter;
+    }
+
+    @Override
+    void read(final Object target, final Tag child) {
+      set(target, converter.convertFloat(child));
+    }
+
+    @Override
+    void readDefault(final Object target) {
+      set(target, (Float) defaultValue);
+    }
+
+    @Override
+    void write(final Object source, final TagCompound tag) {
+      float value;
+      try {
+        value = (float) getter.invokeExact(source);
+      } catch (Throwable t) {
+        throw getFailed(t);
+      }
+      tag.put(name, converter.convert(name, value));
+    }
+
+    private void set(final Object target, final float value) {
+      try {
+        setter.invokeExact(target, value);
+      } catch (Throwable t) {
+        throw setFailed(t);
+      }
+    }
+  }
+
+  private static class DoubleProperty extends Property {
+
+    private final PrimitiveTypeConverter.OfDouble<Tag> converter;
+
+    private DoubleProperty(final Field field, final PrimitiveTypeConverter.OfDouble<Tag> converter) {
+      super(field, double.class);
+      this.converter = converter;
+    }
+
+    @Override
+    void read(final Object target, final Tag child) {
+      set(target, converter.convertDouble(child));
+    }
+
+    @Override
+    void readDefault(final Object target) {
+      set(target, (Double) defaultValue);
+    }
+
+    @Override
+    void write(final Object source, final TagCompound tag) {
+      double value;
+      try {
+        value = (double) getter.invokeExact(source);
+      } catch (Throwable t) {
+        throw getFailed(t);
+      }
+      tag.put(name, converter.convert(name, value));
+    }
+
+    private void set(final Object target, final double value) {
+      try {
+        setter.invokeExact(target, value);
+      } catch (Throwable t) {
+        throw setFailed(t);
+      }
+    }
+  }
+
+}
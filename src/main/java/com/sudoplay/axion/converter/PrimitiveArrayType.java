@@ -0,0 +1,386 @@
+package com.sudoplay.axion.converter;
+
+import com.sudoplay.axion.ext.tag.*;
+import com.sudoplay.axion.spec.tag.*;
+import com.sudoplay.axion.tag.Tag;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A primitive array type, with its wrapper type, its array tag and the tag of its elements; used to pack collections of
+ * primitive wrappers into array tags and to read primitive arrays from either form.
+ *
+ * @param <A> the array type
+ * @param <V> the wrapper type
+ * @author Jason Taylor
+ */
+abstract class PrimitiveArrayType<A, V> {
+
+  static final PrimitiveArrayType<byte[], Byte> BYTE = new PrimitiveArrayType<byte[], Byte>(
+      byte[].class, Byte.class, TagByteArray.class, TagByte.class
+  ) {
+    @Override
+    byte[] newArray(final int length) {
+      return new byte[length];
+    }
+
+    @Override
+    int length(final byte[] array) {
+      return array.length;
+    }
+
+    @Override
+    void set(final byte[] array, final int index, final Byte value) {
+      array[index] = value;
+    }
+
+    @Override
+    Tag newArrayTag(final String name, final byte[] array) {
+      return new TagByteArray(name, array);
+    }
+
+    @Override
+    int size(final Tag arrayTag) {
+      return ((TagByteArray) arrayTag).size();
+    }
+
+    @Override
+    Byte get(final Tag arrayTag, final int index) {
+      return ((TagByteArray) arrayTag).get(index);
+    }
+
+    @Override
+    Tag newElementTag(final byte[] array, final int index) {
+      return new TagByte(array[index]);
+    }
+
+    @Override
+    void set(final byte[] array, final int index, final Tag elementTag) {
+      array[index] = ((TagByte) elementTag).get();
+    }
+  };
+
+  static final PrimitiveArrayType<short[], Short> SHORT = new PrimitiveArrayType<short[], Short>(
+      short[].class, Short.class, TagShortArray.class, TagShort.class
+  ) {
+    @Override
+    short[] newArray(final int length) {
+      return new short[length];
+    }
+
+    @Override
+    int length(final short[] array) {
+      return array.length;
+    }
+
+    @Override
+    void set(final short[] array, final int index, final Short value) {
+      array[index] = value;
+    }
+
+    @Override
+    Tag newArrayTag(final String name, final short[] array) {
+      return new TagShortArray(name, array);
+    }
+
+    @Override
+    int size(final Tag arrayTag) {
+      return ((TagShortArray) arrayTag).size();
+    }
+
+    @Override
+    Short get(final Tag arrayTag, final int index) {
+      return ((TagShortArray) arrayTag).get(index);
+    }
+
+    @Override
+    Tag newElementTag(final short[] array, final int index) {
+      return new TagShort(array[index]);
+    }
+
+    @Override
+    void set(final short[] array, final int index, final Tag elementTag) {
+      array[index] = ((TagShort) elementTag).get();
+    }
+  };
+
+  static final PrimitiveArrayType<int[], Integer> INT = new PrimitiveArrayType<int[], Integer>(
+      int[].class, Integer.class, TagIntArray.class, TagInt.class
+  ) {
+    @Override
+    int[] newArray(final int length) {
+      return new int[length];
+    }
+
+    @Override
+    int length(final int[] array) {
+      return array.length;
+    }
+
+    @Override
+    void set(final int[] array, final int index, final Integer value) {
+      array[index] = value;
+    }
+
+    @Override
+    Tag newArrayTag(final String name, final int[] array) {
+      return new TagIntArray(name, array);
+    }
+
+    @Override
+    int size(final Tag arrayTag) {
+      return ((TagIntArray) arrayTag).size();
+    }
+
+    @Override
+    Integer get(final Tag arrayTag, final int index) {
+      return ((TagIntArray) arrayTag).get(index);
+    }
+
+    @Override
+    Tag newElementTag(final int[] array, final int index) {
+      return new TagInt(array[index]);
+    }
+
+    @Override
+    void set(final int[] array, final int index, final Tag elementTag) {
+      array[index] = ((TagInt) elementTag).get();
+    }
+  };
+
+  static final PrimitiveArrayType<long[], Long> LONG = new PrimitiveArrayType<long[], Long>(
+      long[].class, Long.class, TagLongArray.class, TagLong.class
+  ) {
+    @Override
+    long[] newArray(final int length) {
+      return new long[length];
+    }
+
+    @Override
+    int length(final long[] array) {
+      return array.length;
+    }
+
+    @Override
+    void set(final long[] array, final int index, final Long value) {
+      array[index] = value;
+    }
+
+    @Override
+    Tag newArrayTag(final String name, final long[] array) {
+      return new TagLongArray(name, array);
+    }
+
+    @Override
+    int size(final Tag arrayTag) {
+      return ((TagLongArray) arrayTag).size();
+    }
+
+    @Override
+    Long get(final Tag arrayTag, final int index) {
+      return ((TagLongArray) arrayTag).get(index);
+    }
+
+    @Override
+    Tag newElementTag(final long[] array, final int index) {
+      return new TagLong(array[index]);
+    }
+
+    @Override
+    void set(final long[] array, final int index, final Tag elementTag) {
+      array[index] = ((TagLong) elementTag).get();
+    }
+  };
+
+  static final PrimitiveArrayType<float[], Float> FLOAT = new PrimitiveArrayType<float[], Float>(
+      float[].class, Float.class, TagFloatArray.class, TagFloat.class
+  ) {
+    @Override
+    float[] newArray(final int length) {
+      return new float[length];
+    }
+
+    @Override
+    int length(final float[] array) {
+      return array.length;
+    }
+
+    @Override
+    void set(final float[] array, final int index, final Float value) {
+      array[index] = value;
+    }
+
+    @Override
+    Tag newArrayTag(final String name, final float[] array) {
+      return new TagFloatArray(name, array);
+    }
+
+    @Override
+    int size(final Tag arrayTag) {
+      return ((TagFloatArray) arrayTag).size();
+    }
+
+    @Override
+    Float get(final Tag arrayTag, final int index) {
+      return ((TagFloatArray) arrayTag).get(index);
+    }
+
+    @Override
+    Tag newElementTag(final float[] array, final int index) {
+      return new TagFloat(array[index]);
+    }
+
+    @Override
+    void set(final float[] array, final int index, final Tag elementTag) {
+      array[index] = ((TagFloat) elementTag).get();
+    }
+  };
+
+  static final PrimitiveArrayType<double[], Double> DOUBLE = new PrimitiveArrayType<double[], Double>(
+      double[].class, Double.class, TagDoubleArray.class, TagDouble.class
+  ) {
+    @Override
+    double[] newArray(final int length) {
+      return new double[length];
+    }
+
+    @Override
+    int length(final double[] array) {
+      return array.length;
+    }
+
+    @Override
+    void set(final double[] array, final int index, final Double value) {
+      array[index] = value;
+    }
+
+    @Override
+    Tag newArrayTag(final String name, final double[] array) {
+      return new TagDoubleArray(name, array);
+    }
+
+    @Override
+    int size(final Tag arrayTag) {
+      return ((TagDoubleArray) arrayTag).size();
+    }
+
+    @Override
+    Double get(final Tag arrayTag, final int index) {
+      return ((TagDoubleArray) arrayTag).get(index);
+    }
+
+    @Override
+    Tag newElementTag(final double[] array, final int index) {
+      return new TagDouble(array[index]);
+    }
+
+    @Override
+    void set(final double[] array, final int index, final Tag elementTag) {
+      array[index] = ((TagDouble) elementTag).get();
+    }
+  };
+
+  static final PrimitiveArrayType<boolean[], Boolean> BOOLEAN = new PrimitiveArrayType<boolean[], Boolean>(
+      boolean[].class, Boolean.class, TagBooleanArray.class, TagBoolean.class
+  ) {
+    @Override
+    boolean[] newArray(final int length) {
+      return new boolean[length];
+    }
+
+    @Override
+    int length(final boolean[] array) {
+      return array.length;
+    }
+
+    @Override
+    void set(final boolean[] array, final int index, final Boolean value) {
+      array[index] = value;
+    }
+
+    @Override
+    Tag newArrayTag(final String name, final boolean[] array) {
+      return new TagBooleanArray(name, array);
+    }
+
+    @Override
+    int size(final Tag arrayTag) {
+      return ((TagBooleanArray) arrayTag).size();
+    }
+
+    @Override
+    Boolean get(final Tag arrayTag, final int index) {
+      return ((TagBooleanArray) arrayTag).get(index);
+    }
+
+    @Override
+    Tag newElementTag(final boolean[] array, final int index) {
+      return new TagBoolean(array[index]);
+    }
+
+    @Override
+    void set(final boolean[] array, final int index, final Tag elementTag) {
+      array[index] = ((TagBoolean) elementTag).get();
+    }
+  };
+
+  private static final Map<Class<?>, PrimitiveArrayType<?, ?>> BY_ARRAY_CLASS = new HashMap<>();
+  private static final Map<Class<?>, PrimitiveArrayType<?, ?>> BY_WRAPPER_CLASS = new HashMap<>();
+
+  static {
+    PrimitiveArrayType<?, ?>[] types = {BYTE, SHORT, INT, LONG, FLOAT, DOUBLE, BOOLEAN};
+    for (PrimitiveArrayType<?, ?> type : types) {
+      BY_ARRAY_CLASS.put(type.arrayClass, type);
+      BY_WRAPPER_CLASS.put(type.wrapperClass, type);
+    }
+  }
+
+  final Class<A> arrayClass;
+  final Class<V> wrapperClass;
+  final Class<? extends Tag> arrayTagClass;
+  final Class<? extends Tag> elementTagClass;
+
+  private PrimitiveArrayType(
+      final Class<A> newArrayClass,
+      final Class<V> newWrapperClass,
+      final Class<? extends Tag> newArrayTagClass,
+      final Class<? extends Tag> newElementTagClass
+  ) {
+    arrayClass = newArrayClass;
+    wrapperClass = newWrapperClass;
+    arrayTagClass = newArrayTagClass;
+    elementTagClass = newElementTagClass;
+  }
+
+  /**
+   * @return the type of the primitive array class given, or null
+   */
+  static PrimitiveArrayType<?, ?> forArrayClass(final Class<?> arrayClass) {
+    return BY_ARRAY_CLASS.get(arrayClass);
+  }
+
+  /**
+   * @return the type whose elements are wrapped by the class given, or null
+   */
+  static PrimitiveArrayType<?, ?> forWrapperClass(final Class<?> wrapperClass) {
+    return BY_WRAPPER_CLASS.get(wrapperClass);
+  }
+
+  abstract A newArray(int length);
+
+  abstract int length(A array);
+
+  abstract void set(A array, int index, V value);
+
+  abstract Tag newArrayTag(String name, A array);
+
+  abstract int size(Tag arrayTag);
+
+  abstract V get(Tag arrayTag, int index);
+
+  abstract Tag newElementTag(A array, int index);
+
+  abstract void set(A array, int index, Tag elementTag);
+
+}
@@ -0,0 +1,88 @@
+package com.sudoplay.axion.converter;
+
+import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.AxionReadException;
+import com.sudoplay.axion.registry.TypeConverter;
+import com.sudoplay.axion.registry.TypeConverterFactory;
+import com.sudoplay.axion.spec.tag.TagList;
+import com.sudoplay.axion.tag.Tag;
+import com.sudoplay.axion.util.AxionTypeToken;
+
+/**
+ * Converts primitive arrays, such as {@code int[]}, to and from their array tag, such as a {@link
+ * com.sudoplay.axion.spec.tag.TagIntArray}, or, if that tag isn't registered, a {@link TagList} of their element tag.
+ * <p>
+ * Array tags are converted by the {@link TypeConverter} registered for the tag. A {@link TagList} of the element tag is
+ * also read, so a list written by {@link CollectionTypeConverterFactory} for a {@code List<Integer>} can be read as an
+ * {@code int[]}, without boxing.
+ *
+ * @author Jason Taylor
+ */
+public class PrimitiveArrayTypeConverterFactory implements TypeConverterFactory {
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T extends Tag, V> TypeConverter<T, V> create(Axion axion, AxionTypeToken<V> typeToken) {
+    PrimitiveArrayType<?, ?> arrayType = PrimitiveArrayType.forArrayClass(typeToken.getRawType());
+    if (arrayType == null) {
+      return null;
+    }
+    TypeConverter<Tag, ?> tagConverter = axion.hasConverterForTag(arrayType.arrayTagClass)
+        ? axion.getConverter((Class<Tag>) arrayType.arrayTagClass) : null;
+    if (tagConverter == null && !axion.hasConverterForTag(arrayType.elementTagClass)) {
+      return null;
+    }
+    return (TypeConverter<T, V>) new Converter<>(arrayType, tagConverter);
+  }
+
+  @Override
+  public TypeConverterFactory newInstance(Axion axion) {
+    return new PrimitiveArrayTypeConverterFactory();
+  }
+
+  private static class Converter<A> extends TypeConverter<Tag, A> {
+
+    private final PrimitiveArrayType<A, ?> arrayType;
+
+    /**
+     * The converter registered for the array tag, or null if the array tag isn't registered.
+     */
+    private final TypeConverter<Tag, A> tagConverter;
+
+    @SuppressWarnings("unchecked")
+    private Converter(final PrimitiveArrayType<A, ?> arrayType, final TypeConverter<Tag, ?> tagConverter) {
+      this.arrayType = arrayType;
+      // the tag converter was registered for the array class
+      this.tagConverter = (TypeConverter<Tag, A>) tagConverter;
+    }
+
+    @Override
+    public A convert(Tag tag) {
+      if (tagConverter != null && arrayType.arrayTagClass.isInstance(tag)) {
+        return tagConverter.convert(tag);
+      } else if (tag instanceof TagList && ((TagList) tag).getType() == arrayType.elementTagClass) {
+        TagList list = (TagList) tag;
+        A array = arrayType.newArray(list.size());
+        for (int i = 0; i < list.size(); i++) {
+          arrayType.set(array, i, list.get(i));
+        }
+        return array;
+      }
+      throw new AxionReadException("Can't convert " + tag + " to " + arrayType.arrayClass.getSimpleName());
+    }
+
+    @Override
+    public Tag convert(String name, A array) {
+      if (tagConverter != null) {
+        return tagConverter.convert(name, array);
+      }
+      int length = arrayType.length(array);
+      TagList list = new TagList(arrayType.elementTagClass, name, length);
+      for (int i = 0; i < length; i++) {
+        list.add(arrayType.newElementTag(array, i));
+      }
+      return list;
+    }
+  }
+
+}
@@ -0,0 +1,504 @@
+package com.sudoplay.axion.diff;
+
+import com.sudoplay.axion.ext.tag.*;
+import com.sudoplay.axion.spec.tag.*;
+import com.sudoplay.axion.tag.AxionInvalidTagException;
+import com.sudoplay.axion.tag.ContainerTag;
+import com.sudoplay.axion.tag.Tag;
+
+import java.lang.reflect.Array;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Computes structural deltas between two {@link TagCompound}s and applies them.
+ * <p>
+ * A delta is itself a {@link TagCompound}, so it can be written and read like any other tag. Each container that
+ * changed is described by a compound that may hold:
+ * <ul>
+ * <li><code>remove</code> - a list of the names of removed children</li>
+ * <li><code>add</code> - a compound of new children</li>
+ * <li><code>set</code> - a compound of children whose value or type changed, keyed by name or list index</li>
+ * <li><code>patch</code> - a compound of nested deltas for changed containers and array range patches, keyed by name
+ * or list index</li>
+ * <li><code>size</code> - the new size of a list; elements beyond it are removed and <code>add</code> appends</li>
+ * </ul>
+ * An array range patch replaces <code>values</code> starting at <code>offset</code> and is used when the array length
+ * is unchanged and only part of it differs.
+ * <p>
+ * Lists are matched element by element by index. When list key fields are given and every element of a list of
+ * compounds has one of them, elements are matched by that key instead: the delta then names the <code>key</code> and
+ * lists removed elements and element deltas as compounds holding the element's <code>key</code> value. Keyed matching
+ * is only used when it preserves element order, ie. when surviving elements keep their relative order and new elements
+ * are appended; otherwise the list is matched by index.
+ *
+ * @author Jason Taylor
+ */
+public class TagDiff {
+
+  private static final String NAME = "name";
+  private static final String REMOVE = "remove";
+  private static final String ADD = "add";
+  private static final String SET = "set";
+  private static final String PATCH = "patch";
+  private static final String SIZE = "size";
+  private static final String KEY = "key";
+  private static final String DELTA = "delta";
+  private static final String OFFSET = "offset";
+  private static final String VALUES = "values";
+
+  private static final Map<Class<? extends Tag>, ArrayAccess<? extends Tag, ?>> ARRAYS = new HashMap<>();
+
+  // the type arguments are explicit as the array tags overload get and set
+  static {
+    TagDiff.<TagByteArray, byte[]>register(
+        TagByteArray.class, TagByteArray::get, TagByteArray::set, TagByteArray::new
+    );
+    TagDiff.<TagIntArray, int[]>register(
+        TagIntArray.class, TagIntArray::get, TagIntArray::set, TagIntArray::new
+    );
+    TagDiff.<TagBooleanArray, boolean[]>register(
+        TagBooleanArray.class, TagBooleanArray::get, TagBooleanArray::set, TagBooleanArray::new
+    );
+    TagDiff.<TagDoubleArray, double[]>register(
+        TagDoubleArray.class, TagDoubleArray::get, TagDoubleArray::set, TagDoubleArray::new
+    );
+    TagDiff.<TagFloatArray, float[]>register(
+        TagFloatArray.class, TagFloatArray::get, TagFloatArray::set, TagFloatArray::new
+    );
+    TagDiff.<TagLongArray, long[]>register(
+        TagLongArray.class, TagLongArray::get, TagLongArray::set, TagLongArray::new
+    );
+    TagDiff.<TagShortArray, short[]>register(
+        TagShortArray.class, TagShortArray::get, TagShortArray::set, TagShortArray::new
+    );
+    TagDiff.<TagStringArray, String[]>register(
+        TagStringArray.class, TagStringArray::get, TagStringArray::set, TagStringArray::new
+    );
+  }
+
+  private final String[] listKeys;
+
+  /**
+   * Creates a new {@link TagDiff} that matches list elements by index, or by the first of the key fields given that
+   * every element of a list of compounds has.
+   *
+   * @param newListKeys names of the key fields used to match elements of lists of compounds
+   */
+  public TagDiff(final String... newListKeys) {
+    listKeys = (newListKeys == null) ? new String[0] : newListKeys.clone();
+  }
+
+  /**
+   * Returns a delta that turns a copy of <code>before</code> into a copy of <code>after</code> when applied with
+   * {@link #apply(TagCompound, TagCompound)}. Neither compound is modified and the delta shares no tags with them.
+   *
+   * @param before the old state
+   * @param after  the new state
+   * @return the delta; an empty compound if the compounds are equal
+   */
+  public TagCompound diff(final TagCompound before, final TagCompound after) {
+    if (before == null || after == null) {
+      throw new AxionInvalidTagException("Can't diff null compounds");
+    }
+    TagCompound delta = diffCompound(before, after);
+    if (!before.getName().equals(after.getName())) {
+      delta.put(new TagString(NAME, after.getName()));
+    }
+    return delta;
+  }
+
+  /**
+   * Applies a delta created by {@link #diff(TagCompound, TagCompound)} to the compound given, in place. The delta is
+   * not modified and can be applied again.
+   *
+   * @param delta  the delta to apply
+   * @param target the compound to modify
+   * @return the compound given
+   * @throws AxionInvalidTagException if the delta doesn't fit the compound given
+   */
+  public TagCompound apply(final TagCompound delta, final TagCompound target) throws AxionInvalidTagException {
+    if (delta == null || target == null) {
+      throw new AxionInvalidTagException("Can't apply null delta or apply a delta to a null compound");
+    }
+    applyCompound(delta, target);
+    TagString name = delta.get(NAME);
+    if (name != null) {
+      target.setName(name.get());
+    }
+    return target;
+  }
+
+  private TagCompound diffCompound(final TagCompound before, final TagCompound after) {
+    TagList remove = new TagList(TagString.class);
+    TagCompound add = new TagCompound();
+    TagCompound set = new TagCompound();
+    TagCompound patch = new TagCompound();
+    for (Tag tag : before) {
+      if (!after.containsKey(tag.getName())) {
+        remove.add(new TagString(null, tag.getName()));
+      }
+    }
+    for (Tag tag : after) {
+      Tag old = before.get(tag.getName());
+      if (old == null) {
+        add.put(tag.clone());
+      } else {
+        diffChild(tag.getName(), old, tag, set, patch);
+      }
+    }
+    TagCompound delta = new TagCompound();
+    putIfNotEmpty(delta, REMOVE, remove);
+    putIfNotEmpty(delta, ADD, add);
+    putIfNotEmpty(delta, SET, set);
+    putIfNotEmpty(delta, PATCH, patch);
+    return delta;
+  }
+
+  private void diffChild(
+      final String name,
+      final Tag before,
+      final Tag after,
+      final TagCompound set,
+      final TagCompound patch
+  ) {
+    if (before.getClass() != after.getClass()) {
+      set.put(name, after.clone());
+
+    } else if (after instanceof ContainerTag) {
+      // cached structural hashes make unchanged subtrees cheap to skip
+      if (before.hashCode() == after.hashCode() && before.equals(after)) {
+        return;
+      }
+      if (after instanceof TagCompound) {
+        putIfNotEmpty(patch, name, diffCompound((TagCompound) before, (TagCompound) after));
+      } else if (after instanceof TagList && ((TagList) before).getType() == ((TagList) after).getType()) {
+        putIfNotEmpty(patch, name, diffList((TagList) before, (TagList) after));
+      } else {
+        set.put(name, after.clone());
+      }
+
+    } else if (!before.equals(after)) {
+      TagCompound range = ARRAYS.containsKey(after.getClass()) ? diffArray(before, after) : null;
+      if (range == null) {
+        set.put(name, after.clone());
+      } else {
+        patch.put(name, range);
+      }
+    }
+  }
+
+  private TagCompound diffList(final TagList before, final TagList after) {
+    String key = findListKey(before, after);
+    if (key != null) {
+      TagCompound delta = diffKeyedList(before, after, key);
+      if (delta != null) {
+        return delta;
+      }
+    }
+    TagCompound set = new TagCompound();
+    TagCompound patch = new TagCompound();
+    int common = Math.min(before.size(), after.size());
+    for (int i = 0; i < common; i++) {
+      diffChild(String.valueOf(i), before.get(i), after.get(i), set, patch);
+    }
+    TagCompound delta = new TagCompound();
+    putIfNotEmpty(delta, SET, set);
+    putIfNotEmpty(delta, PATCH, patch);
+    if (before.size() != after.size()) {
+      delta.put(new TagInt(SIZE, after.size()));
+    }
+    if (after.size() > before.size()) {
+      TagList add = new TagList(after.getType(), ADD, after.size() - before.size());
+      for (int i = before.size(); i < after.size(); i++) {
+        add.add(after.get(i).clone());
+      }
+      delta.put(add);
+    }
+    return delta;
+  }
+
+  private TagCompound diffKeyedList(final TagList before, final TagList after, final String key) {
+    Map<Tag, Integer> beforeIndex = new HashMap<>(before.size() * 2);
+    for (int i = 0; i < before.size(); i++) {
+      if (beforeIndex.put(before.<TagCompound>get(i).get(key), i) != null) {
+        return null;
+      }
+    }
+    TagList remove = new TagList(TagCompound.class);
+    TagList add = new TagList(TagCompound.class);
+    TagList patch = new TagList(TagCompound.class);
+    Map<Tag, Boolean> seen = new HashMap<>(after.size() * 2);
+    int lastIndex = -1;
+    for (Tag tag : after) {
+      TagCompound element = (TagCompound) tag;
+      Tag elementKey = element.get(key);
+      if (seen.put(elementKey, Boolean.TRUE) != null) {
+        return null;
+      }
+      Integer index = beforeIndex.get(elementKey);
+      if (index == null) {
+        add.add(element.clone());
+      } else if (index < lastIndex || add.size() > 0) {
+        // matching by key would reorder the list
+        return null;
+      } else {
+        lastIndex = index;
+        TagCompound old = before.get(index);
+        if (old.hashCode() != element.hashCode() || !old.equals(element)) {
+          TagCompound delta = diffCompound(old, element);
+          if (delta.size() > 0) {
+            TagCompound entry = new TagCompound();
+            entry.put(KEY, elementKey.clone());
+            entry.put(DELTA, delta);
+            patch.add(entry);
+          }
+        }
+      }
+    }
+    for (Tag tag : before) {
+      Tag elementKey = ((TagCompound) tag).get(key);
+      if (!seen.containsKey(elementKey)) {
+        TagCompound entry = new TagCompound();
+        entry.put(KEY, elementKey.clone());
+        remove.add(entry);
+      }
+    }
+    TagCompound delta = new TagCompound();
+    delta.put(new TagString(KEY, key));
+    putIfNotEmpty(delta, REMOVE, remove);
+    putIfNotEmpty(delta, ADD, add);
+    putIfNotEmpty(delta, PATCH, patch);
+    return delta;
+  }
+
+  private String findListKey(final TagList before, final TagList after) {
+    if (listKeys.length == 0 || after.getType() != TagCompound.class) {
+      return null;
+    }
+    for (String key : listKeys) {
+      if (allHaveKey(before, key) && allHaveKey(after, key)) {
+        return key;
+      }
+    }
+    return null;
+  }
+
+  private static boolean allHaveKey(final TagList list, final String key) {
+    for (Tag tag : list) {
+      if (!((TagCompound) tag).containsKey(key)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static TagCompound diffArray(final Tag before, final Tag after) {
+    ArrayAccess<Tag, Object> access = (ArrayAccess<Tag, Object>) ARRAYS.get(after.getClass());
+    Object oldData = access.getter.apply(before);
+    Object newData = access.getter.apply(after);
+    int length = Array.getLength(newData);
+    if (Array.getLength(oldData) != length) {
+      return null;
+    }
+    int first = 0;
+    while (first < length && elementEquals(oldData, newData, first)) {
+      first++;
+    }
+    int last = length - 1;
+    while (last > first && elementEquals(oldData, newData, last)) {
+      last--;
+    }
+    int count = last - first + 1;
+    if (first >= length || count == length) {
+      return null;
+    }
+    Object values = Array.newInstance(newData.getClass().getComponentType(), count);
+    System.arraycopy(newData, first, values, 0, count);
+    TagCompound range = new TagCompound();
+    range.put(new TagInt(OFFSET, first));
+    range.put(access.factory.apply(VALUES, values));
+    return range;
+  }
+
+  private static boolean elementEquals(final Object a, final Object b, final int i) {
+    if (a instanceof byte[]) {
+      return ((byte[]) a)[i] == ((byte[]) b)[i];
+    } else if (a instanceof int[]) {
+      return ((int[]) a)[i] == ((int[]) b)[i];
+    } else if (a instanceof long[]) {
+      return ((long[]) a)[i] == ((long[]) b)[i];
+    } else if (a instanceof short[]) {
+      return ((short[]) a)[i] == ((short[]) b)[i];
+    } else if (a instanceof boolean[]) {
+      return ((boolean[]) a)[i] == ((boolean[]) b)[i];
+    } else if (a instanceof float[]) {
+      return Float.floatToIntBits(((float[]) a)[i]) == Float.floatToIntBits(((float[]) b)[i]);
+    } else if (a instanceof double[]) {
+      return Double.doubleToLongBits(((double[]) a)[i]) == Double.doubleToLongBits(((double[]) b)[i]);
+    } else {
+      return Objects.equals(((Object[]) a)[i], ((Object[]) b)[i]);
+    }
+  }
+
+  private void applyCompound(final TagCompound delta, final TagCompound target) {
+    TagList remove = delta.get(REMOVE);
+    if (remove != null) {
+      for (Tag name : remove) {
+        target.remove(((TagString) name).get());
+      }
+    }
+    putAll(delta.get(ADD), target);
+    putAll(delta.get(SET), target);
+    TagCompound patch = delta.get(PATCH);
+    if (patch != null) {
+      for (Tag child : patch) {
+        Tag tag = target.get(child.getName());
+        if (tag == null) {
+          throw new AxionInvalidTagException("Can't patch missing tag [" + child.getName() + "] of " + target);
+        }
+        applyPatch(child, tag);
+      }
+    }
+  }
+
+  private void applyList(final TagCompound delta, final TagList target) {
+    TagString key = delta.get(KEY);
+    if (key != null) {
+      applyKeyedList(delta, target, key.get());
+      return;
+    }
+    TagCompound set = delta.get(SET);
+    if (set != null) {
+      for (Tag child : set) {
+        target.set(indexOf(child, target), child.clone());
+      }
+    }
+    TagCompound patch = delta.get(PATCH);
+    if (patch != null) {
+      for (Tag child : patch) {
+        applyPatch(child, target.get(indexOf(child, target)));
+      }
+    }
+    TagInt size = delta.get(SIZE);
+    if (size != null) {
+      while (target.size() > size.get()) {
+        target.remove(target.size() - 1);
+      }
+    }
+    TagList add = delta.get(ADD);
+    if (add != null) {
+      for (Tag child : add) {
+        target.add(child.clone());
+      }
+    }
+  }
+
+  private void applyKeyedList(final TagCompound delta, final TagList target, final String key) {
+    Map<Tag, TagCompound> elements = new HashMap<>(target.size() * 2);
+    for (Tag tag : target) {
+      elements.put(((TagCompound) tag).get(key), (TagCompound) tag);
+    }
+    TagList remove = delta.get(REMOVE);
+    if (remove != null) {
+      for (Tag entry : remove) {
+        TagCompound element = elements.remove(keyOf((TagCompound) entry, key));
+        if (element != null) {
+          element.removeFromParent();
+        }
+      }
+    }
+    TagList patch = delta.get(PATCH);
+    if (patch != null) {
+      for (Tag entry : patch) {
+        Tag elementKey = keyOf((TagCompound) entry, key);
+        TagCompound element = elements.get(elementKey);
+        if (element == null) {
+          throw new AxionInvalidTagException("Can't patch missing element [" + elementKey + "] of " + target);
+        }
+        applyCompound(((TagCompound) entry).get(DELTA), element);
+      }
+    }
+    TagList add = delta.get(ADD);
+    if (add != null) {
+      for (Tag child : add) {
+        target.add(child.clone());
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void applyPatch(final Tag patch, final Tag target) {
+    if (target instanceof TagCompound) {
+      applyCompound((TagCompound) patch, (TagCompound) target);
+    } else if (target instanceof TagList) {
+      applyList((TagCompound) patch, (TagList) target);
+    } else if (ARRAYS.containsKey(target.getClass())) {
+      ArrayAccess<Tag, Object> access = (ArrayAccess<Tag, Object>) ARRAYS.get(target.getClass());
+      TagCompound range = (TagCompound) patch;
+      Object values = access.getter.apply(range.get(VALUES));
+      Object data = access.getter.apply(target);
+      System.arraycopy(values, 0, data, range.<TagInt>get(OFFSET).get(), Array.getLength(values));
+      access.setter.accept(target, data);
+    } else {
+      throw new AxionInvalidTagException("Can't patch " + target);
+    }
+  }
+
+  private static void putAll(final TagCompound source, final TagCompound target) {
+    if (source != null) {
+      for (Tag child : source) {
+        target.put(child.clone());
+      }
+    }
+  }
+
+  private static void putIfNotEmpty(final TagCompound delta, final String name, final ContainerTag tag) {
+    if (tag.size() > 0) {
+      delta.put(name, tag);
+    }
+  }
+
+  private static Tag keyOf(final TagCompound entry, final String key) {
+    return entry.get(KEY).clone().setName(key);
+  }
+
+  private static int indexOf(final Tag child, final TagList target) {
+    try {
+      return Integer.parseInt(child.getName());
+    } catch (NumberFormatException e) {
+      throw new AxionInvalidTagException("Invalid list index [" + child.getName() + "] for " + target, e);
+    }
+  }
+
+  private static <T extends Tag, A> void register(
+      final Class<T> tagClass,
+      final Function<T, A> getter,
+      final BiConsumer<T, A> setter,
+      final BiFunction<String, A, T> factory
+  ) {
+    ARRAYS.put(tagClass, new ArrayAccess<>(getter, setter, factory));
+  }
+
+  private static class ArrayAccess<T extends Tag, A> {
+    private final Function<T, A> getter;
+    private final BiConsumer<T, A> setter;
+    private final BiFunction<String, A, T> factory;
+
+    private ArrayAccess(
+        final Function<T, A> newGetter,
+        final BiConsumer<T, A> newSetter,
+        final BiFunction<String, A, T> newFactory
+    ) {
+      getter = newGetter;
+      setter = newSetter;
+      factory = newFactory;
+    }
+  }
+
+}
@@ -32,8 +32,19 @@ public class TagBooleanAdapter extends TagAdapter<TagBoolean> {
   @Override
   public TagBoolean read(final Tag parent, final AxionInputStream in) throws IOException {
     LOG.trace("Entering read(parent=[{}], in=[{}])", parent, in);
-    TagBoolean result = new TagBoolean((parent instanceof TagList) ? null : in.readString(), in.readBoolean());
+    String name = (parent instanceof TagList) ? null : in.readString();
+    TagBoolean result = recycle(TagBoolean.class, name, in);
+    if (result == null) {
+      result = new TagBoolean(name, in.readBoolean());
+    } else {
+      result.set(in.readBoolean());
+    }
     LOG.trace("Leaving read(): [{}]", result);
     return result;
   }
+
+  @Override
+  public void skipPayload(final AxionInputStream in) throws IOException {
+    in.skipFully(1);
+  }
 }
@@ -29,15 +29,27 @@ public class TagBooleanArrayAdapter extends TagAdapter<TagBooleanArray> {
   public TagBooleanArray read(Tag parent, AxionInputStream in) throws IOException {
     LOG.trace("Entering read(parent=[{}], in=[{}])", parent, in);
     String name = (parent instanceof TagList) ? null : in.readString();
-    int boolLen = in.readInt();
-    int byteLen = (boolLen + 7) / 8;
+    int boolLen = in.readArrayLength(1);
+    int byteLen = (int) ((boolLen + 7L) / 8);
+    in.allocate(byteLen);
     byte[] bytes = new byte[byteLen];
     in.readFully(bytes);
-    boolean[] bool = new boolean[boolLen];
-    for (int i = 0; i < boolLen; i++) {
-      bool[i] = (bytes[bytes.length - i / 8 - 1] & POW[i % 8]) != 0;
+    TagBooleanArray result = recycle(TagBooleanArray.class, name, in);
+    if (result != null && result.size() == boolLen) {
+      for (int i = 0; i < boolLen; i++) {
+        result.set(i, (bytes[bytes.length - i / 8 - 1] & POW[i % 8]) != 0);
+      }
+    } else {
+      boolean[] bool = new boolean[boolLen];
+      for (int i = 0; i < boolLen; i++) {
+        bool[i] = (bytes[bytes.length - i / 8 - 1] & POW[i % 8]) != 0;
+      }
+      if (result == null) {
+        result = new TagBooleanArray(name, bool);
+      } else {
+        result.set(bool);
+      }
     }
-    TagBooleanArray result = new TagBooleanArray(name, bool);
     LOG.trace("Leaving read(): [{}]", result);
     return result;
   }
@@ -57,4 +69,11 @@ public class TagBooleanArrayAdapter extends TagAdapter<TagBooleanArray> {
     out.write(bytes);
     LOG.trace("Leaving write()");
   }
+
+  @Override
+  public void skipPayload(final AxionInputStream in) throws IOException {
+    int byteLen = (int) ((in.readArrayLength(1) + 7L) / 8);
+    in.allocate(byteLen);
+    in.skipFully(byteLen);
+  }
 }
@@ -26,12 +26,23 @@ public class TagDoubleArrayAdapter extends TagAdapter<TagDoubleArray> {
   public TagDoubleArray read(Tag parent, AxionInputStream in) throws IOException {
     LOG.trace("Entering read(parent=[{}], in=[{}])", parent, in);
     String name = (parent instanceof TagList) ? null : in.readString();
-    int len = in.readInt();
-    double[] data = new double[len];
-    for (int i = 0; i < len; i++) {
-      data[i] = in.readDouble();
+    int len = in.readArrayLength(8);
+    TagDoubleArray result = recycle(TagDoubleArray.class, name, in);
+    if (result != null && result.size() == len) {
+      for (int i = 0; i < len; i++) {
+        result.set(i, in.readDouble());
+      }
+    } else {
+      double[] data = new double[len];
+      for (int i = 0; i < len; i++) {
+        data[i] = in.readDouble();
+      }
+      if (result == null) {
+        result = new TagDoubleArray(name, data);
+      } else {
+        result.set(data);
+      }
     }
-    TagDoubleArray result = new TagDoubleArray(name, data);
     LOG.trace("Leaving read(): [{}]", result);
     return result;
   }
@@ -48,4 +59,9 @@ public class TagDoubleArrayAdapter extends TagAdapter<TagDoubleArray> {
     LOG.trace("Leaving write()");
   }
 
+  @Override
+  public void skipPayload(final AxionInputStream in) throws IOException {
+    in.skipFully((long) in.readArrayLength(8) * 8);
+  }
+
 }
@@ -26,12 +26,23 @@ public class TagFloatArrayAdapter extends TagAdapter<TagFloatArray> {
   public TagFloatArray read(Tag parent, AxionInputStream in) throws IOException {
     LOG.trace("Entering read(parent=[{}], in=[{}])", parent, in);
     String name = (parent instanceof TagList) ? null : in.readString();
-    int len = in.readInt();
-    float[] data = new float[len];
-    for (int i = 0; i < len; i++) {
-      data[i] = in.readFloat();
+    int len = in.readArrayLength(4);
+    TagFloatArray result = recycle(TagFloatArray.class, name, in);
+    if (result != null && result.size() == len) {
+      for (int i = 0; i < len; i++) {
+        result.set(i, in.readFloat());
+      }
+    } else {
+      float[] data = new float[len];
+      for (int i = 0; i < len; i++) {
+        data[i] = in.readFloat();
+      }
+      if (result == null) {
+        result = new TagFloatArray(name, data);
+      } else {
+        result.set(data);
+      }
     }
-    TagFloatArray result = new TagFloatArray(name, data);
     LOG.trace("Leaving read(): [{}]", result);
     return result;
   }
@@ -48,4 +59,9 @@ public class TagFloatArrayAdapter extends TagAdapter<TagFloatArray> {
     LOG.trace("Leaving write()");
   }
 
+  @Override
+  public void skipPayload(final AxionInputStream in) throws IOException {
+    in.skipFully((long) in.readArrayLength(4) * 4);
+  }
+
 }
@@ -26,12 +26,23 @@ public class TagLongArrayAdapter extends TagAdapter<TagLongArray> {
   public TagLongArray read(Tag parent, AxionInputStream in) throws IOException {
     LOG.trace("Entering read(parent=[{}], in=[{}])", parent, in);
     String name = (parent instanceof TagList) ? null : in.readString();
-    int len = in.readInt();
-    long[] data = new long[len];
-    for (int i = 0; i < len; i++) {
-      data[i] = in.readLong();
+    int len = in.readArrayLength(8);
+    TagLongArray result = recycle(TagLongArray.class, name, in);
+    if (result != null && result.size() == len) {
+      for (int i = 0; i < len; i++) {
+        result.set(i, in.readLong());
+      }
+    } else {
+      long[] data = new long[len];
+      for (int i = 0; i < len; i++) {
+        data[i] = in.readLong();
+      }
+      if (result == null) {
+        result = new TagLongArray(name, data);
+      } else {
+        result.set(data);
+      }
     }
-    TagLongArray result = new TagLongArray(name, data);
     LOG.trace("Leaving read(): [{}]", result);
     return result;
   }
@@ -48,4 +59,9 @@ public class TagLongArrayAdapter extends TagAdapter<TagLongArray> {
     LOG.trace("Leaving write()");
   }
 
+  @Override
+  public void skipPayload(final AxionInputStream in) throws IOException {
+    in.skipFully((long) in.readArrayLength(8) * 8);
+  }
+
 }
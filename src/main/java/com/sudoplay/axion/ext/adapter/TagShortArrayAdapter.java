@@ -26,12 +26,23 @@ public class TagShortArrayAdapter extends TagAdapter<TagShortArray> {
   public TagShortArray read(Tag parent, AxionInputStream in) throws IOException {
     LOG.trace("Entering read(parent=[{}], in=[{}])", parent, in);
     String name = (parent instanceof TagList) ? null : in.readString();
-    int len = in.readInt();
-    short[] data = new short[len];
-    for (int i = 0; i < len; i++) {
-      data[i] = in.readShort();
+    int len = in.readArrayLength(2);
+    TagShortArray result = recycle(TagShortArray.class, name, in);
+    if (result != null && result.size() == len) {
+      for (int i = 0; i < len; i++) {
+        result.set(i, in.readShort());
+      }
+    } else {
+      short[] data = new short[len];
+      for (int i = 0; i < len; i++) {
+        data[i] = in.readShort();
+      }
+      if (result == null) {
+        result = new TagShortArray(name, data);
+      } else {
+        result.set(data);
+      }
     }
-    TagShortArray result = new TagShortArray(name, data);
     LOG.trace("Leaving read(): [{}]", result);
     return result;
   }
@@ -48,4 +59,9 @@ public class TagShortArrayAdapter extends TagAdapter<TagShortArray> {
     LOG.trace("Leaving write()");
   }
 
+  @Override
+  public void skipPayload(final AxionInputStream in) throws IOException {
+    in.skipFully((long) in.readArrayLength(2) * 2);
+  }
+
 }
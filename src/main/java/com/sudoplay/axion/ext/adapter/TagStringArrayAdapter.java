@@ -6,6 +6,7 @@ import com.sudoplay.axion.spec.tag.TagList;
 import com.sudoplay.axion.stream.AxionInputStream;
 import com.sudoplay.axion.stream.AxionOutputStream;
 import com.sudoplay.axion.tag.Tag;
+import com.sudoplay.axion.util.MemoryEstimates;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -26,12 +27,23 @@ public class TagStringArrayAdapter extends TagAdapter<TagStringArray> {
   public TagStringArray read(final Tag parent, final AxionInputStream in) throws IOException {
     LOG.trace("Entering read(parent=[{}], in=[{}])", parent, in);
     String name = (parent instanceof TagList) ? null : in.readString();
-    int len = in.readInt();
-    String[] data = new String[len];
-    for (int i = 0; i < len; i++) {
-      data[i] = in.readString();
+    int len = in.readArrayLength(MemoryEstimates.REFERENCE_SIZE);
+    TagStringArray result = recycle(TagStringArray.class, name, in);
+    if (result != null && result.size() == len) {
+      for (int i = 0; i < len; i++) {
+        result.set(i, in.readString());
+      }
+    } else {
+      String[] data = new String[len];
+      for (int i = 0; i < len; i++) {
+        data[i] = in.readString();
+      }
+      if (result == null) {
+        result = new TagStringArray(name, data);
+      } else {
+        result.set(data);
+      }
     }
-    TagStringArray result = new TagStringArray(name, data);
     LOG.trace("Leaving read(): [{}]", result);
     return result;
   }
@@ -48,4 +60,12 @@ public class TagStringArrayAdapter extends TagAdapter<TagStringArray> {
     LOG.trace("Leaving write()");
   }
 
+  @Override
+  public void skipPayload(final AxionInputStream in) throws IOException {
+    int len = in.readArrayLength(MemoryEstimates.REFERENCE_SIZE);
+    for (int i = 0; i < len; i++) {
+      in.skipString();
+    }
+  }
+
 }
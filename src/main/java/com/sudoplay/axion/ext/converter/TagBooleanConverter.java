@@ -1,6 +1,7 @@
 package com.sudoplay.axion.ext.converter;
 
 import com.sudoplay.axion.ext.tag.TagBoolean;
+import com.sudoplay.axion.registry.PrimitiveTypeConverter;
 import com.sudoplay.axion.registry.TypeConverter;
 
 /**
@@ -10,7 +11,8 @@ import com.sudoplay.axion.registry.TypeConverter;
  *
  * @author Jason Taylor
  */
-public class TagBooleanConverter extends TypeConverter<TagBoolean, Boolean> {
+public class TagBooleanConverter extends TypeConverter<TagBoolean, Boolean> implements
+    PrimitiveTypeConverter.OfBoolean<TagBoolean> {
 
   @Override
   public Boolean convert(final TagBoolean tag) {
@@ -22,4 +24,14 @@ public class TagBooleanConverter extends TypeConverter<TagBoolean, Boolean> {
     return new TagBoolean(name, value);
   }
 
+  @Override
+  public TagBoolean convert(final String name, final boolean value) {
+    return new TagBoolean(name, value);
+  }
+
+  @Override
+  public boolean convertBoolean(final TagBoolean tag) {
+    return tag.get();
+  }
+
 }
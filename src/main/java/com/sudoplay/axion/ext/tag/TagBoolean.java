@@ -48,6 +48,7 @@ public class TagBoolean extends Tag {
    */
   public void set(final boolean newBoolean) {
     data = newBoolean;
+    onChange();
   }
 
   /**
@@ -79,6 +80,16 @@ public class TagBoolean extends Tag {
     return data == other.data;
   }
 
+  @Override
+  public long estimatePayloadSize() {
+    return 1;
+  }
+
+  @Override
+  protected int estimateFieldSize() {
+    return super.estimateFieldSize() + 1;
+  }
+
   @Override
   public String toString() {
     return super.toString() + ": " + data;
@@ -1,6 +1,7 @@
 package com.sudoplay.axion.ext.tag;
 
 import com.sudoplay.axion.tag.Tag;
+import com.sudoplay.axion.util.MemoryEstimates;
 
 import java.util.Arrays;
 
@@ -53,6 +54,7 @@ public class TagFloatArray extends Tag {
       throw new IllegalArgumentException(this.toString() + " doesn't support null payload");
     }
     data = newFloatArray.clone();
+    onChange();
   }
 
   /**
@@ -64,6 +66,36 @@ public class TagFloatArray extends Tag {
     return data.clone();
   }
 
+  /**
+   * Returns the number of elements in this {@link TagFloatArray}.
+   *
+   * @return the number of elements in this {@link TagFloatArray}
+   */
+  public int size() {
+    return data.length;
+  }
+
+  /**
+   * Returns the element at the index given.
+   *
+   * @param index the index of the element
+   * @return the element at the index given
+   */
+  public float get(final int index) {
+    return data[index];
+  }
+
+  /**
+   * Sets the element at the index given in place, without copying the backing array.
+   *
+   * @param index the index of the element
+   * @param value the new element value
+   */
+  public void set(final int index, final float value) {
+    data[index] = value;
+    onChange();
+  }
+
   @Override
   public int hashCode() {
     final int prime = 31;
@@ -84,6 +116,21 @@ public class TagFloatArray extends Tag {
     return Arrays.equals(data, other.data);
   }
 
+  @Override
+  public long estimateSelfSize() {
+    return super.estimateSelfSize() + MemoryEstimates.arraySize(data.length, Float.BYTES);
+  }
+
+  @Override
+  public long estimatePayloadSize() {
+    return (long) data.length * Float.BYTES;
+  }
+
+  @Override
+  protected int estimateFieldSize() {
+    return super.estimateFieldSize() + MemoryEstimates.REFERENCE_SIZE;
+  }
+
   @Override
   public String toString() {
     return super.toString() + ": [" + data.length + " floats]";
@@ -1,6 +1,7 @@
 package com.sudoplay.axion.ext.tag;
 
 import com.sudoplay.axion.tag.Tag;
+import com.sudoplay.axion.util.MemoryEstimates;
 
 import java.util.Arrays;
 
@@ -53,6 +54,7 @@ public class TagStringArray extends Tag {
       throw new IllegalArgumentException(this.toString() + " doesn't support null payload");
     }
     data = newStringArray.clone();
+    onChange();
   }
 
   /**
@@ -64,6 +66,36 @@ public class TagStringArray extends Tag {
     return data.clone();
   }
 
+  /**
+   * Returns the number of elements in this {@link TagStringArray}.
+   *
+   * @return the number of elements in this {@link TagStringArray}
+   */
+  public int size() {
+    return data.length;
+  }
+
+  /**
+   * Returns the element at the index given.
+   *
+   * @param index the index of the element
+   * @return the element at the index given
+   */
+  public String get(final int index) {
+    return data[index];
+  }
+
+  /**
+   * Sets the element at the index given in place, without copying the backing array.
+   *
+   * @param index the index of the element
+   * @param value the new element value
+   */
+  public void set(final int index, final String value) {
+    data[index] = value;
+    onChange();
+  }
+
   @Override
   public int hashCode() {
     final int prime = 31;
@@ -84,6 +116,29 @@ public class TagStringArray extends Tag {
     return Arrays.equals(data, other.data);
   }
 
+  @Override
+  public long estimateSelfSize() {
+    long size = super.estimateSelfSize() + MemoryEstimates.arraySize(data.length, MemoryEstimates.REFERENCE_SIZE);
+    for (String string : data) {
+      size += MemoryEstimates.stringSize(string);
+    }
+    return size;
+  }
+
+  @Override
+  public long estimatePayloadSize() {
+    long size = 0;
+    for (String string : data) {
+      size += (string == null) ? 0 : (long) string.length() * Character.BYTES;
+    }
+    return size;
+  }
+
+  @Override
+  protected int estimateFieldSize() {
+    return super.estimateFieldSize() + MemoryEstimates.REFERENCE_SIZE;
+  }
+
   @Override
   public String toString() {
     return super.toString() + ": [" + data.length + " strings]";
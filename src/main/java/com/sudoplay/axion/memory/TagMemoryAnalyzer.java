@@ -0,0 +1,299 @@
+package com.sudoplay.axion.memory;
+
+import com.sudoplay.axion.ext.tag.*;
+import com.sudoplay.axion.memory.TagMemoryReport.DuplicateString;
+import com.sudoplay.axion.memory.TagMemoryReport.DuplicateSubtree;
+import com.sudoplay.axion.memory.TagMemoryReport.Stats;
+import com.sudoplay.axion.spec.tag.TagByteArray;
+import com.sudoplay.axion.spec.tag.TagIntArray;
+import com.sudoplay.axion.spec.tag.TagList;
+import com.sudoplay.axion.spec.tag.TagString;
+import com.sudoplay.axion.tag.ContainerTag;
+import com.sudoplay.axion.tag.Tag;
+import com.sudoplay.axion.util.MemoryEstimates;
+
+import java.util.*;
+
+/**
+ * Estimates the heap usage of a {@link Tag} tree and reports where it goes.
+ * <p>
+ * A single pass over the tree produces a {@link TagMemoryReport} with:
+ * <ul>
+ * <li>a histogram by tag class and a histogram by path prefix, each with the number of tags, the bytes of value data
+ * and the estimated object overhead</li>
+ * <li>the strings held more than once as tag names or string values, with the bytes that sharing one instance of each
+ * would save</li>
+ * <li>the containers and arrays that occur more than once with equal names and contents, with the bytes that holding
+ * each once would save</li>
+ * </ul>
+ * Paths use the syntax of {@link com.sudoplay.axion.path.TagPath}, with <code>[*]</code> for the elements of a list,
+ * so that all elements of a list are counted together. The tree must not be modified while it is analyzed.
+ *
+ * @author Jason Taylor
+ */
+public class TagMemoryAnalyzer {
+
+  public static final int DEFAULT_PATH_DEPTH = 2;
+  public static final int DEFAULT_MAX_DUPLICATES = 20;
+
+  private int pathDepth = DEFAULT_PATH_DEPTH;
+  private int maxDuplicates = DEFAULT_MAX_DUPLICATES;
+
+  /**
+   * Sets the number of path segments that tags are grouped by in the path histogram.
+   *
+   * @param newPathDepth the number of path segments
+   * @return this {@link TagMemoryAnalyzer}
+   */
+  public TagMemoryAnalyzer setPathDepth(final int newPathDepth) {
+    if (newPathDepth < 0) {
+      throw new IllegalArgumentException("Path depth can't be negative: " + newPathDepth);
+    }
+    pathDepth = newPathDepth;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of duplicate strings and duplicate subtrees reported.
+   *
+   * @param newMaxDuplicates the maximum number of duplicates of each kind
+   * @return this {@link TagMemoryAnalyzer}
+   */
+  public TagMemoryAnalyzer setMaxDuplicates(final int newMaxDuplicates) {
+    if (newMaxDuplicates < 0) {
+      throw new IllegalArgumentException("Max duplicates can't be negative: " + newMaxDuplicates);
+    }
+    maxDuplicates = newMaxDuplicates;
+    return this;
+  }
+
+  /**
+   * Analyzes the tree below the {@link Tag} given.
+   *
+   * @param root the root of the tree
+   * @return the report
+   */
+  public TagMemoryReport analyze(final Tag root) {
+    if (root == null) {
+      throw new IllegalArgumentException("Can't analyze a null tag");
+    }
+    Stats total = new Stats();
+    Map<Class<? extends Tag>, Stats> byType = new HashMap<>();
+    Map<String, Stats> byPath = new HashMap<>();
+    Map<String, StringCount> strings = new HashMap<>();
+    Map<Tag, SubtreeCount> subtrees = new HashMap<>();
+
+    Deque<Frame> stack = new ArrayDeque<>();
+    stack.push(new Frame(root, "", 0, false));
+    while (!stack.isEmpty()) {
+      Frame frame = stack.pop();
+      Tag tag = frame.tag;
+      long size = tag.estimateSelfSize();
+      long payloadSize = tag.estimatePayloadSize();
+      total.add(size, payloadSize);
+      byType.computeIfAbsent(tag.getClass(), key -> new Stats()).add(size, payloadSize);
+      byPath.computeIfAbsent(frame.path, key -> new Stats()).add(size, payloadSize);
+
+      countString(strings, tag.getName());
+      if (tag instanceof TagString) {
+        countString(strings, ((TagString) tag).get());
+      } else if (tag instanceof TagStringArray) {
+        TagStringArray array = (TagStringArray) tag;
+        for (int i = 0; i < array.size(); i++) {
+          countString(strings, array.get(i));
+        }
+      }
+
+      boolean duplicate = frame.duplicate;
+      if (!duplicate && isSubtreeCandidate(tag)) {
+        SubtreeCount count = subtrees.get(tag);
+        if (count == null) {
+          subtrees.put(tag, new SubtreeCount(tag));
+        } else {
+          count.occurrences++;
+          duplicate = true;
+        }
+      }
+
+      if (tag instanceof ContainerTag) {
+        // list elements extend their list's path segment; compound children start a new one
+        boolean list = tag instanceof TagList;
+        int depth = list ? frame.depth : frame.depth + 1;
+        String elementPath = (pathDepth > 0 && depth <= pathDepth) ? frame.path + "[*]" : frame.path;
+        List<Frame> children = new ArrayList<>(((ContainerTag) tag).size());
+        for (Tag child : (ContainerTag) tag) {
+          String path;
+          if (list) {
+            path = elementPath;
+          } else if (depth <= pathDepth) {
+            path = (frame.path.isEmpty() ? "" : frame.path + ".") + escape(child.getName());
+          } else {
+            path = frame.path;
+          }
+          children.add(new Frame(child, path, depth, duplicate));
+        }
+        // push in reverse so that children are visited in iteration order
+        for (int i = children.size() - 1; i >= 0; i--) {
+          stack.push(children.get(i));
+        }
+      }
+    }
+
+    List<DuplicateString> duplicateStrings = new ArrayList<>();
+    for (Map.Entry<String, StringCount> entry : strings.entrySet()) {
+      StringCount count = entry.getValue();
+      if (count.occurrences > 1) {
+        long instances = count.instances();
+        duplicateStrings.add(new DuplicateString(entry.getKey(), count.occurrences, instances,
+            (instances - 1) * MemoryEstimates.stringSize(entry.getKey())));
+      }
+    }
+    duplicateStrings.sort(Comparator.comparingLong(DuplicateString::getWastedSize)
+        .thenComparingLong(DuplicateString::getOccurrences).reversed());
+
+    List<SubtreeCount> repeated = new ArrayList<>();
+    for (SubtreeCount count : subtrees.values()) {
+      if (count.occurrences > 1) {
+        count.size = count.first.estimateRetainedSize();
+        repeated.add(count);
+      }
+    }
+    repeated.sort(Comparator.comparingLong((SubtreeCount count) -> (count.occurrences - 1) * count.size).reversed());
+    List<DuplicateSubtree> duplicateSubtrees = new ArrayList<>();
+    for (SubtreeCount count : repeated.subList(0, Math.min(maxDuplicates, repeated.size()))) {
+      duplicateSubtrees.add(new DuplicateSubtree(pathOf(root, count.first), count.first.getClass(), count.occurrences,
+          count.size));
+    }
+
+    return new TagMemoryReport(
+        total,
+        sortBySize(byType),
+        sortBySize(byPath),
+        duplicateStrings.subList(0, Math.min(maxDuplicates, duplicateStrings.size())),
+        duplicateSubtrees
+    );
+  }
+
+  private static boolean isSubtreeCandidate(final Tag tag) {
+    if (tag instanceof ContainerTag) {
+      return ((ContainerTag) tag).size() > 0;
+    }
+    return tag.estimatePayloadSize() > 0 && (tag instanceof TagByteArray || tag instanceof TagIntArray
+        || tag instanceof TagBooleanArray || tag instanceof TagDoubleArray || tag instanceof TagFloatArray
+        || tag instanceof TagLongArray || tag instanceof TagShortArray || tag instanceof TagStringArray);
+  }
+
+  private static void countString(final Map<String, StringCount> strings, final String string) {
+    if (string == null || string.isEmpty()) {
+      return;
+    }
+    StringCount count = strings.get(string);
+    if (count == null) {
+      strings.put(string, new StringCount(string));
+    } else {
+      count.add(string);
+    }
+  }
+
+  private static <K> Map<K, Stats> sortBySize(final Map<K, Stats> map) {
+    List<Map.Entry<K, Stats>> entries = new ArrayList<>(map.entrySet());
+    entries.sort(Comparator.comparingLong((Map.Entry<K, Stats> entry) -> entry.getValue().getSize()).reversed());
+    Map<K, Stats> result = new LinkedHashMap<>();
+    for (Map.Entry<K, Stats> entry : entries) {
+      result.put(entry.getKey(), entry.getValue());
+    }
+    return result;
+  }
+
+  private static String pathOf(final Tag root, final Tag tag) {
+    Deque<String> segments = new ArrayDeque<>();
+    Tag current = tag;
+    while (current != root && current.getParent() != null) {
+      ContainerTag parent = current.getParent();
+      if (parent instanceof TagList) {
+        int index = 0;
+        for (Tag sibling : parent) {
+          if (sibling == current) {
+            break;
+          }
+          index++;
+        }
+        segments.push("[" + index + "]");
+      } else {
+        segments.push("." + escape(current.getName()));
+      }
+      current = parent;
+    }
+    StringBuilder path = new StringBuilder();
+    for (String segment : segments) {
+      path.append(segment);
+    }
+    return (path.length() > 0 && path.charAt(0) == '.') ? path.substring(1) : path.toString();
+  }
+
+  private static String escape(final String name) {
+    StringBuilder result = null;
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (c == '.' || c == '[' || c == ']' || c == '\\' || c == '*') {
+        if (result == null) {
+          result = new StringBuilder(name.length() + 4).append(name, 0, i);
+        }
+        result.append('\\');
+      }
+      if (result != null) {
+        result.append(c);
+      }
+    }
+    return (result == null) ? name : result.toString();
+  }
+
+  private static class Frame {
+    private final Tag tag;
+    private final String path;
+    private final int depth;
+    private final boolean duplicate;
+
+    private Frame(final Tag newTag, final String newPath, final int newDepth, final boolean newDuplicate) {
+      tag = newTag;
+      path = newPath;
+      depth = newDepth;
+      duplicate = newDuplicate;
+    }
+  }
+
+  private static class StringCount {
+    private final String first;
+    private Set<String> others;
+    private long occurrences = 1;
+
+    private StringCount(final String newFirst) {
+      first = newFirst;
+    }
+
+    private void add(final String string) {
+      occurrences++;
+      if (string != first) {
+        if (others == null) {
+          others = Collections.newSetFromMap(new IdentityHashMap<>());
+        }
+        others.add(string);
+      }
+    }
+
+    private long instances() {
+      return 1 + ((others == null) ? 0 : others.size());
+    }
+  }
+
+  private static class SubtreeCount {
+    private final Tag first;
+    private long occurrences = 1;
+    private long size;
+
+    private SubtreeCount(final Tag newFirst) {
+      first = newFirst;
+    }
+  }
+
+}
@@ -0,0 +1,278 @@
+package com.sudoplay.axion.memory;
+
+import com.sudoplay.axion.tag.Tag;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The result of a {@link TagMemoryAnalyzer} run: heap usage estimates of a {@link Tag} tree grouped by tag type and by
+ * path prefix, and the strings and subtrees that are held more than once.
+ * <p>
+ * Sizes are estimates computed by {@link Tag#estimateSelfSize()} and {@link Tag#estimatePayloadSize()}; the size of
+ * each group is the sum of the sizes of its tags without their children, so the sizes of all groups add up to the
+ * retained size of the tree.
+ *
+ * @author Jason Taylor
+ */
+public class TagMemoryReport {
+
+  private final Stats total;
+  private final Map<Class<? extends Tag>, Stats> byType;
+  private final Map<String, Stats> byPath;
+  private final List<DuplicateString> duplicateStrings;
+  private final List<DuplicateSubtree> duplicateSubtrees;
+
+  TagMemoryReport(
+      final Stats newTotal,
+      final Map<Class<? extends Tag>, Stats> newByType,
+      final Map<String, Stats> newByPath,
+      final List<DuplicateString> newDuplicateStrings,
+      final List<DuplicateSubtree> newDuplicateSubtrees
+  ) {
+    total = newTotal;
+    byType = Collections.unmodifiableMap(newByType);
+    byPath = Collections.unmodifiableMap(newByPath);
+    duplicateStrings = Collections.unmodifiableList(newDuplicateStrings);
+    duplicateSubtrees = Collections.unmodifiableList(newDuplicateSubtrees);
+  }
+
+  /**
+   * Returns the totals for the whole tree.
+   *
+   * @return the totals for the whole tree
+   */
+  public Stats getTotal() {
+    return total;
+  }
+
+  /**
+   * Returns the totals for each tag class, largest first.
+   *
+   * @return the totals for each tag class
+   */
+  public Map<Class<? extends Tag>, Stats> getByType() {
+    return byType;
+  }
+
+  /**
+   * Returns the totals for each path prefix, largest first. A tag is counted under its path, truncated to the
+   * configured depth; the root tag is counted under the empty path.
+   *
+   * @return the totals for each path prefix
+   */
+  public Map<String, Stats> getByPath() {
+    return byPath;
+  }
+
+  /**
+   * Returns the strings that occur more than once as names or string values, most wasted bytes first.
+   *
+   * @return the duplicated strings
+   */
+  public List<DuplicateString> getDuplicateStrings() {
+    return duplicateStrings;
+  }
+
+  /**
+   * Returns the subtrees that occur more than once, most wasted bytes first. Subtrees below a duplicate are not
+   * reported separately.
+   *
+   * @return the duplicated subtrees
+   */
+  public List<DuplicateSubtree> getDuplicateSubtrees() {
+    return duplicateSubtrees;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder out = new StringBuilder();
+    out.append("Total: ").append(total).append('\n');
+    out.append("By type:\n");
+    for (Map.Entry<Class<? extends Tag>, Stats> entry : byType.entrySet()) {
+      out.append("  ").append(entry.getKey().getSimpleName()).append(": ").append(entry.getValue()).append('\n');
+    }
+    out.append("By path:\n");
+    for (Map.Entry<String, Stats> entry : byPath.entrySet()) {
+      out.append("  ").append(entry.getKey().isEmpty() ? "<root>" : entry.getKey()).append(": ")
+          .append(entry.getValue()).append('\n');
+    }
+    if (!duplicateStrings.isEmpty()) {
+      out.append("Duplicate strings:\n");
+      for (DuplicateString duplicate : duplicateStrings) {
+        out.append("  ").append(duplicate).append('\n');
+      }
+    }
+    if (!duplicateSubtrees.isEmpty()) {
+      out.append("Duplicate subtrees:\n");
+      for (DuplicateSubtree duplicate : duplicateSubtrees) {
+        out.append("  ").append(duplicate).append('\n');
+      }
+    }
+    return out.toString();
+  }
+
+  /**
+   * Counts and estimated sizes of a group of tags.
+   */
+  public static class Stats {
+
+    private long count;
+    private long size;
+    private long payloadSize;
+
+    void add(final long tagSize, final long tagPayloadSize) {
+      count++;
+      size += tagSize;
+      payloadSize += tagPayloadSize;
+    }
+
+    /**
+     * @return the number of tags
+     */
+    public long getCount() {
+      return count;
+    }
+
+    /**
+     * @return the estimated heap size of the tags, without their children
+     */
+    public long getSize() {
+      return size;
+    }
+
+    /**
+     * @return the bytes of value data held by the tags
+     */
+    public long getPayloadSize() {
+      return payloadSize;
+    }
+
+    /**
+     * @return the estimated heap size of the tags beyond their value data: object headers, references, names and
+     * collection structure
+     */
+    public long getOverheadSize() {
+      return size - payloadSize;
+    }
+
+    @Override
+    public String toString() {
+      return count + " tags, " + size + " bytes (" + payloadSize + " payload, " + getOverheadSize() + " overhead)";
+    }
+  }
+
+  /**
+   * A string held by more than one name or value.
+   */
+  public static class DuplicateString {
+
+    private final String value;
+    private final long occurrences;
+    private final long instances;
+    private final long wastedSize;
+
+    DuplicateString(final String newValue, final long newOccurrences, final long newInstances, final long newWastedSize) {
+      value = newValue;
+      occurrences = newOccurrences;
+      instances = newInstances;
+      wastedSize = newWastedSize;
+    }
+
+    /**
+     * @return the string
+     */
+    public String getValue() {
+      return value;
+    }
+
+    /**
+     * @return the number of names and values holding the string
+     */
+    public long getOccurrences() {
+      return occurrences;
+    }
+
+    /**
+     * @return the number of distinct string objects; 1 if every occurrence shares the same instance
+     */
+    public long getInstances() {
+      return instances;
+    }
+
+    /**
+     * @return the estimated bytes that would be saved if every occurrence shared one instance
+     */
+    public long getWastedSize() {
+      return wastedSize;
+    }
+
+    @Override
+    public String toString() {
+      return "\"" + value + "\": " + occurrences + " occurrences, " + instances + " instances, " + wastedSize +
+          " bytes wasted";
+    }
+  }
+
+  /**
+   * A container or array that occurs more than once in the tree with equal names and contents.
+   */
+  public static class DuplicateSubtree {
+
+    private final String path;
+    private final Class<? extends Tag> type;
+    private final long occurrences;
+    private final long size;
+
+    DuplicateSubtree(final String newPath, final Class<? extends Tag> newType, final long newOccurrences,
+                     final long newSize) {
+      path = newPath;
+      type = newType;
+      occurrences = newOccurrences;
+      size = newSize;
+    }
+
+    /**
+     * @return the path of the first occurrence
+     */
+    public String getPath() {
+      return path;
+    }
+
+    /**
+     * @return the class of the subtree's root tag
+     */
+    public Class<? extends Tag> getType() {
+      return type;
+    }
+
+    /**
+     * @return the number of occurrences
+     */
+    public long getOccurrences() {
+      return occurrences;
+    }
+
+    /**
+     * @return the estimated retained size of one occurrence
+     */
+    public long getSize() {
+      return size;
+    }
+
+    /**
+     * @return the estimated bytes that would be saved if the subtree were held once
+     */
+    public long getWastedSize() {
+      return (occurrences - 1) * size;
+    }
+
+    @Override
+    public String toString() {
+      return (path.isEmpty() ? "<root>" : path) + " (" + type.getSimpleName() + "): " + occurrences +
+          " occurrences, " + size + " bytes each, " + getWastedSize() + " bytes wasted";
+    }
+  }
+
+}
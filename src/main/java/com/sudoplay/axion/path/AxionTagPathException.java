@@ -0,0 +1,24 @@
+package com.sudoplay.axion.path;
+
+@SuppressWarnings("unused")
+public class AxionTagPathException extends RuntimeException {
+
+  private static final long serialVersionUID = -2468195375460216317L;
+
+  public AxionTagPathException() {
+    super();
+  }
+
+  public AxionTagPathException(String message) {
+    super(message);
+  }
+
+  public AxionTagPathException(Throwable cause) {
+    super(cause);
+  }
+
+  public AxionTagPathException(String message, Throwable cause) {
+    super(message, cause);
+  }
+
+}
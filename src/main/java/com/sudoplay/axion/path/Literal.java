@@ -0,0 +1,102 @@
+package com.sudoplay.axion.path;
+
+import com.sudoplay.axion.ext.tag.TagBoolean;
+import com.sudoplay.axion.spec.tag.*;
+import com.sudoplay.axion.tag.Tag;
+
+/**
+ * A predicate value of a {@link TagPath}, parsed once when the path is compiled and compared to scalar tags without
+ * boxing.
+ *
+ * @author Jason Taylor
+ */
+final class Literal {
+
+  private final String string;
+  private final Boolean bool;
+  private final boolean integral;
+  private final long longValue;
+  private final boolean numeric;
+  private final double doubleValue;
+
+  private Literal(final String newString, final Boolean newBool, final Number newNumber) {
+    string = newString;
+    bool = newBool;
+    numeric = newNumber != null;
+    integral = newNumber instanceof Long;
+    longValue = numeric ? newNumber.longValue() : 0;
+    doubleValue = numeric ? newNumber.doubleValue() : 0;
+  }
+
+  /**
+   * Returns a literal that only matches {@link TagString}s with the value given.
+   *
+   * @param value the string value
+   * @return a string literal
+   */
+  static Literal ofString(final String value) {
+    return new Literal(value, null, null);
+  }
+
+  /**
+   * Parses an unquoted literal: <code>true</code>, <code>false</code>, an integer or a decimal number. Anything else
+   * is matched as a string.
+   *
+   * @param text the unquoted literal
+   * @return the literal
+   */
+  static Literal parse(final String text) {
+    if ("true".equals(text) || "false".equals(text)) {
+      return new Literal(text, Boolean.valueOf(text), null);
+    }
+    try {
+      return new Literal(text, null, Long.parseLong(text));
+    } catch (NumberFormatException e) {
+      // not an integer
+    }
+    try {
+      return new Literal(text, null, Double.parseDouble(text));
+    } catch (NumberFormatException e) {
+      return ofString(text);
+    }
+  }
+
+  /**
+   * Returns true if the tag given is a scalar tag with a value equal to this literal.
+   *
+   * @param tag the tag to compare
+   * @return true if the tag given is a scalar tag with a value equal to this literal
+   */
+  boolean matches(final Tag tag) {
+    if (tag instanceof TagString) {
+      return string.equals(((TagString) tag).get());
+    } else if (bool != null) {
+      return tag instanceof TagBoolean && ((TagBoolean) tag).get() == bool;
+    } else if (!numeric) {
+      return false;
+    } else if (tag instanceof TagInt) {
+      return matches(((TagInt) tag).get());
+    } else if (tag instanceof TagLong) {
+      return matches(((TagLong) tag).get());
+    } else if (tag instanceof TagShort) {
+      return matches(((TagShort) tag).get());
+    } else if (tag instanceof TagByte) {
+      return matches(((TagByte) tag).get());
+    } else if (tag instanceof TagDouble) {
+      return ((TagDouble) tag).get() == doubleValue;
+    } else if (tag instanceof TagFloat) {
+      return ((TagFloat) tag).get() == doubleValue;
+    }
+    return false;
+  }
+
+  private boolean matches(final long value) {
+    return integral ? value == longValue : value == doubleValue;
+  }
+
+  @Override
+  public String toString() {
+    return (bool == null && !numeric) ? '"' + string + '"' : string;
+  }
+
+}
@@ -0,0 +1,476 @@
+package com.sudoplay.axion.path;
+
+import com.sudoplay.axion.spec.tag.TagCompound;
+import com.sudoplay.axion.spec.tag.TagList;
+import com.sudoplay.axion.tag.ContainerTag;
+import com.sudoplay.axion.tag.Tag;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A compiled query that selects tags below a root {@link Tag}.
+ * <p>
+ * A path is a sequence of segments separated by <code>.</code>; each segment is a child name, or <code>*</code> for
+ * every child of a container, followed by any number of list selectors:
+ * <ul>
+ * <li><code>[n]</code> - the element at index n; negative indices count from the end of the list</li>
+ * <li><code>[*]</code> - every element</li>
+ * <li><code>[field=value]</code> - every compound element whose child <code>field</code> equals the value; the value
+ * is a double-quoted string, <code>true</code>, <code>false</code>, an integer or a decimal number, and any other
+ * unquoted text is matched as a string</li>
+ * </ul>
+ * For example, <code>Level.Sections[2].BlockStates</code> or <code>Level.Entities[id="minecraft:pig"].Pos[*]</code>.
+ * A backslash escapes the character that follows it in a name. Segments that don't apply to a tag, such as a name
+ * applied to a list or an index out of range, select nothing.
+ * <p>
+ * Paths are parsed once and cached by {@link #compile(String)}, which keeps the most recently used paths; a {@link
+ * TagPath} is immutable and can be shared
+ * between threads and evaluated against any number of trees. Results are produced lazily, so taking the first match
+ * of a path with wildcards doesn't visit the rest of the tree.
+ *
+ * @author Jason Taylor
+ */
+public final class TagPath {
+
+  private static final int MAX_CACHED_PATHS = 1024;
+
+  /**
+   * Least recently used paths are evicted first, so paths compiled on every call stay cached when many one-off paths
+   * are compiled.
+   */
+  private static final Map<String, TagPath> CACHE = new LinkedHashMap<String, TagPath>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<String, TagPath> eldest) {
+      return size() > MAX_CACHED_PATHS;
+    }
+  };
+
+  private final String source;
+  private final Step[] steps;
+  private final boolean singular;
+
+  private TagPath(final String newSource, final Step[] newSteps) {
+    source = newSource;
+    steps = newSteps;
+    boolean s = true;
+    for (Step step : steps) {
+      s &= step.isSingular();
+    }
+    singular = s;
+  }
+
+  /**
+   * Returns the compiled {@link TagPath} for the path given. Compiled paths are cached, so compiling the same path
+   * again is cheap.
+   *
+   * @param path the path to compile
+   * @return the compiled {@link TagPath}
+   * @throws AxionTagPathException if the path is malformed
+   */
+  public static TagPath compile(final String path) throws AxionTagPathException {
+    if (path == null) {
+      throw new AxionTagPathException("Path can't be null");
+    }
+    TagPath result;
+    synchronized (CACHE) {
+      result = CACHE.get(path);
+    }
+    if (result == null) {
+      result = new TagPath(path, new Parser(path).parse());
+      synchronized (CACHE) {
+        CACHE.put(path, result);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Returns true if this path selects at most one tag, ie. it has no wildcards or predicates.
+   *
+   * @return true if this path selects at most one tag
+   */
+  public boolean isSingular() {
+    return singular;
+  }
+
+  /**
+   * Returns the first tag selected by this path, or null if the path selects nothing.
+   *
+   * @param root the tag to evaluate this path against
+   * @param <T>  tag type
+   * @return the first tag selected or null
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends Tag> T first(final Tag root) {
+    if (root == null) {
+      return null;
+    }
+    if (singular) {
+      Tag tag = root;
+      for (int i = 0; i < steps.length && tag != null; i++) {
+        tag = ((SingularStep) steps[i]).resolve(tag);
+      }
+      return (T) tag;
+    }
+    Iterator<Tag> it = iterator(root);
+    return it.hasNext() ? (T) it.next() : null;
+  }
+
+  /**
+   * Returns an iterator over the tags selected by this path, in document order.
+   *
+   * @param root the tag to evaluate this path against
+   * @param <T>  tag type
+   * @return an iterator over the tags selected
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends Tag> Iterator<T> iterator(final Tag root) {
+    if (root == null) {
+      return Collections.emptyIterator();
+    }
+    return (Iterator<T>) new Results(root);
+  }
+
+  /**
+   * Returns a lazy, sequential stream of the tags selected by this path, in document order.
+   *
+   * @param root the tag to evaluate this path against
+   * @param <T>  tag type
+   * @return a stream of the tags selected
+   */
+  public <T extends Tag> Stream<T> stream(final Tag root) {
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this.<T>iterator(root), Spliterator.ORDERED |
+        Spliterator.NONNULL), false);
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    return this == obj || (obj instanceof TagPath && source.equals(((TagPath) obj).source));
+  }
+
+  @Override
+  public int hashCode() {
+    return source.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return source;
+  }
+
+  /**
+   * Depth-first evaluation with an explicit stack; the iterator at depth i yields the results of step i.
+   */
+  private class Results implements Iterator<Tag> {
+
+    private final Iterator<?>[] stack = new Iterator<?>[steps.length];
+    private int depth;
+    private Tag next;
+
+    private Results(final Tag root) {
+      if (steps.length == 0) {
+        next = root;
+        depth = -1;
+      } else {
+        stack[0] = steps[0].expand(root);
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (next == null && depth >= 0) {
+        Iterator<?> it = stack[depth];
+        if (!it.hasNext()) {
+          stack[depth--] = null;
+        } else {
+          Tag tag = (Tag) it.next();
+          if (depth == steps.length - 1) {
+            next = tag;
+          } else {
+            depth++;
+            stack[depth] = steps[depth].expand(tag);
+          }
+        }
+      }
+      return next != null;
+    }
+
+    @Override
+    public Tag next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      Tag result = next;
+      next = null;
+      return result;
+    }
+  }
+
+  // --------------------------------------------------------------------------
+
+  private static abstract class Step {
+
+    /**
+     * @return an iterator over the tags selected by this step
+     */
+    abstract Iterator<?> expand(final Tag tag);
+
+    boolean isSingular() {
+      return false;
+    }
+  }
+
+  /**
+   * A step that selects at most one tag.
+   */
+  private static abstract class SingularStep extends Step {
+
+    /**
+     * @return the tag selected by this step, or null
+     */
+    abstract Tag resolve(final Tag tag);
+
+    @Override
+    Iterator<?> expand(final Tag tag) {
+      Tag result = resolve(tag);
+      return (result == null) ? Collections.emptyIterator() : Collections.singletonList(result).iterator();
+    }
+
+    @Override
+    boolean isSingular() {
+      return true;
+    }
+  }
+
+  private static class ChildStep extends SingularStep {
+    private final String name;
+
+    private ChildStep(final String newName) {
+      name = newName;
+    }
+
+    @Override
+    Tag resolve(final Tag tag) {
+      return (tag instanceof TagCompound) ? ((TagCompound) tag).get(name) : null;
+    }
+
+    @Override
+    public String toString() {
+      return name;
+    }
+  }
+
+  private static class IndexStep extends SingularStep {
+    private final int index;
+
+    private IndexStep(final int newIndex) {
+      index = newIndex;
+    }
+
+    @Override
+    Tag resolve(final Tag tag) {
+      if (!(tag instanceof TagList)) {
+        return null;
+      }
+      TagList list = (TagList) tag;
+      int i = (index < 0) ? list.size() + index : index;
+      return (i >= 0 && i < list.size()) ? list.get(i) : null;
+    }
+
+    @Override
+    public String toString() {
+      return "[" + index + "]";
+    }
+  }
+
+  private static class WildcardStep extends Step {
+    private final boolean listsOnly;
+
+    private WildcardStep(final boolean newListsOnly) {
+      listsOnly = newListsOnly;
+    }
+
+    @Override
+    Iterator<?> expand(final Tag tag) {
+      if (tag instanceof TagList || (!listsOnly && tag instanceof ContainerTag)) {
+        return ((ContainerTag) tag).iterator();
+      }
+      return Collections.emptyIterator();
+    }
+
+    @Override
+    public String toString() {
+      return listsOnly ? "[*]" : "*";
+    }
+  }
+
+  private static class PredicateStep extends Step {
+    private final String field;
+    private final Literal value;
+
+    private PredicateStep(final String newField, final Literal newValue) {
+      field = newField;
+      value = newValue;
+    }
+
+    @Override
+    Iterator<?> expand(final Tag tag) {
+      if (!(tag instanceof TagList) || ((TagList) tag).getType() != TagCompound.class) {
+        return Collections.emptyIterator();
+      }
+      return ((TagList) tag).stream(TagCompound.class).filter(element -> value.matches(element.get(field)))
+          .iterator();
+    }
+
+    @Override
+    public String toString() {
+      return "[" + field + "=" + value + "]";
+    }
+  }
+
+  // --------------------------------------------------------------------------
+
+  private static class Parser {
+    private final String source;
+    private final List<Step> steps = new ArrayList<>();
+    private int pos;
+
+    private Parser(final String newSource) {
+      source = newSource;
+    }
+
+    private Step[] parse() {
+      if (source.isEmpty()) {
+        return new Step[0];
+      }
+      do {
+        segment();
+      } while (accept('.'));
+      if (pos < source.length()) {
+        throw error("unexpected character '" + source.charAt(pos) + "'");
+      }
+      return steps.toArray(new Step[steps.size()]);
+    }
+
+    private void segment() {
+      if (accept('*')) {
+        steps.add(new WildcardStep(false));
+      } else if (peek() != '[') {
+        String name = name();
+        if (name.isEmpty()) {
+          throw error("expected a name");
+        }
+        steps.add(new ChildStep(name));
+      }
+      while (accept('[')) {
+        steps.add(selector());
+        expect(']');
+      }
+    }
+
+    private Step selector() {
+      if (accept('*')) {
+        return new WildcardStep(true);
+      }
+      int start = pos;
+      if (peek() == '-' || Character.isDigit(peek())) {
+        pos++;
+        while (Character.isDigit(peek())) {
+          pos++;
+        }
+        if (peek() == ']') {
+          try {
+            return new IndexStep(Integer.parseInt(source.substring(start, pos)));
+          } catch (NumberFormatException e) {
+            throw error("invalid index");
+          }
+        }
+        pos = start;
+      }
+      String field = name();
+      if (field.isEmpty()) {
+        throw error("expected an index, '*' or a predicate");
+      }
+      expect('=');
+      return new PredicateStep(field, literal());
+    }
+
+    private Literal literal() {
+      if (accept('"')) {
+        StringBuilder out = new StringBuilder();
+        while (peek() != '"') {
+          if (pos >= source.length()) {
+            throw error("unterminated string");
+          }
+          escapable(out);
+        }
+        pos++;
+        return Literal.ofString(out.toString());
+      }
+      int start = pos;
+      while (pos < source.length() && source.charAt(pos) != ']') {
+        pos++;
+      }
+      if (pos == start) {
+        throw error("expected a value");
+      }
+      return Literal.parse(source.substring(start, pos).trim());
+    }
+
+    private String name() {
+      StringBuilder out = new StringBuilder();
+      while (pos < source.length()) {
+        char c = source.charAt(pos);
+        if (c == '.' || c == '[' || c == ']' || c == '=') {
+          break;
+        }
+        escapable(out);
+      }
+      return out.toString();
+    }
+
+    private void escapable(final StringBuilder out) {
+      char c = source.charAt(pos++);
+      if (c == '\\') {
+        if (pos >= source.length()) {
+          throw error("dangling escape");
+        }
+        c = source.charAt(pos++);
+      }
+      out.append(c);
+    }
+
+    private char peek() {
+      return (pos < source.length()) ? source.charAt(pos) : '\0';
+    }
+
+    private boolean accept(final char c) {
+      if (peek() == c && pos < source.length()) {
+        pos++;
+        return true;
+      }
+      return false;
+    }
+
+    private void expect(final char c) {
+      if (!accept(c)) {
+        throw error("expected '" + c + "'");
+      }
+    }
+
+    private AxionTagPathException error(final String message) {
+      return new AxionTagPathException("Invalid tag path [" + source + "] at index " + pos + ": " + message);
+    }
+  }
+
+}
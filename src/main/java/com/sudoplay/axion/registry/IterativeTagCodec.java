@@ -0,0 +1,274 @@
+package com.sudoplay.axion.registry;
+
+import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.spec.adapter.BaseTagAdapter;
+import com.sudoplay.axion.spec.adapter.TagCompoundAdapter;
+import com.sudoplay.axion.spec.adapter.TagListAdapter;
+import com.sudoplay.axion.spec.tag.TagArena;
+import com.sudoplay.axion.spec.tag.TagCompound;
+import com.sudoplay.axion.spec.tag.TagList;
+import com.sudoplay.axion.stream.AxionInputStream;
+import com.sudoplay.axion.stream.AxionOutputStream;
+import com.sudoplay.axion.tag.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+/**
+ * Reads and writes {@link Tag} trees with an explicit stack instead of recursing through the {@link TagAdapter}s once
+ * per nesting level, so the depth of the data is limited by the heap instead of the thread stack.
+ * <p>
+ * {@link TagCompound}s and {@link TagList}s handled by the specification's {@link TagCompoundAdapter} and {@link
+ * TagListAdapter} are read and written by the codec itself; every other tag is read and written by its registered
+ * adapter. The bytes read and written, the tags produced and the use of a {@link TagArena} attached to the input
+ * stream are the same as those of the recursive adapters, and so are the checks of the stream's {@link
+ * com.sudoplay.axion.stream.DecodeLimits}. The recursive adapters are used when a custom base tag adapter is
+ * registered, and for writes to a stream with an {@link com.sudoplay.axion.tag.EncodedTagCache}, which caches payloads
+ * per container.
+ *
+ * @author Jason Taylor
+ * @see com.sudoplay.axion.AxionConfiguration.CodecType
+ */
+public final class IterativeTagCodec {
+
+  private static final Logger LOG = LoggerFactory.getLogger(IterativeTagCodec.class);
+
+  private IterativeTagCodec() {
+    //
+  }
+
+  /**
+   * Reads a {@link Tag} from the {@link AxionInputStream} given.
+   *
+   * @param axion  the {@link Axion} instance whose adapters are used
+   * @param parent the tag requesting the read
+   * @param in     the stream to read from
+   * @return the {@link Tag} read, or null if an end tag was read
+   * @throws IOException
+   * @throws AxionTagRegistrationException
+   */
+  public static Tag read(final Axion axion, final Tag parent, final AxionInputStream in) throws IOException,
+      AxionTagRegistrationException {
+    TagAdapter<Tag> base = axion.getBaseTagAdapter();
+    if (base.getClass() != BaseTagAdapter.class) {
+      return base.read(parent, in);
+    }
+    LOG.debug("Entering read(parent=[{}], in=[{}])", parent, in);
+    int id = in.readUnsignedByte();
+    if (id == 0) {
+      LOG.debug("Leaving read(): null");
+      return null;
+    }
+    in.countElements(1);
+    Deque<ReadFrame> stack = new ArrayDeque<>();
+    Tag root = readTag(axion, parent, axion.getAdapterFor(id), in, stack);
+    if (root == null) {
+      root = stack.peek().container();
+    }
+    while (!stack.isEmpty()) {
+      ReadFrame frame = stack.peek();
+      Tag child;
+      if (frame.list != null) {
+        if (frame.remaining <= 0) {
+          complete(stack, in);
+          continue;
+        }
+        frame.remaining--;
+        child = readTag(axion, frame.list, frame.elementAdapter, in, stack);
+      } else {
+        int childId = in.readUnsignedByte();
+        if (childId == 0) {
+          complete(stack, in);
+          continue;
+        }
+        in.countElements(1);
+        child = readTag(axion, frame.compound, axion.getAdapterFor(childId), in, stack);
+      }
+      if (child != null) {
+        frame.add(child);
+      }
+    }
+    LOG.debug("Leaving read(): [{}]", root);
+    return root;
+  }
+
+  /**
+   * Writes a {@link Tag}, including its id and name, to the {@link AxionOutputStream} given.
+   *
+   * @param axion the {@link Axion} instance whose adapters are used
+   * @param tag   the tag to write
+   * @param out   the stream to write to
+   * @throws IOException
+   * @throws AxionTagRegistrationException
+   */
+  public static void write(final Axion axion, final Tag tag, final AxionOutputStream out) throws IOException,
+      AxionTagRegistrationException {
+    TagAdapter<Tag> base = axion.getBaseTagAdapter();
+    if (base.getClass() != BaseTagAdapter.class || out.getEncodedTagCache() != null) {
+      base.write(tag, out);
+      return;
+    }
+    LOG.debug("Entering write(tag=[{}], out=[{}])", tag, out);
+    Deque<WriteFrame> stack = new ArrayDeque<>();
+    int id = axion.getIdFor(tag.getClass());
+    out.writeByte(id);
+    if (!(tag.getParent() instanceof TagList)) {
+      out.writeString(tag.getName());
+    }
+    writeTag(axion, tag, axion.getAdapterFor(id), out, stack);
+    while (!stack.isEmpty()) {
+      WriteFrame frame = stack.peek();
+      if (!frame.children.hasNext()) {
+        stack.pop();
+        if (frame.elementAdapter == null) {
+          out.writeByte(0);
+        }
+        continue;
+      }
+      Tag child = frame.children.next();
+      TagAdapter<Tag> adapter = frame.elementAdapter;
+      if (adapter == null) {
+        int childId = axion.getIdFor(child.getClass());
+        out.writeByte(childId);
+        out.writeString(child.getName());
+        adapter = axion.getAdapterFor(childId);
+      }
+      writeTag(axion, child, adapter, out, stack);
+    }
+    LOG.debug("Leaving write()");
+  }
+
+  /**
+   * Reads a tag with the adapter given. Containers are pushed onto the stack and null is returned; they are added to
+   * their parent when they are complete.
+   */
+  private static Tag readTag(
+      final Axion axion,
+      final Tag parent,
+      final TagAdapter<? extends Tag> adapter,
+      final AxionInputStream in,
+      final Deque<ReadFrame> stack
+  ) throws IOException {
+    Class<?> adapterClass = adapter.getClass();
+    if (adapterClass != TagCompoundAdapter.class && adapterClass != TagListAdapter.class) {
+      return adapter.read(parent, in);
+    }
+    String name = (parent instanceof TagList) ? null : in.readString();
+    TagArena arena = in.getArena();
+    ReadFrame frame;
+    if (adapterClass == TagCompoundAdapter.class) {
+      TagCompound compound = (arena == null) ? null : arena.take(TagCompound.class);
+      if (compound == null) {
+        compound = new TagCompound(name);
+      } else {
+        compound.setName(name);
+      }
+      frame = new ReadFrame(compound);
+    } else {
+      int elementId = in.readUnsignedByte();
+      Class<? extends Tag> type = axion.getClassFor(elementId);
+      int size = in.readListSize();
+      TagList list = (arena == null) ? null : arena.takeList(type);
+      int capacity = Math.min(size, AxionInputStream.MAX_INITIAL_LIST_CAPACITY);
+      if (list == null) {
+        list = new TagList(type, name, capacity);
+      } else {
+        list.setName(name);
+        list.ensureCapacity(capacity);
+      }
+      frame = new ReadFrame(list, size, axion.getAdapterFor(elementId));
+    }
+    in.enterContainer();
+    stack.push(frame);
+    return null;
+  }
+
+  /**
+   * Pops the container on top of the stack and adds it to its parent, if any.
+   */
+  private static void complete(final Deque<ReadFrame> stack, final AxionInputStream in) {
+    in.exitContainer();
+    ReadFrame frame = stack.pop();
+    ReadFrame parent = stack.peek();
+    if (parent != null) {
+      parent.add(frame.container());
+    }
+  }
+
+  /**
+   * Writes the payload of the tag given. Containers are pushed onto the stack; their children are written by the
+   * caller.
+   */
+  @SuppressWarnings("unchecked")
+  private static void writeTag(
+      final Axion axion,
+      final Tag tag,
+      final TagAdapter<? extends Tag> adapter,
+      final AxionOutputStream out,
+      final Deque<WriteFrame> stack
+  ) throws IOException {
+    Class<?> adapterClass = adapter.getClass();
+    if (adapterClass == TagCompoundAdapter.class) {
+      stack.push(new WriteFrame(((TagCompound) tag).getAsMap().values().iterator(), null));
+    } else if (adapterClass == TagListAdapter.class) {
+      TagList list = (TagList) tag;
+      int elementId = axion.getIdFor(list.getType());
+      out.writeByte(elementId);
+      out.writeInt(list.size());
+      stack.push(new WriteFrame(list.iterator(), axion.getAdapterFor(elementId)));
+    } else {
+      ((TagAdapter<Tag>) adapter).write(tag, out);
+    }
+  }
+
+  private static class ReadFrame {
+    private final TagCompound compound;
+    private final TagList list;
+    private final TagAdapter<? extends Tag> elementAdapter;
+    private int remaining;
+
+    private ReadFrame(final TagCompound newCompound) {
+      compound = newCompound;
+      list = null;
+      elementAdapter = null;
+    }
+
+    private ReadFrame(
+        final TagList newList,
+        final int newRemaining,
+        final TagAdapter<? extends Tag> newElementAdapter
+    ) {
+      compound = null;
+      list = newList;
+      remaining = newRemaining;
+      elementAdapter = newElementAdapter;
+    }
+
+    private Tag container() {
+      return (list != null) ? list : compound;
+    }
+
+    private void add(final Tag child) {
+      if (list != null) {
+        list.add(child);
+      } else {
+        compound.put(child);
+      }
+    }
+  }
+
+  private static class WriteFrame {
+    private final Iterator<Tag> children;
+    private final TagAdapter<Tag> elementAdapter;
+
+    private WriteFrame(final Iterator<Tag> newChildren, final TagAdapter<Tag> newElementAdapter) {
+      children = newChildren;
+      elementAdapter = newElementAdapter;
+    }
+  }
+
+}
@@ -0,0 +1,60 @@
+package com.sudoplay.axion.registry;
+
+import com.sudoplay.axion.tag.Tag;
+
+/**
+ * Implemented by {@link TypeConverter}s whose value is a primitive, to convert to and from the primitive without boxing
+ * it.
+ * <p>
+ * The converter returned by {@link com.sudoplay.axion.Axion#getConverter(Class)} for a primitive's wrapper can be
+ * tested for the matching interface, for example {@link OfInt} for {@link Integer}. The primitive methods of {@link
+ * com.sudoplay.axion.api.AxionReader} and {@link com.sudoplay.axion.api.AxionWriter}, and the POJO converters, convert
+ * primitives through it when the converter implements it, and box them otherwise.
+ *
+ * @author Jason Taylor
+ */
+public interface PrimitiveTypeConverter {
+
+  interface OfBoolean<T extends Tag> extends PrimitiveTypeConverter {
+    boolean convertBoolean(T tag);
+
+    T convert(String name, boolean value);
+  }
+
+  interface OfByte<T extends Tag> extends PrimitiveTypeConverter {
+    byte convertByte(T tag);
+
+    T convert(String name, byte value);
+  }
+
+  interface OfShort<T extends Tag> extends PrimitiveTypeConverter {
+    short convertShort(T tag);
+
+    T convert(String name, short value);
+  }
+
+  interface OfInt<T extends Tag> extends PrimitiveTypeConverter {
+    int convertInt(T tag);
+
+    T convert(String name, int value);
+  }
+
+  interface OfLong<T extends Tag> extends PrimitiveTypeConverter {
+    long convertLong(T tag);
+
+    T convert(String name, long value);
+  }
+
+  interface OfFloat<T extends Tag> extends PrimitiveTypeConverter {
+    float convertFloat(T tag);
+
+    T convert(String name, float value);
+  }
+
+  interface OfDouble<T extends Tag> extends PrimitiveTypeConverter {
+    double convertDouble(T tag);
+
+    T convert(String name, double value);
+  }
+
+}
@@ -4,6 +4,7 @@ import com.sudoplay.axion.Axion;
 import com.sudoplay.axion.AxionInstanceException;
 import com.sudoplay.axion.ext.adapter.*;
 import com.sudoplay.axion.spec.adapter.*;
+import com.sudoplay.axion.spec.tag.TagArena;
 import com.sudoplay.axion.spec.tag.TagCompound;
 import com.sudoplay.axion.spec.tag.TagList;
 import com.sudoplay.axion.stream.AxionInputStream;
@@ -11,6 +12,7 @@ import com.sudoplay.axion.stream.AxionOutputStream;
 import com.sudoplay.axion.tag.Tag;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 
 /**
  * Classes that extend the abstract {@link TagAdapter} class define how {@link Tag}s are read from and written to the
@@ -21,8 +23,18 @@ import java.io.IOException;
  */
 public abstract class TagAdapter<T extends Tag> {
 
+  private static final int PRINT_MODE_UNKNOWN = 0;
+  private static final int PRINT_MODE_PRINT = 1;
+  private static final int PRINT_MODE_TO_STRING = 2;
+
   protected Axion axion;
 
+  /**
+   * Whether tags are printed with {@link #print(Tag, int, TagPrinter)} or {@link #toString(Tag, StringBuilder)};
+   * resolved on first use.
+   */
+  private int printMode = PRINT_MODE_UNKNOWN;
+
   /**
    * Group of {@link TagAdapter}s that conform to the original NBT specification.
    */
@@ -59,6 +71,12 @@ public abstract class TagAdapter<T extends Tag> {
   protected static final String CLOSE = "}";
   protected static final String SEP = System.lineSeparator();
 
+  /**
+   * The parent given to {@link #read(Tag, AxionInputStream)} by the default {@link #skipPayload(AxionInputStream)}, so
+   * that the name isn't read.
+   */
+  private static final TagList SKIP_PARENT = new TagList(Tag.class);
+
   /**
    * Reads a {@link Tag} from the {@link AxionInputStream}.
    *
@@ -79,15 +97,110 @@ public abstract class TagAdapter<T extends Tag> {
   public abstract void write(final T tag, final AxionOutputStream out) throws IOException;
 
   /**
-   * Appends the {@link Tag} string to the {@link StringBuilder} given. This is the default behavior and is overridden
-   * in special cases, such as the {@link TagList} and {@link TagCompound}.
+   * Reads the payload of a {@link Tag}, everything after its name, from the {@link AxionInputStream} without creating
+   * the tag. Used to validate a stream; adapters for the tags built into Axion check lengths and string encodings and
+   * skip the rest. The default reads the tag and discards it.
+   *
+   * @param in the {@link AxionInputStream}
+   * @throws IOException
+   */
+  public void skipPayload(final AxionInputStream in) throws IOException {
+    read(SKIP_PARENT, in);
+  }
+
+  /**
+   * Appends the {@link Tag} string to the {@link StringBuilder} given, using a {@link TagPrinter} without limits.
+   * <p>
+   * Adapters that override this method, and not {@link #print(Tag, int, TagPrinter)}, are still printed with the text
+   * it appends, which isn't subject to the printer's limits; new adapters should override {@link #print(Tag, int,
+   * TagPrinter)}.
    *
    * @param tag the {@link Tag} to write
    * @param out the {@link StringBuilder} to append to
    * @return the {@link StringBuilder} given
    */
   public StringBuilder toString(final Tag tag, final StringBuilder out) {
-    return applyIndent(tag, out).append(tag.toString()).append(SEP);
+    try {
+      return new TagPrinter(axion).print(tag, out, this);
+    } catch (IOException e) {
+      // a StringBuilder doesn't throw
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Prints the {@link Tag} given with the {@link TagPrinter} given, at the indent depth given. This is the default
+   * behavior, a single line, and is overridden in special cases, such as the {@link TagList} and {@link TagCompound}.
+   *
+   * @param tag     the {@link Tag} to print
+   * @param depth   the indent depth
+   * @param printer the {@link TagPrinter} to print with
+   * @throws IOException if the printer's output throws
+   */
+  public void print(final Tag tag, final int depth, final TagPrinter printer) throws IOException {
+    printer.printLine(tag, depth);
+  }
+
+  /**
+   * Prints the {@link Tag} given with {@link #print(Tag, int, TagPrinter)} or, if this adapter overrides {@link
+   * #toString(Tag, StringBuilder)} and not {@link #print(Tag, int, TagPrinter)}, with the text the override appends.
+   *
+   * @param tag     the {@link Tag} to print
+   * @param depth   the indent depth
+   * @param printer the {@link TagPrinter} to print with
+   * @throws IOException if the printer's output throws
+   */
+  public final void printTag(final Tag tag, final int depth, final TagPrinter printer) throws IOException {
+    if (isPrintedByToString()) {
+      printer.printText(toString(tag, new StringBuilder()));
+    } else {
+      print(tag, depth, printer);
+    }
+  }
+
+  /**
+   * Returns true if {@link #toString(Tag, StringBuilder)} is overridden below the class that declares {@link
+   * #print(Tag, int, TagPrinter)}.
+   */
+  private boolean isPrintedByToString() {
+    if (printMode == PRINT_MODE_UNKNOWN) {
+      try {
+        Class<?> toStringClass = getClass().getMethod("toString", Tag.class, StringBuilder.class).getDeclaringClass();
+        Class<?> printClass = getClass().getMethod("print", Tag.class, int.class, TagPrinter.class)
+            .getDeclaringClass();
+        boolean legacy = toStringClass != TagAdapter.class
+            && toStringClass != printClass
+            && printClass.isAssignableFrom(toStringClass);
+        printMode = legacy ? PRINT_MODE_TO_STRING : PRINT_MODE_PRINT;
+      } catch (NoSuchMethodException e) {
+        // both methods are public
+        throw new IllegalStateException(e);
+      }
+    }
+    return printMode == PRINT_MODE_TO_STRING;
+  }
+
+  /**
+   * Returns a {@link Tag} of the class given, recycled from the {@link TagArena} attached to the {@link
+   * AxionInputStream} and renamed to the name given. Returns null if the stream has no arena or the arena holds no tag
+   * of the class given; the caller is then expected to create a new tag.
+   *
+   * @param tagClass the class of the tag to recycle
+   * @param name     the name for the recycled tag
+   * @param in       the {@link AxionInputStream} being read
+   * @param <R>      tag type
+   * @return a recycled {@link Tag} or null
+   */
+  protected <R extends Tag> R recycle(final Class<R> tagClass, final String name, final AxionInputStream in) {
+    TagArena arena = in.getArena();
+    if (arena == null) {
+      return null;
+    }
+    R tag = arena.take(tagClass);
+    if (tag != null) {
+      tag.setName(name);
+    }
+    return tag;
   }
 
   /**
@@ -97,7 +210,10 @@ public abstract class TagAdapter<T extends Tag> {
    * @param tag the {@link Tag}
    * @param out the {@link StringBuilder} to append to
    * @return the {@link StringBuilder} given
+   * @deprecated walks the parent chain for every line; override {@link #print(Tag, int, TagPrinter)}, which is given
+   * the indent depth
    */
+  @Deprecated
   protected StringBuilder applyIndent(final Tag tag, final StringBuilder out) {
     Tag parent = tag.getParent();
     if (parent != null) {
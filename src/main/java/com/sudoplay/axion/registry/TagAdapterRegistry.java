@@ -9,11 +9,16 @@ import org.slf4j.LoggerFactory;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The {@link TagAdapterRegistry} class is responsible for maintaining relationships between integer ids, {@link Tag}
  * classes, {@link Tag} value classes, {@link TagAdapter}s, and {@link TypeConverter}s and providing lookup methods to
  * access the data via its relationships.
+ * <p>
+ * Lookups on the read and write paths don't touch the maps: ids index arrays of adapters and classes, and each tag
+ * class is bound to its id and adapter in a map owned by the registry, which also caches the binding of subclasses of
+ * registered tags. Both are rebuilt whenever a tag is registered.
  *
  * @author Jason Taylor
  */
@@ -21,6 +26,8 @@ public class TagAdapterRegistry implements Cloneable {
 
   private static final Logger LOG = LoggerFactory.getLogger(TagAdapterRegistry.class);
 
+  private static final int ID_COUNT = 256;
+
   /**
    * Maps {@link Tag} classes to their respective integer ids.
    */
@@ -46,6 +53,24 @@ public class TagAdapterRegistry implements Cloneable {
    */
   private TagAdapter<Tag> baseTagAdapter;
 
+  /**
+   * {@link TagAdapter}s indexed by the unsigned byte ids used in streams.
+   */
+  private final TagAdapter<?>[] adapterById = new TagAdapter<?>[ID_COUNT];
+
+  /**
+   * {@link Tag} classes indexed by the unsigned byte ids used in streams.
+   */
+  @SuppressWarnings("unchecked")
+  private final Class<? extends Tag>[] classById = (Class<? extends Tag>[]) new Class<?>[ID_COUNT];
+
+  /**
+   * Binds {@link Tag} classes to their ids and {@link TagAdapter}s; replaced when a tag is registered. Unlike a {@link
+   * ClassValue}, the map is reachable only from this registry, so it doesn't keep the adapters and their {@link Axion}
+   * instance alive once the instance is deleted.
+   */
+  private volatile ConcurrentHashMap<Class<?>, Binding> bindings = new ConcurrentHashMap<>();
+
   /**
    * Creates a new, empty {@link TagAdapterRegistry}.
    */
@@ -68,13 +93,15 @@ public class TagAdapterRegistry implements Cloneable {
     LOG.debug("Entering TagRegistry(toCopy=[{}])", toCopy);
     classToId.putAll(toCopy.classToId);
     idToClass.putAll(toCopy.idToClass);
-    for (Entry<Class<? extends Tag>, TagAdapter<? extends Tag>> entry : toCopy.classToAdapter.entrySet()) {
-      classToAdapter.put(entry.getKey(), entry.getValue().newInstance(axion));
-    }
     for (Entry<Integer, TagAdapter<? extends Tag>> entry : toCopy.idToAdapter.entrySet()) {
-      idToAdapter.put(entry.getKey(), entry.getValue().newInstance(axion));
+      TagAdapter<? extends Tag> adapter = entry.getValue().newInstance(axion);
+      idToAdapter.put(entry.getKey(), adapter);
+      classToAdapter.put(idToClass.get(entry.getKey()), adapter);
     }
     baseTagAdapter = toCopy.baseTagAdapter.newInstance(axion);
+    for (Entry<Integer, TagAdapter<? extends Tag>> entry : idToAdapter.entrySet()) {
+      index(entry.getKey(), idToClass.get(entry.getKey()), entry.getValue());
+    }
     LOG.debug("Leaving TagRegistry(): [{}]", this);
   }
 
@@ -139,6 +166,8 @@ public class TagAdapterRegistry implements Cloneable {
     TagAdapter<T> newAdapterInstance = adapter.newInstance(axion);
     classToAdapter.put(tagClass, newAdapterInstance);
     idToAdapter.put(id, newAdapterInstance);
+    index(id, tagClass, newAdapterInstance);
+    bindings = new ConcurrentHashMap<>();
 
     LOG.debug("Leaving registerFactory()");
   }
@@ -172,13 +201,11 @@ public class TagAdapterRegistry implements Cloneable {
    */
   @SuppressWarnings("unchecked")
   public <T extends Tag> TagAdapter<T> getAdapterFor(final int id) throws AxionTagRegistrationException {
-    LOG.trace("Entering getAdapterFor(id=[{}])", id);
-    TagAdapter<T> result;
-    if ((result = (TagAdapter<T>) idToAdapter.get(id)) == null) {
+    TagAdapter<T> result = (TagAdapter<T>) ((id >= 0 && id < ID_COUNT) ? adapterById[id] : idToAdapter.get(id));
+    if (result == null) {
       LOG.error("No adapter registered for id [{}]", id);
       throw new AxionTagRegistrationException("No adapter registered for id: " + id);
     }
-    LOG.trace("Leaving getAdapterFor(): [{}]", result);
     return result;
   }
 
@@ -193,14 +220,12 @@ public class TagAdapterRegistry implements Cloneable {
    */
   @SuppressWarnings("unchecked")
   public <T extends Tag> TagAdapter<T> getAdapterFor(final Class<T> tagClass) throws AxionTagRegistrationException {
-    LOG.trace("Entering getAdapterFor(tagClass=[{}])", tagClass);
-    TagAdapter<T> result;
-    if ((result = (TagAdapter<T>) classToAdapter.get(tagClass)) == null) {
+    Binding binding = bindingFor(tagClass);
+    if (binding == Binding.UNREGISTERED) {
       LOG.error("No adapter registered for class [{}]", tagClass);
       throw new AxionTagRegistrationException("No adapter registered for class: " + tagClass);
     }
-    LOG.trace("Leaving getAdapterFor(): [{}]", result);
-    return result;
+    return (TagAdapter<T>) binding.adapter;
   }
 
   /**
@@ -213,13 +238,11 @@ public class TagAdapterRegistry implements Cloneable {
    * @throws AxionTagRegistrationException
    */
   public int getIdFor(final Class<? extends Tag> tagClass) throws AxionTagRegistrationException {
-    LOG.trace("Entering getIdFor(tagClass=[{}])", tagClass);
-    Integer result;
-    if ((result = classToId.get(tagClass)) == null) {
+    Binding binding = bindingFor(tagClass);
+    if (binding == Binding.UNREGISTERED) {
       throw new AxionTagRegistrationException("No id registered for tag class: " + tagClass.getSimpleName());
     }
-    LOG.trace("Leaving getIdFor(): [{}]", result);
-    return result;
+    return binding.id;
   }
 
   /**
@@ -232,16 +255,73 @@ public class TagAdapterRegistry implements Cloneable {
    * @throws AxionTagRegistrationException
    */
   public Class<? extends Tag> getClassFor(final int id) throws AxionTagRegistrationException {
-    LOG.trace("Entering getClassFor(id=[{}])", id);
-    Class<? extends Tag> result;
-    if ((result = idToClass.get(id)) == null) {
+    Class<? extends Tag> result = (id >= 0 && id < ID_COUNT) ? classById[id] : idToClass.get(id);
+    if (result == null) {
       LOG.error("No class registered for tag id [{}]", id);
       throw new AxionTagRegistrationException("No class registered for tag id: " + id);
     }
-    LOG.trace("Leaving getClassFor(): [{}]", result);
     return result;
   }
 
+  /**
+   * Returns the {@link Tag} class given if it is registered, otherwise its nearest registered superclass, so that
+   * subclasses of registered tags, such as {@link com.sudoplay.axion.spec.tag.ConcurrentTagCompound}, are written as
+   * their registered superclass.
+   *
+   * @param tagClass the {@link Tag} class
+   * @return the nearest registered class, or the class given if none is registered
+   */
+  private Class<?> registeredClassFor(final Class<?> tagClass) {
+    Class<?> c = tagClass;
+    while (c != null && c != Tag.class) {
+      if (classToId.containsKey(c)) {
+        return c;
+      }
+      c = c.getSuperclass();
+    }
+    return tagClass;
+  }
+
+  /**
+   * Stores the adapter and class of a tag in the arrays indexed by id, if the id fits.
+   */
+  private void index(final int id, final Class<? extends Tag> tagClass, final TagAdapter<? extends Tag> adapter) {
+    if (id >= 0 && id < ID_COUNT) {
+      adapterById[id] = adapter;
+      classById[id] = tagClass;
+    }
+  }
+
+  /**
+   * Returns the cached {@link Binding} of the {@link Tag} class given, binding it on first use.
+   */
+  private Binding bindingFor(final Class<?> tagClass) {
+    ConcurrentHashMap<Class<?>, Binding> current = bindings;
+    Binding binding = current.get(tagClass);
+    if (binding == null) {
+      Class<?> registeredClass = registeredClassFor(tagClass);
+      Integer id = classToId.get(registeredClass);
+      binding = (id == null) ? Binding.UNREGISTERED : new Binding(id, classToAdapter.get(registeredClass));
+      current.putIfAbsent(tagClass, binding);
+    }
+    return binding;
+  }
+
+  /**
+   * The id and {@link TagAdapter} of a {@link Tag} class.
+   */
+  private static class Binding {
+    private static final Binding UNREGISTERED = new Binding(-1, null);
+
+    private final int id;
+    private final TagAdapter<? extends Tag> adapter;
+
+    private Binding(final int newId, final TagAdapter<? extends Tag> newAdapter) {
+      id = newId;
+      adapter = newAdapter;
+    }
+  }
+
   /**
    * Creates a duplicate of this {@link TagAdapterRegistry} via the copy constructor {@link #TagAdapterRegistry(Axion,
    * TagAdapterRegistry)}.
@@ -0,0 +1,263 @@
+package com.sudoplay.axion.registry;
+
+import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.ext.tag.*;
+import com.sudoplay.axion.spec.tag.TagByteArray;
+import com.sudoplay.axion.spec.tag.TagIntArray;
+import com.sudoplay.axion.tag.ContainerTag;
+import com.sudoplay.axion.tag.Tag;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Prints a {@link Tag} tree as indented text to any {@link Appendable}, such as a {@link java.io.Writer}.
+ * <p>
+ * Each tag is printed by its {@link TagAdapter#print(Tag, int, TagPrinter)} method. The indent depth is carried down
+ * the tree, so printing takes time linear in the number of tags, and each line is appended as soon as it's complete,
+ * so the whole text is never held in memory unless the {@link Appendable} holds it.
+ * <p>
+ * Without limits the output is the same as {@link Axion#toString(Tag)}. Limits shorten the output for large trees:
+ * <ul>
+ * <li>{@link #setMaxDepth(int)} - containers below this depth print a summary line instead of their children</li>
+ * <li>{@link #setMaxElements(int)} - containers print at most this many children followed by a summary line</li>
+ * <li>{@link #setMaxArrayElements(int)} - array tags append up to this many of their values</li>
+ * </ul>
+ * A {@link TagPrinter} is not thread-safe.
+ *
+ * @author Jason Taylor
+ */
+public class TagPrinter {
+
+  public static final int UNLIMITED = Integer.MAX_VALUE;
+
+  private static final String INDENT = TagAdapter.INDENT;
+  private static final String OPEN = TagAdapter.OPEN;
+  private static final String CLOSE = TagAdapter.CLOSE;
+  private static final String SEP = TagAdapter.SEP;
+
+  private final Axion axion;
+  private final StringBuilder line = new StringBuilder();
+  private String[] indents = new String[]{""};
+
+  private int maxDepth = UNLIMITED;
+  private int maxElements = UNLIMITED;
+  private int maxArrayElements;
+
+  private Appendable out;
+  private int baseDepth;
+
+  /**
+   * Creates a new {@link TagPrinter} that prints tags with the adapters of the {@link Axion} instance given.
+   *
+   * @param newAxion the {@link Axion} instance
+   */
+  public TagPrinter(final Axion newAxion) {
+    if (newAxion == null) {
+      throw new NullPointerException("axion");
+    }
+    axion = newAxion;
+  }
+
+  /**
+   * Sets the depth, relative to the printed tag, below which the children of containers are not printed.
+   *
+   * @param newMaxDepth the maximum depth
+   * @return this {@link TagPrinter}
+   */
+  public TagPrinter setMaxDepth(final int newMaxDepth) {
+    maxDepth = requireNonNegative(newMaxDepth, "max depth");
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of children printed for each container.
+   *
+   * @param newMaxElements the maximum number of children
+   * @return this {@link TagPrinter}
+   */
+  public TagPrinter setMaxElements(final int newMaxElements) {
+    maxElements = requireNonNegative(newMaxElements, "max elements");
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of values printed for each array tag; 0, the default, prints only the array's length.
+   *
+   * @param newMaxArrayElements the maximum number of array values
+   * @return this {@link TagPrinter}
+   */
+  public TagPrinter setMaxArrayElements(final int newMaxArrayElements) {
+    maxArrayElements = requireNonNegative(newMaxArrayElements, "max array elements");
+    return this;
+  }
+
+  /**
+   * Prints the {@link Tag} given and every tag below it to the {@link Appendable} given. The tag is indented once for
+   * each of its parents.
+   *
+   * @param tag    the tag to print
+   * @param newOut the {@link Appendable} to print to
+   * @param <A>    appendable type
+   * @return the {@link Appendable} given
+   * @throws IOException if the {@link Appendable} throws
+   */
+  public <A extends Appendable> A print(final Tag tag, final A newOut) throws IOException {
+    return print(tag, newOut, axion.getBaseTagAdapter());
+  }
+
+  /**
+   * Prints the {@link Tag} given with the {@link TagAdapter} given.
+   */
+  <A extends Appendable> A print(final Tag tag, final A newOut, final TagAdapter<?> adapter) throws IOException {
+    int depth = 0;
+    for (Tag parent = tag.getParent(); parent != null; parent = parent.getParent()) {
+      depth++;
+    }
+    out = newOut;
+    baseDepth = depth;
+    try {
+      adapter.print(tag, depth, this);
+    } finally {
+      out = null;
+      line.setLength(0);
+    }
+    return newOut;
+  }
+
+  /**
+   * Prints the {@link Tag} given as a single line at the depth given. Array tags are followed by their first values if
+   * the printer allows it.
+   *
+   * @param tag   the tag to print
+   * @param depth the indent depth
+   * @throws IOException if the {@link Appendable} throws
+   */
+  public void printLine(final Tag tag, final int depth) throws IOException {
+    line.append(tag.toString());
+    if (maxArrayElements > 0) {
+      appendArrayValues(tag);
+    }
+    flushLine(depth);
+  }
+
+  /**
+   * Prints the {@link ContainerTag} given: its own line, then its children between braces, each printed by its
+   * adapter one level deeper.
+   *
+   * @param tag   the container to print
+   * @param depth the indent depth
+   * @throws IOException if the {@link Appendable} throws
+   */
+  public void printContainer(final ContainerTag tag, final int depth) throws IOException {
+    printLine(tag, depth);
+    line.append(OPEN);
+    flushLine(depth);
+    int size = tag.size();
+    if (size > 0 && depth - baseDepth >= maxDepth) {
+      line.append("... ").append(size).append(size == 1 ? " tag" : " tags");
+      flushLine(depth + 1);
+    } else {
+      TagAdapter<Tag> base = axion.getBaseTagAdapter();
+      int printed = 0;
+      for (Tag child : tag) {
+        if (printed == maxElements) {
+          line.append("... ").append(size - printed).append(" more");
+          flushLine(depth + 1);
+          break;
+        }
+        base.print(child, depth + 1, this);
+        printed++;
+      }
+    }
+    line.append(CLOSE);
+    flushLine(depth);
+  }
+
+  /**
+   * Prints text that is already indented and split into lines, such as the text appended by an adapter that overrides
+   * {@link TagAdapter#toString(Tag, StringBuilder)}. No limits apply to the text.
+   */
+  void printText(final CharSequence text) throws IOException {
+    out.append(text);
+  }
+
+  private void flushLine(final int depth) throws IOException {
+    out.append(indent(depth)).append(line).append(SEP);
+    line.setLength(0);
+  }
+
+  private String indent(final int depth) {
+    if (depth >= indents.length) {
+      int oldLength = indents.length;
+      indents = Arrays.copyOf(indents, Math.max(depth + 1, oldLength * 2));
+      for (int i = oldLength; i < indents.length; i++) {
+        indents[i] = indents[i - 1] + INDENT;
+      }
+    }
+    return indents[depth];
+  }
+
+  private void appendArrayValues(final Tag tag) {
+    int length;
+    if (tag instanceof TagByteArray) {
+      length = ((TagByteArray) tag).size();
+    } else if (tag instanceof TagIntArray) {
+      length = ((TagIntArray) tag).size();
+    } else if (tag instanceof TagBooleanArray) {
+      length = ((TagBooleanArray) tag).size();
+    } else if (tag instanceof TagDoubleArray) {
+      length = ((TagDoubleArray) tag).size();
+    } else if (tag instanceof TagFloatArray) {
+      length = ((TagFloatArray) tag).size();
+    } else if (tag instanceof TagLongArray) {
+      length = ((TagLongArray) tag).size();
+    } else if (tag instanceof TagShortArray) {
+      length = ((TagShortArray) tag).size();
+    } else if (tag instanceof TagStringArray) {
+      length = ((TagStringArray) tag).size();
+    } else {
+      return;
+    }
+    line.append(" [");
+    int count = Math.min(length, maxArrayElements);
+    for (int i = 0; i < count; i++) {
+      if (i > 0) {
+        line.append(", ");
+      }
+      appendArrayValue(tag, i);
+    }
+    if (count < length) {
+      line.append(count > 0 ? ", ..." : "...");
+    }
+    line.append(']');
+  }
+
+  private void appendArrayValue(final Tag tag, final int index) {
+    if (tag instanceof TagByteArray) {
+      line.append(((TagByteArray) tag).get(index));
+    } else if (tag instanceof TagIntArray) {
+      line.append(((TagIntArray) tag).get(index));
+    } else if (tag instanceof TagBooleanArray) {
+      line.append(((TagBooleanArray) tag).get(index));
+    } else if (tag instanceof TagDoubleArray) {
+      line.append(((TagDoubleArray) tag).get(index));
+    } else if (tag instanceof TagFloatArray) {
+      line.append(((TagFloatArray) tag).get(index));
+    } else if (tag instanceof TagLongArray) {
+      line.append(((TagLongArray) tag).get(index));
+    } else if (tag instanceof TagShortArray) {
+      line.append(((TagShortArray) tag).get(index));
+    } else {
+      line.append('"').append(((TagStringArray) tag).get(index)).append('"');
+    }
+  }
+
+  private static int requireNonNegative(final int value, final String name) {
+    if (value < 0) {
+      throw new IllegalArgumentException(name + " can't be negative: " + value);
+    }
+    return value;
+  }
+
+}
@@ -9,8 +9,10 @@ import com.sudoplay.axion.util.Primitives;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.reflect.Type;
 import java.util.*;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -24,6 +26,11 @@ public class TypeConverterRegistry implements Cloneable {
 
   private static final Logger LOG = LoggerFactory.getLogger(TypeConverterRegistry.class);
 
+  /**
+   * Cached for types that no factory creates a converter for.
+   */
+  private static final TypeConverter<? extends Tag, ?> NO_CONVERTER = new FutureConverter<>();
+
   private final ThreadLocal<Map<AxionTypeToken<?>, FutureConverter<?, ?>>> calls = new
       ThreadLocal<Map<AxionTypeToken<?>, FutureConverter<?, ?>>>() {
         @Override
@@ -32,8 +39,19 @@ public class TypeConverterRegistry implements Cloneable {
         }
       };
 
-  private final Map<AxionTypeToken<?>, TypeConverter<? extends Tag, ?>> converterCache = Collections.synchronizedMap
-      (new HashMap<>());
+  /**
+   * Caches the converters resolved for class tokens; replaced when the cache is cleared. The map is reachable only from
+   * this registry, so it doesn't keep the converters and their {@link Axion} instance alive once the instance is
+   * deleted.
+   */
+  private volatile ConcurrentHashMap<Class<?>, TypeConverter<? extends Tag, ?>> classCache = new
+      ConcurrentHashMap<>();
+
+  /**
+   * Caches the converters resolved for parameterized, array and wildcard type tokens.
+   */
+  private final ConcurrentHashMap<AxionTypeToken<?>, TypeConverter<? extends Tag, ?>> tokenCache = new
+      ConcurrentHashMap<>();
 
   /**
    * Maps {@link Tag} classes to their respective {@link TypeConverter}s.
@@ -92,6 +110,7 @@ public class TypeConverterRegistry implements Cloneable {
     LOG.debug("Entering registerFactory(factory=[{}])", factory);
     AxionContract.assertArgumentNotNull(factory, "factory");
     factories.add(factory.newInstance(axion));
+    clearCache();
     LOG.debug("Leaving registerFactory()");
   }
 
@@ -119,6 +138,7 @@ public class TypeConverterRegistry implements Cloneable {
     AxionTypeToken<V> valueTypeToken = AxionTypeToken.get(vClass);
     TypeConverterFactory factory = TypeConverterFactory.newFactory(valueTypeToken, converter);
     factories.add(factory);
+    clearCache();
     LOG.debug("Leaving registerTag()");
   }
 
@@ -155,76 +175,147 @@ public class TypeConverterRegistry implements Cloneable {
    * @param typeToken the {@link AxionTypeToken} of the value
    * @return the {@link TypeConverter} registered to handle the value class given
    * @throws AxionTagRegistrationException
+   * @see #findConverter(Axion, AxionTypeToken)
    */
-  @SuppressWarnings("unchecked")
   public <T extends Tag, V> TypeConverter<T, V> getConverter(
       final Axion axion,
       final AxionTypeToken<V> typeToken
   ) throws AxionTagRegistrationException {
     LOG.trace("Entering getConverter(typeToken=[{}])", typeToken);
+    AxionTypeToken<V> newTypeToken = wrapPrimitive(typeToken);
+    TypeConverter<T, V> result = resolve(axion, newTypeToken);
+    if (result == null) {
+      throw new AxionTagRegistrationException("No converter found for type: " + newTypeToken);
+    }
+    LOG.trace("Leaving getConverter(): [{}]", result);
+    return result;
+  }
+
+  /**
+   * Returns a {@link TypeConverter} capable of handling the {@link AxionTypeToken} given, or null if there is none.
+   * <p>
+   * Unlike {@link #getConverter(Axion, AxionTypeToken)}, a type without a converter doesn't throw; the miss is cached,
+   * so probing the same type again doesn't query the factories until another factory or tag is registered.
+   *
+   * @param typeToken the {@link AxionTypeToken} of the value
+   * @return the {@link TypeConverter} registered to handle the value class given, or null
+   */
+  public <T extends Tag, V> TypeConverter<T, V> findConverter(
+      final Axion axion,
+      final AxionTypeToken<V> typeToken
+  ) {
+    LOG.trace("Entering findConverter(typeToken=[{}])", typeToken);
+    AxionTypeToken<V> newTypeToken = wrapPrimitive(typeToken);
+    TypeConverter<T, V> result;
+    try {
+      result = resolve(axion, newTypeToken);
+    } catch (AxionTagRegistrationException e) {
+      // a factory matched the type, but not one of its type arguments
+      LOG.trace("Converter for type [{}] not resolved: {}", newTypeToken, e.getMessage());
+      putCached(newTypeToken, NO_CONVERTER);
+      result = null;
+    }
+    LOG.trace("Leaving findConverter(): [{}]", result);
+    return result;
+  }
+
+  /**
+   * Returns true if the given {@link AxionTypeToken} has a converter registered.
+   *
+   * @param typeToken typeToken
+   * @return true if the given {@link AxionTypeToken} has a converter registered
+   */
+  public boolean hasConverter(
+      Axion axion,
+      AxionTypeToken<?> typeToken
+  ) {
+    return findConverter(axion, typeToken) != null;
+  }
 
-    AxionTypeToken<V> newTypeToken = typeToken;
+  /**
+   * Maps primitive type tokens to the tokens of their wrappers; class tokens are interned, so this doesn't create a
+   * token.
+   */
+  @SuppressWarnings("unchecked")
+  private static <V> AxionTypeToken<V> wrapPrimitive(final AxionTypeToken<V> typeToken) {
     if (Primitives.isPrimitive(typeToken.getType())) {
       Class<V> c = (Class<V>) typeToken.getRawType();
-      newTypeToken = AxionTypeToken.get(Primitives.wrap(c));
+      return AxionTypeToken.get(Primitives.wrap(c));
     }
+    return typeToken;
+  }
+
+  /**
+   * Returns the cached converter for the type token given, or asks the factories for one and caches the result, the
+   * miss included. Returns null if no factory creates a converter for the type.
+   */
+  @SuppressWarnings("unchecked")
+  private <T extends Tag, V> TypeConverter<T, V> resolve(
+      final Axion axion,
+      final AxionTypeToken<V> typeToken
+  ) throws AxionTagRegistrationException {
 
-    TypeConverter<?, ?> cachedConverter = converterCache.get(newTypeToken);
-    if (cachedConverter != null) {
-      LOG.trace(
-          "Leaving getConverter(): found cached converter -> {}, for type -> {}",
-          cachedConverter,
-          newTypeToken
-      );
+    TypeConverter<?, ?> cachedConverter = getCached(typeToken);
+    if (cachedConverter == NO_CONVERTER) {
+      LOG.trace("No converter for type [{}], cached", typeToken);
+      return null;
+    } else if (cachedConverter != null) {
+      LOG.trace("Found cached converter -> {}, for type -> {}", cachedConverter, typeToken);
       return (TypeConverter<T, V>) cachedConverter;
     }
-    LOG.trace("Converter for type [{}] not found in cache", newTypeToken);
+    LOG.trace("Converter for type [{}] not found in cache", typeToken);
 
     Map<AxionTypeToken<?>, FutureConverter<? extends Tag, ?>> threadCalls = calls.get();
-    FutureConverter<T, V> ongoingCall = (FutureConverter<T, V>) threadCalls.get(newTypeToken);
+    FutureConverter<T, V> ongoingCall = (FutureConverter<T, V>) threadCalls.get(typeToken);
     if (ongoingCall != null) {
-      LOG.trace("Leaving getConverter(): ongoingCall for type -> {}", newTypeToken);
+      LOG.trace("Ongoing call for type -> {}", typeToken);
       return ongoingCall;
     }
 
     FutureConverter<T, V> call = new FutureConverter<>();
-    threadCalls.put(newTypeToken, call);
+    threadCalls.put(typeToken, call);
     try {
       for (TypeConverterFactory factory : factories) {
-        TypeConverter<T, V> candidate = factory.create(axion, newTypeToken);
+        TypeConverter<T, V> candidate = factory.create(axion, typeToken);
         if (candidate != null) {
           call.setDelegate(candidate);
-          converterCache.put(newTypeToken, candidate);
-          LOG.trace("Leaving getConverter(): found new converter -> {}, for type -> {}", candidate, newTypeToken);
+          putCached(typeToken, candidate);
+          LOG.trace("Found new converter -> {}, for type -> {}", candidate, typeToken);
           return candidate;
         }
       }
-      throw new AxionTagRegistrationException("No converter found for type: " + newTypeToken);
+      putCached(typeToken, NO_CONVERTER);
+      return null;
     } finally {
-      threadCalls.remove(newTypeToken);
+      threadCalls.remove(typeToken);
     }
   }
 
   /**
-   * Returns true if the given {@link AxionTypeToken} has a converter registered.
+   * Resolves the converters for the value types given, and through the factories, the converters for their type
+   * arguments and fields, so that later lookups of these types are cache hits.
+   * <p>
+   * If no converter is found for one of the types, an exception is thrown.
    *
-   * @param typeToken typeToken
-   * @return true if the given {@link AxionTypeToken} has a converter registered
+   * @param typeTokens the value types to resolve
+   * @return the time taken to resolve each type
+   * @throws AxionTagRegistrationException
    */
-  public boolean hasConverter(
-      Axion axion,
-      AxionTypeToken<?> typeToken
-  ) {
-    if (converterCache.containsKey(typeToken)) {
-      return true;
-    } else {
-      try {
-        getConverter(axion, typeToken);
-        return true;
-      } catch (AxionTagRegistrationException e) {
-        return false;
-      }
+  public TypeConverterWarmUpReport warmUp(
+      final Axion axion,
+      final Collection<AxionTypeToken<?>> typeTokens
+  ) throws AxionTagRegistrationException {
+    LOG.debug("Entering warmUp(typeTokens=[{}])", typeTokens);
+    Map<AxionTypeToken<?>, Long> nanosByType = new LinkedHashMap<>();
+    long start = System.nanoTime();
+    for (AxionTypeToken<?> typeToken : typeTokens) {
+      long typeStart = System.nanoTime();
+      getConverter(axion, typeToken);
+      nanosByType.put(typeToken, System.nanoTime() - typeStart);
     }
+    TypeConverterWarmUpReport report = new TypeConverterWarmUpReport(nanosByType, System.nanoTime() - start);
+    LOG.debug("Leaving warmUp(): [{}]", report);
+    return report;
   }
 
   /**
@@ -237,6 +328,36 @@ public class TypeConverterRegistry implements Cloneable {
     return tagToConverter.containsKey(tagClass);
   }
 
+  /**
+   * Returns the cached converter for the type token given, {@link #NO_CONVERTER} if the type has no converter, or null
+   * if the type hasn't been resolved yet.
+   */
+  private TypeConverter<? extends Tag, ?> getCached(final AxionTypeToken<?> typeToken) {
+    Type type = typeToken.getType();
+    if (type instanceof Class<?>) {
+      return classCache.get(type);
+    }
+    return tokenCache.get(typeToken);
+  }
+
+  private void putCached(final AxionTypeToken<?> typeToken, final TypeConverter<? extends Tag, ?> converter) {
+    Type type = typeToken.getType();
+    if (type instanceof Class<?>) {
+      classCache.put((Class<?>) type, converter);
+    } else {
+      tokenCache.put(typeToken, converter);
+    }
+  }
+
+  /**
+   * Drops every resolved converter and cached miss; called when a factory or tag is registered, as it may take
+   * precedence over or resolve types differently than the cached converters.
+   */
+  private void clearCache() {
+    classCache = new ConcurrentHashMap<>();
+    tokenCache.clear();
+  }
+
   public TypeConverterRegistry copy(Axion axion) {
     LOG.debug("Entering copy()");
     TypeConverterRegistry copy = new TypeConverterRegistry(axion, this);
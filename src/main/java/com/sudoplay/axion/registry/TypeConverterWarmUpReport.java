@@ -0,0 +1,61 @@
+package com.sudoplay.axion.registry;
+
+import com.sudoplay.axion.util.AxionTypeToken;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The result of a {@link TypeConverterRegistry#warmUp(com.sudoplay.axion.Axion, java.util.Collection)} run: the time
+ * taken to resolve the converter graph of each declared value type.
+ *
+ * @author Jason Taylor
+ */
+public class TypeConverterWarmUpReport {
+
+  private final Map<AxionTypeToken<?>, Long> nanosByType;
+  private final long totalNanos;
+
+  TypeConverterWarmUpReport(final Map<AxionTypeToken<?>, Long> newNanosByType, final long newTotalNanos) {
+    nanosByType = Collections.unmodifiableMap(newNanosByType);
+    totalNanos = newTotalNanos;
+  }
+
+  /**
+   * Returns the nanoseconds taken to resolve each declared value type, in declaration order. A type resolved as part of
+   * an earlier type's graph takes next to no time.
+   *
+   * @return the nanoseconds taken to resolve each declared value type
+   */
+  public Map<AxionTypeToken<?>, Long> getNanosByType() {
+    return nanosByType;
+  }
+
+  /**
+   * @return the number of declared value types resolved
+   */
+  public int getTypeCount() {
+    return nanosByType.size();
+  }
+
+  /**
+   * @return the nanoseconds taken to resolve all declared value types
+   */
+  public long getTotalNanos() {
+    return totalNanos;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder out = new StringBuilder();
+    out.append("Resolved ").append(nanosByType.size()).append(" value types in ")
+        .append(TimeUnit.NANOSECONDS.toMicros(totalNanos)).append(" us\n");
+    for (Map.Entry<AxionTypeToken<?>, Long> entry : nanosByType.entrySet()) {
+      out.append("  ").append(entry.getKey()).append(": ")
+          .append(TimeUnit.NANOSECONDS.toMicros(entry.getValue())).append(" us\n");
+    }
+    return out.toString();
+  }
+
+}
@@ -1,6 +1,7 @@
 package com.sudoplay.axion.spec.adapter;
 
 import com.sudoplay.axion.registry.TagAdapter;
+import com.sudoplay.axion.registry.TagPrinter;
 import com.sudoplay.axion.spec.tag.TagList;
 import com.sudoplay.axion.stream.AxionInputStream;
 import com.sudoplay.axion.stream.AxionOutputStream;
@@ -29,6 +30,7 @@ public class BaseTagAdapter extends TagAdapter<Tag> {
       LOG.debug("Leaving read(): null");
       return null;
     } else {
+      in.countElements(1);
       Tag tag = axion.getAdapterFor(id).read(parent, in);
       LOG.debug("Leaving read(): [{}]", tag);
       return tag;
@@ -48,8 +50,21 @@ public class BaseTagAdapter extends TagAdapter<Tag> {
   }
 
   @Override
-  public StringBuilder toString(final Tag tag, final StringBuilder out) {
-    return axion.getAdapterFor(tag.getClass()).toString(tag, out);
+  public void print(final Tag tag, final int depth, final TagPrinter printer) throws IOException {
+    axion.getAdapterFor(tag.getClass()).printTag(tag, depth, printer);
+  }
+
+  /**
+   * Skips a whole tag, its id, name and payload, or the end of a compound.
+   */
+  @Override
+  public void skipPayload(final AxionInputStream in) throws IOException {
+    int id = in.readUnsignedByte();
+    if (id != 0) {
+      in.countElements(1);
+      in.skipString();
+      axion.getAdapterFor(id).skipPayload(in);
+    }
   }
 
 }
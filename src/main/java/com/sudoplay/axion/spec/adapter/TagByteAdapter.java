@@ -32,9 +32,20 @@ public class TagByteAdapter extends TagAdapter<TagByte> {
   @Override
   public TagByte read(final Tag parent, final AxionInputStream in) throws IOException {
     LOG.trace("Entering read(parent=[{}], in=[{}])", parent, in);
-    TagByte result = new TagByte((parent instanceof TagList) ? null : in.readString(), in.readByte());
+    String name = (parent instanceof TagList) ? null : in.readString();
+    TagByte result = recycle(TagByte.class, name, in);
+    if (result == null) {
+      result = new TagByte(name, in.readByte());
+    } else {
+      result.set(in.readByte());
+    }
     LOG.trace("Leaving read(): [{}]", result);
     return result;
   }
 
+  @Override
+  public void skipPayload(final AxionInputStream in) throws IOException {
+    in.skipFully(1);
+  }
+
 }
@@ -35,11 +35,28 @@ public class TagByteArrayAdapter extends TagAdapter<TagByteArray> {
   public TagByteArray read(final Tag parent, final AxionInputStream in) throws IOException {
     LOG.trace("Entering read(parent=[{}], in=[{}])", parent, in);
     String name = (parent instanceof TagList) ? null : in.readString();
-    byte[] data = new byte[in.readInt()];
-    in.readFully(data);
-    TagByteArray result = new TagByteArray(name, data);
+    int len = in.readArrayLength(1);
+    TagByteArray result = recycle(TagByteArray.class, name, in);
+    if (result != null && result.size() == len) {
+      for (int i = 0; i < len; i++) {
+        result.set(i, in.readByte());
+      }
+    } else {
+      byte[] data = new byte[len];
+      in.readFully(data);
+      if (result == null) {
+        result = new TagByteArray(name, data);
+      } else {
+        result.set(data);
+      }
+    }
     LOG.trace("Leaving read(): [{}]", result);
     return result;
   }
 
+  @Override
+  public void skipPayload(final AxionInputStream in) throws IOException {
+    in.skipFully(in.readArrayLength(1));
+  }
+
 }
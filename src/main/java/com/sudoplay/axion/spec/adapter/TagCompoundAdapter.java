@@ -2,16 +2,17 @@ package com.sudoplay.axion.spec.adapter;
 
 import com.sudoplay.axion.Axion;
 import com.sudoplay.axion.registry.TagAdapter;
+import com.sudoplay.axion.registry.TagPrinter;
 import com.sudoplay.axion.spec.tag.TagCompound;
 import com.sudoplay.axion.spec.tag.TagList;
 import com.sudoplay.axion.stream.AxionInputStream;
 import com.sudoplay.axion.stream.AxionOutputStream;
+import com.sudoplay.axion.tag.EncodedTagCache;
 import com.sudoplay.axion.tag.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.util.Collection;
 
 /**
  * The {@link TagAdapter} used to read and write a {@link TagCompound}.
@@ -27,36 +28,55 @@ public class TagCompoundAdapter extends TagAdapter<TagCompound> {
   @Override
   public void write(final TagCompound tag, final AxionOutputStream out) throws IOException {
     LOG.debug("Entering write(tag=[{}], out=[{}])", tag, out);
+    EncodedTagCache cache = out.getEncodedTagCache();
+    if (cache == null) {
+      writePayload(tag, out);
+    } else {
+      cache.write(tag, out, this::writePayload);
+    }
+    LOG.debug("Leaving write()");
+  }
+
+  private void writePayload(final TagCompound tag, final AxionOutputStream out) throws IOException {
     for (Tag child : tag.getAsMap().values()) {
       axion.getBaseTagAdapter().write(child, out);
     }
     out.writeByte(0);
-    LOG.debug("Leaving write()");
   }
 
   @Override
   public TagCompound read(final Tag parent, final AxionInputStream in) throws IOException {
     LOG.debug("Entering read(parent=[{}], in=[{}])", parent, in);
-    TagCompound tag = new TagCompound((parent instanceof TagList) ? null : in.readString());
+    String name = (parent instanceof TagList) ? null : in.readString();
+    TagCompound tag = recycle(TagCompound.class, name, in);
+    if (tag == null) {
+      tag = new TagCompound(name);
+    }
     Tag child;
+    in.enterContainer();
     while ((child = axion.getBaseTagAdapter().read(tag, in)) != null) {
       tag.put(child);
     }
+    in.exitContainer();
     LOG.debug("Leaving read(): [{}]", tag);
     return tag;
   }
 
-  @SuppressWarnings("ResultOfMethodCallIgnored")
   @Override
-  public StringBuilder toString(Tag tag, StringBuilder out) {
-    super.toString(tag, out);
-    applyIndent(tag, out).append(OPEN).append(SEP);
-    Collection<Tag> collection = ((TagCompound) tag).getAsMap().values();
-    for (Tag t : collection) {
-      axion.getBaseTagAdapter().toString(t, out);
+  public void print(final Tag tag, final int depth, final TagPrinter printer) throws IOException {
+    printer.printContainer((TagCompound) tag, depth);
+  }
+
+  @Override
+  public void skipPayload(final AxionInputStream in) throws IOException {
+    in.enterContainer();
+    int id;
+    while ((id = in.readUnsignedByte()) != 0) {
+      in.countElements(1);
+      in.skipString();
+      axion.getAdapterFor(id).skipPayload(in);
     }
-    applyIndent(tag, out).append(CLOSE).append(SEP);
-    return out;
+    in.exitContainer();
   }
 
 }
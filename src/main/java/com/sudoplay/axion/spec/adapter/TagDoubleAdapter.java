@@ -32,9 +32,20 @@ public class TagDoubleAdapter extends TagAdapter<TagDouble> {
   @Override
   public TagDouble read(final Tag parent, final AxionInputStream in) throws IOException {
     LOG.trace("Entering read(parent=[{}], in=[{}])", parent, in);
-    TagDouble result = new TagDouble((parent instanceof TagList) ? null : in.readString(), in.readDouble());
+    String name = (parent instanceof TagList) ? null : in.readString();
+    TagDouble result = recycle(TagDouble.class, name, in);
+    if (result == null) {
+      result = new TagDouble(name, in.readDouble());
+    } else {
+      result.set(in.readDouble());
+    }
     LOG.trace("Leaving read(): [{}]", result);
     return result;
   }
 
+  @Override
+  public void skipPayload(final AxionInputStream in) throws IOException {
+    in.skipFully(8);
+  }
+
 }
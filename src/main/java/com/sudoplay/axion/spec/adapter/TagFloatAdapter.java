@@ -32,9 +32,20 @@ public class TagFloatAdapter extends TagAdapter<TagFloat> {
   @Override
   public TagFloat read(final Tag parent, final AxionInputStream in) throws IOException {
     LOG.trace("Entering read(parent=[{}], in=[{}])", parent, in);
-    TagFloat result = new TagFloat((parent instanceof TagList) ? null : in.readString(), in.readFloat());
+    String name = (parent instanceof TagList) ? null : in.readString();
+    TagFloat result = recycle(TagFloat.class, name, in);
+    if (result == null) {
+      result = new TagFloat(name, in.readFloat());
+    } else {
+      result.set(in.readFloat());
+    }
     LOG.trace("Leaving read(): [{}]", result);
     return result;
   }
 
+  @Override
+  public void skipPayload(final AxionInputStream in) throws IOException {
+    in.skipFully(4);
+  }
+
 }
@@ -32,9 +32,20 @@ public class TagIntAdapter extends TagAdapter<TagInt> {
   @Override
   public TagInt read(final Tag parent, final AxionInputStream in) throws IOException {
     LOG.trace("Entering read(parent=[{}], in=[{}])", parent, in);
-    TagInt result = new TagInt((parent instanceof TagList) ? null : in.readString(), in.readInt());
+    String name = (parent instanceof TagList) ? null : in.readString();
+    TagInt result = recycle(TagInt.class, name, in);
+    if (result == null) {
+      result = new TagInt(name, in.readInt());
+    } else {
+      result.set(in.readInt());
+    }
     LOG.trace("Leaving read(): [{}]", result);
     return result;
   }
 
+  @Override
+  public void skipPayload(final AxionInputStream in) throws IOException {
+    in.skipFully(4);
+  }
+
 }
@@ -38,14 +38,30 @@ public class TagIntArrayAdapter extends TagAdapter<TagIntArray> {
   public TagIntArray read(final Tag parent, final AxionInputStream in) throws IOException {
     LOG.trace("Entering read(parent=[{}], in=[{}])", parent, in);
     String name = (parent instanceof TagList) ? null : in.readString();
-    int len = in.readInt();
-    int[] data = new int[len];
-    for (int i = 0; i < len; i++) {
-      data[i] = in.readInt();
+    int len = in.readArrayLength(4);
+    TagIntArray result = recycle(TagIntArray.class, name, in);
+    if (result != null && result.size() == len) {
+      for (int i = 0; i < len; i++) {
+        result.set(i, in.readInt());
+      }
+    } else {
+      int[] data = new int[len];
+      for (int i = 0; i < len; i++) {
+        data[i] = in.readInt();
+      }
+      if (result == null) {
+        result = new TagIntArray(name, data);
+      } else {
+        result.set(data);
+      }
     }
-    TagIntArray result = new TagIntArray(name, data);
     LOG.trace("Leaving read(): [{}]", result);
     return result;
   }
 
+  @Override
+  public void skipPayload(final AxionInputStream in) throws IOException {
+    in.skipFully((long) in.readArrayLength(4) * 4);
+  }
+
 }
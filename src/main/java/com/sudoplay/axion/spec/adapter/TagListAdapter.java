@@ -1,16 +1,16 @@
 package com.sudoplay.axion.spec.adapter;
 
 import com.sudoplay.axion.registry.TagAdapter;
+import com.sudoplay.axion.registry.TagPrinter;
 import com.sudoplay.axion.spec.tag.TagList;
 import com.sudoplay.axion.stream.AxionInputStream;
 import com.sudoplay.axion.stream.AxionOutputStream;
+import com.sudoplay.axion.tag.EncodedTagCache;
 import com.sudoplay.axion.tag.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * The {@link TagAdapter} used to read and write a {@link TagList}.
@@ -26,6 +26,16 @@ public class TagListAdapter extends TagAdapter<TagList> {
   @Override
   public void write(final TagList tag, final AxionOutputStream out) throws IOException {
     LOG.debug("Entering write(tag=[{}], out=[{}])", tag, out);
+    EncodedTagCache cache = out.getEncodedTagCache();
+    if (cache == null) {
+      writePayload(tag, out);
+    } else {
+      cache.write(tag, out, this::writePayload);
+    }
+    LOG.debug("Leaving write()");
+  }
+
+  private void writePayload(final TagList tag, final AxionOutputStream out) throws IOException {
     int size = tag.size();
     int type = axion.getIdFor(tag.getType());
     out.writeByte(type);
@@ -36,7 +46,6 @@ public class TagListAdapter extends TagAdapter<TagList> {
       child = tag.get(i);
       adapter.write(child, out);
     }
-    LOG.debug("Leaving write()");
   }
 
   @Override
@@ -44,29 +53,43 @@ public class TagListAdapter extends TagAdapter<TagList> {
     LOG.debug("Entering read(parent=[{}], in=[{}])", parent, in);
     String name = (parent instanceof TagList) ? null : in.readString();
     Class<? extends Tag> type = axion.getClassFor(in.readUnsignedByte());
-    int size = in.readInt();
-    TagList tagList = new TagList(type, name, new ArrayList<>());
+    int size = in.readListSize();
+    TagList tagList = (in.getArena() == null) ? null : in.getArena().takeList(type);
+    int capacity = Math.min(size, AxionInputStream.MAX_INITIAL_LIST_CAPACITY);
+    if (tagList == null) {
+      tagList = new TagList(type, name, capacity);
+    } else {
+      tagList.setName(name);
+      tagList.ensureCapacity(capacity);
+    }
     TagAdapter<? extends Tag> adapter = axion.getAdapterFor(type);
     Tag child;
+    in.enterContainer();
     for (int i = 0; i < size; i++) {
       child = adapter.read(tagList, in);
       tagList.add(child);
     }
+    in.exitContainer();
     LOG.debug("Leaving read(): [{}]", tagList);
     return tagList;
   }
 
-  @SuppressWarnings("ResultOfMethodCallIgnored")
   @Override
-  public StringBuilder toString(final Tag tag, final StringBuilder out) {
-    super.toString(tag, out);
-    applyIndent(tag, out).append(OPEN).append(SEP);
-    List<Tag> list = ((TagList) tag).getAsList();
-    for (Tag t : list) {
-      axion.getBaseTagAdapter().toString(t, out);
+  public void print(final Tag tag, final int depth, final TagPrinter printer) throws IOException {
+    printer.printContainer((TagList) tag, depth);
+  }
+
+  @Override
+  public void skipPayload(final AxionInputStream in) throws IOException {
+    int type = in.readUnsignedByte();
+    axion.getClassFor(type);
+    int size = in.readListSize();
+    TagAdapter<? extends Tag> adapter = axion.getAdapterFor(type);
+    in.enterContainer();
+    for (int i = 0; i < size; i++) {
+      adapter.skipPayload(in);
     }
-    applyIndent(tag, out).append(CLOSE).append(SEP);
-    return out;
+    in.exitContainer();
   }
 
 }
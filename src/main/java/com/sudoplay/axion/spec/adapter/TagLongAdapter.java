@@ -32,9 +32,20 @@ public class TagLongAdapter extends TagAdapter<TagLong> {
   @Override
   public TagLong read(final Tag parent, final AxionInputStream in) throws IOException {
     LOG.trace("Entering read(parent=[{}], in=[{}])", parent, in);
-    TagLong result = new TagLong((parent instanceof TagList) ? null : in.readString(), in.readLong());
+    String name = (parent instanceof TagList) ? null : in.readString();
+    TagLong result = recycle(TagLong.class, name, in);
+    if (result == null) {
+      result = new TagLong(name, in.readLong());
+    } else {
+      result.set(in.readLong());
+    }
     LOG.trace("Leaving read(): [{}]", result);
     return result;
   }
 
+  @Override
+  public void skipPayload(final AxionInputStream in) throws IOException {
+    in.skipFully(8);
+  }
+
 }
@@ -32,9 +32,20 @@ public class TagShortAdapter extends TagAdapter<TagShort> {
   @Override
   public TagShort read(final Tag parent, final AxionInputStream in) throws IOException {
     LOG.trace("Entering read(parent=[{}], in=[{}])", parent, in);
-    TagShort result = new TagShort((parent instanceof TagList) ? null : in.readString(), in.readShort());
+    String name = (parent instanceof TagList) ? null : in.readString();
+    TagShort result = recycle(TagShort.class, name, in);
+    if (result == null) {
+      result = new TagShort(name, in.readShort());
+    } else {
+      result.set(in.readShort());
+    }
     LOG.trace("Leaving read(): [{}]", result);
     return result;
   }
 
+  @Override
+  public void skipPayload(final AxionInputStream in) throws IOException {
+    in.skipFully(2);
+  }
+
 }
@@ -32,9 +32,20 @@ public class TagStringAdapter extends TagAdapter<TagString> {
   @Override
   public TagString read(final Tag parent, final AxionInputStream in) throws IOException {
     LOG.trace("Entering read(parent=[{}], in=[{}])", parent, in);
-    TagString result = new TagString((parent instanceof TagList) ? null : in.readString(), in.readString());
+    String name = (parent instanceof TagList) ? null : in.readString();
+    TagString result = recycle(TagString.class, name, in);
+    if (result == null) {
+      result = new TagString(name, in.readString());
+    } else {
+      result.set(in.readString());
+    }
     LOG.trace("Leaving read(): [{}]", result);
     return result;
   }
 
+  @Override
+  public void skipPayload(final AxionInputStream in) throws IOException {
+    in.skipString();
+  }
+
 }
@@ -1,5 +1,6 @@
 package com.sudoplay.axion.spec.converter;
 
+import com.sudoplay.axion.registry.PrimitiveTypeConverter;
 import com.sudoplay.axion.registry.TypeConverter;
 import com.sudoplay.axion.registry.TypeConverterFactory;
 import com.sudoplay.axion.spec.tag.TagByte;
@@ -12,7 +13,7 @@ import com.sudoplay.axion.util.AxionTypeToken;
  *
  * @author Jason Taylor
  */
-public class TagByteConverter extends TypeConverter<TagByte, Byte> {
+public class TagByteConverter extends TypeConverter<TagByte, Byte> implements PrimitiveTypeConverter.OfByte<TagByte> {
 
   public static TypeConverterFactory FACTORY = TypeConverterFactory.newFactory(AxionTypeToken.get(Byte.class), new
       TagByteConverter());
@@ -27,4 +28,14 @@ public class TagByteConverter extends TypeConverter<TagByte, Byte> {
     return tag.get();
   }
 
+  @Override
+  public TagByte convert(final String name, final byte value) {
+    return new TagByte(name, value);
+  }
+
+  @Override
+  public byte convertByte(final TagByte tag) {
+    return tag.get();
+  }
+
 }
@@ -1,5 +1,6 @@
 package com.sudoplay.axion.spec.converter;
 
+import com.sudoplay.axion.registry.PrimitiveTypeConverter;
 import com.sudoplay.axion.registry.TypeConverter;
 import com.sudoplay.axion.spec.tag.TagDouble;
 
@@ -10,7 +11,8 @@ import com.sudoplay.axion.spec.tag.TagDouble;
  *
  * @author Jason Taylor
  */
-public class TagDoubleConverter extends TypeConverter<TagDouble, Double> {
+public class TagDoubleConverter extends TypeConverter<TagDouble, Double> implements
+    PrimitiveTypeConverter.OfDouble<TagDouble> {
 
   @Override
   public TagDouble convert(final String name, final Double value) {
@@ -22,4 +24,14 @@ public class TagDoubleConverter extends TypeConverter<TagDouble, Double> {
     return tag.get();
   }
 
+  @Override
+  public TagDouble convert(final String name, final double value) {
+    return new TagDouble(name, value);
+  }
+
+  @Override
+  public double convertDouble(final TagDouble tag) {
+    return tag.get();
+  }
+
 }
@@ -1,5 +1,6 @@
 package com.sudoplay.axion.spec.converter;
 
+import com.sudoplay.axion.registry.PrimitiveTypeConverter;
 import com.sudoplay.axion.registry.TypeConverter;
 import com.sudoplay.axion.spec.tag.TagFloat;
 
@@ -10,7 +11,8 @@ import com.sudoplay.axion.spec.tag.TagFloat;
  *
  * @author Jason Taylor
  */
-public class TagFloatConverter extends TypeConverter<TagFloat, Float> {
+public class TagFloatConverter extends TypeConverter<TagFloat, Float> implements
+    PrimitiveTypeConverter.OfFloat<TagFloat> {
 
   @Override
   public TagFloat convert(final String name, final Float value) {
@@ -22,4 +24,14 @@ public class TagFloatConverter extends TypeConverter<TagFloat, Float> {
     return tag.get();
   }
 
+  @Override
+  public TagFloat convert(final String name, final float value) {
+    return new TagFloat(name, value);
+  }
+
+  @Override
+  public float convertFloat(final TagFloat tag) {
+    return tag.get();
+  }
+
 }
@@ -1,5 +1,6 @@
 package com.sudoplay.axion.spec.converter;
 
+import com.sudoplay.axion.registry.PrimitiveTypeConverter;
 import com.sudoplay.axion.registry.TypeConverter;
 import com.sudoplay.axion.spec.tag.TagInt;
 
@@ -10,7 +11,7 @@ import com.sudoplay.axion.spec.tag.TagInt;
  *
  * @author Jason Taylor
  */
-public class TagIntConverter extends TypeConverter<TagInt, Integer> {
+public class TagIntConverter extends TypeConverter<TagInt, Integer> implements PrimitiveTypeConverter.OfInt<TagInt> {
 
   @Override
   public TagInt convert(final String name, final Integer value) {
@@ -22,4 +23,14 @@ public class TagIntConverter extends TypeConverter<TagInt, Integer> {
     return tag.get();
   }
 
-}
\ No newline at end of file
+  @Override
+  public TagInt convert(final String name, final int value) {
+    return new TagInt(name, value);
+  }
+
+  @Override
+  public int convertInt(final TagInt tag) {
+    return tag.get();
+  }
+
+}
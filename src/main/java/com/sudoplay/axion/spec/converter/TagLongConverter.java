@@ -1,5 +1,6 @@
 package com.sudoplay.axion.spec.converter;
 
+import com.sudoplay.axion.registry.PrimitiveTypeConverter;
 import com.sudoplay.axion.registry.TypeConverter;
 import com.sudoplay.axion.spec.tag.TagLong;
 
@@ -10,7 +11,7 @@ import com.sudoplay.axion.spec.tag.TagLong;
  *
  * @author Jason Taylor
  */
-public class TagLongConverter extends TypeConverter<TagLong, Long> {
+public class TagLongConverter extends TypeConverter<TagLong, Long> implements PrimitiveTypeConverter.OfLong<TagLong> {
 
   @Override
   public TagLong convert(final String name, final Long value) {
@@ -22,4 +23,14 @@ public class TagLongConverter extends TypeConverter<TagLong, Long> {
     return tag.get();
   }
 
+  @Override
+  public TagLong convert(final String name, final long value) {
+    return new TagLong(name, value);
+  }
+
+  @Override
+  public long convertLong(final TagLong tag) {
+    return tag.get();
+  }
+
 }
@@ -1,5 +1,6 @@
 package com.sudoplay.axion.spec.converter;
 
+import com.sudoplay.axion.registry.PrimitiveTypeConverter;
 import com.sudoplay.axion.registry.TypeConverter;
 import com.sudoplay.axion.spec.tag.TagShort;
 
@@ -10,7 +11,8 @@ import com.sudoplay.axion.spec.tag.TagShort;
  *
  * @author Jason Taylor
  */
-public class TagShortConverter extends TypeConverter<TagShort, Short> {
+public class TagShortConverter extends TypeConverter<TagShort, Short> implements
+    PrimitiveTypeConverter.OfShort<TagShort> {
 
   @Override
   public TagShort convert(final String name, final Short value) {
@@ -22,4 +24,14 @@ public class TagShortConverter extends TypeConverter<TagShort, Short> {
     return tag.get();
   }
 
+  @Override
+  public TagShort convert(final String name, final short value) {
+    return new TagShort(name, value);
+  }
+
+  @Override
+  public short convertShort(final TagShort tag) {
+    return tag.get();
+  }
+
 }
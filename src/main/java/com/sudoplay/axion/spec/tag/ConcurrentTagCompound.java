@@ -0,0 +1,317 @@
+package com.sudoplay.axion.spec.tag;
+
+import com.sudoplay.axion.tag.AxionIllegalTagNameException;
+import com.sudoplay.axion.tag.AxionIllegalTagStateException;
+import com.sudoplay.axion.tag.AxionInvalidTagException;
+import com.sudoplay.axion.tag.Tag;
+import com.sudoplay.axion.util.MemoryEstimates;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A thread-safe {@link TagCompound} backed by a {@link ConcurrentHashMap}.
+ * <p>
+ * Lookups never block, iteration is weakly consistent, and {@link #put(Tag)}, {@link #putIfAbsent(Tag)}, {@link
+ * #computeIfAbsent(String, Function)}, the <code>replace</code> methods and the <code>remove</code> methods are atomic
+ * with respect to each other and to {@link Tag#removeFromParent()} on a child. Parent links are claimed and released
+ * while holding the child's monitor, so a tag that is put into two {@link ConcurrentTagCompound}s concurrently ends up
+ * in exactly one of them and the other put fails with an {@link AxionIllegalTagStateException}.
+ * <p>
+ * Only the compound's own map is thread-safe: children should be replaced rather than mutated in place when they are
+ * shared between threads, unless they are concurrent containers themselves. Hash codes and encoded payloads of a
+ * {@link ConcurrentTagCompound} are never memoized. Changes are still reported to the parent container, so a regular
+ * container above a {@link ConcurrentTagCompound} should not be hashed or written while workers update it.
+ * <p>
+ * A {@link ConcurrentTagCompound} is written and read as a regular {@link TagCompound}; it is not equal to a {@link
+ * TagCompound} with the same entries, and it can't be added to a {@link TagList} of {@link TagCompound}s.
+ *
+ * @author Jason Taylor
+ */
+public class ConcurrentTagCompound extends TagCompound {
+
+  private final ConcurrentHashMap<String, Tag> map;
+
+  /**
+   * Creates a new {@link ConcurrentTagCompound} with no name and an empty backing map.
+   */
+  public ConcurrentTagCompound() {
+    this(null, null);
+  }
+
+  /**
+   * Creates a new {@link ConcurrentTagCompound} with the given name and an empty backing map.
+   *
+   * @param newName the {@link Tag} name
+   */
+  public ConcurrentTagCompound(final String newName) {
+    this(newName, null);
+  }
+
+  /**
+   * Creates a new {@link ConcurrentTagCompound} with the given name and a copy of the map given as the backing map.
+   *
+   * @param newName the {@link Tag} name
+   * @param newMap  the {@link Map} value
+   */
+  public ConcurrentTagCompound(final String newName, final Map<String, Tag> newMap) {
+    this(newName, newMap, new ConcurrentHashMap<>());
+  }
+
+  private ConcurrentTagCompound(
+      final String newName,
+      final Map<String, Tag> newMap,
+      final ConcurrentHashMap<String, Tag> backingMap
+  ) {
+    super(newName, newMap, backingMap);
+    map = backingMap;
+  }
+
+  /**
+   * Atomically adds a {@link Tag} to this compound, replacing any tag with the same name.
+   *
+   * @param tag the {@link Tag} to add
+   * @throws AxionIllegalTagStateException if the tag already has a parent other than this compound
+   */
+  @Override
+  public void put(final Tag tag) throws AxionIllegalTagStateException {
+    assertValid(tag);
+    Tag[] old = new Tag[1];
+    map.compute(tag.getName(), (key, current) -> {
+      if (current != tag) {
+        claim(tag);
+      }
+      old[0] = current;
+      return tag;
+    });
+    displaced(old[0], tag);
+    onChange();
+  }
+
+  /**
+   * Atomically adds a {@link Tag} to this compound if it has no tag with the same name.
+   *
+   * @param tag the {@link Tag} to add
+   * @param <T> tag type
+   * @return the tag already present with the same name, or null if the tag given was added
+   * @throws AxionIllegalTagStateException if the tag would be added but already has a parent
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends Tag> T putIfAbsent(final Tag tag) throws AxionIllegalTagStateException {
+    assertValid(tag);
+    boolean[] added = new boolean[1];
+    Tag result = map.computeIfAbsent(tag.getName(), key -> {
+      claim(tag);
+      added[0] = true;
+      return tag;
+    });
+    if (!added[0]) {
+      return (T) result;
+    }
+    onChange();
+    return null;
+  }
+
+  /**
+   * Atomically returns the {@link Tag} with the name given, creating and adding it with the function given if this
+   * compound has no such tag. The function is called at most once and must return a tag without a parent; the tag is
+   * renamed to the name given.
+   *
+   * @param name    the name of the {@link Tag}
+   * @param factory creates the {@link Tag}
+   * @param <T>     tag type
+   * @return the existing or new {@link Tag}
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends Tag> T computeIfAbsent(final String name, final Function<String, ? extends Tag> factory) {
+    if (name == null || name.isEmpty()) {
+      throw new AxionInvalidTagException(this.toString() + " does not support unnamed tags");
+    }
+    boolean[] added = new boolean[1];
+    Tag result = map.computeIfAbsent(name, key -> {
+      Tag tag = factory.apply(key);
+      if (tag == null) {
+        return null;
+      }
+      adoptOrFail(tag);
+      nameUnstored(tag, key);
+      added[0] = true;
+      return tag;
+    });
+    if (added[0]) {
+      onChange();
+    }
+    return (T) result;
+  }
+
+  /**
+   * Atomically replaces the {@link Tag} with the same name as the tag given, if there is one.
+   *
+   * @param tag the new {@link Tag}
+   * @param <T> tag type
+   * @return the replaced {@link Tag}, or null if nothing was replaced
+   * @throws AxionIllegalTagStateException if the tag would replace another but already has a parent
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends Tag> T replace(final Tag tag) throws AxionIllegalTagStateException {
+    assertValid(tag);
+    Tag[] old = new Tag[1];
+    map.computeIfPresent(tag.getName(), (key, current) -> {
+      claim(tag);
+      old[0] = current;
+      return tag;
+    });
+    if (old[0] == null) {
+      return null;
+    }
+    displaced(old[0], tag);
+    onChange();
+    return (T) old[0];
+  }
+
+  /**
+   * Atomically replaces the {@link Tag} given with the new tag given, if the tag given is still in this compound. Tags
+   * are compared by identity and must have the same name.
+   *
+   * @param expected the {@link Tag} to replace
+   * @param tag      the new {@link Tag}
+   * @return true if the tag was replaced
+   * @throws AxionIllegalTagStateException if the new tag already has a parent
+   */
+  public boolean replace(final Tag expected, final Tag tag) throws AxionIllegalTagStateException {
+    if (expected == null || !expected.getName().equals(assertValid(tag).getName())) {
+      throw new AxionInvalidTagException("Can't replace " + expected + " with " + tag + "; tags must have the same "
+          + "name");
+    }
+    boolean[] replaced = new boolean[1];
+    map.computeIfPresent(tag.getName(), (key, current) -> {
+      if (current != expected) {
+        return current;
+      }
+      claim(tag);
+      replaced[0] = true;
+      return tag;
+    });
+    if (!replaced[0]) {
+      return false;
+    }
+    displaced(expected, tag);
+    onChange();
+    return true;
+  }
+
+  /**
+   * Atomically removes and returns the tag with the name given.
+   *
+   * @param name the name of the {@link Tag} to remove
+   * @return the tag removed, or null
+   */
+  @Override
+  public Tag remove(final String name) {
+    if (name == null || name.isEmpty()) {
+      return null;
+    }
+    Tag result = map.remove(name);
+    if (result != null) {
+      release(result);
+      onChange();
+    }
+    return result;
+  }
+
+  /**
+   * Atomically removes the {@link Tag} given, if it is still in this compound. Tags are compared by identity.
+   *
+   * @param expected the {@link Tag} to remove
+   * @return true if the tag was removed
+   */
+  public boolean remove(final Tag expected) {
+    if (expected == null || !removeIdentical(expected.getName(), expected)) {
+      return false;
+    }
+    release(expected);
+    onChange();
+    return true;
+  }
+
+  @Override
+  protected boolean isCacheable() {
+    return false;
+  }
+
+  @Override
+  protected boolean adopt(final Tag child) {
+    synchronized (child) {
+      return super.adopt(child);
+    }
+  }
+
+  @Override
+  protected boolean release(final Tag child) {
+    synchronized (child) {
+      return super.release(child);
+    }
+  }
+
+  @Override
+  protected void onChildAddition(final Tag tag) {
+    displaced(map.put(tag.getName(), tag), tag);
+  }
+
+  @Override
+  protected void onChildRemoval(final Tag tag) {
+    removeIdentical(tag.getName(), tag);
+  }
+
+  @Override
+  protected void onChildNameChange(final String oldName, final String newName) throws AxionIllegalTagNameException {
+    if (newName == null || newName.isEmpty()) {
+      throw new AxionIllegalTagNameException("Tag belongs to [" + this.toString() + "] and can not have an empty or " +
+          "null name");
+    }
+    Tag child = map.get(oldName);
+    if (child != null && removeIdentical(oldName, child)) {
+      displaced(map.put(newName, child), child);
+    }
+  }
+
+  @Override
+  protected int estimateFieldSize() {
+    return super.estimateFieldSize() + MemoryEstimates.REFERENCE_SIZE;
+  }
+
+  @SuppressWarnings("CloneDoesntCallSuperClone")
+  @Override
+  public ConcurrentTagCompound clone() {
+    ConcurrentTagCompound result = new ConcurrentTagCompound(getName());
+    for (Tag tag : map.values()) {
+      result.put(tag.clone());
+    }
+    return result;
+  }
+
+  /**
+   * Adopts the tag given; called inside the map operation that stores it, so that a concurrent {@link
+   * Tag#removeFromParent()} can't remove it before it's stored.
+   */
+  private void claim(final Tag tag) {
+    adoptOrFail(assertValid(tag));
+  }
+
+  private void displaced(final Tag old, final Tag replacement) {
+    if (old != null && old != replacement) {
+      release(old);
+    }
+  }
+
+  private boolean removeIdentical(final String name, final Tag tag) {
+    boolean[] removed = new boolean[1];
+    map.computeIfPresent(name, (key, current) -> {
+      removed[0] = current == tag;
+      return removed[0] ? null : current;
+    });
+    return removed[0];
+  }
+
+}
@@ -0,0 +1,337 @@
+package com.sudoplay.axion.spec.tag;
+
+import com.sudoplay.axion.ext.tag.*;
+import com.sudoplay.axion.tag.ContainerTag;
+import com.sudoplay.axion.tag.Tag;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Deep clone, equality and traversal of {@link Tag} trees on a {@link ForkJoinPool}.
+ * <p>
+ * The children of each container are split into batches of roughly <code>threshold</code> units of work, where a tag
+ * counts as one unit, a container as one unit per child and an array tag as one unit per {@value #ARRAY_ELEMENTS_PER_UNIT}
+ * elements; batches are processed in parallel and recurse into their own large containers. Trees smaller than the
+ * threshold are processed on the calling thread.
+ * <p>
+ * Results are the same as those of the sequential operations: {@link #clone(Tag)} returns a tree equal to {@link
+ * Tag#clone()} and {@link #equals(Tag, Tag)} returns {@link Tag#equals(Object)}. Only {@link TagCompound}s and {@link
+ * TagList}s are split; other containers are handled by their own sequential methods. The trees must not be modified
+ * while an operation runs.
+ *
+ * @author Jason Taylor
+ */
+public class ParallelTagOperations {
+
+  public static final int DEFAULT_THRESHOLD = 4096;
+
+  /**
+   * Number of array elements that count as one unit of work.
+   */
+  public static final int ARRAY_ELEMENTS_PER_UNIT = 64;
+
+  private static final ParallelTagOperations COMMON = new ParallelTagOperations(ForkJoinPool.commonPool(),
+      DEFAULT_THRESHOLD);
+
+  private final ForkJoinPool pool;
+  private final int threshold;
+
+  /**
+   * Creates a new {@link ParallelTagOperations} that runs on the pool given.
+   *
+   * @param newPool      the pool to run on
+   * @param newThreshold the units of work below which containers aren't split
+   */
+  public ParallelTagOperations(final ForkJoinPool newPool, final int newThreshold) {
+    if (newPool == null) {
+      throw new NullPointerException("pool");
+    }
+    pool = newPool;
+    threshold = Math.max(1, newThreshold);
+  }
+
+  /**
+   * Returns the shared {@link ParallelTagOperations} that runs on the common pool with the {@link #DEFAULT_THRESHOLD}.
+   *
+   * @return the shared {@link ParallelTagOperations}
+   */
+  public static ParallelTagOperations common() {
+    return COMMON;
+  }
+
+  /**
+   * Returns a deep copy of the {@link Tag} given.
+   *
+   * @param tag the tag to copy
+   * @param <T> tag type
+   * @return a deep copy of the tag given
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends Tag> T clone(final T tag) {
+    if (tag == null) {
+      return null;
+    }
+    return (T) run(new SupplierTask<>(() -> cloneTag(tag)));
+  }
+
+  /**
+   * Returns true if the {@link Tag}s given are equal, as defined by {@link Tag#equals(Object)}. Comparison stops as
+   * soon as a difference is found.
+   *
+   * @param a a tag
+   * @param b another tag
+   * @return true if the tags are equal
+   */
+  public boolean equals(final Tag a, final Tag b) {
+    if (a == b) {
+      return true;
+    } else if (a == null || b == null) {
+      return false;
+    }
+    AtomicBoolean mismatch = new AtomicBoolean();
+    return run(new SupplierTask<>(() -> equalsTag(a, b, mismatch)));
+  }
+
+  /**
+   * Calls the visitor given for the {@link Tag} given and every tag below it. A container is visited before its
+   * children; otherwise the order is unspecified, and the visitor is called from several threads at once.
+   *
+   * @param root    the tag to start from
+   * @param visitor a thread-safe visitor
+   */
+  public void visit(final Tag root, final Consumer<? super Tag> visitor) {
+    if (root == null) {
+      return;
+    }
+    run(new SupplierTask<Void>(() -> {
+      visitTag(root, visitor);
+      return null;
+    }));
+  }
+
+  private <R> R run(final RecursiveTask<R> task) {
+    return pool.invoke(task);
+  }
+
+  // --------------------------------------------------------------------------
+
+  private Tag cloneTag(final Tag tag) {
+    Class<?> tagClass = tag.getClass();
+    if (tagClass != TagCompound.class && tagClass != TagList.class) {
+      return tag.clone();
+    }
+    Tag[] children = childrenOf((ContainerTag) tag);
+    Tag[] copies = new Tag[children.length];
+    forEachBatch(children, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        copies[i] = cloneTag(children[i]);
+      }
+      return true;
+    }, null);
+    if (tagClass == TagCompound.class) {
+      TagCompound result = new TagCompound(tag.getName());
+      for (Tag copy : copies) {
+        result.put(copy);
+      }
+      return result;
+    }
+    TagList list = (TagList) tag;
+    TagList result = new TagList(list.getType(), list.getName(), copies.length);
+    for (Tag copy : copies) {
+      result.add(copy);
+    }
+    return result;
+  }
+
+  private boolean equalsTag(final Tag a, final Tag b, final AtomicBoolean mismatch) {
+    if (mismatch.get()) {
+      return false;
+    } else if (a == b) {
+      return true;
+    } else if (b == null || a.getClass() != b.getClass()) {
+      return false;
+    }
+    Class<?> tagClass = a.getClass();
+    if (tagClass != TagCompound.class && tagClass != TagList.class) {
+      return a.equals(b);
+    }
+    ContainerTag ca = (ContainerTag) a;
+    ContainerTag cb = (ContainerTag) b;
+    if (!a.getName().equals(b.getName()) || ca.size() != cb.size()) {
+      return false;
+    }
+    Tag[] left = childrenOf(ca);
+    Tag[] right;
+    if (tagClass == TagList.class) {
+      if (((TagList) a).getType() != ((TagList) b).getType()) {
+        return false;
+      }
+      right = childrenOf(cb);
+    } else {
+      right = new Tag[left.length];
+      for (int i = 0; i < left.length; i++) {
+        right[i] = ((TagCompound) b).get(left[i].getName());
+      }
+    }
+    return forEachBatch(left, (from, to) -> {
+      for (int i = from; i < to; i++) {
+        if (!equalsTag(left[i], right[i], mismatch)) {
+          mismatch.set(true);
+          return false;
+        }
+      }
+      return true;
+    }, mismatch);
+  }
+
+  private void visitTag(final Tag tag, final Consumer<? super Tag> visitor) {
+    visitor.accept(tag);
+    if (tag instanceof ContainerTag) {
+      Tag[] children = childrenOf((ContainerTag) tag);
+      forEachBatch(children, (from, to) -> {
+        for (int i = from; i < to; i++) {
+          visitTag(children[i], visitor);
+        }
+        return true;
+      }, null);
+    }
+  }
+
+  // --------------------------------------------------------------------------
+
+  @FunctionalInterface
+  private interface Batch {
+    boolean run(int from, int to);
+  }
+
+  /**
+   * Runs an operation on the pool and returns its result.
+   */
+  private static class SupplierTask<R> extends RecursiveTask<R> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Supplier<R> supplier;
+
+    private SupplierTask(final Supplier<R> newSupplier) {
+      supplier = newSupplier;
+    }
+
+    @Override
+    protected R compute() {
+      return supplier.get();
+    }
+  }
+
+  /**
+   * Runs a forked batch, unless cancelled, and records its failure.
+   */
+  private static class BatchAction extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Batch batch;
+    private final int from;
+    private final int to;
+    private final AtomicBoolean cancel;
+    private final boolean[] failed;
+
+    private BatchAction(
+        final Batch newBatch,
+        final int newFrom,
+        final int newTo,
+        final AtomicBoolean newCancel,
+        final boolean[] newFailed
+    ) {
+      batch = newBatch;
+      from = newFrom;
+      to = newTo;
+      cancel = newCancel;
+      failed = newFailed;
+    }
+
+    @Override
+    protected void compute() {
+      if ((cancel == null || !cancel.get()) && !batch.run(from, to)) {
+        failed[0] = true;
+      }
+    }
+  }
+
+  /**
+   * Splits the tags given into batches of about {@link #threshold} units of work and runs them, forking all but the
+   * last batch. Returns false if any batch returned false.
+   */
+  private boolean forEachBatch(final Tag[] tags, final Batch batch, final AtomicBoolean cancel) {
+    List<BatchAction> forked = null;
+    boolean[] failed = new boolean[1];
+    int from = 0;
+    long units = 0;
+    for (int i = 0; i < tags.length; i++) {
+      units += unitsOf(tags[i]);
+      if (units >= threshold && i + 1 < tags.length) {
+        int end = i + 1;
+        BatchAction action = new BatchAction(batch, from, end, cancel, failed);
+        action.fork();
+        if (forked == null) {
+          forked = new ArrayList<>();
+        }
+        forked.add(action);
+        from = end;
+        units = 0;
+      }
+    }
+    boolean result = batch.run(from, tags.length);
+    if (forked != null) {
+      for (BatchAction action : forked) {
+        action.join();
+      }
+    }
+    return result && !failed[0];
+  }
+
+  private static Tag[] childrenOf(final ContainerTag container) {
+    Tag[] children = new Tag[container.size()];
+    int i = 0;
+    for (Tag child : container) {
+      children[i++] = child;
+    }
+    return children;
+  }
+
+  private static long unitsOf(final Tag tag) {
+    if (tag instanceof ContainerTag) {
+      return 1 + ((ContainerTag) tag).size();
+    }
+    return 1 + arrayLength(tag) / ARRAY_ELEMENTS_PER_UNIT;
+  }
+
+  private static int arrayLength(final Tag tag) {
+    if (tag instanceof TagIntArray) {
+      return ((TagIntArray) tag).size();
+    } else if (tag instanceof TagByteArray) {
+      return ((TagByteArray) tag).size();
+    } else if (tag instanceof TagLongArray) {
+      return ((TagLongArray) tag).size();
+    } else if (tag instanceof TagDoubleArray) {
+      return ((TagDoubleArray) tag).size();
+    } else if (tag instanceof TagFloatArray) {
+      return ((TagFloatArray) tag).size();
+    } else if (tag instanceof TagShortArray) {
+      return ((TagShortArray) tag).size();
+    } else if (tag instanceof TagBooleanArray) {
+      return ((TagBooleanArray) tag).size();
+    } else if (tag instanceof TagStringArray) {
+      return ((TagStringArray) tag).size();
+    }
+    return 0;
+  }
+
+}
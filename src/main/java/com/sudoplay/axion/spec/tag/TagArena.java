@@ -0,0 +1,113 @@
+package com.sudoplay.axion.spec.tag;
+
+import com.sudoplay.axion.tag.ContainerTag;
+import com.sudoplay.axion.tag.Tag;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@link TagArena} holds detached {@link Tag}s so that a decoder can recycle them instead of allocating new ones.
+ * <p>
+ * Released trees are taken apart in pre-order and each tag is pooled by its class; {@link TagList}s are pooled by
+ * their element type. Tags are handed back out in the order they were released, so decoding a payload that is
+ * structurally similar to a released tree gives each tag its former position, and array tags usually find an array of
+ * the same length to overwrite.
+ * <p>
+ * A {@link TagArena} is not thread-safe.
+ *
+ * @author Jason Taylor
+ */
+public class TagArena {
+
+  private final Map<Class<? extends Tag>, ArrayDeque<Tag>> tags = new HashMap<>();
+  private final Map<Class<? extends Tag>, ArrayDeque<TagList>> lists = new HashMap<>();
+  private int size;
+
+  /**
+   * Removes the {@link Tag} given from its parent and releases it, and every tag below it, into this arena.
+   * Containers are emptied as they are released.
+   *
+   * @param tag the {@link Tag} to release
+   * @return this {@link TagArena}
+   */
+  public TagArena release(final Tag tag) {
+    if (tag != null) {
+      tag.removeFromParent();
+      recycle(tag);
+    }
+    return this;
+  }
+
+  /**
+   * Returns a recycled {@link Tag} of the given class, or null if this arena doesn't hold one.
+   *
+   * @param tagClass the class of the tag to take
+   * @param <T>      tag type
+   * @return a recycled {@link Tag} or null
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends Tag> T take(final Class<T> tagClass) {
+    ArrayDeque<Tag> deque = tags.get(tagClass);
+    Tag tag = (deque == null) ? null : deque.pollFirst();
+    if (tag != null) {
+      size--;
+    }
+    return (T) tag;
+  }
+
+  /**
+   * Returns a recycled, empty {@link TagList} of the given element type, or null if this arena doesn't hold one.
+   *
+   * @param type the element type of the list to take
+   * @return a recycled {@link TagList} or null
+   */
+  public TagList takeList(final Class<? extends Tag> type) {
+    ArrayDeque<TagList> deque = lists.get(type);
+    TagList tagList = (deque == null) ? null : deque.pollFirst();
+    if (tagList != null) {
+      size--;
+    }
+    return tagList;
+  }
+
+  /**
+   * Returns the number of {@link Tag}s held by this arena.
+   *
+   * @return the number of {@link Tag}s held by this arena
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Discards all {@link Tag}s held by this arena.
+   */
+  public void clear() {
+    tags.clear();
+    lists.clear();
+    size = 0;
+  }
+
+  private void recycle(final Tag tag) {
+    if (tag instanceof TagList) {
+      lists.computeIfAbsent(((TagList) tag).getType(), type -> new ArrayDeque<>()).addLast((TagList) tag);
+    } else {
+      tags.computeIfAbsent(tag.getClass(), type -> new ArrayDeque<>()).addLast(tag);
+    }
+    size++;
+    if (tag instanceof ContainerTag) {
+      ContainerTag container = (ContainerTag) tag;
+      List<Tag> children = new ArrayList<>(container.size());
+      for (Tag child : container) {
+        children.add(child);
+      }
+      container.clear();
+      children.forEach(this::recycle);
+    }
+  }
+
+}
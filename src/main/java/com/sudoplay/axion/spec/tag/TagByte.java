@@ -47,6 +47,7 @@ public class TagByte extends Tag {
    */
   public void set(final byte newByte) {
     data = newByte;
+    onChange();
   }
 
   /**
@@ -78,6 +79,16 @@ public class TagByte extends Tag {
     return data == other.data;
   }
 
+  @Override
+  public long estimatePayloadSize() {
+    return Byte.BYTES;
+  }
+
+  @Override
+  protected int estimateFieldSize() {
+    return super.estimateFieldSize() + Byte.BYTES;
+  }
+
   @Override
   public String toString() {
     return super.toString() + ": " + data;
@@ -4,10 +4,12 @@ import com.sudoplay.axion.tag.AxionIllegalTagNameException;
 import com.sudoplay.axion.tag.AxionInvalidTagException;
 import com.sudoplay.axion.tag.ContainerTag;
 import com.sudoplay.axion.tag.Tag;
+import com.sudoplay.axion.util.MemoryEstimates;
 
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * tag.type 10<br> tag.name <code>TAG_Compound</code><br> tag.payload * A sequential list of Named Tags. This array
@@ -53,6 +55,8 @@ public class TagCompound extends ContainerTag {
 
   /**
    * Creates a new {@link TagCompound} with the given name and a copy of the map given as the backing map.
+   * <p>
+   * The tags are renamed to their keys and added to the new compound, so they must not have a parent.
    *
    * @param newName the {@link Tag} name
    * @param newMap  the {@link Map} value
@@ -60,15 +64,36 @@ public class TagCompound extends ContainerTag {
   public TagCompound(
       final String newName,
       final Map<String, Tag> newMap
+  ) {
+    this(newName, newMap, new HashMap<>());
+  }
+
+  /**
+   * Creates a new {@link TagCompound} with the given name that uses the map given as its backing map, filled with a
+   * copy of the entries of the other map given. Subclasses use this to change the backing map implementation.
+   * <p>
+   * The tags are renamed to their keys and added to the new compound, so they must not have a parent.
+   *
+   * @param newName    the {@link Tag} name
+   * @param newMap     the {@link Map} value
+   * @param backingMap the empty backing map
+   */
+  protected TagCompound(
+      final String newName,
+      final Map<String, Tag> newMap,
+      final Map<String, Tag> backingMap
   ) {
     super(newName);
-    if (newMap == null) {
-      data = new HashMap<>();
-    } else {
-      data = new HashMap<>(newMap);
-      for (Entry<String, Tag> stringTagEntry : data.entrySet()) {
+    data = backingMap;
+    if (newMap != null) {
+      for (Entry<String, Tag> stringTagEntry : newMap.entrySet()) {
         assertValid(stringTagEntry.getValue());
       }
+      for (Entry<String, Tag> stringTagEntry : newMap.entrySet()) {
+        Tag tag = stringTagEntry.getValue().setName(stringTagEntry.getKey());
+        adoptOrFail(tag);
+        data.put(tag.getName(), tag);
+      }
     }
   }
 
@@ -87,6 +112,30 @@ public class TagCompound extends ContainerTag {
     return set.stream();
   }
 
+  /**
+   * Returns a possibly parallel {@link Stream} of the backing map's entries. The entries are copied to an array when
+   * the stream is created, so the stream splits evenly regardless of how the backing map distributes its entries.
+   *
+   * @return a possibly parallel {@link Stream} of the backing map's entries
+   */
+  @SuppressWarnings("unchecked")
+  public Stream<Entry<String, Tag>> parallelStream() {
+    Object[] entries = data.entrySet().toArray();
+    return StreamSupport.stream(Spliterators.spliterator(entries, Spliterator.DISTINCT | Spliterator.NONNULL), true)
+        .map(entry -> (Entry<String, Tag>) entry);
+  }
+
+  /**
+   * Returns a sized and subsized {@link Spliterator} over the backing map's values. The values are copied to an array
+   * when this method is called; later changes to this compound are not reflected.
+   *
+   * @return a {@link Spliterator} over the backing map's values
+   */
+  @Override
+  public Spliterator<Tag> spliterator() {
+    return Spliterators.spliterator(data.values().toArray(), Spliterator.DISTINCT | Spliterator.NONNULL);
+  }
+
   @Override
   public void clear() {
     List<Tag> toRemove = new ArrayList<>(data.values());
@@ -219,9 +268,9 @@ public class TagCompound extends ContainerTag {
   }
 
   @Override
-  public int hashCode() {
+  protected int computeHashCode() {
     final int prime = 31;
-    int result = super.hashCode();
+    int result = super.computeHashCode();
     result = prime * result + ((data == null) ? 0 : data.hashCode());
     return result;
   }
@@ -234,12 +283,23 @@ public class TagCompound extends ContainerTag {
     if (!super.equals(obj)) return false;
     if (getClass() != obj.getClass()) return false;
     TagCompound other = (TagCompound) obj;
+    if (hashCodeMismatch(other)) return false;
     if (data == null) {
       if (other.data != null) return false;
     } else if (!data.equals(other.data)) return false;
     return true;
   }
 
+  @Override
+  public long estimateSelfSize() {
+    return super.estimateSelfSize() + MemoryEstimates.hashMapSize(data.size());
+  }
+
+  @Override
+  protected int estimateFieldSize() {
+    return super.estimateFieldSize() + MemoryEstimates.REFERENCE_SIZE;
+  }
+
   @Override
   public String toString() {
     return super.toString() + ": " + data.size() + " entries";
@@ -257,18 +317,36 @@ public class TagCompound extends ContainerTag {
     data.put(newName, data.remove(oldName));
   }
 
+  /**
+   * Returns a deep copy of this {@link TagCompound}, copied in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+   *
+   * @return a deep copy of this {@link TagCompound}
+   * @see ParallelTagOperations
+   */
+  public TagCompound parallelClone() {
+    return ParallelTagOperations.common().clone(this);
+  }
+
+  /**
+   * Returns true if this {@link TagCompound} is equal to the object given, compared in parallel on the common {@link
+   * java.util.concurrent.ForkJoinPool}.
+   *
+   * @param obj the object to compare to
+   * @return true if this {@link TagCompound} is equal to the object given
+   * @see ParallelTagOperations
+   */
+  public boolean parallelEquals(final Object obj) {
+    return obj instanceof Tag && ParallelTagOperations.common().equals(this, (Tag) obj);
+  }
+
   @SuppressWarnings("CloneDoesntCallSuperClone")
   @Override
   public TagCompound clone() {
-    if (data.isEmpty()) {
-      return new TagCompound(getName());
-    } else {
-      Map<String, Tag> newMap = new HashMap<>(data.size());
-      for (Entry<String, Tag> entry : data.entrySet()) {
-        newMap.put(entry.getKey(), entry.getValue().clone());
-      }
-      return new TagCompound(getName(), newMap);
+    TagCompound result = new TagCompound(getName());
+    for (Tag tag : data.values()) {
+      result.put(tag.clone());
     }
+    return result;
 
   }
 }
@@ -48,6 +48,7 @@ public class TagDouble extends Tag {
    */
   public void set(final double newDouble) {
     data = newDouble;
+    onChange();
   }
 
   /**
@@ -81,6 +82,16 @@ public class TagDouble extends Tag {
     return Double.doubleToLongBits(data) == Double.doubleToLongBits(other.data);
   }
 
+  @Override
+  public long estimatePayloadSize() {
+    return Double.BYTES;
+  }
+
+  @Override
+  protected int estimateFieldSize() {
+    return super.estimateFieldSize() + Double.BYTES;
+  }
+
   @Override
   public String toString() {
     return super.toString() + ": " + data;
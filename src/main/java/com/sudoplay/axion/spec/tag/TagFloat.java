@@ -48,6 +48,7 @@ public class TagFloat extends Tag {
    */
   public void set(final float newFloat) {
     data = newFloat;
+    onChange();
   }
 
   /**
@@ -79,6 +80,16 @@ public class TagFloat extends Tag {
     return Float.floatToIntBits(data) == Float.floatToIntBits(other.data);
   }
 
+  @Override
+  public long estimatePayloadSize() {
+    return Float.BYTES;
+  }
+
+  @Override
+  protected int estimateFieldSize() {
+    return super.estimateFieldSize() + Float.BYTES;
+  }
+
   @Override
   public String toString() {
     return super.toString() + ": " + data;
@@ -47,6 +47,7 @@ public class TagInt extends Tag {
    */
   public void set(final int newInt) {
     data = newInt;
+    onChange();
   }
 
   /**
@@ -78,6 +79,16 @@ public class TagInt extends Tag {
     return data == other.data;
   }
 
+  @Override
+  public long estimatePayloadSize() {
+    return Integer.BYTES;
+  }
+
+  @Override
+  protected int estimateFieldSize() {
+    return super.estimateFieldSize() + Integer.BYTES;
+  }
+
   @Override
   public String toString() {
     return super.toString() + ": " + data;
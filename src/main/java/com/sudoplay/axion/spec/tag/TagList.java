@@ -4,19 +4,21 @@ import com.sudoplay.axion.Axion;
 import com.sudoplay.axion.registry.AxionTagRegistrationException;
 import com.sudoplay.axion.registry.TypeConverter;
 import com.sudoplay.axion.tag.AxionIllegalTagNameException;
+import com.sudoplay.axion.tag.AxionIllegalTagStateException;
 import com.sudoplay.axion.tag.AxionInvalidTagException;
 import com.sudoplay.axion.tag.ContainerTag;
 import com.sudoplay.axion.tag.Tag;
+import com.sudoplay.axion.util.MemoryEstimates;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -28,13 +30,23 @@ import java.util.stream.Stream;
  */
 public class TagList extends ContainerTag {
 
-  private final List<Tag> data;
+  private final ArrayList<Tag> data;
 
   /**
    * Stores the type for tags in this list; all tags must be of the same type.
    */
   private final Class<? extends Tag> type;
 
+  /**
+   * Position the next added tag is inserted at, or -1 to append it.
+   */
+  private int insertIndex = -1;
+
+  /**
+   * Indexes kept consistent with this list's elements; null until an index is attached.
+   */
+  private List<TagListIndex> indexes;
+
   /**
    * Creates a new {@link TagList} of the given type with no name and an empty backing list.
    *
@@ -46,6 +58,8 @@ public class TagList extends ContainerTag {
 
   /**
    * Creates a new {@link TagList} of the given type with no name and a copy of the given list as the backing list.
+   * <p>
+   * The tags are unnamed and added to the new list, so they must not have a parent.
    *
    * @param tagClass the list type
    * @param newList  the list
@@ -64,9 +78,25 @@ public class TagList extends ContainerTag {
     this(tagClass, newName, new ArrayList<>());
   }
 
+  /**
+   * Creates a new {@link TagList} of the given type with the given name and an empty backing list with the given
+   * initial capacity.
+   *
+   * @param tagClass        the list type
+   * @param newName         the {@link Tag} name
+   * @param initialCapacity the initial capacity of the backing list
+   */
+  public TagList(final Class<? extends Tag> tagClass, final String newName, final int initialCapacity) {
+    super(newName);
+    type = tagClass;
+    data = new ArrayList<>(initialCapacity);
+  }
+
   /**
    * Creates a new {@link TagList} of the given type with the given name and a copy of the given list as the backing
    * list.
+   * <p>
+   * The tags are unnamed and added to the new list, so they must not have a parent.
    *
    * @param tagClass the list type
    * @param newName  the {@link Tag} name
@@ -78,10 +108,13 @@ public class TagList extends ContainerTag {
     if (newList == null || newList.isEmpty()) {
       data = new ArrayList<>();
     } else {
-      data = new ArrayList<>(newList);
-      for (Tag tag : data) {
+      data = new ArrayList<>(newList.size());
+      for (Tag tag : newList) {
         assertValid(tag);
-        tag.setName("");
+      }
+      for (Tag tag : newList) {
+        adoptOrFail(tag.setName(""));
+        data.add(tag);
       }
     }
   }
@@ -95,6 +128,46 @@ public class TagList extends ContainerTag {
     assertValid(tag).addTo(this);
   }
 
+  /**
+   * Inserts tag into the list at the index given, shifting the tag at that position and any subsequent tags to the
+   * right. If the tag to be added does not match this list's type, an exception is thrown.
+   *
+   * @param index the index to insert the {@link Tag} at
+   * @param tag   the {@link Tag} to add
+   */
+  public void add(final int index, final Tag tag) {
+    if (index < 0 || index > data.size()) {
+      throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + data.size());
+    }
+    assertValid(tag);
+    insertIndex = index;
+    try {
+      tag.addTo(this);
+    } finally {
+      insertIndex = -1;
+    }
+  }
+
+  /**
+   * Replaces the tag at the index given with the tag given. If the tag to be added does not match this list's type, an
+   * exception is thrown.
+   *
+   * @param index the index of the {@link Tag} to replace
+   * @param tag   the {@link Tag} to add
+   * @return the {@link Tag} replaced
+   */
+  public Tag set(final int index, final Tag tag) {
+    assertValid(tag);
+    if (tag.hasParent() && data.get(index) != tag) {
+      throw new AxionIllegalTagStateException("Tag [" + tag.toString() + "] already has parent [" + tag.getParent()
+          .toString() + "]; use removeFromParent() to remove the tag from its parent before adding it to " + this
+          .toString());
+    }
+    Tag removed = remove(index);
+    add(index, tag);
+    return removed;
+  }
+
   /**
    * Converts the value given into a tag using the {@link TypeConverter} registered for the value's type and adds the
    * new tag to this {@link TagList}.
@@ -169,6 +242,30 @@ public class TagList extends ContainerTag {
     return (Stream<T>) data.stream();
   }
 
+  /**
+   * Returns a possibly parallel {@link Stream} of the tags in this list. The stream splits evenly, as the list's
+   * {@link #spliterator()} is sized.
+   *
+   * @param tagClass the type of the tags in this list
+   * @param <T>      tag type
+   * @return a possibly parallel {@link Stream} of the tags in this list
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends Tag> Stream<T> parallelStream(@SuppressWarnings("UnusedParameters") Class<T> tagClass) {
+    return (Stream<T>) data.parallelStream();
+  }
+
+  /**
+   * Returns an ordered, sized and subsized {@link Spliterator} over the tags in this list. The spliterator binds to
+   * the list when it is first used and fails fast if the list is modified afterwards.
+   *
+   * @return a {@link Spliterator} over the tags in this list
+   */
+  @Override
+  public Spliterator<Tag> spliterator() {
+    return data.spliterator();
+  }
+
   public <V, T extends Tag> Stream<V> valueStream(
       Class<T> tagClass,
       Type type,
@@ -177,37 +274,58 @@ public class TagList extends ContainerTag {
     return this.valueStream(
         tagClass,
         tag -> true,
-        tag -> axion.fromTag(tag, type),
-        ArrayList::new
+        tag -> axion.fromTag(tag, type)
     );
   }
 
+  /**
+   * @deprecated values are converted lazily and no longer collected into a list; use {@link #valueStream(Class, Type,
+   * Axion)}
+   */
+  @Deprecated
   public <V, T extends Tag> Stream<V> valueStream(
       Class<T> tagClass,
       Type type,
-      Supplier<List<V>> listSupplier,
+      @SuppressWarnings("UnusedParameters") Supplier<List<V>> listSupplier,
       Axion axion
   ) {
-    return this.valueStream(
-        tagClass,
-        tag -> true,
-        tag -> axion.fromTag(tag, type),
-        listSupplier
-    );
+    return this.valueStream(tagClass, type, axion);
   }
 
+  /**
+   * @deprecated values are converted lazily and no longer collected into a list; use {@link #valueStream(Class,
+   * Predicate, Function)}
+   */
+  @Deprecated
   public <V, T extends Tag> Stream<V> valueStream(
       Class<T> tagClass,
       Predicate<T> filter,
       Function<T, V> map,
-      Supplier<List<V>> listSupplier
+      @SuppressWarnings("UnusedParameters") Supplier<List<V>> listSupplier
+  ) {
+    return this.valueStream(tagClass, filter, map);
+  }
+
+  /**
+   * Returns a lazy {@link Stream} of the values of the tags in this list that pass the filter given. Tags are filtered
+   * and converted only as the stream is consumed, so short-circuiting operations stop the conversion early.
+   *
+   * @param tagClass the type of the tags in this list
+   * @param filter   selects the tags to convert
+   * @param map      converts a tag to a value
+   * @param <V>      value type
+   * @param <T>      tag type
+   * @return a lazy {@link Stream} of converted values
+   */
+  public <V, T extends Tag> Stream<V> valueStream(
+      Class<T> tagClass,
+      Predicate<T> filter,
+      Function<T, V> map
   ) {
     return this
         .stream(tagClass)
         .filter(filter)
-        .map(map)
-        .collect(Collectors.toCollection((Supplier<List<V>>) listSupplier))
-        .stream();
+        .map(map);
   }
 
   @Override
@@ -217,7 +335,18 @@ public class TagList extends ContainerTag {
 
   @Override
   public void clear() {
-    new ArrayList<>(data).forEach(Tag::removeFromParent);
+    List<Tag> removed = new ArrayList<>(data);
+    data.clear();
+    removed.forEach(Tag::removeFromParent);
+  }
+
+  /**
+   * Increases the capacity of the backing list, if necessary, to hold at least the number of {@link Tag}s given.
+   *
+   * @param minCapacity the desired minimum capacity
+   */
+  public void ensureCapacity(final int minCapacity) {
+    data.ensureCapacity(minCapacity);
   }
 
   /**
@@ -252,18 +381,68 @@ public class TagList extends ContainerTag {
   @Override
   protected void onChildAddition(Tag tag) {
     tag.setName(null);
-    data.add(tag);
+    if (insertIndex < 0) {
+      data.add(tag);
+    } else {
+      data.add(insertIndex, tag);
+    }
+    if (indexes != null) {
+      for (TagListIndex index : indexes) {
+        index.onAddition(tag);
+      }
+    }
   }
 
   @Override
   protected void onChildRemoval(Tag tag) {
-    data.remove(tag);
+    for (int i = data.size() - 1; i >= 0; i--) {
+      if (data.get(i) == tag) {
+        data.remove(i);
+        break;
+      }
+    }
+    if (indexes != null) {
+      for (TagListIndex index : indexes) {
+        index.onRemoval(tag);
+      }
+    }
   }
 
   @Override
-  public int hashCode() {
+  protected void onChildChange(final Tag child) {
+    if (indexes != null) {
+      for (TagListIndex index : indexes) {
+        index.onChange(child);
+      }
+    }
+    super.onChildChange(child);
+  }
+
+  @Override
+  protected boolean observesChildChanges() {
+    return indexes != null;
+  }
+
+  void attach(final TagListIndex index) {
+    if (indexes == null) {
+      indexes = new ArrayList<>(1);
+    }
+    indexes.add(index);
+  }
+
+  void detach(final TagListIndex index) {
+    if (indexes != null) {
+      indexes.remove(index);
+      if (indexes.isEmpty()) {
+        indexes = null;
+      }
+    }
+  }
+
+  @Override
+  protected int computeHashCode() {
     final int prime = 31;
-    int result = super.hashCode();
+    int result = super.computeHashCode();
     result = prime * result + ((data == null) ? 0 : data.hashCode());
     result = prime * result + ((type == null) ? 0 : type.hashCode());
     return result;
@@ -275,6 +454,7 @@ public class TagList extends ContainerTag {
     if (!super.equals(obj)) return false;
     if (getClass() != obj.getClass()) return false;
     TagList other = (TagList) obj;
+    if (hashCodeMismatch(other)) return false;
     if (data == null) {
       if (other.data != null) return false;
     } else if (!data.equals(other.data)) return false;
@@ -284,6 +464,16 @@ public class TagList extends ContainerTag {
     return true;
   }
 
+  @Override
+  public long estimateSelfSize() {
+    return super.estimateSelfSize() + MemoryEstimates.arrayListSize(data.size());
+  }
+
+  @Override
+  protected int estimateFieldSize() {
+    return super.estimateFieldSize() + 3 * MemoryEstimates.REFERENCE_SIZE + 4;
+  }
+
   @Override
   public String toString() {
     return super.toString() + ": " + data.size() + " entries of type " + type.getSimpleName();
@@ -297,16 +487,36 @@ public class TagList extends ContainerTag {
     }
   }
 
+  /**
+   * Returns a deep copy of this {@link TagList}, copied in parallel on the common {@link java.util.concurrent.ForkJoinPool}.
+   *
+   * @return a deep copy of this {@link TagList}
+   * @see ParallelTagOperations
+   */
+  public TagList parallelClone() {
+    return ParallelTagOperations.common().clone(this);
+  }
+
+  /**
+   * Returns true if this {@link TagList} is equal to the object given, compared in parallel on the common {@link
+   * java.util.concurrent.ForkJoinPool}.
+   *
+   * @param obj the object to compare to
+   * @return true if this {@link TagList} is equal to the object given
+   * @see ParallelTagOperations
+   */
+  public boolean parallelEquals(final Object obj) {
+    return obj instanceof Tag && ParallelTagOperations.common().equals(this, (Tag) obj);
+  }
+
   @SuppressWarnings("CloneDoesntCallSuperClone")
   @Override
   public TagList clone() {
-    if (data.isEmpty()) {
-      return new TagList(type, getName(), new ArrayList<>());
-    } else {
-      List<Tag> newList = new ArrayList<>(data.size());
-      newList.addAll(data.stream().map(Tag::clone).collect(Collectors.toList()));
-      return new TagList(type, getName(), newList);
+    TagList result = new TagList(type, getName(), data.size());
+    for (Tag tag : data) {
+      result.add(tag.clone());
     }
+    return result;
   }
 
   /**
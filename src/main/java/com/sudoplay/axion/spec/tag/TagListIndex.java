@@ -0,0 +1,335 @@
+package com.sudoplay.axion.spec.tag;
+
+import com.sudoplay.axion.ext.tag.*;
+import com.sudoplay.axion.tag.AxionInvalidTagException;
+import com.sudoplay.axion.tag.Tag;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link TagListIndex} is a hash index over a {@link TagList} of {@link TagCompound}s that maps the value of a key
+ * child of each element to the element.
+ * <p>
+ * The index is updated as elements are added to or removed from the list, and as an element's key child changes, so
+ * it stays consistent with the list until it is {@link #close() closed}. Several elements may share a key; an element
+ * whose key child is a {@link TagList} is indexed under each value in the list. Elements without a key child aren't
+ * indexed.
+ * <p>
+ * Keys are compared by value: integral tags are indexed as {@link Long}s, floating point tags as {@link Double}s,
+ * {@link TagString}s as {@link String}s, {@link TagBoolean}s as {@link Boolean}s and array tags by their contents.
+ * Lookups accept either a tag or a plain value, eg. <code>index.get(5)</code> finds an element whose key child is a
+ * {@link TagInt} or {@link TagLong} with the value 5, and <code>index.get(new int[]{...})</code> finds an element whose
+ * key child is a {@link TagIntArray} with the same contents.
+ * <p>
+ * A {@link TagListIndex} is not thread-safe.
+ *
+ * @author Jason Taylor
+ */
+public class TagListIndex {
+
+  private static final Object NO_KEY = new Object();
+
+  private final TagList list;
+  private final String keyField;
+
+  /**
+   * Key to element, or key to a list of elements when several elements share the key.
+   */
+  private final Map<Object, Object> index = new HashMap<>();
+
+  /**
+   * Element to the key, or array of keys, it is indexed under; {@link #NO_KEY} for elements without a key.
+   */
+  private final Map<Tag, Object> keys = new IdentityHashMap<>();
+
+  private boolean closed;
+
+  private TagListIndex(final TagList newList, final String newKeyField) {
+    list = newList;
+    keyField = newKeyField;
+  }
+
+  /**
+   * Builds an index over the {@link TagList} given, keyed by the child with the name given, and attaches it to the list
+   * so that it stays up to date.
+   *
+   * @param list     a {@link TagList} of {@link TagCompound}s
+   * @param keyField the name of the key child of each element
+   * @return the new index
+   * @throws AxionInvalidTagException if the list isn't a list of {@link TagCompound}s
+   */
+  public static TagListIndex on(final TagList list, final String keyField) throws AxionInvalidTagException {
+    if (list == null || keyField == null) {
+      throw new AxionInvalidTagException("Can't index a null list or a null key field");
+    }
+    if (list.getType() != TagCompound.class) {
+      throw new AxionInvalidTagException("Can't index " + list + "; elements must be of type " + TagCompound.class
+          .getSimpleName());
+    }
+    TagListIndex result = new TagListIndex(list, keyField);
+    for (Tag element : list) {
+      result.onAddition(element);
+    }
+    list.attach(result);
+    return result;
+  }
+
+  /**
+   * Returns an element indexed under the key given, or null if there is none. If several elements share the key, the
+   * element that was indexed first is returned.
+   *
+   * @param key a tag or a value
+   * @return an element indexed under the key given or null
+   */
+  @SuppressWarnings("unchecked")
+  public TagCompound get(final Object key) {
+    Object value = index.get(normalize(key));
+    if (value instanceof List) {
+      return ((List<TagCompound>) value).get(0);
+    }
+    return (TagCompound) value;
+  }
+
+  /**
+   * Returns an unmodifiable list of the elements indexed under the key given.
+   *
+   * @param key a tag or a value
+   * @return the elements indexed under the key given
+   */
+  @SuppressWarnings("unchecked")
+  public List<TagCompound> getAll(final Object key) {
+    Object value = index.get(normalize(key));
+    if (value == null) {
+      return Collections.emptyList();
+    } else if (value instanceof List) {
+      return Collections.unmodifiableList((List<TagCompound>) value);
+    }
+    return Collections.singletonList((TagCompound) value);
+  }
+
+  /**
+   * Returns true if an element is indexed under the key given.
+   *
+   * @param key a tag or a value
+   * @return true if an element is indexed under the key given
+   */
+  public boolean containsKey(final Object key) {
+    return index.containsKey(normalize(key));
+  }
+
+  /**
+   * Returns the number of distinct keys in this index.
+   *
+   * @return the number of distinct keys in this index
+   */
+  public int size() {
+    return index.size();
+  }
+
+  /**
+   * Returns the {@link TagList} this index is built over.
+   *
+   * @return the {@link TagList} this index is built over
+   */
+  public TagList getList() {
+    return list;
+  }
+
+  /**
+   * Returns the name of the key child of each element.
+   *
+   * @return the name of the key child of each element
+   */
+  public String getKeyField() {
+    return keyField;
+  }
+
+  /**
+   * Detaches this index from its list and discards its entries. A closed index no longer follows changes to the list.
+   */
+  public void close() {
+    if (!closed) {
+      closed = true;
+      list.detach(this);
+      index.clear();
+      keys.clear();
+    }
+  }
+
+  // --------------------------------------------------------------------------
+
+  void onAddition(final Tag element) {
+    Object key = keyOf((TagCompound) element);
+    keys.put(element, key);
+    if (key == NO_KEY) {
+      return;
+    }
+    if (key instanceof Object[]) {
+      for (Object k : (Object[]) key) {
+        put(k, element);
+      }
+    } else {
+      put(key, element);
+    }
+  }
+
+  void onRemoval(final Tag element) {
+    Object key = keys.remove(element);
+    if (key instanceof Object[]) {
+      for (Object k : (Object[]) key) {
+        remove(k, element);
+      }
+    } else if (key != null && key != NO_KEY) {
+      remove(key, element);
+    }
+  }
+
+  void onChange(final Tag element) {
+    Object oldKey = keys.get(element);
+    if (oldKey == null) {
+      // not added yet
+      return;
+    }
+    if (!Objects.deepEquals(oldKey, keyOf((TagCompound) element))) {
+      onRemoval(element);
+      onAddition(element);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void put(final Object key, final Tag element) {
+    Object value = index.get(key);
+    if (value == null) {
+      index.put(key, element);
+    } else if (value instanceof List) {
+      ((List<Tag>) value).add(element);
+    } else {
+      List<Tag> elements = new ArrayList<>(2);
+      elements.add((Tag) value);
+      elements.add(element);
+      index.put(key, elements);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private void remove(final Object key, final Tag element) {
+    Object value = index.get(key);
+    if (value == element) {
+      index.remove(key);
+    } else if (value instanceof List) {
+      List<Tag> elements = (List<Tag>) value;
+      for (int i = 0; i < elements.size(); i++) {
+        if (elements.get(i) == element) {
+          elements.remove(i);
+          break;
+        }
+      }
+      if (elements.size() == 1) {
+        index.put(key, elements.get(0));
+      }
+    }
+  }
+
+  /**
+   * Returns the key of the element given, an array of keys for a multi-valued key, or {@link #NO_KEY} if the element
+   * has no key child.
+   */
+  private Object keyOf(final TagCompound element) {
+    Tag tag = element.get(keyField);
+    if (tag instanceof TagList) {
+      TagList values = (TagList) tag;
+      if (values.size() == 0) {
+        return NO_KEY;
+      }
+      Object[] result = new Object[values.size()];
+      for (int i = 0; i < result.length; i++) {
+        result[i] = normalize(values.get(i));
+      }
+      return result;
+    }
+    return (tag == null) ? NO_KEY : normalize(tag);
+  }
+
+  private static Object normalize(final Object key) {
+    if (key instanceof Tag) {
+      return normalizeTag((Tag) key);
+    } else if (key instanceof Integer || key instanceof Long || key instanceof Short || key instanceof Byte) {
+      return ((Number) key).longValue();
+    } else if (key instanceof Float) {
+      return ((Float) key).doubleValue();
+    } else if (key != null && key.getClass().isArray()) {
+      return new ArrayKey(key);
+    }
+    return key;
+  }
+
+  private static Object normalizeTag(final Tag tag) {
+    if (tag instanceof TagString) {
+      return ((TagString) tag).get();
+    } else if (tag instanceof TagInt) {
+      return (long) ((TagInt) tag).get();
+    } else if (tag instanceof TagLong) {
+      return ((TagLong) tag).get();
+    } else if (tag instanceof TagShort) {
+      return (long) ((TagShort) tag).get();
+    } else if (tag instanceof TagByte) {
+      return (long) ((TagByte) tag).get();
+    } else if (tag instanceof TagDouble) {
+      return ((TagDouble) tag).get();
+    } else if (tag instanceof TagFloat) {
+      return (double) ((TagFloat) tag).get();
+    } else if (tag instanceof TagBoolean) {
+      return ((TagBoolean) tag).get();
+    } else if (tag instanceof TagIntArray) {
+      return new ArrayKey(((TagIntArray) tag).get());
+    } else if (tag instanceof TagLongArray) {
+      return new ArrayKey(((TagLongArray) tag).get());
+    } else if (tag instanceof TagByteArray) {
+      return new ArrayKey(((TagByteArray) tag).get());
+    } else if (tag instanceof TagShortArray) {
+      return new ArrayKey(((TagShortArray) tag).get());
+    } else if (tag instanceof TagStringArray) {
+      return new ArrayKey(((TagStringArray) tag).get());
+    } else if (tag instanceof TagDoubleArray) {
+      return new ArrayKey(((TagDoubleArray) tag).get());
+    } else if (tag instanceof TagFloatArray) {
+      return new ArrayKey(((TagFloatArray) tag).get());
+    } else if (tag instanceof TagBooleanArray) {
+      return new ArrayKey(((TagBooleanArray) tag).get());
+    }
+    // other tags are compared as tags; copied so that later changes to the key child can be detected
+    return tag.clone();
+  }
+
+  /**
+   * Compares arrays by their contents.
+   */
+  private static final class ArrayKey {
+    private final Object array;
+    private final int hash;
+
+    private ArrayKey(final Object newArray) {
+      array = newArray;
+      hash = Arrays.deepHashCode(new Object[]{array});
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+      return obj instanceof ArrayKey && array.getClass() == ((ArrayKey) obj).array.getClass() && Objects.deepEquals(
+          array, ((ArrayKey) obj).array);
+    }
+
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+  }
+
+}
@@ -47,6 +47,7 @@ public class TagLong extends Tag {
    */
   public void set(final long newLong) {
     data = newLong;
+    onChange();
   }
 
   /**
@@ -78,6 +79,16 @@ public class TagLong extends Tag {
     return data == other.data;
   }
 
+  @Override
+  public long estimatePayloadSize() {
+    return Long.BYTES;
+  }
+
+  @Override
+  protected int estimateFieldSize() {
+    return super.estimateFieldSize() + Long.BYTES;
+  }
+
   @Override
   public String toString() {
     return super.toString() + ": " + data;
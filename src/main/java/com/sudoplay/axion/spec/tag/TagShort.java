@@ -47,6 +47,7 @@ public class TagShort extends Tag {
    */
   public void set(final short newShort) {
     data = newShort;
+    onChange();
   }
 
   /**
@@ -78,6 +79,16 @@ public class TagShort extends Tag {
     return data == other.data;
   }
 
+  @Override
+  public long estimatePayloadSize() {
+    return Short.BYTES;
+  }
+
+  @Override
+  protected int estimateFieldSize() {
+    return super.estimateFieldSize() + Short.BYTES;
+  }
+
   @Override
   public String toString() {
     return super.toString() + ": " + data;
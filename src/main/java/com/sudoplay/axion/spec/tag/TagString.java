@@ -1,6 +1,7 @@
 package com.sudoplay.axion.spec.tag;
 
 import com.sudoplay.axion.tag.Tag;
+import com.sudoplay.axion.util.MemoryEstimates;
 
 /**
  * tag.type 8<br> tag.name <code>TAG_String</code><br> tag.payload * <code>TAG_Short</code> length<br> * An array of
@@ -45,6 +46,7 @@ public class TagString extends Tag {
     } else {
       data = newString;
     }
+    onChange();
   }
 
   /**
@@ -81,6 +83,21 @@ public class TagString extends Tag {
     return true;
   }
 
+  @Override
+  public long estimateSelfSize() {
+    return super.estimateSelfSize() + (data.isEmpty() ? 0 : MemoryEstimates.stringSize(data));
+  }
+
+  @Override
+  public long estimatePayloadSize() {
+    return (long) data.length() * Character.BYTES;
+  }
+
+  @Override
+  protected int estimateFieldSize() {
+    return super.estimateFieldSize() + MemoryEstimates.REFERENCE_SIZE;
+  }
+
   @Override
   public String toString() {
     return super.toString() + ": " + data;
@@ -1,16 +1,42 @@
 package com.sudoplay.axion.stream;
 
+import com.sudoplay.axion.AxionDecodeLimitException;
+import com.sudoplay.axion.AxionReadException;
+import com.sudoplay.axion.spec.tag.TagArena;
+import com.sudoplay.axion.util.MemoryEstimates;
+
 import java.io.*;
 
 /**
  * This is basically a {@link DataInputStream} modified to support a custom {@link CharacterEncoder}.
+ * <p>
+ * The stream also enforces the {@link DecodeLimits} set with {@link #setDecodeLimits(DecodeLimits)}: adapters read
+ * lengths with {@link #readArrayLength(int)}, {@link #readListSize()} and {@link #readStringLength()}, count tags with
+ * {@link #countElements(int)} and bracket containers with {@link #enterContainer()} and {@link #exitContainer()}.
  *
  * @author Jason Taylor
  */
 public class AxionInputStream extends FilterInputStream {
 
+  /**
+   * The most elements a list is sized for before they're read; the size read from the stream isn't trusted, so a
+   * larger list grows as its elements are read.
+   */
+  public static final int MAX_INITIAL_LIST_CAPACITY = 1024;
+
   protected final CharacterEncoder characterEncoder;
   private byte readBuffer[] = new byte[8];
+  private TagArena arena;
+
+  private int maxDepth = DecodeLimits.UNLIMITED;
+  private int maxElements = DecodeLimits.UNLIMITED;
+  private int maxArrayLength = DecodeLimits.UNLIMITED;
+  private int maxStringBytes = DecodeLimits.UNLIMITED;
+  private long maxAllocatedBytes = DecodeLimits.UNLIMITED_BYTES;
+
+  private int depth;
+  private long elements;
+  private long allocatedBytes;
 
   /**
    * Creates a new {@link AxionInputStream} from the given {@link InputStream} and {@link CharacterEncoder}.
@@ -186,6 +212,39 @@ public class AxionInputStream extends FilterInputStream {
     return characterEncoder.read(this);
   }
 
+  /**
+   * Reads the next string without creating it, checking that its bytes are well-formed for the {@link
+   * CharacterEncoder} set in the constructor.
+   *
+   * @return the number of bytes read, including the length
+   * @throws IOException
+   * @throws AxionCharacterEncodingException if the bytes are malformed
+   */
+  public int skipString() throws IOException {
+    return characterEncoder.skip(this);
+  }
+
+  /**
+   * Skips exactly the number of bytes given.
+   *
+   * @param n the number of bytes to skip
+   * @throws IOException
+   * @throws EOFException if the stream ends first
+   */
+  public void skipFully(final long n) throws IOException {
+    long remaining = n;
+    while (remaining > 0) {
+      long skipped = in.skip(remaining);
+      if (skipped <= 0) {
+        if (in.read() < 0) {
+          throw new EOFException();
+        }
+        skipped = 1;
+      }
+      remaining -= skipped;
+    }
+  }
+
   /**
    * Reads and returns the next byte interpreted as an unsigned byte.
    *
@@ -217,6 +276,158 @@ public class AxionInputStream extends FilterInputStream {
     return ((b1 << 8) + (b2));
   }
 
+  /**
+   * Sets the {@link TagArena} that adapters recycle tags from while reading from this stream; may be null.
+   *
+   * @param newArena the {@link TagArena} to recycle tags from
+   * @return this {@link AxionInputStream}
+   */
+  public AxionInputStream setArena(final TagArena newArena) {
+    arena = newArena;
+    return this;
+  }
+
+  /**
+   * Returns the {@link TagArena} that adapters recycle tags from while reading from this stream, or null if tags
+   * aren't recycled.
+   *
+   * @return the {@link TagArena} or null
+   */
+  public TagArena getArena() {
+    return arena;
+  }
+
+  /**
+   * Sets the {@link DecodeLimits} enforced while reading from this stream; null removes all limits. The limits are
+   * copied, so later changes to the limits given have no effect on this stream.
+   *
+   * @param newLimits the limits to enforce
+   * @return this {@link AxionInputStream}
+   */
+  public AxionInputStream setDecodeLimits(final DecodeLimits newLimits) {
+    DecodeLimits limits = (newLimits == null) ? new DecodeLimits() : newLimits;
+    maxDepth = limits.getMaxDepth();
+    maxElements = limits.getMaxElements();
+    maxArrayLength = limits.getMaxArrayLength();
+    maxStringBytes = limits.getMaxStringBytes();
+    maxAllocatedBytes = limits.getMaxAllocatedBytes();
+    return this;
+  }
+
+  /**
+   * Returns a copy of the {@link DecodeLimits} enforced while reading from this stream.
+   *
+   * @return the {@link DecodeLimits}
+   */
+  public DecodeLimits getDecodeLimits() {
+    return new DecodeLimits()
+        .setMaxDepth(maxDepth)
+        .setMaxElements(maxElements)
+        .setMaxArrayLength(maxArrayLength)
+        .setMaxStringBytes(maxStringBytes)
+        .setMaxAllocatedBytes(maxAllocatedBytes);
+  }
+
+  /**
+   * Called before the children of a compound or list are read.
+   *
+   * @throws AxionDecodeLimitException if the max depth is exceeded
+   */
+  public void enterContainer() {
+    if (++depth > maxDepth) {
+      throw new AxionDecodeLimitException("Max depth of " + maxDepth + " exceeded");
+    }
+  }
+
+  /**
+   * Called after the children of a compound or list are read.
+   */
+  public void exitContainer() {
+    depth--;
+  }
+
+  /**
+   * Counts tags that are about to be read.
+   *
+   * @param count the number of tags
+   * @throws AxionDecodeLimitException if the max elements are exceeded
+   */
+  public void countElements(final int count) {
+    elements += count;
+    if (elements > maxElements) {
+      throw new AxionDecodeLimitException("Max elements of " + maxElements + " exceeded: " + elements + " tags");
+    }
+  }
+
+  /**
+   * Counts bytes that are about to be allocated for decoded data.
+   *
+   * @param bytes the number of bytes
+   * @throws AxionDecodeLimitException if the max allocated bytes are exceeded
+   */
+  public void allocate(final long bytes) {
+    allocatedBytes += bytes;
+    if (allocatedBytes > maxAllocatedBytes) {
+      throw new AxionDecodeLimitException("Max allocated bytes of " + maxAllocatedBytes + " exceeded: " +
+          allocatedBytes + " bytes");
+    }
+  }
+
+  /**
+   * Reads the length of an array tag and counts the storage it needs.
+   *
+   * @param elementSize the size of each element in bytes
+   * @return the length read
+   * @throws IOException
+   * @throws AxionReadException        if the length is negative
+   * @throws AxionDecodeLimitException if the max array length or the max allocated bytes are exceeded
+   */
+  public int readArrayLength(final int elementSize) throws IOException {
+    int length = readInt();
+    if (length < 0) {
+      throw new AxionReadException("Negative array length: " + length);
+    }
+    if (length > maxArrayLength) {
+      throw new AxionDecodeLimitException("Max array length of " + maxArrayLength + " exceeded: " + length);
+    }
+    allocate((long) length * elementSize);
+    return length;
+  }
+
+  /**
+   * Reads the size of a list tag and counts its elements and the storage they need.
+   *
+   * @return the size read
+   * @throws IOException
+   * @throws AxionReadException        if the size is negative
+   * @throws AxionDecodeLimitException if the max elements or the max allocated bytes are exceeded
+   */
+  public int readListSize() throws IOException {
+    int size = readInt();
+    if (size < 0) {
+      throw new AxionReadException("Negative list size: " + size);
+    }
+    countElements(size);
+    allocate((long) size * MemoryEstimates.REFERENCE_SIZE);
+    return size;
+  }
+
+  /**
+   * Reads the encoded length of a string and counts the storage it needs.
+   *
+   * @return the length read, in bytes
+   * @throws IOException
+   * @throws AxionDecodeLimitException if the max string bytes or the max allocated bytes are exceeded
+   */
+  public int readStringLength() throws IOException {
+    int length = readUnsignedShort();
+    if (length > maxStringBytes) {
+      throw new AxionDecodeLimitException("Max string bytes of " + maxStringBytes + " exceeded: " + length);
+    }
+    allocate(length);
+    return length;
+  }
+
   public void close() throws IOException {
     in.close();
   }
@@ -1,5 +1,7 @@
 package com.sudoplay.axion.stream;
 
+import com.sudoplay.axion.tag.EncodedTagCache;
+
 import java.io.*;
 
 /**
@@ -11,6 +13,7 @@ public class AxionOutputStream extends FilterOutputStream {
 
   private final CharacterEncoder characterEncoder;
   private byte writeBuffer[] = new byte[8];
+  private EncodedTagCache encodedTagCache;
 
   /**
    * Creates a new {@link AxionOutputStream} from the given {@link InputStream} and {@link CharacterEncoder}.
@@ -23,6 +26,52 @@ public class AxionOutputStream extends FilterOutputStream {
     characterEncoder = newCharacterEncoder;
   }
 
+  /**
+   * Creates a new {@link AxionOutputStream} that writes to the {@link OutputStream} given using this stream's {@link
+   * CharacterEncoder} and {@link EncodedTagCache}.
+   *
+   * @param newOutputStream the {@link OutputStream} to wrap
+   * @return a new {@link AxionOutputStream}
+   */
+  public AxionOutputStream fork(final OutputStream newOutputStream) {
+    return new AxionOutputStream(newOutputStream, characterEncoder).setEncodedTagCache(encodedTagCache);
+  }
+
+  /**
+   * Sets the {@link EncodedTagCache} that adapters consult while writing to this stream; may be null.
+   *
+   * @param newEncodedTagCache the {@link EncodedTagCache} to use
+   * @return this {@link AxionOutputStream}
+   */
+  public AxionOutputStream setEncodedTagCache(final EncodedTagCache newEncodedTagCache) {
+    encodedTagCache = newEncodedTagCache;
+    return this;
+  }
+
+  /**
+   * Returns the {@link EncodedTagCache} that adapters consult while writing to this stream, or null if encoded tags
+   * aren't cached.
+   *
+   * @return the {@link EncodedTagCache} or null
+   */
+  public EncodedTagCache getEncodedTagCache() {
+    return encodedTagCache;
+  }
+
+  /**
+   * Writes <code>len</code> bytes from the byte array given, starting at offset <code>off</code>, to the underlying
+   * stream in a single call.
+   *
+   * @param b   the bytes to write
+   * @param off the offset to start writing from
+   * @param len the number of bytes to write
+   * @throws IOException
+   */
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    out.write(b, off, len);
+  }
+
   /**
    * Writes a single byte; 0 for false, 1 for true.
    *
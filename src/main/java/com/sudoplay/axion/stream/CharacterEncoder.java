@@ -1,7 +1,10 @@
 package com.sudoplay.axion.stream;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
 
 /**
  * The {@link CharacterEncoder} provides read and write methods to decode and encode strings using the {@link Charset}
@@ -50,9 +53,32 @@ public class CharacterEncoder {
    * @throws IOException
    */
   protected String read(final AxionInputStream in) throws IOException {
-    byte[] bytes = new byte[in.readUnsignedShort()];
+    byte[] bytes = new byte[in.readStringLength()];
     in.readFully(bytes);
     return new String(bytes, charset);
   }
 
+  /**
+   * Reads a string from the given {@link AxionInputStream} without creating it, checking that its bytes are well-formed
+   * in the {@link Charset} set with the constructor.
+   *
+   * @param in the {@link AxionInputStream} to read from
+   * @return the number of bytes read, including the length
+   * @throws IOException
+   * @throws AxionCharacterEncodingException if the bytes are malformed
+   */
+  protected int skip(final AxionInputStream in) throws IOException {
+    byte[] bytes = new byte[in.readStringLength()];
+    in.readFully(bytes);
+    try {
+      charset.newDecoder()
+          .onMalformedInput(CodingErrorAction.REPORT)
+          .onUnmappableCharacter(CodingErrorAction.REPORT)
+          .decode(ByteBuffer.wrap(bytes));
+    } catch (CharacterCodingException e) {
+      throw new AxionCharacterEncodingException("malformed input for " + charset.name(), e);
+    }
+    return bytes.length + 2;
+  }
+
 }
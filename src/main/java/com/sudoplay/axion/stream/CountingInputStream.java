@@ -0,0 +1,64 @@
+package com.sudoplay.axion.stream;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An {@link InputStream} that counts the bytes read and skipped through it.
+ *
+ * @author Jason Taylor
+ */
+public class CountingInputStream extends FilterInputStream {
+
+  private long count;
+
+  /**
+   * Creates a new {@link CountingInputStream} wrapping the {@link InputStream} given.
+   *
+   * @param newInputStream the {@link InputStream} to wrap
+   */
+  public CountingInputStream(final InputStream newInputStream) {
+    super(newInputStream);
+  }
+
+  /**
+   * Returns the number of bytes read and skipped so far.
+   *
+   * @return the number of bytes
+   */
+  public long getCount() {
+    return count;
+  }
+
+  @Override
+  public int read() throws IOException {
+    int b = in.read();
+    if (b >= 0) {
+      count++;
+    }
+    return b;
+  }
+
+  @Override
+  public int read(final byte[] b, final int off, final int len) throws IOException {
+    int n = in.read(b, off, len);
+    if (n > 0) {
+      count += n;
+    }
+    return n;
+  }
+
+  @Override
+  public long skip(final long n) throws IOException {
+    long skipped = in.skip(n);
+    count += skipped;
+    return skipped;
+  }
+
+  @Override
+  public boolean markSupported() {
+    return false;
+  }
+
+}
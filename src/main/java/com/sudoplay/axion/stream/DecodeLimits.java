@@ -0,0 +1,159 @@
+package com.sudoplay.axion.stream;
+
+/**
+ * The resources a single read may use, so that data from an untrusted source can't exhaust the heap or the thread
+ * stack.
+ * <ul>
+ * <li>max depth - the number of nested compounds and lists</li>
+ * <li>max elements - the number of tags read, counted as each tag is read and, for lists, as soon as the list's size is
+ * read</li>
+ * <li>max array length - the length of each array tag</li>
+ * <li>max string bytes - the encoded length of each string, names included</li>
+ * <li>max allocated bytes - the storage allocated for arrays, strings and list elements, counted before it's
+ * allocated</li>
+ * </ul>
+ * A read that exceeds a limit fails with an {@link com.sudoplay.axion.AxionDecodeLimitException} naming the limit. A
+ * new {@link DecodeLimits} is unlimited; {@link #untrusted()} returns limits suitable for data received over a
+ * network. Negative lengths are always rejected.
+ *
+ * @author Jason Taylor
+ * @see AxionInputStream#setDecodeLimits(DecodeLimits)
+ */
+public class DecodeLimits {
+
+  public static final int UNLIMITED = Integer.MAX_VALUE;
+  public static final long UNLIMITED_BYTES = Long.MAX_VALUE;
+
+  private int maxDepth = UNLIMITED;
+  private int maxElements = UNLIMITED;
+  private int maxArrayLength = UNLIMITED;
+  private int maxStringBytes = UNLIMITED;
+  private long maxAllocatedBytes = UNLIMITED_BYTES;
+
+  /**
+   * Creates new, unlimited {@link DecodeLimits}.
+   */
+  public DecodeLimits() {
+    //
+  }
+
+  /**
+   * Creates a copy of the {@link DecodeLimits} given.
+   *
+   * @param toCopy the limits to copy
+   */
+  public DecodeLimits(final DecodeLimits toCopy) {
+    maxDepth = toCopy.maxDepth;
+    maxElements = toCopy.maxElements;
+    maxArrayLength = toCopy.maxArrayLength;
+    maxStringBytes = toCopy.maxStringBytes;
+    maxAllocatedBytes = toCopy.maxAllocatedBytes;
+  }
+
+  /**
+   * Returns limits for data from an untrusted source: a depth of 512, 1,048,576 tags, arrays of 1,048,576 elements,
+   * strings of 32,767 bytes and 64 MiB of allocated storage.
+   *
+   * @return new {@link DecodeLimits}
+   */
+  public static DecodeLimits untrusted() {
+    return new DecodeLimits()
+        .setMaxDepth(512)
+        .setMaxElements(1 << 20)
+        .setMaxArrayLength(1 << 20)
+        .setMaxStringBytes(Short.MAX_VALUE)
+        .setMaxAllocatedBytes(64L << 20);
+  }
+
+  /**
+   * Sets the maximum number of nested compounds and lists; the root compound is at depth 1.
+   *
+   * @param newMaxDepth the maximum depth
+   * @return this {@link DecodeLimits}
+   */
+  public DecodeLimits setMaxDepth(final int newMaxDepth) {
+    maxDepth = requireNonNegative(newMaxDepth, "max depth");
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of tags read.
+   *
+   * @param newMaxElements the maximum number of tags
+   * @return this {@link DecodeLimits}
+   */
+  public DecodeLimits setMaxElements(final int newMaxElements) {
+    maxElements = requireNonNegative(newMaxElements, "max elements");
+    return this;
+  }
+
+  /**
+   * Sets the maximum length of each array tag.
+   *
+   * @param newMaxArrayLength the maximum array length
+   * @return this {@link DecodeLimits}
+   */
+  public DecodeLimits setMaxArrayLength(final int newMaxArrayLength) {
+    maxArrayLength = requireNonNegative(newMaxArrayLength, "max array length");
+    return this;
+  }
+
+  /**
+   * Sets the maximum encoded length of each string, in bytes.
+   *
+   * @param newMaxStringBytes the maximum string length in bytes
+   * @return this {@link DecodeLimits}
+   */
+  public DecodeLimits setMaxStringBytes(final int newMaxStringBytes) {
+    maxStringBytes = requireNonNegative(newMaxStringBytes, "max string bytes");
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of bytes allocated for arrays, strings and list elements.
+   *
+   * @param newMaxAllocatedBytes the maximum allocated bytes
+   * @return this {@link DecodeLimits}
+   */
+  public DecodeLimits setMaxAllocatedBytes(final long newMaxAllocatedBytes) {
+    if (newMaxAllocatedBytes < 0) {
+      throw new IllegalArgumentException("max allocated bytes can't be negative: " + newMaxAllocatedBytes);
+    }
+    maxAllocatedBytes = newMaxAllocatedBytes;
+    return this;
+  }
+
+  public int getMaxDepth() {
+    return maxDepth;
+  }
+
+  public int getMaxElements() {
+    return maxElements;
+  }
+
+  public int getMaxArrayLength() {
+    return maxArrayLength;
+  }
+
+  public int getMaxStringBytes() {
+    return maxStringBytes;
+  }
+
+  public long getMaxAllocatedBytes() {
+    return maxAllocatedBytes;
+  }
+
+  private static int requireNonNegative(final int value, final String name) {
+    if (value < 0) {
+      throw new IllegalArgumentException(name + " can't be negative: " + value);
+    }
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return "DecodeLimits{maxDepth=" + maxDepth + ", maxElements=" + maxElements + ", maxArrayLength=" +
+        maxArrayLength + ", maxStringBytes=" + maxStringBytes + ", maxAllocatedBytes=" + maxAllocatedBytes + "}";
+  }
+
+}
@@ -79,7 +79,7 @@ public class ModifiedUTFCharacterEncoder extends CharacterEncoder {
    */
   @Override
   public String read(final AxionInputStream in) throws IOException {
-    int utflen = in.readUnsignedShort();
+    int utflen = in.readStringLength();
     byte[] bytearr = null;
     char[] chararr = null;
     if (this.bytearr.length < utflen) {
@@ -148,4 +148,53 @@ public class ModifiedUTFCharacterEncoder extends CharacterEncoder {
     // The number of chars produced may be less than utflen
     return new String(chararr, 0, chararr_count);
   }
+
+  /**
+   * Checks the bytes of a string the same way as {@link #read(AxionInputStream)} without creating it.
+   */
+  @Override
+  protected int skip(final AxionInputStream in) throws IOException {
+    int utflen = in.readStringLength();
+    if (this.bytearr.length < utflen) {
+      this.bytearr = new byte[utflen * 2];
+      this.chararr = new char[utflen * 2];
+    }
+    byte[] bytearr = this.bytearr;
+    in.readFully(bytearr, 0, utflen);
+
+    int count = 0;
+    while (count < utflen) {
+      int c = (int) bytearr[count] & 0xff;
+      switch (c >> 4) {
+        case 0:
+        case 1:
+        case 2:
+        case 3:
+        case 4:
+        case 5:
+        case 6:
+        case 7:
+          count++;
+          break;
+        case 12:
+        case 13:
+          count += 2;
+          if (count > utflen)
+            throw new AxionCharacterEncodingException("malformed input: partial character at end");
+          if ((bytearr[count - 1] & 0xC0) != 0x80)
+            throw new AxionCharacterEncodingException("malformed input around byte " + count);
+          break;
+        case 14:
+          count += 3;
+          if (count > utflen)
+            throw new AxionCharacterEncodingException("malformed input: partial character at end");
+          if (((bytearr[count - 2] & 0xC0) != 0x80) || ((bytearr[count - 1] & 0xC0) != 0x80))
+            throw new AxionCharacterEncodingException("malformed input around byte " + (count - 1));
+          break;
+        default:
+          throw new AxionCharacterEncodingException("malformed input around byte " + count);
+      }
+    }
+    return utflen + 2;
+  }
 }
@@ -46,17 +46,39 @@ package com.sudoplay.axion.system;
 
 import com.sudoplay.axion.util.AxionTypeToken;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Returns a function that can construct an instance of a requested type.
+ * <p>
+ * The function resolved for a type is cached until an instance creator is registered. No-args constructors are called
+ * through a {@link LambdaMetafactory} generated {@link Supplier} when they're public and loaded by this class's loader
+ * or one of its ancestors, or a {@link MethodHandle} otherwise, rather than through reflection.
  */
 public final class ConstructorConstructor {
+  private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+  private static final MethodType SUPPLIER_TYPE = MethodType.methodType(Supplier.class);
+
   private final Map<Type, InstanceCreator<?>> instanceCreators;
+  private final ConcurrentHashMap<AxionTypeToken<?>, ObjectConstructor<?>> cache = new ConcurrentHashMap<>();
+
+  /**
+   * Incremented when an instance creator is registered, so a function resolved concurrently with the registration
+   * isn't cached after the cache is cleared.
+   */
+  private final AtomicInteger generation = new AtomicInteger();
 
   public ConstructorConstructor(
       Map<Type, InstanceCreator<?>> instanceCreators
@@ -65,15 +87,35 @@ public final class ConstructorConstructor {
   }
 
   public ConstructorConstructor() {
-    this(Collections.<Type, InstanceCreator<?>>emptyMap());
+    this(new ConcurrentHashMap<>());
   }
 
   public void registerInstanceCreator(Type type, InstanceCreator<?> instanceCreator) {
     instanceCreators.put(type, instanceCreator);
+    generation.incrementAndGet();
+    cache.clear();
   }
 
   public <T> ObjectConstructor<T> get(
       AxionTypeToken<T> typeToken
+  ) {
+    @SuppressWarnings("unchecked")
+    // cached by type token
+    ObjectConstructor<T> result = (ObjectConstructor<T>) cache.get(typeToken);
+    if (result == null) {
+      int resolvedGeneration = generation.get();
+      result = resolve(typeToken);
+      cache.put(typeToken, result);
+      if (generation.get() != resolvedGeneration) {
+        // may have been resolved without the new instance creator
+        cache.remove(typeToken, result);
+      }
+    }
+    return result;
+  }
+
+  private <T> ObjectConstructor<T> resolve(
+      AxionTypeToken<T> typeToken
   ) {
     final Type type = typeToken.getType();
     final Class<? super T> rawType = typeToken.getRawType();
@@ -95,6 +137,10 @@ public final class ConstructorConstructor {
       return () -> rawTypeCreator.createInstance(type);
     }
 
+    if (rawType == HashMap.class || rawType == LinkedHashMap.class) {
+      return newHashMapConstructor(rawType == LinkedHashMap.class);
+    }
+
     ObjectConstructor<T> defaultConstructor = newDefaultConstructor(rawType);
     if (defaultConstructor != null) {
       return defaultConstructor;
@@ -109,35 +155,99 @@ public final class ConstructorConstructor {
     return newUnsafeAllocator(type, rawType);
   }
 
-  @SuppressWarnings("unchecked")
   private <T> ObjectConstructor<T> newDefaultConstructor(
       Class<? super T> rawType
   ) {
+    if (Modifier.isAbstract(rawType.getModifiers())) {
+      return null;
+    }
+    final Constructor<? super T> constructor;
+    try {
+      constructor = rawType.getDeclaredConstructor();
+    } catch (NoSuchMethodException e) {
+      return null;
+    }
+    if (Modifier.isPublic(rawType.getModifiers()) && Modifier.isPublic(constructor.getModifiers())
+        && isLoadedByAncestor(rawType)) {
+      ObjectConstructor<T> result = newSupplierConstructor(constructor);
+      if (result != null) {
+        return result;
+      }
+    }
+    final MethodHandle handle;
     try {
-      final Constructor<? super T> constructor = rawType
-          .getDeclaredConstructor();
       if (!constructor.isAccessible()) {
         constructor.setAccessible(true);
       }
-      return () -> {
-        try {
-          return (T) constructor.newInstance((Object[]) null);
-        } catch (InstantiationException e) {
-          // TODO: JsonParseException ?
-          throw new RuntimeException("Failed to invoke " + constructor
-              + " with no args", e);
-        } catch (InvocationTargetException e) {
-          // TODO: don't wrap if cause is unchecked!
-          // TODO: JsonParseException ?
-          throw new RuntimeException("Failed to invoke " + constructor
-              + " with no args", e.getTargetException());
-        } catch (IllegalAccessException e) {
-          throw new AssertionError(e);
-        }
-      };
-    } catch (NoSuchMethodException e) {
+      handle = MethodHandles.lookup().unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE);
+    } catch (IllegalAccessException | RuntimeException e) {
+      return null;
+    }
+    return () -> {
+      try {
+        @SuppressWarnings("unchecked")
+        T result = (T) (Object) handle.invokeExact();
+        return result;
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable t) {
+        throw new RuntimeException("Failed to invoke " + constructor + " with no args", t);
+      }
+    };
+  }
+
+  /**
+   * Returns a constructor that calls a {@link Supplier} generated for the public constructor given, or null if one
+   * can't be generated.
+   */
+  private <T> ObjectConstructor<T> newSupplierConstructor(
+      final Constructor<? super T> constructor
+  ) {
+    final Supplier<?> supplier;
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      MethodHandle handle = lookup.unreflectConstructor(constructor);
+      CallSite callSite = LambdaMetafactory.metafactory(
+          lookup,
+          "get",
+          SUPPLIER_TYPE,
+          CONSTRUCTOR_TYPE,
+          handle,
+          MethodType.methodType(constructor.getDeclaringClass())
+      );
+      supplier = (Supplier<?>) callSite.getTarget().invokeExact();
+    } catch (Throwable t) {
       return null;
     }
+    return () -> {
+      try {
+        @SuppressWarnings("unchecked")
+        T result = (T) supplier.get();
+        return result;
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Exception e) {
+        // a checked exception thrown by the constructor
+        throw new RuntimeException("Failed to invoke " + constructor + " with no args", e);
+      }
+    };
+  }
+
+  /**
+   * Returns true if the class given is loaded by this class's loader or one of its ancestors; the {@link Supplier}
+   * generated for a class loaded by a child loader fails to link with a {@link NoClassDefFoundError}.
+   */
+  private static boolean isLoadedByAncestor(final Class<?> type) {
+    ClassLoader loader = type.getClassLoader();
+    if (loader == null) {
+      return true;
+    }
+    for (ClassLoader c = ConstructorConstructor.class.getClassLoader(); c != null; c = c.getParent()) {
+      if (c == loader) {
+        return true;
+      }
+    }
+    return false;
   }
 
   /**
@@ -183,26 +293,68 @@ public final class ConstructorConstructor {
       if (SortedMap.class.isAssignableFrom(rawType)) {
         return () -> (T) new TreeMap<>();
 
-      } else if (type instanceof ParameterizedType) {
-        Type[] types = ((ParameterizedType) type).getActualTypeArguments();
-        AxionTypeToken typeToken = AxionTypeToken.get(types[0]);
-        if (!(String.class.isAssignableFrom(typeToken.getRawType()))) {
-          return () -> (T) new LinkedHashMap<>();
-        }
+      } else if (EnumMap.class.isAssignableFrom(rawType)) {
+        return () -> {
+          if (type instanceof ParameterizedType) {
+            Type keyType = ((ParameterizedType) type).getActualTypeArguments()[0];
+            if (keyType instanceof Class) {
+              return (T) newEnumMap((Class<?>) keyType);
+            } else {
+              throw new IllegalArgumentException("Invalid EnumMap type: " + type.toString());
+            }
+          } else {
+            throw new IllegalArgumentException("Invalid EnumMap type: " + type.toString());
+          }
+        };
 
+      } else {
+        return newHashMapConstructor(true);
       }
     }
 
     return null;
   }
 
+  /**
+   * Returns a new {@link EnumMap} for the key class given, which must be an enum.
+   */
+  @SuppressWarnings("unchecked")
+  private static <K extends Enum<K>> EnumMap<K, Object> newEnumMap(final Class<?> keyType) {
+    if (!keyType.isEnum()) {
+      throw new IllegalArgumentException("Invalid EnumMap key type: " + keyType);
+    }
+    return new EnumMap<>((Class<K>) keyType);
+  }
+
+  /**
+   * Returns a constructor for {@link HashMap}, or {@link LinkedHashMap} if linked, that sizes the map for the number of
+   * entries expected.
+   */
+  @SuppressWarnings("unchecked")
+  private <T> ObjectConstructor<T> newHashMapConstructor(
+      final boolean linked
+  ) {
+    return new ObjectConstructor<T>() {
+      @Override
+      public T construct() {
+        return (T) (linked ? new LinkedHashMap<>() : new HashMap<>());
+      }
+
+      @Override
+      public T construct(int expectedSize) {
+        // the smallest capacity that holds the entries without a rehash at the default load factor
+        int capacity = (expectedSize < 3) ? expectedSize + 1 : (int) (expectedSize / 0.75f + 1.0f);
+        return (T) (linked ? new LinkedHashMap<>(capacity) : new HashMap<>(capacity));
+      }
+    };
+  }
+
   private <T> ObjectConstructor<T> newUnsafeAllocator(
       final Type type,
       final Class<? super T> rawType
   ) {
+    final UnsafeAllocator unsafeAllocator = UnsafeAllocator.create();
     return new ObjectConstructor<T>() {
-      private final UnsafeAllocator unsafeAllocator = UnsafeAllocator.create();
-
       @SuppressWarnings("unchecked")
       public T construct() {
         try {
@@ -7,4 +7,15 @@ public interface ObjectConstructor<V> {
 
   V construct();
 
+  /**
+   * Constructs an instance that's about to be filled with the number of elements given; the constructors of maps that
+   * can be sized up front override this.
+   *
+   * @param expectedSize the number of elements expected
+   * @return a new instance
+   */
+  default V construct(int expectedSize) {
+    return construct();
+  }
+
 }
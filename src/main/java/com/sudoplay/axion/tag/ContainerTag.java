@@ -1,5 +1,9 @@
 package com.sudoplay.axion.tag;
 
+import com.sudoplay.axion.util.MemoryEstimates;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Iterator;
 
 /**
@@ -9,6 +13,17 @@ import java.util.Iterator;
  */
 public abstract class ContainerTag extends Tag implements Iterable<Tag> {
 
+  /**
+   * Memoized structural hash code; valid until this container's subtree changes.
+   */
+  private int hash;
+  private boolean hashValid;
+
+  /**
+   * Encoded payload cached by an {@link EncodedTagCache}; present only while this container's subtree is clean.
+   */
+  private EncodedTagCache.Entry encoded;
+
   /**
    * Creates a new {@link ContainerTag} with the name given.
    *
@@ -43,6 +58,213 @@ public abstract class ContainerTag extends Tag implements Iterable<Tag> {
    */
   public abstract void clear();
 
+  /**
+   * Called when a child tag, or any tag below it, changes. Discards the state cached for this container's subtree and
+   * notifies this container's parent.
+   *
+   * @param child the child that changed
+   */
+  protected void onChildChange(final Tag child) {
+    onChange();
+  }
+
+  /**
+   * Discards the state cached for this container's subtree and notifies this container's parent. Stops early if this
+   * container holds no cached state, as its ancestors can't hold any either: a memoized hash code is computed from the
+   * children's memoized hash codes, and a payload is only cached if every cacheable child container holds state. Keeps
+   * going if an ancestor {@link #observesChildChanges() observes} changes this far down.
+   */
+  @Override
+  protected void onChange() {
+    if (!hashValid && encoded == null && isCacheable() && !isObserved()) {
+      return;
+    }
+    hashValid = false;
+    encoded = null;
+    super.onChange();
+  }
+
+  /**
+   * Returns <code>true</code> if this container, or any tag below it, changed since its payload was last cached by an
+   * {@link EncodedTagCache}.
+   *
+   * @return <code>true</code> if this container has no cached payload
+   */
+  public boolean isDirty() {
+    return encoded == null;
+  }
+
+  EncodedTagCache.Entry getEncoded() {
+    return encoded;
+  }
+
+  /**
+   * Returns <code>true</code> if this container must be told about changes to its children and grandchildren even
+   * when it holds no cached state, eg. to keep an index over its elements' fields current.
+   */
+  protected boolean observesChildChanges() {
+    return false;
+  }
+
+  private boolean isObserved() {
+    ContainerTag p = getParent();
+    if (p == null) {
+      return false;
+    }
+    if (p.observesChildChanges()) {
+      return true;
+    }
+    ContainerTag gp = p.getParent();
+    return gp != null && gp.observesChildChanges();
+  }
+
+  void setEncoded(final EncodedTagCache.Entry newEncoded) {
+    if (isCacheable() && childrenHoldState()) {
+      encoded = newEncoded;
+    }
+  }
+
+  /**
+   * Returns <code>true</code> if every cacheable child container holds cached state, so that a change below them
+   * reaches this container; see {@link #onChange()}.
+   */
+  private boolean childrenHoldState() {
+    for (Tag child : this) {
+      if (child instanceof ContainerTag) {
+        ContainerTag container = (ContainerTag) child;
+        if (container.isCacheable() && !container.hashValid && container.encoded == null) {
+          return false;
+        }
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns <code>true</code> if state derived from this container's subtree, ie. its hash code and encoded payload,
+   * may be memoized. Containers that can be modified concurrently return <code>false</code>, as a change could race
+   * with the computation of the state.
+   *
+   * @return <code>true</code> if state derived from this container's subtree may be memoized
+   */
+  protected boolean isCacheable() {
+    return true;
+  }
+
+  /**
+   * Makes this container the parent of the {@link Tag} given if the tag has no parent. Unlike {@link
+   * Tag#addTo(ContainerTag)}, no callbacks are made; the caller is responsible for storing the child. Containers that
+   * can be modified concurrently override this and {@link #release(Tag)} to make the transition atomic.
+   *
+   * @param child the tag to adopt
+   * @return <code>true</code> if this container is now the tag's parent
+   */
+  protected boolean adopt(final Tag child) {
+    return child.setParentIf(null, this);
+  }
+
+  /**
+   * Makes this container the parent of the {@link Tag} given, like {@link #adopt(Tag)}, but fails if the tag already
+   * has a parent.
+   *
+   * @param child the tag to adopt
+   * @throws AxionIllegalTagStateException if the tag already has a parent
+   */
+  protected final void adoptOrFail(final Tag child) throws AxionIllegalTagStateException {
+    if (!adopt(child)) {
+      throw new AxionIllegalTagStateException("Tag [" + child.toString() + "] already has parent [" + child.getParent()
+          + "]; use removeFromParent() to remove the tag from its parent before adding it to " + this.toString());
+    }
+  }
+
+  /**
+   * Sets the name of a {@link Tag} this container adopted but hasn't stored yet. Unlike {@link Tag#setName(String)}, no
+   * {@link #onChildNameChange(String, String)} callback is made.
+   *
+   * @param child   the adopted tag
+   * @param newName the new name
+   */
+  protected final void nameUnstored(final Tag child, final String newName) {
+    child.setNameUnstored(newName);
+  }
+
+  /**
+   * Clears the parent of the {@link Tag} given if this container is its parent. Unlike {@link Tag#removeFromParent()},
+   * no callbacks are made; the caller is responsible for discarding the child.
+   *
+   * @param child the tag to release
+   * @return <code>true</code> if the tag's parent was cleared
+   */
+  protected boolean release(final Tag child) {
+    return child.setParentIf(this, null);
+  }
+
+  /**
+   * Returns the estimated heap size of this container and every tag below it. The subtree is walked with an explicit
+   * stack, so deeply nested containers don't overflow the call stack.
+   *
+   * @return the estimated size in bytes
+   */
+  @Override
+  public long estimateRetainedSize() {
+    long size = 0;
+    Deque<Tag> stack = new ArrayDeque<>();
+    stack.push(this);
+    while (!stack.isEmpty()) {
+      Tag tag = stack.pop();
+      size += tag.estimateSelfSize();
+      if (tag instanceof ContainerTag) {
+        for (Tag child : (ContainerTag) tag) {
+          stack.push(child);
+        }
+      }
+    }
+    return size;
+  }
+
+  @Override
+  protected int estimateFieldSize() {
+    return super.estimateFieldSize() + 4 + 1 + MemoryEstimates.REFERENCE_SIZE;
+  }
+
+  /**
+   * Returns the structural hash code of this container. The hash code is computed by {@link #computeHashCode()} and
+   * memoized until this container's subtree changes.
+   *
+   * @return the structural hash code of this container
+   */
+  @Override
+  public int hashCode() {
+    if (!isCacheable()) {
+      return computeHashCode();
+    }
+    if (!hashValid) {
+      hash = computeHashCode();
+      hashValid = true;
+    }
+    return hash;
+  }
+
+  /**
+   * Computes the structural hash code of this container and its subtree.
+   *
+   * @return the structural hash code of this container
+   */
+  protected int computeHashCode() {
+    return super.hashCode();
+  }
+
+  /**
+   * Returns <code>true</code> if the memoized hash codes of this container and the container given are both valid and
+   * differ, in which case the containers can't be equal.
+   *
+   * @param other the container to compare to
+   * @return <code>true</code> if the memoized hash codes prove the containers are not equal
+   */
+  protected boolean hashCodeMismatch(final ContainerTag other) {
+    return hashValid && other.hashValid && hash != other.hash;
+  }
+
   /**
    * Called when a child tag's name changes.
    *
@@ -0,0 +1,170 @@
+package com.sudoplay.axion.tag;
+
+import com.sudoplay.axion.stream.AxionOutputStream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * An {@link EncodedTagCache} remembers the encoded payload of each {@link ContainerTag} it writes so that later writes
+ * of the same, unchanged container copy the cached bytes instead of encoding the subtree again.
+ * <p>
+ * Cached payloads are kept on the containers themselves and are dropped as soon as the container, or any tag below it,
+ * changes; a change to a single leaf therefore only causes the containers on the path from that leaf to the root to be
+ * encoded again. Containers that are encoded are streamed straight to the output; their bytes are copied aside only
+ * while they fit the maximum entry size, which bounds the memory spent on the copies held by nested containers.
+ * Containers that aren't cacheable, such as concurrent containers, are always encoded.
+ * <p>
+ * Cached payloads depend on the configuration that encoded them; a cache should only be used with a single {@link
+ * com.sudoplay.axion.Axion} instance. An {@link EncodedTagCache} is not thread-safe.
+ *
+ * @author Jason Taylor
+ */
+public class EncodedTagCache {
+
+  public static final int DEFAULT_MAX_ENTRY_BYTES = 1024 * 1024;
+
+  /**
+   * Writes the payload of a {@link ContainerTag}.
+   *
+   * @param <T> container type
+   */
+  @FunctionalInterface
+  public interface PayloadWriter<T extends ContainerTag> {
+    void write(T tag, AxionOutputStream out) throws IOException;
+  }
+
+  /**
+   * Encoded payload of a container, owned by the cache that created it.
+   */
+  static class Entry {
+    private final EncodedTagCache owner;
+    private final byte[] bytes;
+
+    private Entry(final EncodedTagCache newOwner, final byte[] newBytes) {
+      owner = newOwner;
+      bytes = newBytes;
+    }
+  }
+
+  private final int maxEntryBytes;
+  private long hitCount;
+  private long missCount;
+
+  /**
+   * Creates a new {@link EncodedTagCache} that keeps payloads of up to {@link #DEFAULT_MAX_ENTRY_BYTES}.
+   */
+  public EncodedTagCache() {
+    this(DEFAULT_MAX_ENTRY_BYTES);
+  }
+
+  /**
+   * Creates a new {@link EncodedTagCache} that keeps payloads of up to the number of bytes given.
+   *
+   * @param newMaxEntryBytes the maximum size of a cached payload
+   */
+  public EncodedTagCache(final int newMaxEntryBytes) {
+    maxEntryBytes = newMaxEntryBytes;
+  }
+
+  /**
+   * Writes the payload of the {@link ContainerTag} given. If the container is unchanged since this cache last wrote
+   * it, the cached bytes are copied to the stream; otherwise the payload is encoded to the stream with the {@link
+   * PayloadWriter} given and cached if it fits the maximum entry size.
+   *
+   * @param tag    the container to write
+   * @param out    the {@link AxionOutputStream} to write to
+   * @param writer encodes the payload when it isn't cached
+   * @param <T>    container type
+   * @throws IOException
+   */
+  public <T extends ContainerTag> void write(
+      final T tag,
+      final AxionOutputStream out,
+      final PayloadWriter<T> writer
+  ) throws IOException {
+    if (!tag.isCacheable()) {
+      missCount++;
+      writer.write(tag, out);
+      return;
+    }
+    Entry entry = tag.getEncoded();
+    if (entry != null && entry.owner == this) {
+      hitCount++;
+      out.write(entry.bytes, 0, entry.bytes.length);
+      return;
+    }
+    missCount++;
+    CapturingOutputStream capture = new CapturingOutputStream(out, maxEntryBytes);
+    writer.write(tag, out.fork(capture));
+    byte[] bytes = capture.toByteArray();
+    if (bytes != null) {
+      tag.setEncoded(new Entry(this, bytes));
+    }
+  }
+
+  /**
+   * Passes bytes through to the stream it wraps and keeps a copy of them until they exceed the maximum size given.
+   */
+  private static class CapturingOutputStream extends FilterOutputStream {
+
+    private final int maxBytes;
+    private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+    private CapturingOutputStream(final OutputStream newOutputStream, final int newMaxBytes) {
+      super(newOutputStream);
+      maxBytes = newMaxBytes;
+    }
+
+    @Override
+    public void write(final int b) throws IOException {
+      out.write(b);
+      if (capture(1)) {
+        buffer.write(b);
+      }
+    }
+
+    @Override
+    public void write(final byte[] b, final int off, final int len) throws IOException {
+      out.write(b, off, len);
+      if (capture(len)) {
+        buffer.write(b, off, len);
+      }
+    }
+
+    private boolean capture(final int len) {
+      if (buffer != null && (long) buffer.size() + len > maxBytes) {
+        buffer = null;
+      }
+      return buffer != null;
+    }
+
+    /**
+     * @return the bytes written, or null if they exceeded the maximum size
+     */
+    private byte[] toByteArray() {
+      return (buffer == null) ? null : buffer.toByteArray();
+    }
+  }
+
+  /**
+   * Returns the number of container payloads copied from this cache.
+   *
+   * @return the number of container payloads copied from this cache
+   */
+  public long getHitCount() {
+    return hitCount;
+  }
+
+  /**
+   * Returns the number of container payloads this cache had to encode.
+   *
+   * @return the number of container payloads this cache had to encode
+   */
+  public long getMissCount() {
+    return missCount;
+  }
+
+}
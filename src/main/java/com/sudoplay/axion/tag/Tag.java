@@ -1,5 +1,7 @@
 package com.sudoplay.axion.tag;
 
+import com.sudoplay.axion.util.MemoryEstimates;
+
 public abstract class Tag implements Cloneable {
 
   private String name;
@@ -16,19 +18,37 @@ public abstract class Tag implements Cloneable {
 
   /**
    * Sets the name of this {@link Tag}. If this tag belongs to a container tag, the {@link
-   * ContainerTag#onChildNameChange(String, String)} of the container tag is called.
+   * ContainerTag#onChildNameChange(String, String)} of the container tag is called. Does nothing if the name is
+   * unchanged; a null name is the same as an empty name.
    *
    * @param newName the new name for this {@link Tag}
    * @return this {@link Tag}
    */
   public Tag setName(final String newName) {
-    if (parent != null) {
-      parent.onChildNameChange(name, newName);
+    String n = (newName == null) ? "" : newName;
+    if (n.equals(name)) {
+      return this;
     }
-    name = (newName == null) ? "" : newName;
+    ContainerTag p = parent;
+    if (p != null) {
+      p.onChildNameChange(name, newName);
+    }
+    name = n;
+    onChange();
     return this;
   }
 
+  /**
+   * Sets the name of this {@link Tag} without calling {@link ContainerTag#onChildNameChange(String, String)}, for a
+   * container naming a tag it adopted but hasn't stored yet.
+   *
+   * @param newName the new name for this {@link Tag}
+   */
+  void setNameUnstored(final String newName) {
+    name = (newName == null) ? "" : newName;
+    onChange();
+  }
+
   /**
    * Returns the name for this {@link Tag}.
    *
@@ -50,12 +70,17 @@ public abstract class Tag implements Cloneable {
     if (newParent == null) {
       throw new AxionInvalidTagException("Can't set parent tag to null; use removeFromParent() to remove this tag " +
           "from its parent");
-    } else if (parent != null) {
-      throw new AxionIllegalTagStateException("Tag [" + this.toString() + "] already has parent [" + parent.toString()
-          + "]; use removeFromParent() to remove this tag from its parent before assigning a new parent");
+    } else if (!newParent.adopt(this)) {
+      throw new AxionIllegalTagStateException("Tag [" + this.toString() + "] already has parent [" + parent + "]; use "
+          + "removeFromParent() to remove this tag from its parent before assigning a new parent");
     }
-    parent = newParent;
-    parent.onChildAddition(this);
+    try {
+      newParent.onChildAddition(this);
+    } catch (RuntimeException e) {
+      newParent.release(this);
+      throw e;
+    }
+    newParent.onChange();
     return this;
   }
 
@@ -84,13 +109,82 @@ public abstract class Tag implements Cloneable {
    * @return this {@link Tag}
    */
   public Tag removeFromParent() {
-    if (parent != null) {
-      parent.onChildRemoval(this);
+    ContainerTag oldParent = parent;
+    if (oldParent != null && oldParent.release(this)) {
+      oldParent.onChildRemoval(this);
+      oldParent.onChange();
     }
-    parent = null;
     return this;
   }
 
+  /**
+   * Sets this tag's parent to the new parent if its current parent is the expected parent. No container callbacks are
+   * made; see {@link ContainerTag#adopt(Tag)} and {@link ContainerTag#release(Tag)}.
+   *
+   * @param expected  the expected parent; null if this tag is expected to have no parent
+   * @param newParent the new parent; null to clear the parent
+   * @return <code>true</code> if the parent was set
+   */
+  boolean setParentIf(final ContainerTag expected, final ContainerTag newParent) {
+    if (parent != expected) {
+      return false;
+    }
+    parent = newParent;
+    return true;
+  }
+
+  /**
+   * Called when the value or name of this {@link Tag} changes. Notifies the parent container, if any, through {@link
+   * ContainerTag#onChildChange(Tag)} so that state cached for the parent's subtree is discarded.
+   */
+  protected void onChange() {
+    ContainerTag p = parent;
+    if (p != null) {
+      p.onChildChange(this);
+    }
+  }
+
+  /**
+   * Returns the estimated heap size of this {@link Tag} without its children: the tag object, its name and the objects
+   * that hold its value, such as arrays, strings and the backing collections of containers. Shared objects, such as
+   * interned names, are counted once for every tag that refers to them.
+   *
+   * @return the estimated size in bytes
+   * @see MemoryEstimates
+   */
+  public long estimateSelfSize() {
+    return MemoryEstimates.objectSize(estimateFieldSize()) + (name.isEmpty() ? 0 : MemoryEstimates.stringSize(name));
+  }
+
+  /**
+   * Returns the number of bytes of value data held by this {@link Tag}, ie. the width of a primitive value or the
+   * elements of an array, without object headers or references. Containers return 0.
+   *
+   * @return the payload size in bytes
+   */
+  public long estimatePayloadSize() {
+    return 0;
+  }
+
+  /**
+   * Returns the estimated heap size of this {@link Tag} and every tag below it.
+   *
+   * @return the estimated size in bytes
+   */
+  public long estimateRetainedSize() {
+    return estimateSelfSize();
+  }
+
+  /**
+   * Returns the total size in bytes of the fields declared by this {@link Tag}'s class and its superclasses. Subclasses
+   * that declare fields add their size to the size returned by the superclass.
+   *
+   * @return the size of this tag's fields in bytes
+   */
+  protected int estimateFieldSize() {
+    return 2 * MemoryEstimates.REFERENCE_SIZE;
+  }
+
   @Override
   public int hashCode() {
     final int prime = 31;
@@ -36,6 +36,16 @@ import java.util.Map;
  */
 public class AxionTypeToken<T> {
 
+  /**
+   * Interned type literals for classes; see {@link #get(Class)}.
+   */
+  private static final ClassValue<AxionTypeToken<?>> CLASS_TOKENS = new ClassValue<AxionTypeToken<?>>() {
+    @Override
+    protected AxionTypeToken<?> computeValue(final Class<?> type) {
+      return new AxionTypeToken<>(type);
+    }
+  };
+
   final Class<? super T> rawType;
   final Type type;
   final int hashCode;
@@ -106,17 +116,22 @@ public class AxionTypeToken<T> {
   }
 
   /**
-   * Gets type literal for the given {@code Type} instance.
+   * Gets type literal for the given {@code Type} instance. Type literals for classes are interned.
    */
   public static AxionTypeToken<?> get(Type type) {
+    if (type instanceof Class<?>) {
+      return get((Class<?>) type);
+    }
     return new AxionTypeToken<Object>(type);
   }
 
   /**
-   * Gets type literal for the given {@code Class} instance.
+   * Gets type literal for the given {@code Class} instance. The type literal is interned, so every call with the same
+   * class returns the same instance.
    */
+  @SuppressWarnings("unchecked")
   public static <T> AxionTypeToken<T> get(Class<T> type) {
-    return new AxionTypeToken<>(type);
+    return (AxionTypeToken<T>) CLASS_TOKENS.get(AxionContract.assertNotNull(type, "Type can't be null"));
   }
 
   /**
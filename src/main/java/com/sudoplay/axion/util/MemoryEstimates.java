@@ -0,0 +1,108 @@
+package com.sudoplay.axion.util;
+
+/**
+ * Estimates of the heap size of objects, for a 64-bit JVM with compressed references and 8 byte object alignment,
+ * which is the default for heaps smaller than 32 GB.
+ * <p>
+ * Strings are estimated with the Java 8 layout of a <code>char[]</code> value; on later JVMs Latin-1 strings are
+ * smaller. Collection estimates assume the default load factor and no unused capacity beyond the resize policy.
+ *
+ * @author Jason Taylor
+ */
+public final class MemoryEstimates {
+
+  public static final int OBJECT_HEADER_SIZE = 12;
+  public static final int ARRAY_HEADER_SIZE = 16;
+  public static final int REFERENCE_SIZE = 4;
+  public static final int OBJECT_ALIGNMENT = 8;
+
+  /**
+   * String: header, value reference and hash field.
+   */
+  private static final long STRING_SIZE = objectSize(REFERENCE_SIZE + 4);
+
+  /**
+   * HashMap / ConcurrentHashMap node: hash, key, value and next.
+   */
+  private static final long MAP_NODE_SIZE = objectSize(4 + 3 * REFERENCE_SIZE);
+
+  /**
+   * HashMap: table, entrySet, keySet and values references, size, modCount, threshold and loadFactor.
+   */
+  private static final long HASH_MAP_SIZE = objectSize(4 * REFERENCE_SIZE + 4 * 4);
+
+  /**
+   * ArrayList: elementData reference, size and modCount.
+   */
+  private static final long ARRAY_LIST_SIZE = objectSize(REFERENCE_SIZE + 2 * 4);
+
+  private MemoryEstimates() {
+    //
+  }
+
+  /**
+   * Rounds the size given up to the {@link #OBJECT_ALIGNMENT}.
+   *
+   * @param size size in bytes
+   * @return the aligned size in bytes
+   */
+  public static long align(final long size) {
+    return (size + OBJECT_ALIGNMENT - 1) & -OBJECT_ALIGNMENT;
+  }
+
+  /**
+   * Returns the size of an object with fields that take the number of bytes given.
+   *
+   * @param fieldSize total size of the object's fields in bytes
+   * @return the size of the object in bytes
+   */
+  public static long objectSize(final long fieldSize) {
+    return align(OBJECT_HEADER_SIZE + fieldSize);
+  }
+
+  /**
+   * Returns the size of an array with the length and element size given.
+   *
+   * @param length      the array length
+   * @param elementSize the size of each element in bytes
+   * @return the size of the array in bytes
+   */
+  public static long arraySize(final long length, final int elementSize) {
+    return align(ARRAY_HEADER_SIZE + length * elementSize);
+  }
+
+  /**
+   * Returns the size of the {@link String} given and its character array, or 0 for null.
+   *
+   * @param string the string
+   * @return the size of the string in bytes
+   */
+  public static long stringSize(final String string) {
+    return (string == null) ? 0 : STRING_SIZE + arraySize(string.length(), 2);
+  }
+
+  /**
+   * Returns the size of a hash map holding the number of entries given, excluding its keys and values.
+   *
+   * @param entries the number of entries
+   * @return the size of the map in bytes
+   */
+  public static long hashMapSize(final int entries) {
+    if (entries == 0) {
+      return HASH_MAP_SIZE;
+    }
+    long capacity = Long.highestOneBit(Math.max(1, (long) Math.ceil(entries / 0.75) - 1)) << 1;
+    return HASH_MAP_SIZE + arraySize(Math.max(16, capacity), REFERENCE_SIZE) + entries * MAP_NODE_SIZE;
+  }
+
+  /**
+   * Returns the size of an array list holding the number of elements given, excluding the elements.
+   *
+   * @param elements the number of elements
+   * @return the size of the list in bytes
+   */
+  public static long arrayListSize(final int elements) {
+    return ARRAY_LIST_SIZE + arraySize(elements, REFERENCE_SIZE);
+  }
+
+}
@@ -0,0 +1,102 @@
+package com.sudoplay.axion.validation;
+
+import com.sudoplay.axion.tag.Tag;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The result of a {@link TagStreamValidator} run: whether the stream holds a valid tag tree and, up to the first error,
+ * the number of tags of each type, the nesting depth and the number of bytes read.
+ *
+ * @author Jason Taylor
+ */
+public class TagStreamReport {
+
+  private final String error;
+  private final Map<Class<? extends Tag>, Long> countsByType;
+  private final long tagCount;
+  private final int maxDepth;
+  private final long encodedBytes;
+  private final long decodedBytes;
+
+  TagStreamReport(
+      final String newError,
+      final Map<Class<? extends Tag>, Long> newCountsByType,
+      final long newTagCount,
+      final int newMaxDepth,
+      final long newEncodedBytes,
+      final long newDecodedBytes
+  ) {
+    error = newError;
+    countsByType = Collections.unmodifiableMap(newCountsByType);
+    tagCount = newTagCount;
+    maxDepth = newMaxDepth;
+    encodedBytes = newEncodedBytes;
+    decodedBytes = newDecodedBytes;
+  }
+
+  /**
+   * @return true if the stream holds a valid tag tree and nothing after it
+   */
+  public boolean isValid() {
+    return error == null;
+  }
+
+  /**
+   * @return the description of the first error, or null if the stream is valid
+   */
+  public String getError() {
+    return error;
+  }
+
+  /**
+   * Returns the number of tags of each class, most frequent first. Tags before the first error are counted.
+   *
+   * @return the number of tags of each class
+   */
+  public Map<Class<? extends Tag>, Long> getCountsByType() {
+    return countsByType;
+  }
+
+  /**
+   * @return the number of tags, the root included
+   */
+  public long getTagCount() {
+    return tagCount;
+  }
+
+  /**
+   * @return the maximum number of nested compounds and lists; the root compound is at depth 1
+   */
+  public int getMaxDepth() {
+    return maxDepth;
+  }
+
+  /**
+   * @return the number of bytes read from the stream given, before decompression
+   */
+  public long getEncodedBytes() {
+    return encodedBytes;
+  }
+
+  /**
+   * @return the number of bytes read after decompression; if the stream is invalid, the offset of the first error
+   */
+  public long getDecodedBytes() {
+    return decodedBytes;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder out = new StringBuilder();
+    out.append(isValid() ? "Valid" : "Invalid: " + error).append('\n');
+    out.append("Tags: ").append(tagCount).append(", max depth: ").append(maxDepth).append('\n');
+    out.append("Bytes: ").append(encodedBytes).append(" encoded, ").append(decodedBytes).append(" decoded\n");
+    for (Map.Entry<Class<? extends Tag>, Long> entry : countsByType.entrySet()) {
+      out.append("  ").append(entry.getKey().getSimpleName()).append(": ").append(entry.getValue()).append('\n');
+    }
+    return out.toString();
+  }
+
+}
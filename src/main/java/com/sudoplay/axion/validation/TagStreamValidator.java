@@ -0,0 +1,198 @@
+package com.sudoplay.axion.validation;
+
+import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.AxionReadException;
+import com.sudoplay.axion.registry.AxionTagRegistrationException;
+import com.sudoplay.axion.registry.TagAdapter;
+import com.sudoplay.axion.spec.adapter.TagCompoundAdapter;
+import com.sudoplay.axion.spec.adapter.TagListAdapter;
+import com.sudoplay.axion.spec.tag.TagCompound;
+import com.sudoplay.axion.stream.AxionCharacterEncodingException;
+import com.sudoplay.axion.stream.AxionInputStream;
+import com.sudoplay.axion.stream.CountingInputStream;
+import com.sudoplay.axion.tag.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.function.UnaryOperator;
+import java.util.zip.ZipException;
+
+/**
+ * Checks that a stream holds a valid tag tree, in a single pass and without creating any {@link Tag}s.
+ * <p>
+ * The stream is read the same way as {@link Axion#read(InputStream)} reads it: it's decompressed, every tag id must be
+ * registered, the root must be a {@link TagCompound}, lengths must be non-negative and within the stream's {@link
+ * com.sudoplay.axion.stream.DecodeLimits}, strings must be well-formed and the stream must end with the root. Compounds
+ * and lists are walked with an explicit stack; the payloads of other tags are skipped by their adapter's {@link
+ * TagAdapter#skipPayload(AxionInputStream)}.
+ * <p>
+ * Malformed data is reported in the {@link TagStreamReport}; only errors of the underlying stream are thrown.
+ *
+ * @author Jason Taylor
+ * @see Axion#validate(InputStream)
+ */
+public class TagStreamValidator {
+
+  private static final Logger LOG = LoggerFactory.getLogger(TagStreamValidator.class);
+
+  /**
+   * Wraps the stream given in an {@link AxionInputStream}, decompressing it and applying the filter given to the
+   * decompressed stream.
+   */
+  @FunctionalInterface
+  public interface StreamWrapper {
+    AxionInputStream wrap(InputStream inputStream, UnaryOperator<InputStream> filter) throws IOException;
+  }
+
+  private final Axion axion;
+  private final StreamWrapper wrapper;
+
+  /**
+   * Creates a new {@link TagStreamValidator} for the {@link Axion} instance given.
+   *
+   * @param newAxion   the {@link Axion} instance whose registered tags are accepted
+   * @param newWrapper wraps the stream given to {@link #validate(InputStream)}
+   */
+  public TagStreamValidator(final Axion newAxion, final StreamWrapper newWrapper) {
+    axion = newAxion;
+    wrapper = newWrapper;
+  }
+
+  /**
+   * Validates the stream given.
+   *
+   * @param inputStream the stream to validate
+   * @return the report
+   * @throws IOException if the stream given throws
+   */
+  public TagStreamReport validate(final InputStream inputStream) throws IOException {
+    LOG.debug("Entering validate(inputStream=[{}])", inputStream);
+    CountingInputStream encoded = new CountingInputStream(inputStream);
+    List<CountingInputStream> decoded = new ArrayList<>(1);
+    Walk walk = new Walk();
+    String error = null;
+    try {
+      AxionInputStream in = wrapper.wrap(encoded, stream -> {
+        CountingInputStream counting = new CountingInputStream(stream);
+        decoded.add(counting);
+        return counting;
+      });
+      walk.walk(in);
+      if (in.read() >= 0) {
+        error = "Data after the root tag";
+      }
+    } catch (EOFException e) {
+      error = "Unexpected end of stream";
+    } catch (ZipException | AxionReadException | AxionTagRegistrationException | AxionCharacterEncodingException e) {
+      error = e.getMessage();
+    }
+    TagStreamReport report = new TagStreamReport(
+        error,
+        walk.sortedCounts(),
+        walk.tagCount,
+        walk.maxDepth,
+        encoded.getCount(),
+        decoded.isEmpty() ? 0 : decoded.get(0).getCount()
+    );
+    LOG.debug("Leaving validate(): [{}]", report);
+    return report;
+  }
+
+  private class Walk {
+    private final Map<Class<? extends Tag>, long[]> counts = new HashMap<>();
+    private final Deque<Frame> stack = new ArrayDeque<>();
+    private long tagCount;
+    private int maxDepth;
+
+    private void walk(final AxionInputStream in) throws IOException {
+      int id = in.readUnsignedByte();
+      if (id == 0 || axion.getClassFor(id) != TagCompound.class) {
+        throw new AxionReadException("Root tag not of type " + TagCompound.class.getSimpleName());
+      }
+      in.countElements(1);
+      in.skipString();
+      visit(id, in);
+      while (!stack.isEmpty()) {
+        Frame frame = stack.peek();
+        if (frame.elementId >= 0) {
+          if (frame.remaining == 0) {
+            pop(in);
+          } else {
+            frame.remaining--;
+            visit(frame.elementId, in);
+          }
+        } else {
+          int childId = in.readUnsignedByte();
+          if (childId == 0) {
+            pop(in);
+          } else {
+            in.countElements(1);
+            in.skipString();
+            visit(childId, in);
+          }
+        }
+      }
+    }
+
+    /**
+     * Counts the tag with the id given and skips its payload, or pushes it if it's a container.
+     */
+    private void visit(final int id, final AxionInputStream in) throws IOException {
+      Class<? extends Tag> tagClass = axion.getClassFor(id);
+      counts.computeIfAbsent(tagClass, key -> new long[1])[0]++;
+      tagCount++;
+      TagAdapter<? extends Tag> adapter = axion.getAdapterFor(id);
+      Class<?> adapterClass = adapter.getClass();
+      if (adapterClass == TagCompoundAdapter.class) {
+        push(new Frame(-1, 0), in);
+      } else if (adapterClass == TagListAdapter.class) {
+        int elementId = in.readUnsignedByte();
+        axion.getClassFor(elementId);
+        push(new Frame(elementId, in.readListSize()), in);
+      } else {
+        adapter.skipPayload(in);
+      }
+    }
+
+    private void push(final Frame frame, final AxionInputStream in) {
+      in.enterContainer();
+      stack.push(frame);
+      maxDepth = Math.max(maxDepth, stack.size());
+    }
+
+    private void pop(final AxionInputStream in) {
+      stack.pop();
+      in.exitContainer();
+    }
+
+    private Map<Class<? extends Tag>, Long> sortedCounts() {
+      List<Map.Entry<Class<? extends Tag>, long[]>> entries = new ArrayList<>(counts.entrySet());
+      entries.sort(Comparator.comparingLong((Map.Entry<Class<? extends Tag>, long[]> entry) -> entry.getValue()[0])
+          .reversed());
+      Map<Class<? extends Tag>, Long> result = new LinkedHashMap<>();
+      for (Map.Entry<Class<? extends Tag>, long[]> entry : entries) {
+        result.put(entry.getKey(), entry.getValue()[0]);
+      }
+      return result;
+    }
+  }
+
+  private static class Frame {
+    private final int elementId;
+    private int remaining;
+
+    /**
+     * @param newElementId the element id of a list, or -1 for a compound
+     * @param newRemaining the number of list elements left to read
+     */
+    private Frame(final int newElementId, final int newRemaining) {
+      elementId = newElementId;
+      remaining = newRemaining;
+    }
+  }
+
+}
@@ -1,6 +1,7 @@
 package com.sudoplay.axion.api;
 
 import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.AxionReadException;
 import com.sudoplay.axion.api.impl.DefaultAxionReader;
 import com.sudoplay.axion.ext.tag.TagBoolean;
 import com.sudoplay.axion.registry.TypeConverter;
@@ -184,6 +185,35 @@ public class AxionReaderTest {
     }
   }
 
+  @Test
+  public void test_readPrimitive_name_defaultValue() {
+    AxionReader in = getTestReader();
+
+    // should return the tag's value if the tag is found
+    assertEquals(42, in.readInt("int", 73));
+
+    // should return supplied default value if the tag is not found
+    assertEquals(73, in.readInt("who", 73));
+    assertEquals(73L, in.readLong("who", 73L));
+    assertEquals(7.3, in.readDouble("who", 7.3), 0);
+
+    // should throw AxionReadException if the tag is another type
+    try {
+      in.readLong("int", 73L);
+      fail();
+    } catch (AxionReadException e) {
+      // expected
+    }
+
+    // should throw IllegalArgumentException on null name parameter
+    try {
+      in.readInt(null, 42);
+      fail();
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
   @Test
   public void test_read_name_function() {
     AxionReader in = getTestReader();
@@ -881,6 +911,29 @@ public class AxionReaderTest {
     }
   }
 
+  @Test
+  public void test_streamMap_duplicateKeys() {
+    TagList keyList = new TagList(TagString.class);
+    keyList.add(new TagString(null, "a"));
+    keyList.add(new TagString(null, "b"));
+    keyList.add(new TagString(null, "a"));
+    TagList valueList = new TagList(TagInt.class);
+    valueList.add(new TagInt(null, 1));
+    valueList.add(new TagInt(null, 2));
+    valueList.add(new TagInt(null, 3));
+    TagList tagList = new TagList(TagList.class);
+    tagList.add(keyList);
+    tagList.add(valueList);
+
+    // a duplicate key should yield one entry, in its first position, with its last value
+    List<Map.Entry<String, Integer>> entries = getTestReader().streamMap(tagList, String.class, int.class)
+        .collect(Collectors.toList());
+    assertEquals(2, entries.size());
+    assertEquals("a", entries.get(0).getKey());
+    assertEquals(3, (int) entries.get(0).getValue());
+    assertEquals("b", entries.get(1).getKey());
+  }
+
   @Test
   public void test_consumeCollection_name_class_consumer() {
     AxionReader in = getTestReader();
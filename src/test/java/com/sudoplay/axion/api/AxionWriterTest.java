@@ -5,10 +5,7 @@ import com.sudoplay.axion.AxionWriteException;
 import com.sudoplay.axion.api.impl.DefaultAxionWriter;
 import com.sudoplay.axion.ext.tag.TagBoolean;
 import com.sudoplay.axion.registry.TypeConverter;
-import com.sudoplay.axion.spec.tag.TagCompound;
-import com.sudoplay.axion.spec.tag.TagInt;
-import com.sudoplay.axion.spec.tag.TagList;
-import com.sudoplay.axion.spec.tag.TagString;
+import com.sudoplay.axion.spec.tag.*;
 import com.sudoplay.axion.tag.Tag;
 import com.sudoplay.axion.util.AxionPredicates;
 import org.junit.BeforeClass;
@@ -626,6 +623,35 @@ public class AxionWriterTest {
     return t;
   }
 
+  @Test
+  public void test_write_primitives() {
+    AxionWriter out = getTestWriter();
+    out.write("byte", (byte) 1)
+        .write("short", (short) 2)
+        .write("int", 3)
+        .write("long", 4L)
+        .write("float", 5f)
+        .write("double", 6d);
+    TagCompound tag = out.getTagCompound();
+    assertEquals(new TagByte("byte", (byte) 1), tag.get("byte"));
+    assertEquals(new TagShort("short", (short) 2), tag.get("short"));
+    assertEquals(new TagInt("int", 3), tag.get("int"));
+    assertEquals(new TagLong("long", 4L), tag.get("long"));
+    assertEquals(new TagFloat("float", 5f), tag.get("float"));
+    assertEquals(new TagDouble("double", 6d), tag.get("double"));
+
+    AxionReader in = axion.newReader(tag);
+    assertEquals(1, in.readByte("byte", (byte) 0));
+    assertEquals(2, in.readShort("short", (short) 0));
+    assertEquals(3, in.readInt("int", 0));
+    assertEquals(4L, in.readLong("long", 0L));
+    assertEquals(5f, in.readFloat("float", 0f), 0);
+    assertEquals(6d, in.readDouble("double", 0d), 0);
+
+    // the boxed value should still go through its converter
+    assertEquals(new TagInt("boxed", 7), out.write("boxed", (Object) 7).getTagCompound().get("boxed"));
+  }
+
   private AxionWriter getTestWriter() {
     return new DefaultAxionWriter(axion);
   }
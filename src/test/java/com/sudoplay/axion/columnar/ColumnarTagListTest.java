@@ -0,0 +1,95 @@
+package com.sudoplay.axion.columnar;
+
+import com.sudoplay.axion.ext.tag.TagBoolean;
+import com.sudoplay.axion.spec.tag.*;
+import com.sudoplay.axion.tag.AxionInvalidTagException;
+import org.junit.Test;
+
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+public class ColumnarTagListTest {
+
+  private static TagCompound entity(final String id, final int health, final boolean saddled) {
+    TagCompound entity = new TagCompound();
+    entity.put(new TagString("id", id));
+    entity.put(new TagShort("Health", (short) health));
+    entity.put(new TagLong("UUIDMost", health * 1000L));
+    entity.put(new TagFloat("Yaw", health / 2f));
+    entity.put(new TagBoolean("Saddle", saddled));
+    entity.put(new TagIntArray("Pos", new int[]{health, 64, -health}));
+    return entity;
+  }
+
+  private static TagList getEntities() {
+    TagList list = new TagList(TagCompound.class, "Entities");
+    list.add(entity("pig", 10, true));
+    list.add(entity("cow", 8, false));
+    list.add(entity("pig", 4, false));
+    return list;
+  }
+
+  @Test
+  public void test_of_buildsColumns() {
+    ColumnarTagList columns = ColumnarTagList.of(getEntities());
+    assertEquals(3, columns.size());
+    assertEquals(6, columns.getColumnNames().size());
+    assertEquals(TagShort.class, columns.getColumn("Health").getType());
+    assertEquals(22, columns.getIntColumn("Health").stream().sum());
+    assertEquals(8000L, columns.getLongColumn("UUIDMost").get(1));
+    assertEquals(2.0, columns.getDoubleColumn("Yaw").get(2), 0);
+    assertTrue(columns.getBooleanColumn("Saddle").get(0));
+    assertArrayEquals(new int[]{4, 64, -4}, columns.getTagColumn("Pos").<TagIntArray>get(2).get());
+
+    ColumnarTagList.StringColumn ids = columns.getStringColumn("id");
+    assertEquals(2, ids.getDictionary().size());
+    assertEquals("cow", ids.get(1));
+    int pig = ids.codeOf("pig");
+    assertEquals(2, ids.codes().filter(code -> code == pig).count());
+    assertEquals(-1, ids.codeOf("sheep"));
+
+    ColumnarTagList.IntColumn health = columns.getIntColumn("Health");
+    assertArrayEquals(new int[]{0, 2}, IntStream.range(0, columns.size()).filter(row -> ids.getCode(row) == pig)
+        .filter(row -> health.get(row) > 0).toArray());
+  }
+
+  @Test
+  public void test_toTagList_roundTrip() {
+    TagList list = getEntities();
+    assertEquals(list, ColumnarTagList.of(list).toTagList());
+    assertEquals(list.get(1), ColumnarTagList.of(list).getRow(1));
+    TagList empty = new TagList(TagCompound.class, "empty");
+    assertEquals(empty, ColumnarTagList.of(empty).toTagList());
+  }
+
+  @Test
+  public void test_of_doesNotFollowList() {
+    TagList list = getEntities();
+    ColumnarTagList columns = ColumnarTagList.of(list);
+    list.<TagCompound>get(0).<TagIntArray>get("Pos").set(0, 99);
+    assertEquals(10, columns.getTagColumn("Pos").<TagIntArray>get(0).get(0));
+  }
+
+  @Test
+  public void test_of_rejectsMismatchedSchema() {
+    TagList missing = getEntities();
+    missing.<TagCompound>get(1).remove("Yaw");
+    TagList retyped = getEntities();
+    retyped.<TagCompound>get(2).put(new TagInt("Health", 4));
+    for (TagList list : new TagList[]{missing, retyped, new TagList(TagInt.class)}) {
+      try {
+        ColumnarTagList.of(list);
+        fail("Expected AxionInvalidTagException");
+      } catch (AxionInvalidTagException e) {
+        // Expected AxionInvalidTagException
+      }
+    }
+  }
+
+  @Test(expected = AxionInvalidTagException.class)
+  public void test_getColumn_wrongKind() {
+    ColumnarTagList.of(getEntities()).getIntColumn("id");
+  }
+
+}
@@ -1,6 +1,12 @@
 package com.sudoplay.axion.converter;
 
 import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.AxionConfiguration;
+import com.sudoplay.axion.AxionWriteException;
+import com.sudoplay.axion.ext.tag.TagLongArray;
+import com.sudoplay.axion.registry.TypeConverter;
+import com.sudoplay.axion.spec.tag.TagIntArray;
+import com.sudoplay.axion.spec.tag.TagList;
 import com.sudoplay.axion.tag.Tag;
 import com.sudoplay.axion.util.AxionTypeToken;
 import org.junit.BeforeClass;
@@ -8,6 +14,7 @@ import org.junit.Test;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -53,4 +60,42 @@ public class CollectionTypeConverterFactoryTest {
     list.forEach(integers -> assertEquals(5, integers.size()));
   }
 
+  @Test
+  public void test_packed() {
+    Axion packed = Axion.createInstanceFrom(Axion.getExtInstance(), "CollectionTypeConverterFactoryTest_packed")
+        .setPrimitiveCollectionPolicy(AxionConfiguration.PrimitiveCollectionPolicy.Packed);
+    AxionTypeToken<List<Integer>> intList = new AxionTypeToken<List<Integer>>() {
+    };
+    AxionTypeToken<List<Long>> longList = new AxionTypeToken<List<Long>>() {
+    };
+
+    TagIntArray ints = toTag(packed, getIntegerList(), intList);
+    assertArrayEquals(new int[]{1, 1, 2, 3, 5}, ints.get());
+    TagLongArray longs = toTag(packed, Arrays.asList(1L, 2L), longList);
+    assertEquals(Arrays.asList(1L, 2L), packed.fromTag(longs, longList.getType()));
+    assertEquals(0, ((TagIntArray) toTag(packed, new ArrayList<>(), intList)).size());
+
+    // either form is read, whatever the policy
+    TagList list = toTag(axion, getIntegerList(), intList);
+    assertEquals(getIntegerList(), packed.fromTag(list, intList.getType()));
+    assertEquals(getIntegerList(), axion.fromTag(ints, intList.getType()));
+
+    // other elements are still written to a list
+    assertTrue(toTag(packed, Arrays.asList("a", "b"), new AxionTypeToken<List<String>>() {
+    }) instanceof TagList);
+  }
+
+  @Test(expected = AxionWriteException.class)
+  public void test_packedNullElement() {
+    Axion packed = Axion.createInstanceFrom(Axion.getExtInstance(), "CollectionTypeConverterFactoryTest_null")
+        .setPrimitiveCollectionPolicy(AxionConfiguration.PrimitiveCollectionPolicy.Packed);
+    toTag(packed, Arrays.asList(1, null), new AxionTypeToken<List<Integer>>() {
+    });
+  }
+
+  private static <T extends Tag, V> T toTag(Axion axion, V value, AxionTypeToken<V> typeToken) {
+    TypeConverter<T, V> converter = axion.getConverter(typeToken);
+    return converter.convert(null, value);
+  }
+
 }
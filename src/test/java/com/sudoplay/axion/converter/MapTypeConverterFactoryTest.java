@@ -4,7 +4,11 @@ import com.sudoplay.axion.Axion;
 import com.sudoplay.axion.api.AxionReader;
 import com.sudoplay.axion.api.AxionWritable;
 import com.sudoplay.axion.api.AxionWriter;
+import com.sudoplay.axion.spec.tag.TagCompound;
+import com.sudoplay.axion.spec.tag.TagInt;
 import com.sudoplay.axion.spec.tag.TagList;
+import com.sudoplay.axion.spec.tag.TagString;
+import com.sudoplay.axion.tag.Tag;
 import com.sudoplay.axion.util.AxionTypeToken;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -12,7 +16,7 @@ import org.junit.Test;
 import java.lang.reflect.Type;
 import java.util.*;
 
-import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.*;
 
 /**
  * Created by Jason Taylor on 7/20/2015.
@@ -100,6 +104,141 @@ public class MapTypeConverterFactoryTest {
     assertEquals(map, newMap);
   }
 
+  @Test
+  public void test_stringKeys() {
+
+    Map<String, Integer> map = new HashMap<>();
+    map.put("a", 1);
+    map.put("b", 2);
+
+    AxionTypeToken<Map<String, Integer>> token = new AxionTypeToken<Map<String, Integer>>() {};
+    Tag tag = toTag(token, "map", map);
+
+    // string keys name the children of a compound
+    assertTrue(tag instanceof TagCompound);
+    assertEquals("map", tag.getName());
+    assertEquals(new TagInt("a", 1), ((TagCompound) tag).get("a"));
+    assertEquals(new TagInt("b", 2), ((TagCompound) tag).get("b"));
+
+    Map<String, Integer> newMap = axion.fromTag(tag, token.getType());
+    assertEquals(map, newMap);
+    assertEquals(LinkedHashMap.class, newMap.getClass());
+  }
+
+  @Test
+  public void test_stringKeysRoundTrip() {
+
+    Map<String, Integer> map = new LinkedHashMap<>();
+    map.put("b", 2);
+    map.put("a", 1);
+
+    // the layout depends on the declared key type, so a map read back is written the same way
+    AxionTypeToken<Map<String, Integer>> token = new AxionTypeToken<Map<String, Integer>>() {};
+    Tag tag = toTag(token, "map", map);
+    assertTrue(tag instanceof TagCompound);
+    Map<String, Integer> newMap = axion.fromTag(tag, token.getType());
+    assertEquals(map, newMap);
+    Tag newTag = toTag(token, "map", newMap);
+    assertTrue(newTag instanceof TagCompound);
+    assertEquals(tag, newTag);
+
+    // a sorted map is sorted again when read as its declared type
+    AxionTypeToken<SortedMap<String, Integer>> sortedToken = new AxionTypeToken<SortedMap<String, Integer>>() {};
+    SortedMap<String, Integer> sortedMap = axion.fromTag(toTag(sortedToken, null, new TreeMap<>(map)),
+        sortedToken.getType());
+    assertEquals(Arrays.asList("a", "b"), new ArrayList<>(sortedMap.keySet()));
+  }
+
+  @Test
+  public void test_stringKeysEmpty() {
+    AxionTypeToken<Map<String, Integer>> token = new AxionTypeToken<Map<String, Integer>>() {};
+    Tag tag = toTag(token, null, new HashMap<>());
+    assertEquals(0, ((TagCompound) tag).size());
+    Map<String, Integer> newMap = axion.fromTag(tag, token.getType());
+    assertTrue(newMap.isEmpty());
+  }
+
+  @Test
+  public void test_stringKeysEmptyKey() {
+
+    Map<String, Integer> map = new HashMap<>();
+    map.put("", 1);
+    map.put("a", 2);
+
+    AxionTypeToken<Map<String, Integer>> token = new AxionTypeToken<Map<String, Integer>>() {};
+    Tag tag = toTag(token, null, map);
+
+    // an empty key can't name a child, so the list layout is written
+    assertTrue(tag instanceof TagList);
+    assertEquals(map, axion.fromTag(tag, token.getType()));
+  }
+
+  @Test
+  public void test_enumKeys() {
+
+    Map<TestEnum, String> map = new EnumMap<>(TestEnum.class);
+    map.put(TestEnum.A, "a");
+    map.put(TestEnum.B, "b");
+
+    AxionTypeToken<EnumMap<TestEnum, String>> token = new AxionTypeToken<EnumMap<TestEnum, String>>() {};
+    Tag tag = toTag(token, null, map);
+
+    // enum keys name the children by constant name
+    assertTrue(tag instanceof TagCompound);
+    assertEquals(new TagString("A", "a"), ((TagCompound) tag).get("A"));
+
+    Map<TestEnum, String> newMap = axion.fromTag(tag, token.getType());
+    assertEquals(map, newMap);
+    assertEquals(EnumMap.class, newMap.getClass());
+  }
+
+  @Test
+  public void test_legacyLayout() {
+
+    TagList keyList = new TagList(TagString.class);
+    keyList.add(new TagString(null, "a"));
+    keyList.add(new TagString(null, "b"));
+    TagList valueList = new TagList(TagInt.class);
+    valueList.add(new TagInt(null, 1));
+    valueList.add(new TagInt(null, 2));
+    TagList tagList = new TagList(TagList.class);
+    tagList.add(keyList);
+    tagList.add(valueList);
+
+    Map<String, Integer> newMap = axion.fromTag(tagList, new AxionTypeToken<Map<String, Integer>>() {}.getType());
+
+    Map<String, Integer> expected = new HashMap<>();
+    expected.put("a", 1);
+    expected.put("b", 2);
+    assertEquals(expected, newMap);
+  }
+
+  @Test
+  public void test_readerCompound() {
+
+    Map<String, Integer> map = new HashMap<>();
+    map.put("a", 1);
+    map.put("b", 2);
+
+    AxionWriter out = axion.newWriter();
+    out.getTagCompound().put("map", toTag(new AxionTypeToken<Map<String, Integer>>() {}, null, map));
+    AxionReader in = axion.newReader(out.getTagCompound());
+
+    Map<String, Integer> newMap = new HashMap<>();
+    in.forEachInMap("map", String.class, Integer.class, newMap::put);
+    assertEquals(map, newMap);
+
+    newMap.clear();
+    in.streamMap("map", String.class, Integer.class).forEach(e -> newMap.put(e.getKey(), e.getValue()));
+    assertEquals(map, newMap);
+  }
+
+  private static <V> Tag toTag(AxionTypeToken<V> token, String name, Object value) {
+    @SuppressWarnings("unchecked")
+    V typed = (V) value;
+    return axion.getConverter(token).convert(name, typed);
+  }
+
   public enum TestEnum {
     A, B
   }
@@ -0,0 +1,222 @@
+package com.sudoplay.axion.converter;
+
+import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.api.AxionDefault;
+import com.sudoplay.axion.api.AxionIgnore;
+import com.sudoplay.axion.api.AxionMapped;
+import com.sudoplay.axion.api.AxionName;
+import com.sudoplay.axion.registry.AxionTagRegistrationException;
+import com.sudoplay.axion.registry.TagAdapter;
+import com.sudoplay.axion.registry.TypeConverter;
+import com.sudoplay.axion.spec.tag.TagCompound;
+import com.sudoplay.axion.spec.tag.TagInt;
+import com.sudoplay.axion.spec.tag.TagList;
+import com.sudoplay.axion.spec.tag.TagString;
+import com.sudoplay.axion.util.AxionTypeToken;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class PojoTypeConverterFactoryTest {
+
+  private static Axion axion;
+
+  @BeforeClass
+  public static void before() {
+    axion = Axion.createInstanceFrom(Axion.getExtInstance(), "PojoTypeConverterFactoryTest");
+  }
+
+  @Test
+  public void test_roundTrip() throws IOException {
+    Player player = new Player();
+    player.id = 7;
+    player.name = "Steve";
+    player.state = State.ACTIVE;
+    player.scores = Arrays.asList(3, 1, 4);
+    player.cache = "not written";
+    player.friend = new Player();
+    player.friend.id = 8;
+    player.friend.name = "Alex";
+
+    TagCompound tag = axion.toTag("player", player);
+    assertEquals("player", tag.getName());
+    assertEquals(new TagInt("id", 7), tag.get("id"));
+    assertEquals(new TagString("playerName", "Steve"), tag.get("playerName"));
+    assertEquals(3, tag.<TagList>get("scores").size());
+    assertNull(tag.get("cache"));
+    assertNull(tag.get("name"));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    axion.write(tag, out);
+    Player result = axion.fromTag(axion.read(new ByteArrayInputStream(out.toByteArray())), Player.class);
+    assertEquals(7, result.id);
+    assertEquals("Steve", result.name);
+    assertEquals(State.ACTIVE, result.state);
+    assertEquals(Arrays.asList(3, 1, 4), result.scores);
+    assertNull(result.cache);
+    assertEquals(8, result.friend.id);
+    assertEquals("Alex", result.friend.name);
+    assertNull(result.friend.friend);
+  }
+
+  @Test
+  public void test_defaults() {
+    TagCompound tag = new TagCompound();
+    tag.put(new TagInt("id", 1));
+    Player result = axion.fromTag(tag, Player.class);
+    assertEquals(1, result.id);
+    assertEquals(State.IDLE, result.state);
+    assertEquals(100, result.health);
+    assertEquals("unnamed", result.name);
+  }
+
+  @Test
+  public void test_primitiveFields() {
+    Primitives value = new Primitives();
+    value.z = true;
+    value.b = 1;
+    value.s = 2;
+    value.i = 3;
+    value.l = 4;
+    value.f = 5;
+    TagCompound tag = axion.toTag(null, value);
+    assertEquals(7, tag.size());
+    tag.remove("d");
+    Primitives result = axion.fromTag(tag, Primitives.class);
+    assertTrue(result.z);
+    assertEquals(1, result.b);
+    assertEquals(2, result.s);
+    assertEquals(3, result.i);
+    assertEquals(4, result.l);
+    assertEquals(5, result.f, 0);
+    assertEquals(6, result.d, 0);
+  }
+
+  @Test
+  public void test_boxingConverter() {
+    // a converter that isn't a PrimitiveTypeConverter is given the boxed value
+    Axion boxing = Axion.createInstance("PojoTypeConverterFactoryTest_boxing");
+    boxing.registerConverterFactory(new PojoTypeConverterFactory());
+    boxing.registerTag(3, TagInt.class, Integer.class, TagAdapter.Spec.INT, new BoxingIntConverter());
+    IntValue intValue = new IntValue();
+    intValue.id = 7;
+    TagCompound tag = boxing.toTag(null, intValue);
+    assertEquals(new TagInt("id", 8), tag.get("id"));
+    assertEquals(7, boxing.fromTag(tag, IntValue.class).id);
+  }
+
+  @Test
+  public void test_superclassFields() {
+    Named<String> value = new Named<>();
+    value.name = "a";
+    value.value = "b";
+    TagCompound tag = axion.toTag(null, value);
+    assertEquals(2, tag.size());
+    Named<String> result = axion.fromTag(tag, new AxionTypeToken<Named<String>>() {
+    }.getType());
+    assertEquals("a", result.name);
+    assertEquals("b", result.value);
+  }
+
+  @Test
+  public void test_unmappedClassIgnored() {
+    assertFalse(axion.findConverter(AxionTypeToken.get(Unmapped.class)).isPresent());
+  }
+
+  @Test(expected = AxionTagRegistrationException.class)
+  public void test_duplicateName() {
+    axion.getConverter(AxionTypeToken.get(Duplicate.class));
+  }
+
+  @Test(expected = AxionTagRegistrationException.class)
+  public void test_invalidDefault() {
+    axion.getConverter(AxionTypeToken.get(InvalidDefault.class));
+  }
+
+  public static class BoxingIntConverter extends TypeConverter<TagInt, Integer> {
+
+    @Override
+    public Integer convert(final TagInt tag) {
+      return tag.get() - 1;
+    }
+
+    @Override
+    public TagInt convert(final String name, final Integer value) {
+      return new TagInt(name, value + 1);
+    }
+  }
+
+  @AxionMapped
+  private static class Primitives {
+    boolean z;
+    byte b;
+    short s;
+    int i;
+    long l;
+    float f;
+    @AxionDefault("6")
+    double d;
+  }
+
+  @AxionMapped
+  private static class IntValue {
+    int id;
+  }
+
+  private enum State {
+    IDLE, ACTIVE
+  }
+
+  @AxionMapped
+  private static class Player {
+    private static final int MAX_HEALTH = 100;
+
+    private int id;
+    @AxionName("playerName")
+    private String name = "unnamed";
+    @AxionDefault("IDLE")
+    private State state;
+    @AxionDefault("100")
+    private int health;
+    private List<Integer> scores = new ArrayList<>();
+    @AxionIgnore
+    private String cache;
+    private transient int hash;
+    private Player friend;
+  }
+
+  private static class Base<V> {
+    V value;
+  }
+
+  @AxionMapped
+  private static class Named<V> extends Base<V> {
+    String name;
+  }
+
+  private static class Unmapped {
+    int id;
+  }
+
+  @AxionMapped
+  private static class Duplicate {
+    int id;
+    @AxionName("id")
+    int other;
+  }
+
+  @AxionMapped
+  private static class InvalidDefault {
+    @AxionDefault("x")
+    int id;
+  }
+
+}
@@ -0,0 +1,106 @@
+package com.sudoplay.axion.converter;
+
+import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.AxionReadException;
+import com.sudoplay.axion.ext.tag.TagLongArray;
+import com.sudoplay.axion.registry.TagAdapter;
+import com.sudoplay.axion.registry.TypeConverter;
+import com.sudoplay.axion.spec.tag.*;
+import com.sudoplay.axion.tag.Tag;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class PrimitiveArrayTypeConverterFactoryTest {
+
+  private static Axion ext;
+  private static Axion spec;
+
+  @BeforeClass
+  public static void before() {
+    ext = Axion.createInstanceFrom(Axion.getExtInstance(), "PrimitiveArrayTypeConverterFactoryTest");
+    spec = Axion.createInstanceFrom(Axion.getSpecInstance(), "PrimitiveArrayTypeConverterFactoryTest_spec");
+  }
+
+  @Test
+  public void test_arrayTag() {
+    Tag tag = ext.toTag(new long[]{1, 2, 3});
+    assertTrue(tag instanceof TagLongArray);
+    assertArrayEquals(new long[]{1, 2, 3}, ext.fromTag(tag, long[].class));
+    assertTrue(spec.toTag(new int[]{1, 2}) instanceof TagIntArray);
+  }
+
+  @Test
+  public void test_listWhenArrayTagUnregistered() throws IOException {
+    TagList tag = spec.toTag("longs", new long[]{1, 2, 3});
+    assertEquals(TagLong.class, tag.getType());
+    assertEquals(3, tag.size());
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    TagCompound compound = new TagCompound();
+    compound.put(tag);
+    spec.write(compound, out);
+    TagCompound read = spec.read(new ByteArrayInputStream(out.toByteArray()));
+    assertArrayEquals(new long[]{1, 2, 3}, spec.fromTag(read.get("longs"), long[].class));
+  }
+
+  @Test
+  public void test_readList() {
+    TagList list = new TagList(TagInt.class);
+    for (int i : new int[]{3, 1, 4}) {
+      list.add(new TagInt(i));
+    }
+    assertArrayEquals(new int[]{3, 1, 4}, ext.fromTag(list, int[].class));
+  }
+
+  @Test(expected = AxionReadException.class)
+  public void test_readWrongList() {
+    TagList list = new TagList(TagString.class);
+    list.add(new TagString("a"));
+    ext.fromTag(list, int[].class);
+  }
+
+  @Test
+  public void test_registeredTagConverter() {
+    Axion custom = Axion.createInstance("PrimitiveArrayTypeConverterFactoryTest_custom");
+    custom.registerConverterFactory(new PrimitiveArrayTypeConverterFactory());
+    custom.registerTag(11, TagIntArray.class, int[].class, TagAdapter.Spec.INT_ARRAY, new NegatingConverter());
+    custom.registerTag(3, TagInt.class, Integer.class, TagAdapter.Spec.INT, TypeConverter.Spec.INT);
+
+    // the converter registered for the array tag isn't bypassed
+    TagIntArray tag = custom.toTag(new int[]{1, 2});
+    assertArrayEquals(new int[]{-1, -2}, tag.get());
+    assertArrayEquals(new int[]{1, 2}, custom.fromTag(tag, int[].class));
+
+    TagList list = new TagList(TagInt.class);
+    list.add(new TagInt(3));
+    assertArrayEquals(new int[]{3}, custom.fromTag(list, int[].class));
+  }
+
+  public static class NegatingConverter extends TypeConverter<TagIntArray, int[]> {
+
+    @Override
+    public int[] convert(final TagIntArray tag) {
+      return negate(tag.get());
+    }
+
+    @Override
+    public TagIntArray convert(final String name, final int[] value) {
+      return new TagIntArray(name, negate(value));
+    }
+
+    private static int[] negate(final int[] values) {
+      int[] result = new int[values.length];
+      for (int i = 0; i < values.length; i++) {
+        result[i] = -values[i];
+      }
+      return result;
+    }
+  }
+
+}
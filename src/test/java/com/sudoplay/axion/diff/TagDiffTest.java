@@ -0,0 +1,132 @@
+package com.sudoplay.axion.diff;
+
+import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.AxionConfiguration.CompressionType;
+import com.sudoplay.axion.TestUtil;
+import com.sudoplay.axion.ext.tag.TagDoubleArray;
+import com.sudoplay.axion.spec.tag.*;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class TagDiffTest {
+
+  private static Axion axion;
+
+  @BeforeClass
+  public static void before() {
+    axion = Axion.createInstanceFrom(Axion.getExtInstance(), "TagDiffTest");
+    axion.setCompressionType(CompressionType.None);
+  }
+
+  @Test
+  public void test_diff_equalCompounds() {
+    TagCompound delta = axion.diff(TestUtil.getTagCompound(), TestUtil.getTagCompound());
+    assertEquals(0, delta.size());
+  }
+
+  @Test
+  public void test_diff_compoundChanges() throws IOException {
+    TagCompound before = TestUtil.getTagCompound();
+    before.put(TestUtil.getTagDoubleArray());
+    TagCompound nested = TestUtil.getTagCompound();
+    nested.setName("nested");
+    before.put(nested);
+
+    TagCompound after = before.clone();
+    after.setName("renamed");
+    after.remove("string");
+    after.put(new TagString("added", "value"));
+    after.put(new TagLong("int", 42));
+    after.<TagCompound>get("nested").<TagInt>get("int").set(7);
+    after.<TagList>get("list").<TagByte>get(0).set((byte) 3);
+    after.<TagList>get("list").add(new TagByte((byte) 9));
+    after.<TagIntArray>get("intArray").set(2, 99);
+    after.<TagDoubleArray>get("tagDoubleArray").set(new double[]{1.0});
+
+    TagCompound delta = axion.diff(before, after);
+    assertTrue(delta.<TagCompound>get("patch").get("intArray") instanceof TagCompound);
+    assertFalse(delta.<TagCompound>get("patch").containsKey("byteArray"));
+
+    // the delta survives a round trip through the wire format
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    axion.write(delta, out);
+    TagCompound read = axion.read(new ByteArrayInputStream(out.toByteArray()));
+
+    TagCompound target = before.clone();
+    assertSame(target, axion.apply(read, target));
+    assertEquals(after, target);
+    assertEquals("renamed", target.getName());
+  }
+
+  @Test
+  public void test_diff_listShrinks() {
+    TagCompound before = new TagCompound();
+    TagList list = new TagList(TagInt.class, "list");
+    for (int i = 0; i < 5; i++) {
+      list.add(new TagInt("", i));
+    }
+    before.put(list);
+    TagCompound after = before.clone();
+    after.<TagList>get("list").remove(4);
+    after.<TagList>get("list").remove(3);
+    after.<TagList>get("list").<TagInt>get(0).set(10);
+    assertEquals(after, axion.apply(axion.diff(before, after), before.clone()));
+  }
+
+  @Test
+  public void test_diff_keyedList() {
+    TagCompound before = new TagCompound();
+    TagList list = new TagList(TagCompound.class, "entities");
+    for (int i = 0; i < 4; i++) {
+      list.add(entity("e" + i, i));
+    }
+    before.put(list);
+
+    TagCompound after = before.clone();
+    TagList entities = after.get("entities");
+    entities.remove(1);
+    entities.<TagCompound>get(2).<TagInt>get("health").set(100);
+    entities.add(entity("e4", 4));
+
+    TagCompound delta = axion.diff(before, after, "id");
+    TagCompound listDelta = delta.<TagCompound>get("patch").get("entities");
+    assertEquals("id", listDelta.<TagString>get("key").get());
+    assertEquals(1, listDelta.<TagList>get("remove").size());
+    assertEquals(1, listDelta.<TagList>get("patch").size());
+    assertEquals(1, listDelta.<TagList>get("add").size());
+    assertEquals(after, axion.apply(delta, before.clone()));
+  }
+
+  @Test
+  public void test_diff_keyedListFallsBackOnReorder() {
+    TagCompound before = new TagCompound();
+    TagList list = new TagList(TagCompound.class, "entities");
+    list.add(entity("a", 1));
+    list.add(entity("b", 2));
+    before.put(list);
+
+    TagCompound after = new TagCompound();
+    TagList reordered = new TagList(TagCompound.class, "entities");
+    reordered.add(entity("b", 2));
+    reordered.add(entity("a", 1));
+    after.put(reordered);
+
+    TagCompound delta = axion.diff(before, after, "id");
+    assertFalse(delta.<TagCompound>get("patch").<TagCompound>get("entities").containsKey("key"));
+    assertEquals(after, axion.apply(delta, before.clone()));
+  }
+
+  private static TagCompound entity(final String id, final int health) {
+    TagCompound entity = new TagCompound();
+    entity.put(new TagString("id", id));
+    entity.put(new TagInt("health", health));
+    return entity;
+  }
+
+}
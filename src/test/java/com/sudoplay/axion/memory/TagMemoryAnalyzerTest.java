@@ -0,0 +1,140 @@
+package com.sudoplay.axion.memory;
+
+import com.sudoplay.axion.spec.tag.TagCompound;
+import com.sudoplay.axion.spec.tag.TagInt;
+import com.sudoplay.axion.spec.tag.TagIntArray;
+import com.sudoplay.axion.spec.tag.TagList;
+import com.sudoplay.axion.spec.tag.TagString;
+import com.sudoplay.axion.tag.Tag;
+import com.sudoplay.axion.util.MemoryEstimates;
+import org.junit.Test;
+
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class TagMemoryAnalyzerTest {
+
+  private static TagCompound createTree() {
+    TagCompound root = new TagCompound();
+    TagCompound level = new TagCompound("Level");
+    TagList entities = new TagList(TagCompound.class, "Entities");
+    for (int i = 0; i < 10; i++) {
+      TagCompound entity = new TagCompound();
+      entity.put(new TagString("id", new String(new char[]{'p', 'i', 'g'})));
+      entity.put(new TagIntArray("Pos", new int[]{1, 2, 3}));
+      entity.put(new TagInt("Health", i));
+      entities.add(entity);
+    }
+    level.put(entities);
+    level.put(new TagInt("Time", 42));
+    root.put(level);
+    return root;
+  }
+
+  @Test
+  public void test_estimates() {
+    TagInt tagInt = new TagInt(1);
+    assertEquals(4, tagInt.estimatePayloadSize());
+    assertEquals(MemoryEstimates.objectSize(2 * MemoryEstimates.REFERENCE_SIZE + 4), tagInt.estimateSelfSize());
+    assertEquals(tagInt.estimateSelfSize(), tagInt.estimateRetainedSize());
+
+    TagIntArray array = new TagIntArray(new int[100]);
+    assertEquals(400, array.estimatePayloadSize());
+    assertTrue(array.estimateSelfSize() > 400);
+
+    TagString named = new TagString("name", "value");
+    assertEquals(10, named.estimatePayloadSize());
+    assertEquals(new TagString(null, "value").estimateSelfSize() + MemoryEstimates.stringSize("name"),
+        named.estimateSelfSize());
+
+    TagCompound tree = createTree();
+    long children = 0;
+    for (Tag child : tree) {
+      children += child.estimateRetainedSize();
+    }
+    assertEquals(tree.estimateSelfSize() + children, tree.estimateRetainedSize());
+    assertEquals(0, tree.estimatePayloadSize());
+  }
+
+  @Test
+  public void test_estimates_deepNesting() {
+    TagList root = new TagList(TagList.class);
+    TagList list = root;
+    for (int i = 0; i < 100000; i++) {
+      TagList child = new TagList(TagList.class);
+      list.add(child);
+      list = child;
+    }
+    assertEquals(100000 * root.estimateSelfSize() + list.estimateSelfSize(), root.estimateRetainedSize());
+  }
+
+  @Test
+  public void test_histograms() {
+    TagCompound tree = createTree();
+    TagMemoryReport report = new TagMemoryAnalyzer().analyze(tree);
+
+    assertEquals(44, report.getTotal().getCount());
+    assertEquals(tree.estimateRetainedSize(), report.getTotal().getSize());
+    assertEquals(10 * (6 + 12 + 4) + 4, report.getTotal().getPayloadSize());
+
+    Map<Class<? extends Tag>, TagMemoryReport.Stats> byType = report.getByType();
+    assertEquals(11, byType.get(TagInt.class).getCount());
+    assertEquals(44, byType.get(TagInt.class).getPayloadSize());
+    assertEquals(12, byType.get(TagCompound.class).getCount());
+    long sum = 0;
+    for (TagMemoryReport.Stats stats : byType.values()) {
+      sum += stats.getSize();
+    }
+    assertEquals(report.getTotal().getSize(), sum);
+
+    Map<String, TagMemoryReport.Stats> byPath = report.getByPath();
+    assertEquals(1, byPath.get("").getCount());
+    assertEquals(1, byPath.get("Level").getCount());
+    assertEquals(1, byPath.get("Level.Time").getCount());
+    assertEquals(1, byPath.get("Level.Entities").getCount());
+    // the elements and everything below them
+    assertEquals(40, byPath.get("Level.Entities[*]").getCount());
+
+    report = new TagMemoryAnalyzer().setPathDepth(3).analyze(tree);
+    assertEquals(10, report.getByPath().get("Level.Entities[*].Pos").getCount());
+    assertNotNull(report.toString());
+  }
+
+  @Test
+  public void test_duplicates() {
+    TagCompound tree = createTree();
+    TagMemoryReport report = new TagMemoryAnalyzer().analyze(tree);
+
+    TagMemoryReport.DuplicateString pig = null;
+    for (TagMemoryReport.DuplicateString duplicate : report.getDuplicateStrings()) {
+      if (duplicate.getValue().equals("pig")) {
+        pig = duplicate;
+      }
+    }
+    assertNotNull(pig);
+    assertEquals(10, pig.getOccurrences());
+    assertEquals(10, pig.getInstances());
+    assertEquals(9 * MemoryEstimates.stringSize("pig"), pig.getWastedSize());
+    assertEquals(report.getDuplicateStrings().get(0).getWastedSize(), pig.getWastedSize());
+
+    // entities differ by health; their positions are identical
+    assertEquals(1, report.getDuplicateSubtrees().size());
+    TagMemoryReport.DuplicateSubtree pos = report.getDuplicateSubtrees().get(0);
+    assertEquals("Level.Entities[0].Pos", pos.getPath());
+    assertEquals(TagIntArray.class, pos.getType());
+    assertEquals(10, pos.getOccurrences());
+    assertEquals(9 * pos.getSize(), pos.getWastedSize());
+
+    // identical subtrees are reported once, not once for each of their children
+    TagList entities = tree.<TagCompound>get("Level").get("Entities");
+    for (Tag entity : entities) {
+      ((TagCompound) entity).<TagInt>get("Health").set(0);
+    }
+    report = new TagMemoryAnalyzer().analyze(tree);
+    assertEquals(1, report.getDuplicateSubtrees().size());
+    assertEquals("Level.Entities[0]", report.getDuplicateSubtrees().get(0).getPath());
+    assertEquals(TagCompound.class, report.getDuplicateSubtrees().get(0).getType());
+  }
+
+}
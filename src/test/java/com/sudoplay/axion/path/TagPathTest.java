@@ -0,0 +1,134 @@
+package com.sudoplay.axion.path;
+
+import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.api.AxionReader;
+import com.sudoplay.axion.ext.tag.TagBoolean;
+import com.sudoplay.axion.spec.tag.*;
+import com.sudoplay.axion.tag.Tag;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+public class TagPathTest {
+
+  private static TagCompound getLevel() {
+    TagList sections = new TagList(TagCompound.class, "Sections");
+    for (int i = 0; i < 4; i++) {
+      TagCompound section = new TagCompound();
+      section.put(new TagByte("Y", (byte) i));
+      section.put(new TagIntArray("BlockStates", new int[]{i, i + 1}));
+      sections.add(section);
+    }
+    TagList entities = new TagList(TagCompound.class, "Entities");
+    entities.add(entity("minecraft:pig", 10, true));
+    entities.add(entity("minecraft:cow", 8, false));
+    entities.add(entity("minecraft:pig", 4, false));
+    TagCompound level = new TagCompound("Level");
+    level.put(sections);
+    level.put(entities);
+    level.put(new TagString("a.b", "escaped"));
+    TagCompound root = new TagCompound();
+    root.put(level);
+    return root;
+  }
+
+  private static TagCompound entity(final String id, final int health, final boolean saddled) {
+    TagCompound entity = new TagCompound();
+    entity.put(new TagString("id", id));
+    entity.put(new TagShort("Health", (short) health));
+    entity.put(new TagBoolean("Saddle", saddled));
+    return entity;
+  }
+
+  @Test
+  public void test_compile_cached() {
+    assertSame(TagPath.compile("Level.Sections[2]"), TagPath.compile("Level.Sections[2]"));
+    assertEquals("Level.Sections[2]", TagPath.compile("Level.Sections[2]").toString());
+  }
+
+  @Test
+  public void test_compile_keepsRecentlyUsed() {
+    TagPath path = TagPath.compile("Level.Recent");
+    for (int i = 0; i < 5000; i++) {
+      TagPath.compile("Level.OneOff" + i);
+      assertSame(path, TagPath.compile("Level.Recent"));
+    }
+  }
+
+  @Test
+  public void test_first_singular() {
+    TagCompound root = getLevel();
+    TagPath path = TagPath.compile("Level.Sections[2].BlockStates");
+    assertTrue(path.isSingular());
+    TagIntArray tag = path.first(root);
+    assertArrayEquals(new int[]{2, 3}, tag.get());
+    assertEquals((byte) 3, TagPath.compile("Level.Sections[-1].Y").<TagByte>first(root).get());
+    assertNull(TagPath.compile("Level.Sections[4].Y").first(root));
+    assertNull(TagPath.compile("Level.Missing.Y").first(root));
+    assertNull(TagPath.compile("Level[0]").first(root));
+    assertEquals("escaped", TagPath.compile("Level.a\\.b").<TagString>first(root).get());
+    assertSame(root, TagPath.compile("").first(root));
+  }
+
+  @Test
+  public void test_stream_wildcards() {
+    TagCompound root = getLevel();
+    assertFalse(TagPath.compile("Level.Sections[*].Y").isSingular());
+    List<Byte> ys = TagPath.compile("Level.Sections[*].Y").<TagByte>stream(root).map(TagByte::get)
+        .collect(Collectors.toList());
+    assertEquals(4, ys.size());
+    assertEquals(Byte.valueOf((byte) 3), ys.get(3));
+    assertEquals(3, TagPath.compile("Level.*").stream(root).count());
+    assertEquals(17, TagPath.compile("*.*[*].*").stream(root).count());
+    assertEquals(0, TagPath.compile("Level.Sections.Y").stream(root).count());
+  }
+
+  @Test
+  public void test_stream_predicates() {
+    TagCompound root = getLevel();
+    assertEquals(2, TagPath.compile("Level.Entities[id=\"minecraft:pig\"]").stream(root).count());
+    assertEquals(2, TagPath.compile("Level.Entities[id=minecraft:pig]").stream(root).count());
+    assertEquals(1, TagPath.compile("Level.Entities[Health=8]").stream(root).count());
+    assertEquals(1, TagPath.compile("Level.Entities[Health=8.0]").stream(root).count());
+    assertEquals(1, TagPath.compile("Level.Entities[Saddle=true]").stream(root).count());
+    assertEquals(0, TagPath.compile("Level.Entities[Missing=1]").stream(root).count());
+    TagShort health = TagPath.compile("Level.Entities[id=\"minecraft:pig\"][Saddle=false].Health").first(root);
+    assertNull(health);
+    health = TagPath.compile("Level.Entities[id=\"minecraft:pig\"].Health").first(root);
+    assertEquals(10, health.get());
+  }
+
+  @Test
+  public void test_stream_isLazy() {
+    TagCompound root = getLevel();
+    TagList sections = TagPath.compile("Level.Sections").first(root);
+    Tag first = TagPath.compile("Level.Sections[*]").stream(root).findFirst().orElse(null);
+    assertSame(sections.get(0), first);
+  }
+
+  @Test
+  public void test_compile_invalid() {
+    String[] invalid = {"Level..Sections", "Level.", "Level.Sections[", "Level.Sections[]", "Level.Sections[x]",
+        "Level.Sections[x=\"a]", "Level]", "a\\"};
+    for (String path : invalid) {
+      try {
+        TagPath.compile(path);
+        fail("Expected AxionTagPathException for " + path);
+      } catch (AxionTagPathException e) {
+        // Expected AxionTagPathException
+      }
+    }
+  }
+
+  @Test
+  public void test_reader() {
+    AxionReader in = Axion.getExtInstance().newReader(getLevel());
+    TagByte y = in.getTagAt(TagPath.compile("Level.Sections[1].Y"));
+    assertEquals(1, y.get());
+    assertEquals(3, in.getTagsAt(TagPath.compile("Level.Entities[*].id")).count());
+  }
+
+}
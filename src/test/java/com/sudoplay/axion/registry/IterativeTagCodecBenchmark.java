@@ -0,0 +1,89 @@
+package com.sudoplay.axion.registry;
+
+import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.AxionConfiguration.CodecType;
+import com.sudoplay.axion.AxionConfiguration.CompressionType;
+import com.sudoplay.axion.spec.tag.TagCompound;
+import com.sudoplay.axion.spec.tag.TagList;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+/**
+ * Compares the read and write throughput of the recursive adapters and the {@link IterativeTagCodec}, on a wide tree
+ * and on a tree nested shallow enough for the recursive adapters. Run with <code>main</code>; not part of the test
+ * suite.
+ */
+public class IterativeTagCodecBenchmark {
+
+  private static final int WARM_UP = 200;
+  private static final int ITERATIONS = 1000;
+  private static final int DEEP_DEPTH = 500;
+
+  public static void main(final String[] args) throws IOException {
+    Axion recursive = Axion.createInstanceFrom(Axion.getExtInstance(), "IterativeTagCodecBenchmark-recursive");
+    recursive.setCompressionType(CompressionType.None);
+    Axion iterative = Axion.createInstanceFrom(Axion.getExtInstance(), "IterativeTagCodecBenchmark-iterative");
+    iterative.setCompressionType(CompressionType.None);
+    iterative.setCodecType(CodecType.Iterative);
+
+    TagCompound wide = new TagCompound("wide");
+    TagList elements = new TagList(TagCompound.class, "elements");
+    for (int i = 0; i < 100; i++) {
+      elements.add(IterativeTagCodecTest.createTree());
+    }
+    wide.put(elements);
+    TagCompound deep = IterativeTagCodecTest.createDeepTree(DEEP_DEPTH);
+
+    run("wide", wide, recursive, iterative);
+    run("deep", deep, recursive, iterative);
+  }
+
+  private static void run(final String name, final TagCompound tree, final Axion recursive, final Axion iterative)
+      throws IOException {
+    byte[] bytes = write(recursive, tree);
+    for (int i = 0; i < WARM_UP; i++) {
+      write(recursive, tree);
+      write(iterative, tree);
+      read(recursive, bytes);
+      read(iterative, bytes);
+    }
+    System.out.printf("%s (%d bytes):%n", name, bytes.length);
+    System.out.printf("  write recursive: %8.1f MB/s%n", timeWrite(recursive, tree, bytes.length));
+    System.out.printf("  write iterative: %8.1f MB/s%n", timeWrite(iterative, tree, bytes.length));
+    System.out.printf("  read recursive:  %8.1f MB/s%n", timeRead(recursive, bytes));
+    System.out.printf("  read iterative:  %8.1f MB/s%n", timeRead(iterative, bytes));
+  }
+
+  private static double timeWrite(final Axion axion, final TagCompound tree, final int length) throws IOException {
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      write(axion, tree);
+    }
+    return throughput(length, System.nanoTime() - start);
+  }
+
+  private static double timeRead(final Axion axion, final byte[] bytes) throws IOException {
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      read(axion, bytes);
+    }
+    return throughput(bytes.length, System.nanoTime() - start);
+  }
+
+  private static double throughput(final int length, final long nanos) {
+    return (double) length * ITERATIONS / (nanos / 1e9) / (1024 * 1024);
+  }
+
+  private static byte[] write(final Axion axion, final TagCompound tag) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    axion.write(tag, out);
+    return out.toByteArray();
+  }
+
+  private static TagCompound read(final Axion axion, final byte[] bytes) throws IOException {
+    return axion.read(new ByteArrayInputStream(bytes));
+  }
+
+}
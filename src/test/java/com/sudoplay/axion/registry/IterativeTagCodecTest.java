@@ -0,0 +1,139 @@
+package com.sudoplay.axion.registry;
+
+import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.AxionConfiguration.CodecType;
+import com.sudoplay.axion.AxionConfiguration.CompressionType;
+import com.sudoplay.axion.TestUtil;
+import com.sudoplay.axion.spec.tag.TagCompound;
+import com.sudoplay.axion.spec.tag.TagInt;
+import com.sudoplay.axion.spec.tag.TagList;
+import com.sudoplay.axion.tag.EncodedTagCache;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class IterativeTagCodecTest {
+
+  private static final int DEPTH = 50000;
+
+  private static Axion recursive;
+  private static Axion iterative;
+
+  @BeforeClass
+  public static void before() {
+    recursive = Axion.createInstanceFrom(Axion.getExtInstance(), "IterativeTagCodecTest-recursive");
+    recursive.setCompressionType(CompressionType.None);
+    iterative = Axion.createInstanceFrom(Axion.getExtInstance(), "IterativeTagCodecTest-iterative");
+    iterative.setCompressionType(CompressionType.None);
+    iterative.setCodecType(CodecType.Iterative);
+  }
+
+  /**
+   * Returns a tree with every spec and ext tag, lists of compounds, lists of lists and empty containers.
+   */
+  static TagCompound createTree() {
+    TagCompound root = TestUtil.getTagCompound();
+    root.put(TestUtil.getTagBoolean());
+    root.put(TestUtil.getTagDoubleArray());
+    root.put(TestUtil.getTagFloatArray());
+    root.put(TestUtil.getTagLongArray());
+    root.put(TestUtil.getTagShortArray());
+    root.put(TestUtil.getTagStringArray());
+    root.put(TestUtil.getTagBooleanArray());
+    root.put(new TagCompound("empty"));
+    root.put(new TagList(TagInt.class, "emptyList"));
+    TagList compounds = new TagList(TagCompound.class, "compounds");
+    TagList lists = new TagList(TagList.class, "lists");
+    for (int i = 0; i < 10; i++) {
+      TagCompound element = TestUtil.getTagCompound();
+      element.put(new TagList(TagCompound.class, "nested"));
+      compounds.add(element);
+      TagList list = new TagList(TagInt.class);
+      for (int j = 0; j < i; j++) {
+        list.add(new TagInt(j));
+      }
+      lists.add(list);
+    }
+    root.put(compounds);
+    root.put(lists);
+    return root;
+  }
+
+  /**
+   * Builds from the bottom up, so that adding a level doesn't notify every level below it.
+   */
+  static TagCompound createDeepTree(final int depth) {
+    TagCompound tag = new TagCompound("leaf");
+    tag.put(new TagInt("depth", depth));
+    for (int i = depth - 1; i >= 0; i--) {
+      TagList list = new TagList(TagCompound.class, "list");
+      list.add(tag.setName(null));
+      TagCompound parent = new TagCompound("level");
+      parent.put(list);
+      parent.put(new TagInt("depth", i));
+      tag = parent;
+    }
+    return tag;
+  }
+
+  private static byte[] write(final Axion axion, final TagCompound tag) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    axion.write(tag, out);
+    return out.toByteArray();
+  }
+
+  private static TagCompound read(final Axion axion, final byte[] bytes) throws IOException {
+    return axion.read(new ByteArrayInputStream(bytes));
+  }
+
+  @Test
+  public void test_sameOutputAsRecursive() throws IOException {
+    TagCompound tree = createTree();
+    byte[] expected = write(recursive, tree);
+    assertArrayEquals(expected, write(iterative, tree));
+    assertEquals(tree, read(iterative, expected));
+    assertEquals(read(recursive, expected), read(iterative, expected));
+  }
+
+  @Test
+  public void test_deepNesting() throws IOException {
+    byte[] bytes = write(iterative, createDeepTree(DEPTH));
+    TagCompound tag = read(iterative, bytes);
+    int depth = 0;
+    while (tag.containsKey("list")) {
+      assertEquals(depth, tag.<TagInt>get("depth").get());
+      TagList list = tag.get("list");
+      assertSame(tag, list.getParent());
+      tag = list.get(0);
+      depth++;
+    }
+    assertEquals(DEPTH, depth);
+    assertEquals(DEPTH, tag.<TagInt>get("depth").get());
+  }
+
+  @Test
+  public void test_readRecycling() throws IOException {
+    TagCompound tree = createTree();
+    byte[] bytes = write(recursive, tree);
+    TagCompound reuse = read(iterative, bytes);
+    TagInt leaf = reuse.get("int");
+    TagCompound result = iterative.readRecycling(new ByteArrayInputStream(bytes), reuse);
+    assertSame(reuse, result);
+    assertEquals(tree, result);
+    assertSame(leaf, result.get("int"));
+  }
+
+  @Test
+  public void test_encodedTagCache() throws IOException {
+    TagCompound tree = createTree();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    iterative.write(tree, out, new EncodedTagCache());
+    assertArrayEquals(write(recursive, tree), out.toByteArray());
+  }
+
+}
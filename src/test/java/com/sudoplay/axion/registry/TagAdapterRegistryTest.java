@@ -0,0 +1,86 @@
+package com.sudoplay.axion.registry;
+
+import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.TestUtil;
+import com.sudoplay.axion.spec.adapter.TagCompoundAdapter;
+import com.sudoplay.axion.spec.adapter.TagIntAdapter;
+import com.sudoplay.axion.spec.tag.ConcurrentTagCompound;
+import com.sudoplay.axion.spec.tag.TagCompound;
+import com.sudoplay.axion.spec.tag.TagInt;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TagAdapterRegistryTest {
+
+  private static Axion axion;
+
+  @BeforeClass
+  public static void before() {
+    axion = Axion.createInstanceFrom(Axion.getExtInstance(), "TagAdapterRegistryTest");
+  }
+
+  @Test
+  public void test_lookupById() {
+    assertEquals(TagInt.class, axion.getClassFor(3));
+    assertEquals(TagIntAdapter.class, axion.getAdapterFor(3).getClass());
+    assertSame(axion.getAdapterFor(3), axion.getAdapterFor(TagInt.class));
+  }
+
+  @Test
+  public void test_lookupByClass() {
+    assertEquals(10, axion.getIdFor(TagCompound.class));
+    assertEquals(TagCompoundAdapter.class, axion.getAdapterFor(TagCompound.class).getClass());
+  }
+
+  @Test
+  public void test_lookupBySubclass() {
+    assertEquals(10, axion.getIdFor(ConcurrentTagCompound.class));
+    assertSame(axion.getAdapterFor(TagCompound.class), axion.getAdapterFor(ConcurrentTagCompound.class));
+  }
+
+  @Test
+  public void test_unregisteredId() {
+    for (int id : new int[]{0, 99, 255, 256, -1}) {
+      try {
+        axion.getAdapterFor(id);
+        fail("Expected exception for id " + id);
+      } catch (AxionTagRegistrationException e) {
+        // expected
+      }
+      try {
+        axion.getClassFor(id);
+        fail("Expected exception for id " + id);
+      } catch (AxionTagRegistrationException e) {
+        // expected
+      }
+    }
+  }
+
+  @Test
+  public void test_registerAfterLookup() {
+    Axion instance = Axion.createInstanceFrom(Axion.getExtInstance(), "TagAdapterRegistryTest-register");
+    try {
+      instance.getIdFor(TestUtil.TagNull.class);
+      fail("Expected exception for unregistered class");
+    } catch (AxionTagRegistrationException e) {
+      // expected
+    }
+    // ids outside the unsigned byte range are looked up in the maps
+    instance.registerTag(300, TestUtil.TagNull.class, TestUtil.Null.class, new TestUtil.TagNullAdapter(),
+        new TestUtil.TagNullConverter());
+    assertEquals(300, instance.getIdFor(TestUtil.TagNull.class));
+    assertEquals(TestUtil.TagNull.class, instance.getClassFor(300));
+    assertSame(instance.getAdapterFor(300), instance.getAdapterFor(TestUtil.TagNull.class));
+  }
+
+  @Test
+  public void test_copy() {
+    Axion copy = Axion.createInstanceFrom(axion, "TagAdapterRegistryTest-copy");
+    assertNotSame(axion.getAdapterFor(3), copy.getAdapterFor(3));
+    assertSame(copy.getAdapterFor(3), copy.getAdapterFor(TagInt.class));
+    assertEquals(axion.getIdFor(TagInt.class), copy.getIdFor(TagInt.class));
+  }
+
+}
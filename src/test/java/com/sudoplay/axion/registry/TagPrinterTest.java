@@ -0,0 +1,115 @@
+package com.sudoplay.axion.registry;
+
+import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.TestUtil;
+import com.sudoplay.axion.spec.tag.TagCompound;
+import com.sudoplay.axion.spec.tag.TagInt;
+import com.sudoplay.axion.spec.tag.TagIntArray;
+import com.sudoplay.axion.spec.tag.TagList;
+import com.sudoplay.axion.tag.Tag;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class TagPrinterTest {
+
+  private static final String SEP = System.lineSeparator();
+
+  private static Axion axion;
+
+  @BeforeClass
+  public static void before() {
+    axion = Axion.createInstanceFrom(Axion.getExtInstance(), "TagPrinterTest");
+    axion.registerTag(12, TestUtil.TagNull.class, TestUtil.Null.class, new LegacyTagNullAdapter(),
+        new TestUtil.TagNullConverter());
+  }
+
+  private static TagCompound createTree() {
+    TagCompound root = new TagCompound("root");
+    TagList list = new TagList(TagInt.class, "list");
+    for (int i = 0; i < 5; i++) {
+      list.add(new TagInt(i));
+    }
+    root.put(list);
+    return root;
+  }
+
+  private static String lines(final String... lines) {
+    StringBuilder out = new StringBuilder();
+    for (String line : lines) {
+      out.append(line).append(SEP);
+    }
+    return out.toString();
+  }
+
+  @Test
+  public void test_sameAsToString() throws IOException {
+    TagCompound root = createTree();
+    TagCompound child = new TagCompound("child");
+    child.put(new TagIntArray("array", new int[]{1, 2, 3}));
+    root.put(child);
+    StringWriter out = new StringWriter();
+    assertEquals(axion.toString(root), axion.print(root, out).toString());
+    // nested tags are indented by their depth in the whole tree
+    assertEquals(lines(
+        "    TagIntArray(\"array\"): [3 ints]"
+    ), axion.toString(child.get("array")));
+  }
+
+  @Test
+  public void test_limits() throws IOException {
+    TagCompound root = createTree();
+    TagList list = root.get("list");
+
+    assertEquals(lines(
+        "TagList(\"list\"): 5 entries of type TagInt",
+        "{",
+        "  TagInt: 0",
+        "  TagInt: 1",
+        "  ... 3 more",
+        "}"
+    ), axion.newPrinter().setMaxElements(2).print(list.removeFromParent(), new StringBuilder()).toString());
+
+    root.put(list);
+    assertEquals(lines(
+        "TagCompound(\"root\"): 1 entries",
+        "{",
+        "  TagList(\"list\"): 5 entries of type TagInt",
+        "  {",
+        "    ... 5 tags",
+        "  }",
+        "}"
+    ), axion.newPrinter().setMaxDepth(1).print(root, new StringBuilder()).toString());
+
+    TagIntArray array = new TagIntArray("array", new int[]{1, 2, 3});
+    assertEquals(lines("TagIntArray(\"array\"): [3 ints] [1, 2, ...]"),
+        axion.newPrinter().setMaxArrayElements(2).print(array, new StringBuilder()).toString());
+    assertEquals(lines("TagIntArray(\"array\"): [3 ints] [1, 2, 3]"),
+        axion.newPrinter().setMaxArrayElements(5).print(array, new StringBuilder()).toString());
+  }
+
+  @Test
+  public void test_toStringOverride() throws IOException {
+    TagCompound root = createTree();
+    root.put(new TestUtil.TagNull("null"));
+    String expected = "legacy(\"null\")" + SEP;
+    assertEquals(expected, axion.toString(root.get("null")));
+    assertTrue(axion.toString(root).contains(expected));
+    assertTrue(axion.print(root, new StringWriter()).toString().contains(expected));
+  }
+
+  public static class LegacyTagNullAdapter extends TestUtil.TagNullAdapter {
+
+    @Override
+    public StringBuilder toString(final Tag tag, final StringBuilder out) {
+      return out.append("legacy(\"").append(tag.getName()).append("\")").append(SEP);
+    }
+
+  }
+
+}
@@ -0,0 +1,161 @@
+package com.sudoplay.axion.registry;
+
+import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.TestUtil;
+import com.sudoplay.axion.spec.tag.TagInt;
+import com.sudoplay.axion.util.AxionTypeToken;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.*;
+
+public class TypeConverterRegistryTest {
+
+  private static Axion axion;
+
+  @BeforeClass
+  public static void before() {
+    axion = Axion.createInstanceFrom(Axion.getExtInstance(), "TypeConverterRegistryTest");
+  }
+
+  @Test
+  public void test_classTokensInterned() {
+    assertSame(AxionTypeToken.get(Integer.class), AxionTypeToken.get(Integer.class));
+    assertSame(AxionTypeToken.get(String.class), AxionTypeToken.get((Type) String.class));
+    Type type = new AxionTypeToken<List<String>>() {
+    }.getType();
+    assertEquals(AxionTypeToken.get(type), AxionTypeToken.get(type));
+  }
+
+  @Test
+  public void test_primitiveConverters() {
+    TypeConverter<TagInt, Integer> converter = axion.getConverter(AxionTypeToken.get(int.class));
+    assertTrue(converter instanceof PrimitiveTypeConverter.OfInt);
+    @SuppressWarnings("unchecked")
+    PrimitiveTypeConverter.OfInt<TagInt> intConverter = (PrimitiveTypeConverter.OfInt<TagInt>) converter;
+    assertEquals(new TagInt("a", 42), intConverter.convert("a", 42));
+    assertEquals(42, intConverter.convertInt(new TagInt("a", 42)));
+    assertTrue(axion.getConverter(AxionTypeToken.get(Boolean.class)) instanceof PrimitiveTypeConverter.OfBoolean);
+    assertTrue(axion.getConverter(AxionTypeToken.get(Byte.class)) instanceof PrimitiveTypeConverter.OfByte);
+    assertTrue(axion.getConverter(AxionTypeToken.get(Short.class)) instanceof PrimitiveTypeConverter.OfShort);
+    assertTrue(axion.getConverter(AxionTypeToken.get(Long.class)) instanceof PrimitiveTypeConverter.OfLong);
+    assertTrue(axion.getConverter(AxionTypeToken.get(Float.class)) instanceof PrimitiveTypeConverter.OfFloat);
+    assertTrue(axion.getConverter(AxionTypeToken.get(Double.class)) instanceof PrimitiveTypeConverter.OfDouble);
+  }
+
+  @Test
+  public void test_primitiveUsesWrapperConverter() {
+    assertSame(axion.getConverter(AxionTypeToken.get(Integer.class)), axion.getConverter(AxionTypeToken.get(int
+        .class)));
+    assertSame(axion.getConverter(AxionTypeToken.get(double.class)), axion.getConverter(AxionTypeToken.get(Double
+        .class)));
+  }
+
+  @Test
+  public void test_parameterizedCached() {
+    TypeConverter<?, ?> first = axion.getConverter(new AxionTypeToken<Map<String, List<Integer>>>() {
+    });
+    TypeConverter<?, ?> second = axion.getConverter(new AxionTypeToken<Map<String, List<Integer>>>() {
+    });
+    assertSame(first, second);
+  }
+
+  @Test
+  public void test_registerAfterLookup() {
+    Axion instance = Axion.createInstanceFrom(Axion.getExtInstance(), "TypeConverterRegistryTest-register");
+    assertNotNull(instance.getConverter(AxionTypeToken.get(String.class)));
+    assertFalse(instance.hasConverterForValue(AxionTypeToken.get(TestUtil.Null.class)));
+    instance.registerTag(300, TestUtil.TagNull.class, TestUtil.Null.class, new TestUtil.TagNullAdapter(),
+        new TestUtil.TagNullConverter());
+    assertTrue(instance.hasConverterForValue(AxionTypeToken.get(TestUtil.Null.class)));
+    assertEquals(TestUtil.TagNullConverter.class, instance.getConverter(AxionTypeToken.get(TestUtil.Null.class))
+        .getClass());
+  }
+
+  @Test
+  public void test_findConverter() {
+    assertTrue(axion.findConverter(AxionTypeToken.get(int.class)).isPresent());
+    assertSame(axion.getConverter(AxionTypeToken.get(String.class)), axion.findConverter(AxionTypeToken.get(String
+        .class)).get());
+    assertFalse(axion.findConverter(AxionTypeToken.get(Thread.class)).isPresent());
+    assertFalse(axion.hasConverterForValue(AxionTypeToken.get(Thread.class)));
+    // a factory matches the list, but there is no converter for its elements
+    assertFalse(axion.findConverter(new AxionTypeToken<List<Thread>>() {
+    }).isPresent());
+    assertFalse(axion.hasConverterForValue(new AxionTypeToken<List<Thread>>() {
+    }));
+  }
+
+  @Test(expected = AxionTagRegistrationException.class)
+  public void test_missCachedStillThrows() {
+    Axion instance = Axion.createInstanceFrom(Axion.getExtInstance(), "TypeConverterRegistryTest-miss");
+    assertFalse(instance.hasConverterForValue(AxionTypeToken.get(Thread.class)));
+    instance.getConverter(AxionTypeToken.get(Thread.class));
+  }
+
+  @Test
+  public void test_warmUpOnLock() {
+    Axion instance = Axion.createInstanceFrom(Axion.getExtInstance(), "TypeConverterRegistryTest-warmUp");
+    Type listOfStrings = new AxionTypeToken<List<String>>() {
+    }.getType();
+    instance.declareValueTypes(int.class, listOfStrings, Integer.class);
+    assertEquals(3, instance.getDeclaredValueTypes().size());
+    assertNull(instance.getWarmUpReport());
+    instance.lock();
+    assertTrue(instance.isLocked());
+    TypeConverterWarmUpReport report = instance.getWarmUpReport();
+    assertEquals(3, report.getTypeCount());
+    assertTrue(report.getTotalNanos() >= report.getNanosByType().get(AxionTypeToken.get(listOfStrings)));
+    assertEquals(AxionTypeToken.get(int.class), report.getNanosByType().keySet().iterator().next());
+    // declared types are copied with the instance
+    Axion copy = Axion.createInstanceFrom(instance, "TypeConverterRegistryTest-warmUp-copy");
+    assertEquals(instance.getDeclaredValueTypes(), copy.getDeclaredValueTypes());
+  }
+
+  @Test
+  public void test_warmUpFailsLock() {
+    Axion instance = Axion.createInstanceFrom(Axion.getExtInstance(), "TypeConverterRegistryTest-warmUpFails");
+    instance.declareValueTypes(String.class, Thread.class);
+    try {
+      instance.setImmutable();
+      fail("Expected exception for a type without a converter");
+    } catch (AxionTagRegistrationException e) {
+      // expected
+    }
+    assertTrue(instance.isUnlocked());
+  }
+
+  @Test
+  public void test_concurrentLookups() throws Exception {
+    Axion instance = Axion.createInstanceFrom(Axion.getExtInstance(), "TypeConverterRegistryTest-concurrent");
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<TypeConverter<?, ?>>> futures = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        futures.add(executor.submit((Callable<TypeConverter<?, ?>>) () ->
+            instance.getConverter(new AxionTypeToken<List<Long>>() {
+            })
+        ));
+      }
+      TypeConverter<?, ?> expected = instance.getConverter(new AxionTypeToken<List<Long>>() {
+      });
+      for (Future<TypeConverter<?, ?>> future : futures) {
+        assertNotNull(future.get());
+      }
+      assertSame(expected, instance.getConverter(new AxionTypeToken<List<Long>>() {
+      }));
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+}
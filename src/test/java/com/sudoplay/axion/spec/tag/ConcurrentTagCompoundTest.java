@@ -0,0 +1,187 @@
+package com.sudoplay.axion.spec.tag;
+
+import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.AxionConfiguration.CompressionType;
+import com.sudoplay.axion.tag.AxionIllegalTagStateException;
+import com.sudoplay.axion.tag.Tag;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class ConcurrentTagCompoundTest {
+
+  private static final int THREADS = 8;
+
+  private static Axion axion;
+
+  @BeforeClass
+  public static void before() {
+    axion = Axion.createInstanceFrom(Axion.getExtInstance(), "ConcurrentTagCompoundTest");
+    axion.setCompressionType(CompressionType.None);
+  }
+
+  @Test
+  public void test_atomicOperations() {
+    ConcurrentTagCompound tag = new ConcurrentTagCompound();
+    TagInt a = new TagInt("a", 1);
+    assertNull(tag.putIfAbsent(a));
+    TagInt b = new TagInt("a", 2);
+    assertSame(a, tag.putIfAbsent(b));
+    assertFalse(b.hasParent());
+
+    assertSame(a, tag.replace(b));
+    assertFalse(a.hasParent());
+    assertSame(tag, b.getParent());
+    assertNull(tag.replace(new TagInt("missing", 0)));
+
+    TagInt c = new TagInt("a", 3);
+    assertFalse(tag.replace(a, c));
+    assertFalse(c.hasParent());
+    assertTrue(tag.replace(b, c));
+    assertSame(c, tag.get("a"));
+
+    // equal but not identical tags aren't removed
+    assertFalse(tag.remove(new TagInt("a", 3)));
+    assertTrue(tag.remove(c));
+    assertFalse(c.hasParent());
+    assertEquals(0, tag.size());
+
+    TagCompound section = tag.computeIfAbsent("section", name -> new TagCompound());
+    assertSame(section, tag.computeIfAbsent("section", name -> new TagCompound()));
+    assertEquals("section", section.getName());
+    assertSame(tag, section.getParent());
+  }
+
+  @Test
+  public void test_childTransitions() {
+    ConcurrentTagCompound tag = new ConcurrentTagCompound();
+    TagInt a = new TagInt("a", 1);
+    tag.put(a);
+    try {
+      new ConcurrentTagCompound().put(a);
+      fail("Expected AxionIllegalTagStateException");
+    } catch (AxionIllegalTagStateException e) {
+      // Expected AxionIllegalTagStateException
+    }
+    a.setName("b");
+    assertFalse(tag.containsKey("a"));
+    assertSame(a, tag.get("b"));
+    a.removeFromParent();
+    assertEquals(0, tag.size());
+    tag.put(a);
+    // putting a tag that is already in the compound is allowed, as for TagCompound
+    tag.put(a);
+    assertSame(tag, a.getParent());
+    assertSame(a, tag.get("b"));
+    tag.put(new TagInt("b", 2));
+    assertFalse(a.hasParent());
+
+    // a tag owned elsewhere is neither claimed nor renamed
+    TagCompound owner = new TagCompound();
+    TagInt owned = new TagInt("owned", 3);
+    owner.put(owned);
+    try {
+      tag.computeIfAbsent("c", name -> owned);
+      fail("Expected AxionIllegalTagStateException");
+    } catch (AxionIllegalTagStateException e) {
+      // Expected AxionIllegalTagStateException
+    }
+    assertEquals("owned", owned.getName());
+    assertSame(owned, owner.get("owned"));
+    assertFalse(tag.containsKey("c"));
+  }
+
+  @Test
+  public void test_hashCodeNotMemoized() {
+    ConcurrentTagCompound tag = new ConcurrentTagCompound();
+    tag.put(new TagInt("a", 1));
+    ConcurrentTagCompound copy = tag.clone();
+    assertEquals(tag, copy);
+    assertEquals(tag.hashCode(), copy.hashCode());
+    copy.<TagInt>get("a").set(2);
+    assertNotEquals(tag, copy);
+    assertNotEquals(tag.hashCode(), copy.hashCode());
+  }
+
+  @Test
+  public void test_writesAsTagCompound() throws IOException {
+    TagCompound root = new TagCompound();
+    ConcurrentTagCompound tag = new ConcurrentTagCompound("shared");
+    tag.put(new TagInt("a", 1));
+    tag.put(new TagString("b", "value"));
+    root.put(tag);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    axion.write(root, out);
+    TagCompound read = axion.read(new ByteArrayInputStream(out.toByteArray()));
+    TagCompound shared = read.get("shared");
+    assertEquals(TagCompound.class, shared.getClass());
+    assertEquals(tag.getAsMap(), shared.getAsMap());
+  }
+
+  @Test
+  public void test_contendedPuts() throws Exception {
+    ConcurrentTagCompound tag = new ConcurrentTagCompound();
+    TagInt contested = new TagInt("contested", 0);
+    ConcurrentTagCompound[] others = new ConcurrentTagCompound[THREADS];
+    AtomicInteger claims = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        final int thread = t;
+        others[t] = new ConcurrentTagCompound();
+        futures.add(executor.submit(() -> {
+          start.await();
+          try {
+            others[thread].put(contested);
+            claims.incrementAndGet();
+          } catch (AxionIllegalTagStateException e) {
+            // lost the race
+          }
+          for (int i = 0; i < 1000; i++) {
+            tag.put(new TagInt("key" + (i % 50), i));
+            Tag removed = tag.remove("key" + ((i + thread) % 50));
+            if (removed != null) {
+              assertFalse(removed.hasParent());
+            }
+            tag.computeIfAbsent("counter" + thread, name -> new TagInt(0));
+          }
+          return null;
+        }));
+      }
+      start.countDown();
+      for (Future<?> future : futures) {
+        future.get(30, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(1, claims.get());
+    int owners = 0;
+    for (ConcurrentTagCompound other : others) {
+      owners += other.size();
+    }
+    assertEquals(1, owners);
+    for (Tag child : tag) {
+      assertSame(tag, child.getParent());
+    }
+    for (int t = 0; t < THREADS; t++) {
+      assertTrue(tag.containsKey("counter" + t));
+    }
+  }
+
+}
@@ -0,0 +1,115 @@
+package com.sudoplay.axion.spec.tag;
+
+import com.sudoplay.axion.tag.Tag;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+public class ParallelTagOperationsTest {
+
+  private static ForkJoinPool pool;
+  private static ParallelTagOperations operations;
+
+  @BeforeClass
+  public static void before() {
+    pool = new ForkJoinPool(4);
+    operations = new ParallelTagOperations(pool, 16);
+  }
+
+  @AfterClass
+  public static void after() {
+    pool.shutdown();
+  }
+
+  /**
+   * Returns a tree with 1 + 20 * (2 + 50 * 2) + 20 = 2061 tags.
+   */
+  private static TagCompound createTree() {
+    TagCompound root = new TagCompound("root");
+    for (int i = 0; i < 20; i++) {
+      TagList list = new TagList(TagCompound.class, "list" + i);
+      for (int j = 0; j < 50; j++) {
+        TagCompound entry = new TagCompound();
+        entry.put(new TagInt("value", i * 50 + j));
+        list.add(entry);
+      }
+      TagCompound section = new TagCompound("section" + i);
+      section.put(list);
+      root.put(section);
+      root.put(new TagIntArray("array" + i, new int[i * 100]));
+    }
+    return root;
+  }
+
+  @Test
+  public void test_clone() {
+    TagCompound tree = createTree();
+    TagCompound copy = operations.clone(tree);
+    assertNotSame(tree, copy);
+    assertEquals(tree, copy);
+    assertEquals(tree.clone(), copy);
+    TagCompound section = copy.get("section3");
+    assertSame(copy, section.getParent());
+    assertNotSame(tree.get("section3"), section);
+    assertEquals(tree, tree.parallelClone());
+    assertNull(operations.clone(null));
+  }
+
+  @Test
+  public void test_equals() {
+    TagCompound tree = createTree();
+    TagCompound copy = tree.clone();
+    assertTrue(operations.equals(tree, copy));
+    assertTrue(tree.parallelEquals(copy));
+
+    TagCompound section = copy.get("section19");
+    TagList list = section.get("list19");
+    list.<TagCompound>get(49).<TagInt>get("value").set(-1);
+    assertFalse(operations.equals(tree, copy));
+    assertFalse(tree.parallelEquals(copy));
+    assertEquals(tree.equals(copy), operations.equals(tree, copy));
+
+    copy = tree.clone();
+    copy.remove("array0");
+    copy.put(new TagIntArray("other", new int[0]));
+    assertFalse(operations.equals(tree, copy));
+    assertFalse(operations.equals(tree, null));
+    assertFalse(tree.parallelEquals("root"));
+  }
+
+  @Test
+  public void test_visit() {
+    TagCompound tree = createTree();
+    AtomicInteger count = new AtomicInteger();
+    AtomicInteger sum = new AtomicInteger();
+    operations.visit(tree, tag -> {
+      count.incrementAndGet();
+      if (tag instanceof TagInt) {
+        sum.addAndGet(((TagInt) tag).get());
+      }
+    });
+    assertEquals(2061, count.get());
+    assertEquals(999 * 1000 / 2, sum.get());
+  }
+
+  @Test
+  public void test_list() {
+    TagList list = new TagList(TagString.class, "strings");
+    for (int i = 0; i < 1000; i++) {
+      list.add(new TagString(null, "s" + i));
+    }
+    TagList copy = list.parallelClone();
+    assertEquals(list, copy);
+    assertTrue(list.parallelEquals(copy));
+    assertEquals("s999", copy.<TagString>get(999).get());
+    Tag removed = copy.remove(0);
+    assertNotNull(removed);
+    assertFalse(list.parallelEquals(copy));
+  }
+
+}
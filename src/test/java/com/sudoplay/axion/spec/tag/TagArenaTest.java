@@ -0,0 +1,86 @@
+package com.sudoplay.axion.spec.tag;
+
+import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.AxionConfiguration.CompressionType;
+import com.sudoplay.axion.TestUtil;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class TagArenaTest {
+
+  private static Axion axion;
+
+  @BeforeClass
+  public static void before() {
+    axion = Axion.createInstanceFrom(Axion.getExtInstance(), "TagArenaTest");
+    axion.setCompressionType(CompressionType.None);
+  }
+
+  @Test
+  public void test_release_emptiesTree() {
+    TagCompound tag = TestUtil.getTagCompound();
+    TagArena arena = new TagArena().release(tag);
+    assertEquals(0, tag.size());
+    assertEquals(15, arena.size());
+    assertSame(tag, arena.take(TagCompound.class));
+    assertNull(arena.take(TagCompound.class));
+    TagList list = arena.takeList(TagByte.class);
+    assertNotNull(list);
+    assertEquals(0, list.size());
+    assertNull(arena.takeList(TagInt.class));
+    assertFalse(arena.take(TagByte.class).hasParent());
+    arena.clear();
+    assertEquals(0, arena.size());
+  }
+
+  @Test
+  public void test_readRecycling_similarTree() throws IOException {
+    TagCompound expected = TestUtil.getTagCompound();
+    expected.put(TestUtil.getTagDoubleArray());
+    expected.put(TestUtil.getTagBooleanArray());
+
+    TagCompound reuse = TestUtil.getTagCompound();
+    reuse.put(TestUtil.getTagDoubleArray());
+    reuse.put(TestUtil.getTagBooleanArray());
+    reuse.<TagInt>get("int").set(42);
+    reuse.<TagIntArray>get("intArray").set(3, 42);
+    reuse.<TagList>get("list").<TagByte>get(0).set((byte) 42);
+    TagIntArray intArray = reuse.get("intArray");
+    TagList list = reuse.get("list");
+    assertNotEquals(expected, reuse);
+
+    TagCompound result = axion.readRecycling(new ByteArrayInputStream(write(expected)), reuse);
+    assertSame(reuse, result);
+    assertSame(intArray, result.get("intArray"));
+    assertSame(list, result.get("list"));
+    assertEquals(expected, result);
+  }
+
+  @Test
+  public void test_readRecycling_differentShape() throws IOException {
+    TagCompound expected = TestUtil.getTagCompound();
+    expected.<TagList>get("list").add(new TagByte((byte) 1));
+    expected.put(new TagIntArray("intArray", new int[]{1, 2, 3, 4, 5, 6}));
+    expected.remove("string");
+    expected.put(new TagString("newString", "value"));
+
+    TagCompound reuse = TestUtil.getTagCompound();
+    reuse.put(new TagList(TagInt.class, "ints"));
+
+    assertEquals(expected, axion.readRecycling(new ByteArrayInputStream(write(expected)), reuse));
+    assertEquals(expected, axion.readRecycling(new ByteArrayInputStream(write(expected)), null));
+  }
+
+  private byte[] write(final TagCompound tag) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    axion.write(tag, out);
+    return out.toByteArray();
+  }
+
+}
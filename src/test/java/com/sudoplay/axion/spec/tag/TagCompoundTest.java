@@ -1,10 +1,12 @@
 package com.sudoplay.axion.spec.tag;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.Spliterator;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -319,4 +321,107 @@ public class TagCompoundTest {
     assertEquals(2, compound.stream().filter(e -> e.getValue() instanceof TagLong).count());
   }
 
+  @Test
+  public void test_parallelStream() {
+    TagCompound compound = new TagCompound();
+    for (int i = 0; i < 1000; i++) {
+      compound.put(new TagInt("tag" + i, i));
+    }
+    Spliterator<Tag> spliterator = compound.spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED));
+    Spliterator<Tag> prefix = spliterator.trySplit();
+    assertEquals(500, prefix.getExactSizeIfKnown());
+    assertEquals(500, spliterator.getExactSizeIfKnown());
+
+    assertEquals(999 * 1000 / 2, compound.parallelStream().mapToInt(e -> ((TagInt) e.getValue()).get()).sum());
+    assertEquals(1000, compound.parallelStream().map(Map.Entry::getKey).distinct().count());
+  }
+
+  /**
+   * Memoized hash code should be discarded when any tag in the subtree changes.
+   */
+  @Test
+  public void test_hashCode_invalidatedBySubtreeChange() {
+    TagCompound root = TestUtil.getTagCompound();
+    TagCompound child = TestUtil.getTagCompound();
+    child.setName("child");
+    root.put(child);
+    TagCompound copy = root.clone();
+    assertEquals(copy.hashCode(), root.hashCode());
+
+    // leaf value change two levels down
+    child.<TagInt>get("int").set(99);
+    Assert.assertNotEquals(copy, root);
+    Assert.assertNotEquals(copy.hashCode(), root.hashCode());
+    copy.<TagCompound>get("child").<TagInt>get("int").set(99);
+    assertEquals(copy.hashCode(), root.hashCode());
+    assertEquals(copy, root);
+
+    // element change in a nested list
+    child.<TagList>get("list").<TagByte>get(2).set((byte) 99);
+    Assert.assertNotEquals(copy.hashCode(), root.hashCode());
+    copy.<TagCompound>get("child").<TagList>get("list").<TagByte>get(2).set((byte) 99);
+    assertEquals(copy.hashCode(), root.hashCode());
+
+    // array element change, rename, addition and removal
+    child.<TagIntArray>get("intArray").set(0, 7);
+    Assert.assertNotEquals(copy.hashCode(), root.hashCode());
+    copy.<TagCompound>get("child").<TagIntArray>get("intArray").set(0, 7);
+    assertEquals(copy.hashCode(), root.hashCode());
+    child.get("long").setName("renamed");
+    Assert.assertNotEquals(copy.hashCode(), root.hashCode());
+    child.get("renamed").setName("long");
+    assertEquals(copy.hashCode(), root.hashCode());
+    child.put(new TagInt("added", 1));
+    Assert.assertNotEquals(copy.hashCode(), root.hashCode());
+    child.remove("added");
+    assertEquals(copy.hashCode(), root.hashCode());
+
+    // detached subtree no longer affects the former parent
+    root.remove("child");
+    int hashCode = root.hashCode();
+    child.<TagInt>get("int").set(1);
+    assertEquals(hashCode, root.hashCode());
+  }
+
+  /**
+   * Repeated changes below containers whose memoized state was already discarded should still reach the root.
+   */
+  @Test
+  public void test_hashCode_invalidatedByRepeatedChange() {
+    TagCompound root = new TagCompound();
+    TagCompound child = new TagCompound("child");
+    TagInt leaf = new TagInt("int", 1);
+    child.put(leaf);
+    root.put(child);
+    int hashCode = root.hashCode();
+    leaf.set(2);
+    leaf.set(1);
+    assertEquals(hashCode, root.hashCode());
+    leaf.set(2);
+    Assert.assertNotEquals(hashCode, root.hashCode());
+    leaf.setName("int");
+    leaf.set(1);
+    assertEquals(hashCode, root.hashCode());
+  }
+
+  /**
+   * Tags given to the constructor should be parented, so their changes discard the memoized hash code.
+   */
+  @Test
+  public void test_hashCode_invalidatedByConstructorChild() {
+    Map<String, Tag> map = new HashMap<>();
+    TagInt child = new TagInt("a", 1);
+    map.put("a", child);
+    TagCompound tag = new TagCompound("tag", map);
+    TagCompound copy = tag.clone();
+    assertEquals(copy.hashCode(), tag.hashCode());
+    assertEquals(tag, child.getParent());
+
+    child.set(2);
+    copy.<TagInt>get("a").set(2);
+    assertEquals(copy.hashCode(), tag.hashCode());
+    assertEquals(copy, tag);
+  }
+
 }
@@ -0,0 +1,112 @@
+package com.sudoplay.axion.spec.tag;
+
+import com.sudoplay.axion.tag.AxionInvalidTagException;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class TagListIndexTest {
+
+  private static TagCompound entity(final String id, final int uuid) {
+    TagCompound entity = new TagCompound();
+    entity.put(new TagString("id", id));
+    entity.put(new TagIntArray("UUID", new int[]{uuid, 0, 0, uuid}));
+    return entity;
+  }
+
+  private static TagList getEntities() {
+    TagList list = new TagList(TagCompound.class, "Entities");
+    list.add(entity("pig", 1));
+    list.add(entity("cow", 2));
+    list.add(entity("pig", 3));
+    return list;
+  }
+
+  @Test
+  public void test_on_buildsIndex() {
+    TagList list = getEntities();
+    TagListIndex index = TagListIndex.on(list, "UUID");
+    assertEquals(3, index.size());
+    assertSame(list.get(1), index.get(new int[]{2, 0, 0, 2}));
+    assertSame(list.get(1), index.get(new TagIntArray("UUID", new int[]{2, 0, 0, 2})));
+    assertNull(index.get(new int[]{4, 0, 0, 4}));
+    assertNull(index.get(new long[]{2, 0, 0, 2}));
+
+    TagListIndex byId = TagListIndex.on(list, "id");
+    assertEquals(2, byId.size());
+    assertEquals(2, byId.getAll("pig").size());
+    assertSame(list.get(0), byId.get("pig"));
+    assertTrue(byId.getAll("sheep").isEmpty());
+  }
+
+  @Test
+  public void test_followsAdditionAndRemoval() {
+    TagList list = getEntities();
+    TagListIndex index = TagListIndex.on(list, "id");
+    TagCompound sheep = entity("sheep", 4);
+    list.add(sheep);
+    assertSame(sheep, index.get("sheep"));
+    list.remove(0);
+    assertEquals(1, index.getAll("pig").size());
+    list.set(0, entity("horse", 5));
+    assertFalse(index.containsKey("cow"));
+    assertTrue(index.containsKey("horse"));
+    sheep.removeFromParent();
+    assertFalse(index.containsKey("sheep"));
+    list.clear();
+    assertEquals(0, index.size());
+  }
+
+  @Test
+  public void test_followsKeyChange() {
+    TagList list = getEntities();
+    TagListIndex index = TagListIndex.on(list, "id");
+    TagCompound cow = list.get(1);
+    cow.<TagString>get("id").set("bull");
+    assertFalse(index.containsKey("cow"));
+    assertSame(cow, index.get("bull"));
+    cow.put(new TagString("id", "calf"));
+    assertFalse(index.containsKey("bull"));
+    assertSame(cow, index.get("calf"));
+    cow.remove("id");
+    assertFalse(index.containsKey("calf"));
+    cow.put(new TagInt("id", 7));
+    assertSame(cow, index.get(7));
+    assertSame(cow, index.get(7L));
+    assertSame(cow, index.get(new TagLong("id", 7)));
+  }
+
+  @Test
+  public void test_multiValuedKeys() {
+    TagList list = new TagList(TagCompound.class);
+    TagCompound entity = new TagCompound();
+    TagList tags = new TagList(TagString.class, "tags");
+    tags.add(new TagString(null, "a"));
+    tags.add(new TagString(null, "b"));
+    entity.put(tags);
+    list.add(entity);
+    TagListIndex index = TagListIndex.on(list, "tags");
+    assertSame(entity, index.get("a"));
+    assertSame(entity, index.get("b"));
+    tags.add(new TagString(null, "c"));
+    assertSame(entity, index.get("c"));
+    tags.remove(0);
+    assertFalse(index.containsKey("a"));
+  }
+
+  @Test
+  public void test_close() {
+    TagList list = getEntities();
+    TagListIndex index = TagListIndex.on(list, "id");
+    index.close();
+    assertEquals(0, index.size());
+    list.add(entity("sheep", 4));
+    assertFalse(index.containsKey("sheep"));
+  }
+
+  @Test(expected = AxionInvalidTagException.class)
+  public void test_on_rejectsNonCompoundList() {
+    TagListIndex.on(new TagList(TagInt.class), "id");
+  }
+
+}
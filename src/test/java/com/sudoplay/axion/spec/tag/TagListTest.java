@@ -12,8 +12,10 @@ import org.junit.Test;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.*;
 
@@ -200,6 +202,32 @@ public class TagListTest {
     }
   }
 
+  /**
+   * Should insert the tag at the index given, and replace the tag at the index given and return the old tag.
+   */
+  @Test
+  public void test_addAndSetByIndex() {
+    TagList tag = new TagList(TagInt.class);
+    tag.add(new TagInt("", 1));
+    tag.add(new TagInt("", 3));
+    tag.add(1, new TagInt("", 2));
+    Assert.assertEquals(2, ((TagInt) tag.get(1)).get());
+    Assert.assertEquals(3, ((TagInt) tag.get(2)).get());
+    TagInt old = tag.get(0);
+    TagInt replacement = new TagInt("newName", 42);
+    Assert.assertTrue(old == tag.set(0, replacement));
+    Assert.assertFalse(old.hasParent());
+    Assert.assertTrue(tag == replacement.getParent());
+    Assert.assertEquals(3, tag.size());
+    Assert.assertEquals(42, ((TagInt) tag.get(0)).get());
+    try {
+      tag.add(4, new TagInt("", 0));
+      Assert.fail("Expected IndexOutOfBoundsException");
+    } catch (IndexOutOfBoundsException e) {
+      // Expected IndexOutOfBoundsException
+    }
+  }
+
   /**
    * Should add the tag to the backing list, but not alter the tag's parent.
    */
@@ -381,4 +409,51 @@ public class TagListTest {
     );
   }
 
+  @Test
+  public void test_valueStream_lazy() {
+    TagList list = new TagList(TagInt.class);
+    for (int i = 0; i < 1000; i++) {
+      list.add(new TagInt(i));
+    }
+    int[] converted = new int[1];
+    Stream<Integer> stream = list.valueStream(TagInt.class, tag -> tag.get() % 2 == 1, tag -> {
+      converted[0]++;
+      return tag.get();
+    });
+    assertEquals(0, converted[0]);
+    assertEquals(Integer.valueOf(5), stream.skip(2).findFirst().get());
+    assertEquals(3, converted[0]);
+  }
+
+  @Test
+  public void test_spliterator() {
+    TagList list = new TagList(TagInt.class);
+    for (int i = 0; i < 1000; i++) {
+      list.add(new TagInt(i));
+    }
+    Spliterator<Tag> spliterator = list.spliterator();
+    assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.ORDERED));
+    Spliterator<Tag> prefix = spliterator.trySplit();
+    assertEquals(500, prefix.getExactSizeIfKnown());
+    assertEquals(500, spliterator.getExactSizeIfKnown());
+
+    assertEquals(999 * 1000 / 2, list.parallelStream(TagInt.class).mapToInt(TagInt::get).sum());
+  }
+
+  @Test
+  public void test_hashCode_invalidatedByConstructorChild() {
+    List<Tag> tags = new ArrayList<>();
+    TagInt child = new TagInt(1);
+    tags.add(child);
+    TagList list = new TagList(TagInt.class, "list", tags);
+    TagList copy = list.clone();
+    assertEquals(copy.hashCode(), list.hashCode());
+    assertSame(list, child.getParent());
+
+    child.set(2);
+    copy.<TagInt>get(0).set(2);
+    assertEquals(copy.hashCode(), list.hashCode());
+    assertEquals(copy, list);
+  }
+
 }
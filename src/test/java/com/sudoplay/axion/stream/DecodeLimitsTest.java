@@ -0,0 +1,211 @@
+package com.sudoplay.axion.stream;
+
+import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.AxionConfiguration.CodecType;
+import com.sudoplay.axion.AxionConfiguration.CompressionType;
+import com.sudoplay.axion.AxionDecodeLimitException;
+import com.sudoplay.axion.AxionReadException;
+import com.sudoplay.axion.spec.tag.TagCompound;
+import com.sudoplay.axion.spec.tag.TagInt;
+import com.sudoplay.axion.spec.tag.TagIntArray;
+import com.sudoplay.axion.spec.tag.TagList;
+import com.sudoplay.axion.spec.tag.TagString;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class DecodeLimitsTest {
+
+  private static Axion recursive;
+  private static Axion iterative;
+
+  @BeforeClass
+  public static void before() {
+    recursive = Axion.createInstanceFrom(Axion.getExtInstance(), "DecodeLimitsTest-recursive");
+    recursive.setCompressionType(CompressionType.None);
+    iterative = Axion.createInstanceFrom(Axion.getExtInstance(), "DecodeLimitsTest-iterative");
+    iterative.setCompressionType(CompressionType.None);
+    iterative.setCodecType(CodecType.Iterative);
+  }
+
+  private static Axion[] withLimits(final DecodeLimits limits) {
+    recursive.setDecodeLimits(limits);
+    iterative.setDecodeLimits(limits);
+    return new Axion[]{recursive, iterative};
+  }
+
+  /**
+   * Returns compounds nested to the depth given, each holding an int and a list with the next compound.
+   */
+  private static TagCompound createNested(final int depth) {
+    TagCompound tag = new TagCompound("leaf");
+    for (int i = 1; i < depth; i++) {
+      TagList list = new TagList(TagCompound.class, "list");
+      list.add(tag.setName(null));
+      TagCompound parent = new TagCompound("level");
+      parent.put(list);
+      parent.put(new TagInt("int", i));
+      tag = parent;
+    }
+    return tag;
+  }
+
+  private static byte[] write(final TagCompound tag) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    recursive.write(tag, out);
+    return out.toByteArray();
+  }
+
+  /**
+   * Returns an unnamed root compound holding an int array named "a" with the length given and no data.
+   */
+  private static byte[] craftIntArray(final int length) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    out.writeByte(10);
+    out.writeUTF("");
+    out.writeByte(11);
+    out.writeUTF("a");
+    out.writeInt(length);
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Returns an unnamed root compound holding a list of ints named "a" with the size given and no data.
+   */
+  private static byte[] craftList(final int size) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    out.writeByte(10);
+    out.writeUTF("");
+    out.writeByte(9);
+    out.writeUTF("a");
+    out.writeByte(3);
+    out.writeInt(size);
+    return bytes.toByteArray();
+  }
+
+  private static void assertFails(
+      final Class<? extends AxionReadException> expected,
+      final DecodeLimits limits,
+      final byte[] bytes
+  ) throws IOException {
+    for (Axion axion : withLimits(limits)) {
+      try {
+        axion.read(new ByteArrayInputStream(bytes));
+        fail("Expected " + expected.getSimpleName() + " with " + axion.getCodecType());
+      } catch (AxionReadException e) {
+        assertEquals(expected, e.getClass());
+      }
+    }
+  }
+
+  private static void assertReads(final TagCompound expected, final DecodeLimits limits, final byte[] bytes)
+      throws IOException {
+    for (Axion axion : withLimits(limits)) {
+      assertEquals(expected, axion.read(new ByteArrayInputStream(bytes)));
+    }
+  }
+
+  @Test
+  public void test_unlimitedByDefault() throws IOException {
+    TagCompound tag = createNested(100);
+    assertReads(tag, null, write(tag));
+    assertEquals(DecodeLimits.UNLIMITED, withLimits(null)[0].getDecodeLimits().getMaxDepth());
+  }
+
+  @Test
+  public void test_maxDepth() throws IOException {
+    // a compound and its list per level, less the leaf's list
+    TagCompound tag = createNested(10);
+    byte[] bytes = write(tag);
+    assertReads(tag, new DecodeLimits().setMaxDepth(19), bytes);
+    assertFails(AxionDecodeLimitException.class, new DecodeLimits().setMaxDepth(18), bytes);
+  }
+
+  @Test
+  public void test_maxElements() throws IOException {
+    // every level holds a compound, a list and an int; the leaf is a lone compound
+    TagCompound tag = createNested(10);
+    byte[] bytes = write(tag);
+    assertReads(tag, new DecodeLimits().setMaxElements(28), bytes);
+    assertFails(AxionDecodeLimitException.class, new DecodeLimits().setMaxElements(27), bytes);
+    // fails before the list is allocated
+    byte[] huge = craftList(Integer.MAX_VALUE);
+    assertFails(AxionDecodeLimitException.class, new DecodeLimits().setMaxElements(1000), huge);
+  }
+
+  @Test
+  public void test_maxArrayLength() throws IOException {
+    TagCompound tag = new TagCompound();
+    tag.put(new TagIntArray("a", new int[100]));
+    byte[] bytes = write(tag);
+    assertReads(tag, new DecodeLimits().setMaxArrayLength(100), bytes);
+    assertFails(AxionDecodeLimitException.class, new DecodeLimits().setMaxArrayLength(99), bytes);
+    // fails before the array is allocated
+    assertFails(AxionDecodeLimitException.class, DecodeLimits.untrusted(), craftIntArray(Integer.MAX_VALUE));
+  }
+
+  @Test
+  public void test_maxStringBytes() throws IOException {
+    TagCompound tag = new TagCompound();
+    tag.put(new TagString("a", "0123456789"));
+    byte[] bytes = write(tag);
+    assertReads(tag, new DecodeLimits().setMaxStringBytes(10), bytes);
+    assertFails(AxionDecodeLimitException.class, new DecodeLimits().setMaxStringBytes(9), bytes);
+  }
+
+  @Test
+  public void test_maxAllocatedBytes() throws IOException {
+    TagCompound tag = new TagCompound();
+    tag.put(new TagIntArray("a", new int[100]));
+    tag.put(new TagIntArray("b", new int[100]));
+    byte[] bytes = write(tag);
+    // 800 bytes of ints and 2 bytes of names
+    assertReads(tag, new DecodeLimits().setMaxAllocatedBytes(802), bytes);
+    assertFails(AxionDecodeLimitException.class, new DecodeLimits().setMaxAllocatedBytes(801), bytes);
+  }
+
+  @Test
+  public void test_negativeLengths() throws IOException {
+    assertFails(AxionReadException.class, null, craftIntArray(-1));
+    assertFails(AxionReadException.class, null, craftList(-1));
+  }
+
+  @Test
+  public void test_hugeListUnlimited() throws IOException {
+    // the list isn't sized from the stream, so the missing data ends the read
+    byte[] huge = craftList(Integer.MAX_VALUE - 8);
+    for (Axion axion : withLimits(null)) {
+      try {
+        axion.read(new ByteArrayInputStream(huge));
+        fail("Expected EOFException with " + axion.getCodecType());
+      } catch (EOFException e) {
+        //
+      }
+    }
+  }
+
+  @Test
+  public void test_limitsCopied() {
+    DecodeLimits limits = new DecodeLimits().setMaxDepth(4);
+    Axion axion = withLimits(limits)[0];
+    limits.setMaxDepth(8);
+    assertEquals(4, axion.getDecodeLimits().getMaxDepth());
+    axion.getDecodeLimits().setMaxDepth(8);
+    assertEquals(4, axion.getDecodeLimits().getMaxDepth());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void test_negativeLimit() {
+    new DecodeLimits().setMaxElements(-1);
+  }
+
+}
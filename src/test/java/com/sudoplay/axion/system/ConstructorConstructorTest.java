@@ -0,0 +1,118 @@
+package com.sudoplay.axion.system;
+
+import com.sudoplay.axion.util.AxionTypeToken;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+public class ConstructorConstructorTest {
+
+  @Test
+  public void test_cached() {
+    ConstructorConstructor constructorConstructor = new ConstructorConstructor();
+    ObjectConstructor<PublicValue> constructor = constructorConstructor.get(AxionTypeToken.get(PublicValue.class));
+    assertSame(constructor, constructorConstructor.get(AxionTypeToken.get(PublicValue.class)));
+    assertNotSame(constructor.construct(), constructor.construct());
+  }
+
+  @Test
+  public void test_constructors() {
+    ConstructorConstructor constructorConstructor = new ConstructorConstructor();
+    assertEquals(1, constructorConstructor.get(AxionTypeToken.get(PublicValue.class)).construct().value);
+    assertEquals(2, constructorConstructor.get(AxionTypeToken.get(PrivateValue.class)).construct().value);
+    assertTrue(constructorConstructor.get(new AxionTypeToken<List<String>>() {
+    }).construct() instanceof ArrayList);
+    assertTrue(constructorConstructor.get(new AxionTypeToken<Map<String, Integer>>() {
+    }).construct() instanceof LinkedHashMap);
+    assertTrue(constructorConstructor.get(new AxionTypeToken<SortedMap<String, Integer>>() {
+    }).construct() instanceof TreeMap);
+  }
+
+  @Test
+  public void test_maps() {
+    ConstructorConstructor constructorConstructor = new ConstructorConstructor();
+    assertEquals(HashMap.class, constructorConstructor.get(new AxionTypeToken<HashMap<String, Integer>>() {
+    }).construct(16).getClass());
+    assertEquals(LinkedHashMap.class, constructorConstructor.get(new AxionTypeToken<Map<String, Integer>>() {
+    }).construct(16).getClass());
+    assertEquals(EnumMap.class, constructorConstructor.get(new AxionTypeToken<EnumMap<Key, Integer>>() {
+    }).construct(2).getClass());
+    assertTrue(constructorConstructor.get(new AxionTypeToken<EnumMap<Key, Integer>>() {
+    }).construct().isEmpty());
+  }
+
+  @Test
+  public void test_childClassLoader() throws Exception {
+    URL location = PublicValue.class.getProtectionDomain().getCodeSource().getLocation();
+    try (URLClassLoader loader = new URLClassLoader(new URL[]{location}, null)) {
+      Class<?> rawType = loader.loadClass(PublicValue.class.getName());
+      assertNotSame(PublicValue.class, rawType);
+      ConstructorConstructor constructorConstructor = new ConstructorConstructor();
+      assertSame(rawType, constructorConstructor.get(AxionTypeToken.get(rawType)).construct().getClass());
+    }
+  }
+
+  @Test
+  public void test_instanceCreatorClearsCache() {
+    ConstructorConstructor constructorConstructor = new ConstructorConstructor();
+    AxionTypeToken<PublicValue> typeToken = AxionTypeToken.get(PublicValue.class);
+    assertEquals(1, constructorConstructor.get(typeToken).construct().value);
+    constructorConstructor.registerInstanceCreator(PublicValue.class, type -> {
+      PublicValue value = new PublicValue();
+      value.value = 3;
+      return value;
+    });
+    assertEquals(3, constructorConstructor.get(typeToken).construct().value);
+  }
+
+  @Test
+  public void test_exceptions() {
+    ConstructorConstructor constructorConstructor = new ConstructorConstructor();
+    try {
+      constructorConstructor.get(AxionTypeToken.get(Unchecked.class)).construct();
+      fail();
+    } catch (IllegalStateException e) {
+      assertEquals("unchecked", e.getMessage());
+    }
+    try {
+      constructorConstructor.get(AxionTypeToken.get(Checked.class)).construct();
+      fail();
+    } catch (RuntimeException e) {
+      assertTrue(e.getCause() instanceof IOException);
+    }
+  }
+
+  private enum Key {
+    A, B
+  }
+
+  public static class PublicValue {
+    int value = 1;
+  }
+
+  private static class PrivateValue {
+    int value;
+
+    private PrivateValue() {
+      value = 2;
+    }
+  }
+
+  public static class Unchecked {
+    public Unchecked() {
+      throw new IllegalStateException("unchecked");
+    }
+  }
+
+  public static class Checked {
+    public Checked() throws IOException {
+      throw new IOException("checked");
+    }
+  }
+
+}
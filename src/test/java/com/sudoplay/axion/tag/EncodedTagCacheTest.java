@@ -0,0 +1,86 @@
+package com.sudoplay.axion.tag;
+
+import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.AxionConfiguration.CompressionType;
+import com.sudoplay.axion.TestUtil;
+import com.sudoplay.axion.spec.tag.TagByte;
+import com.sudoplay.axion.spec.tag.TagCompound;
+import com.sudoplay.axion.spec.tag.TagInt;
+import com.sudoplay.axion.spec.tag.TagList;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.*;
+
+public class EncodedTagCacheTest {
+
+  private static Axion axion;
+
+  @BeforeClass
+  public static void before() {
+    axion = Axion.createInstanceFrom(Axion.getExtInstance(), "EncodedTagCacheTest");
+    axion.setCompressionType(CompressionType.None);
+  }
+
+  @Test
+  public void test_write_matchesUncachedWrite() throws IOException {
+    TagCompound root = TestUtil.getTagCompound();
+    TagCompound childA = TestUtil.getTagCompound();
+    childA.setName("childA");
+    TagCompound childB = TestUtil.getTagCompound();
+    childB.setName("childB");
+    root.put(childA);
+    root.put(childB);
+    EncodedTagCache cache = new EncodedTagCache();
+
+    assertTrue(root.isDirty());
+    assertArrayEquals(write(root), write(root, cache));
+    assertFalse(root.isDirty());
+    assertFalse(childA.isDirty());
+    long misses = cache.getMissCount();
+
+    // unchanged tree is copied from the root's cached payload
+    assertArrayEquals(write(root), write(root, cache));
+    assertEquals(misses, cache.getMissCount());
+    assertEquals(1, cache.getHitCount());
+
+    // a leaf change re-encodes only the path to the root
+    childA.<TagList>get("list").<TagByte>get(1).set((byte) 99);
+    assertTrue(root.isDirty());
+    assertTrue(childA.isDirty());
+    assertFalse(childB.isDirty());
+    assertArrayEquals(write(root), write(root, cache));
+    assertEquals(misses + 3, cache.getMissCount());
+
+    // structural changes
+    childB.put(new TagInt("added", 42));
+    root.remove("childA");
+    assertTrue(childB.isDirty());
+    assertArrayEquals(write(root), write(root, cache));
+  }
+
+  @Test
+  public void test_write_maxEntryBytes() throws IOException {
+    TagCompound root = TestUtil.getTagCompound();
+    EncodedTagCache cache = new EncodedTagCache(9);
+    assertArrayEquals(write(root), write(root, cache));
+    assertTrue(root.isDirty());
+    assertFalse(root.<TagList>get("list").isDirty());
+  }
+
+  private byte[] write(final TagCompound tag) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    axion.write(tag, out);
+    return out.toByteArray();
+  }
+
+  private byte[] write(final TagCompound tag, final EncodedTagCache cache) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    axion.write(tag, out, cache);
+    return out.toByteArray();
+  }
+
+}
@@ -0,0 +1,148 @@
+package com.sudoplay.axion.validation;
+
+import com.sudoplay.axion.Axion;
+import com.sudoplay.axion.AxionConfiguration.CompressionType;
+import com.sudoplay.axion.TestUtil;
+import com.sudoplay.axion.spec.tag.*;
+import com.sudoplay.axion.stream.DecodeLimits;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+public class TagStreamValidatorTest {
+
+  private static Axion gzip;
+  private static Axion none;
+
+  @BeforeClass
+  public static void before() {
+    gzip = Axion.createInstanceFrom(Axion.getExtInstance(), "TagStreamValidatorTest-gzip");
+    none = Axion.createInstanceFrom(Axion.getExtInstance(), "TagStreamValidatorTest-none");
+    none.setCompressionType(CompressionType.None);
+  }
+
+  /**
+   * Returns a tree of 49 tags, 4 levels deep.
+   */
+  private static TagCompound createTree() {
+    TagCompound root = TestUtil.getTagCompound();
+    root.put(TestUtil.getTagBoolean());
+    root.put(TestUtil.getTagStringArray());
+    root.put(TestUtil.getTagBooleanArray());
+    TagList compounds = new TagList(TagCompound.class, "compounds");
+    for (int i = 0; i < 2; i++) {
+      compounds.add(TestUtil.getTagCompound());
+    }
+    root.put(compounds);
+    return root;
+  }
+
+  private static byte[] write(final Axion axion, final TagCompound tag) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    axion.write(tag, out);
+    return out.toByteArray();
+  }
+
+  private static TagStreamReport validate(final Axion axion, final byte[] bytes) throws IOException {
+    return axion.validate(new ByteArrayInputStream(bytes));
+  }
+
+  /**
+   * Returns an unnamed root compound holding one tag with the id and name given and no payload.
+   */
+  private static byte[] craft(final int id, final byte[] name) throws IOException {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bytes);
+    out.writeByte(10);
+    out.writeUTF("");
+    out.writeByte(id);
+    out.writeShort(name.length);
+    out.write(name);
+    return bytes.toByteArray();
+  }
+
+  @Test
+  public void test_valid() throws IOException {
+    TagCompound tree = createTree();
+    byte[] encoded = write(gzip, tree);
+    byte[] decoded = write(none, tree);
+    TagStreamReport report = validate(gzip, encoded);
+    assertTrue(report.getError(), report.isValid());
+    assertNull(report.getError());
+    assertEquals(49, report.getTagCount());
+    assertEquals(4, report.getMaxDepth());
+    assertEquals(encoded.length, report.getEncodedBytes());
+    assertEquals(decoded.length, report.getDecodedBytes());
+    assertEquals(Long.valueOf(15), report.getCountsByType().get(TagByte.class));
+    assertEquals(Long.valueOf(3), report.getCountsByType().get(TagCompound.class));
+    assertEquals(Long.valueOf(4), report.getCountsByType().get(TagList.class));
+    assertEquals(TagByte.class, report.getCountsByType().keySet().iterator().next());
+    assertTrue(validate(none, decoded).isValid());
+  }
+
+  @Test
+  public void test_truncated() throws IOException {
+    byte[] bytes = write(none, createTree());
+    TagStreamReport report = validate(none, Arrays.copyOf(bytes, bytes.length / 2));
+    assertFalse(report.isValid());
+    assertEquals("Unexpected end of stream", report.getError());
+    assertEquals(bytes.length / 2, report.getDecodedBytes());
+    assertTrue(report.getTagCount() > 0);
+  }
+
+  @Test
+  public void test_unknownId() throws IOException {
+    TagStreamReport report = validate(none, craft(99, new byte[]{'a'}));
+    assertFalse(report.isValid());
+    assertTrue(report.getError(), report.getError().contains("99"));
+  }
+
+  @Test
+  public void test_malformedString() throws IOException {
+    TagStreamReport report = validate(none, craft(1, new byte[]{(byte) 0xFF}));
+    assertFalse(report.isValid());
+    assertTrue(report.getError(), report.getError().startsWith("malformed input"));
+  }
+
+  @Test
+  public void test_dataAfterRoot() throws IOException {
+    byte[] bytes = write(none, createTree());
+    TagStreamReport report = validate(none, Arrays.copyOf(bytes, bytes.length + 1));
+    assertFalse(report.isValid());
+    assertEquals("Data after the root tag", report.getError());
+  }
+
+  @Test
+  public void test_rootNotCompound() throws IOException {
+    byte[] bytes = new byte[]{1, 0, 0, 16};
+    assertFalse(validate(none, bytes).isValid());
+  }
+
+  @Test
+  public void test_notCompressed() throws IOException {
+    TagStreamReport report = validate(gzip, write(none, createTree()));
+    assertFalse(report.isValid());
+    assertEquals(0, report.getDecodedBytes());
+  }
+
+  @Test
+  public void test_decodeLimits() throws IOException {
+    byte[] bytes = write(none, createTree());
+    none.setDecodeLimits(new DecodeLimits().setMaxDepth(2));
+    try {
+      TagStreamReport report = validate(none, bytes);
+      assertFalse(report.isValid());
+      assertTrue(report.getError(), report.getError().startsWith("Max depth"));
+    } finally {
+      none.setDecodeLimits(null);
+    }
+  }
+
+}